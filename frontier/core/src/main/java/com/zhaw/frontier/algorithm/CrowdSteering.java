@@ -0,0 +1,198 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+import com.zhaw.frontier.configs.AppProperties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Local avoidance for a crowd of units, computed on primitive arrays.
+ * <p>
+ * Callers enter the position, desired velocity and speed of every unit with
+ * {@link #set(int, float, float, float, float, float)} and call {@link #steer(int)}, which sorts
+ * the units into a {@link NeighbourGrid} with cells of {@link AppProperties#AVOID_RADIUS} and adds
+ * a repulsion from every unit within that radius to the desired velocity. The results are read
+ * with {@link #getSteeredX(int)} and {@link #getSteeredY(int)}. Nothing is allocated once the
+ * arrays have grown to the crowd size.
+ * </p>
+ * <p>
+ * The steering only reads and writes these arrays, so it can run on several threads: in parallel
+ * mode, crowds of at least {@link AppProperties#PARALLEL_STEERING_MIN_ENTITIES} units are split
+ * into chunks that are steered on the common {@link ForkJoinPool}.
+ * </p>
+ */
+public class CrowdSteering {
+
+    private final NeighbourGrid grid = new NeighbourGrid(AppProperties.AVOID_RADIUS);
+    private final IntArray neighbours = new IntArray();
+
+    // Per unit
+    private float[] positionX = new float[0];
+    private float[] positionY = new float[0];
+    private float[] desiredX = new float[0];
+    private float[] desiredY = new float[0];
+    private float[] speed = new float[0];
+    private float[] steeredX = new float[0];
+    private float[] steeredY = new float[0];
+
+    private final SteeringTask[] chunks;
+    private final RecursiveAction steerAllChunks = new RecursiveAction() {
+        @Override
+        protected void compute() {
+            ForkJoinTask.invokeAll(chunks);
+        }
+    };
+
+    /**
+     * A part of the units steered on a worker thread.
+     */
+    private class SteeringTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IntArray neighbours = new IntArray();
+        private int from;
+        private int to;
+
+        @Override
+        protected void compute() {
+            steer(from, to, neighbours);
+        }
+    }
+
+    /**
+     * Creates a new crowd.
+     *
+     * @param parallel whether large crowds are steered on the common {@link ForkJoinPool}
+     */
+    public CrowdSteering(boolean parallel) {
+        chunks = new SteeringTask[parallel ? ForkJoinPool.getCommonPoolParallelism() * 4 : 0];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new SteeringTask();
+        }
+    }
+
+    /**
+     * Makes room for the given number of units. Must be called before entering them.
+     *
+     * @param size the number of units
+     */
+    public void ensureCapacity(int size) {
+        if (positionX.length >= size) return;
+        int capacity = MathUtils.nextPowerOfTwo(size);
+        positionX = new float[capacity];
+        positionY = new float[capacity];
+        desiredX = new float[capacity];
+        desiredY = new float[capacity];
+        speed = new float[capacity];
+        steeredX = new float[capacity];
+        steeredY = new float[capacity];
+    }
+
+    /**
+     * Enters a unit.
+     *
+     * @param index    the index of the unit
+     * @param x        the x coordinate of the position, in tiles
+     * @param y        the y coordinate of the position, in tiles
+     * @param desiredX the x component of the velocity the unit wants to move at
+     * @param desiredY the y component of the velocity the unit wants to move at
+     * @param speed    the maximum speed of the unit, in tiles per second
+     */
+    public void set(int index, float x, float y, float desiredX, float desiredY, float speed) {
+        positionX[index] = x;
+        positionY[index] = y;
+        this.desiredX[index] = desiredX;
+        this.desiredY[index] = desiredY;
+        this.speed[index] = speed;
+    }
+
+    /**
+     * Computes the steered velocities of the first {@code size} units.
+     *
+     * @param size the number of units entered
+     */
+    public void steer(int size) {
+        grid.build(positionX, positionY, size);
+
+        if (chunks.length > 0 && size >= AppProperties.PARALLEL_STEERING_MIN_ENTITIES) {
+            int chunkSize = (size + chunks.length - 1) / chunks.length;
+            for (int c = 0; c < chunks.length; c++) {
+                chunks[c].reinitialize();
+                chunks[c].from = Math.min(size, c * chunkSize);
+                chunks[c].to = Math.min(size, (c + 1) * chunkSize);
+            }
+            steerAllChunks.reinitialize();
+            ForkJoinPool.commonPool().invoke(steerAllChunks);
+        } else {
+            steer(0, size, neighbours);
+        }
+    }
+
+    /**
+     * Returns the x component of the steered velocity of a unit.
+     *
+     * @param index the index of the unit
+     * @return the velocity computed by the last {@link #steer(int)}
+     */
+    public float getSteeredX(int index) {
+        return steeredX[index];
+    }
+
+    /**
+     * Returns the y component of the steered velocity of a unit.
+     *
+     * @param index the index of the unit
+     * @return the velocity computed by the last {@link #steer(int)}
+     */
+    public float getSteeredY(int index) {
+        return steeredY[index];
+    }
+
+    /**
+     * Computes the steered velocities of the units in the given index range. Only writes to
+     * the entries of the range, so disjoint ranges can be steered concurrently.
+     */
+    private void steer(int from, int to, IntArray neighbours) {
+        float radius = AppProperties.AVOID_RADIUS;
+        float radius2 = radius * radius;
+
+        for (int i = from; i < to; i++) {
+            float x = positionX[i];
+            float y = positionY[i];
+            float avoidanceX = 0;
+            float avoidanceY = 0;
+
+            grid.neighbours(x, y, neighbours);
+            for (int n = 0; n < neighbours.size; n++) {
+                int j = neighbours.get(n);
+                if (j == i) continue;
+
+                float dx = x - positionX[j];
+                float dy = y - positionY[j];
+                float dist2 = dx * dx + dy * dy;
+                if (dist2 >= radius2 || dist2 <= 0.0001f) continue;
+
+                // Push away along the normalized offset, stronger the closer the other unit is
+                float dist = (float) Math.sqrt(dist2);
+                float push = (radius - dist) * AppProperties.AVOID_STRENGTH / dist;
+                avoidanceX += dx * push;
+                avoidanceY += dy * push;
+            }
+
+            float velocityX = desiredX[i] + avoidanceX;
+            float velocityY = desiredY[i] + avoidanceY;
+            float len2 = velocityX * velocityX + velocityY * velocityY;
+            float maxSpeed = speed[i];
+            if (len2 > maxSpeed * maxSpeed) {
+                float scale = maxSpeed / (float) Math.sqrt(len2);
+                velocityX *= scale;
+                velocityY *= scale;
+            }
+            steeredX[i] = velocityX;
+            steeredY[i] = velocityY;
+        }
+    }
+}
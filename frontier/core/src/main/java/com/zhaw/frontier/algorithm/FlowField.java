@@ -0,0 +1,145 @@
+package com.zhaw.frontier.algorithm;
+
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * A distance field (integration field) over a {@link WalkabilityGrid} toward a set of source tiles.
+ * <p>
+ * The field is built with a multi-source breadth-first search (Dijkstra with uniform step cost),
+ * starting from all sources at once. Afterwards every reachable tile knows its distance to the
+ * nearest source, the neighbouring tile that leads there and which source it ends up at.
+ * All of these lookups are O(1), so any number of entities can share one field.
+ * </p>
+ * <p>
+ * Sources themselves do not need to be walkable (e.g. a building tile), but the field only
+ * spreads across walkable tiles.
+ * </p>
+ */
+public class FlowField {
+
+    /** Distance value of tiles that cannot reach any source. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /** Value returned for tiles without a next step or source. */
+    public static final int NONE = -1;
+
+    private static final int[] DX = { 1, -1, 0, 0 };
+    private static final int[] DY = { 0, 0, 1, -1 };
+
+    @Getter
+    private final WalkabilityGrid grid;
+
+    private final int[] distance;
+    private final int[] nextStep;
+    private final int[] sourceOf;
+    private final int[] queue;
+
+    /** The grid version this field was last built against, or -1 if it was never built. */
+    @Getter
+    private int builtForVersion = -1;
+
+    /**
+     * Creates an empty flow field for the given grid. Call {@link #build(int[], int)} before use.
+     *
+     * @param grid the walkability grid the field spreads across
+     */
+    public FlowField(WalkabilityGrid grid) {
+        this.grid = grid;
+        int size = grid.getWidth() * grid.getHeight();
+        this.distance = new int[size];
+        this.nextStep = new int[size];
+        this.sourceOf = new int[size];
+        this.queue = new int[size];
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(nextStep, NONE);
+        Arrays.fill(sourceOf, NONE);
+    }
+
+    /**
+     * (Re)builds the field from the given source tiles.
+     *
+     * @param sources     flat tile indices (see {@link WalkabilityGrid#index(int, int)}) of the sources
+     * @param sourceCount the number of valid entries in {@code sources}
+     */
+    public void build(int[] sources, int sourceCount) {
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(nextStep, NONE);
+        Arrays.fill(sourceOf, NONE);
+
+        int width = grid.getWidth();
+        int head = 0;
+        int tail = 0;
+
+        for (int i = 0; i < sourceCount; i++) {
+            int source = sources[i];
+            if (source < 0 || source >= distance.length || distance[source] == 0) continue;
+            distance[source] = 0;
+            sourceOf[source] = i;
+            queue[tail++] = source;
+        }
+
+        while (head < tail) {
+            int current = queue[head++];
+            int cx = current % width;
+            int cy = current / width;
+            int nextDistance = distance[current] + 1;
+
+            for (int d = 0; d < DX.length; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+                if (!grid.inBounds(nx, ny)) continue;
+
+                int neighbor = grid.index(nx, ny);
+                if (distance[neighbor] != UNREACHABLE || !grid.isWalkable(neighbor)) continue;
+
+                distance[neighbor] = nextDistance;
+                nextStep[neighbor] = current;
+                sourceOf[neighbor] = sourceOf[current];
+                queue[tail++] = neighbor;
+            }
+        }
+
+        builtForVersion = grid.getVersion();
+    }
+
+    /**
+     * Checks whether the walkability grid has changed since the field was last built.
+     *
+     * @return true if the field must be rebuilt
+     */
+    public boolean isStale() {
+        return builtForVersion != grid.getVersion();
+    }
+
+    /**
+     * Returns the number of steps from the given tile to the nearest source.
+     *
+     * @param index the flat tile index
+     * @return the distance, or {@link #UNREACHABLE}
+     */
+    public int getDistance(int index) {
+        return distance[index];
+    }
+
+    /**
+     * Returns the neighbouring tile that leads one step closer to the nearest source.
+     *
+     * @param index the flat tile index
+     * @return the flat index of the next tile, or {@link #NONE} for sources and unreachable tiles
+     */
+    public int getNextStep(int index) {
+        return nextStep[index];
+    }
+
+    /**
+     * Returns which source the given tile leads to.
+     *
+     * @param index the flat tile index
+     * @return the position of the source in the array passed to {@link #build(int[], int)},
+     *         or {@link #NONE} if the tile is unreachable
+     */
+    public int getSource(int index) {
+        return sourceOf[index];
+    }
+}
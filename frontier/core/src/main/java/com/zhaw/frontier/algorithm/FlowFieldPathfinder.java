@@ -0,0 +1,197 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.zhaw.frontier.components.PositionComponent;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides shared {@link FlowField}s toward all entities of a given target type
+ * (e.g. {@link com.zhaw.frontier.components.HQComponent}).
+ * <p>
+ * Instead of running one A* search per enemy, a single distance field is built per target type
+ * and every enemy reads its route from that field. A field is only rebuilt when an entity of its
+ * target type is added or removed, or when the {@link WalkabilityGrid} changes. The cost of a wave
+ * therefore grows with the map size and not with the number of enemies.
+ * </p>
+ */
+public class FlowFieldPathfinder implements Disposable {
+
+    private final WalkabilityGrid grid;
+    private final Engine engine;
+    private final ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(
+        PositionComponent.class
+    );
+    private final Map<Class<? extends Component>, TargetField> fields = new HashMap<>();
+    private final IntArray traceBuffer = new IntArray();
+
+    /**
+     * Creates a new flow field pathfinder.
+     *
+     * @param grid   the precomputed walkability of the map
+     * @param engine the Ashley engine, used to track the entities of each target type
+     */
+    public FlowFieldPathfinder(WalkabilityGrid grid, Engine engine) {
+        this.grid = grid;
+        this.engine = engine;
+    }
+
+    /**
+     * Returns the up-to-date flow field toward all entities having the given component,
+     * rebuilding it first if the targets or the grid have changed.
+     *
+     * @param targetType the component class that target entities must have
+     * @return the flow field for this target type
+     */
+    public FlowField getField(Class<? extends Component> targetType) {
+        TargetField targetField = fields.get(targetType);
+        if (targetField == null) {
+            targetField = new TargetField(targetType);
+            fields.put(targetType, targetField);
+        }
+        targetField.ensureBuilt();
+        return targetField.field;
+    }
+
+    /**
+     * Returns the target entity the given tile leads to.
+     *
+     * @param targetType the component class that target entities must have
+     * @param x          the tile x coordinate
+     * @param y          the tile y coordinate
+     * @return the nearest reachable target, or {@code null} if no target can be reached
+     */
+    public Entity getTarget(Class<? extends Component> targetType, int x, int y) {
+        if (!grid.inBounds(x, y)) return null;
+
+        FlowField field = getField(targetType);
+        int source = field.getSource(grid.index(x, y));
+        if (source == FlowField.NONE) return null;
+        return fields.get(targetType).sourceEntities.get(source);
+    }
+
+    /**
+     * Traces the path from the given start tile to the nearest target by following the flow field.
+     *
+     * @param start      the starting position (truncated to tile coordinates)
+     * @param targetType the component class that target entities must have
+     * @return the waypoints excluding the start and including the target tile,
+     *         an empty array if the start is a target tile,
+     *         or {@code null} if no target can be reached from the start
+     */
+    public Array<Vector2> findPath(Vector2 start, Class<? extends Component> targetType) {
+        PackedPath path = findPackedPath(start, targetType);
+        return path != null ? path.toWaypoints(0) : null;
+    }
+
+    /**
+     * Traces the path from the given start tile to the nearest target into a {@link PackedPath}
+     * that can be shared between entities.
+     *
+     * @param start      the starting position (truncated to tile coordinates)
+     * @param targetType the component class that target entities must have
+     * @return the path excluding the start and including the target tile,
+     *         an empty path if the start is a target tile,
+     *         or {@code null} if no target can be reached from the start
+     */
+    public PackedPath findPackedPath(Vector2 start, Class<? extends Component> targetType) {
+        int x = (int) start.x;
+        int y = (int) start.y;
+        if (!grid.inBounds(x, y)) return null;
+
+        FlowField field = getField(targetType);
+        int current = grid.index(x, y);
+        if (field.getDistance(current) == FlowField.UNREACHABLE) return null;
+
+        traceBuffer.clear();
+        current = field.getNextStep(current);
+        while (current != FlowField.NONE) {
+            traceBuffer.add(current);
+            current = field.getNextStep(current);
+        }
+        return PackedPath.fromIndices(traceBuffer, grid.getWidth());
+    }
+
+    /**
+     * Marks all fields as outdated, e.g. after the set of targets changed in a way
+     * that is not visible to the engine (a target was moved).
+     */
+    public void invalidate() {
+        for (TargetField targetField : fields.values()) {
+            targetField.dirty = true;
+        }
+    }
+
+    /**
+     * Stops tracking the targets of all types.
+     */
+    @Override
+    public void dispose() {
+        for (TargetField targetField : fields.values()) {
+            engine.removeEntityListener(targetField);
+        }
+        fields.clear();
+    }
+
+    /**
+     * The flow field of one target type together with the target entities it was built from.
+     * Listens to the engine so that it is rebuilt whenever a target is added or removed.
+     */
+    private class TargetField implements EntityListener {
+
+        private final FlowField field = new FlowField(grid);
+        private final ImmutableArray<Entity> targets;
+        private final Array<Entity> sourceEntities = new Array<>();
+        private int[] sources = new int[0];
+        private boolean dirty = true;
+
+        TargetField(Class<? extends Component> targetType) {
+            Family family = Family.all(targetType, PositionComponent.class).get();
+            this.targets = engine.getEntitiesFor(family);
+            engine.addEntityListener(family, this);
+        }
+
+        void ensureBuilt() {
+            if (!dirty && !field.isStale()) return;
+
+            if (sources.length < targets.size()) {
+                sources = new int[targets.size()];
+            }
+            sourceEntities.clear();
+
+            int count = 0;
+            for (Entity target : targets) {
+                Vector2 position = pm.get(target).basePosition;
+                int x = (int) position.x;
+                int y = (int) position.y;
+                if (!grid.inBounds(x, y)) continue;
+
+                sources[count++] = grid.index(x, y);
+                sourceEntities.add(target);
+            }
+
+            field.build(sources, count);
+            dirty = false;
+        }
+
+        @Override
+        public void entityAdded(Entity entity) {
+            dirty = true;
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            dirty = true;
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * A grid backed implementation of the A* pathfinding algorithm.
+ * <p>
+ * It behaves like {@link SimpleAStarPathfinder} (4-neighbourhood, Manhattan heuristic, path to the
+ * closest reachable tile if the goal cannot be reached) but works on a precomputed
+ * {@link WalkabilityGrid} instead of reading tile properties. All search state is kept in flat int
+ * arrays indexed by tile, and the open set is an {@link IndexedMinHeap} with decrease-key.
+ * Closed and visited flags use generation stamps, so nothing has to be cleared between searches
+ * and a search does not allocate apart from the returned path.
+ * </p>
+ * <p>
+ * An optional {@link TileCost} makes individual tiles more expensive to enter, which turns the
+ * search into a weighted A*. The Manhattan heuristic stays admissible because every step still
+ * costs at least one.
+ * </p>
+ * <p>
+ * A search can also be run in steps ({@link #startSearch}, {@link #step(int)},
+ * {@link #finishSearch(IntArray)}) so that it can be spread over several frames.
+ * An instance runs one search at a time and is not thread-safe; every thread, and every
+ * user of stepped searches, needs its own pathfinder.
+ * </p>
+ * <p>
+ * In diagonal mode the search uses the 8-neighbourhood with octile costs (10 for a straight, 14
+ * for a diagonal step) and the octile heuristic. A diagonal step is only allowed if both tiles
+ * beside it are walkable and free of extra cost, so paths never cut around the corner of an
+ * obstacle. Extra costs are scaled by the straight step cost to keep their meaning.
+ * </p>
+ * <p>
+ * Tiles {@link WalkabilityGrid#isBlocked(int) blocked} by a building can still be entered for
+ * {@link #BLOCKED_TILE_COST}, and be the goal of a path. Entities then stop in front of the
+ * building and attack it, so a target that is walled in by buildings is still reached, while
+ * short ways around them are preferred.
+ * </p>
+ */
+public class GridAStarPathfinder implements Pathfinder {
+
+    private static final int[] DX = { 1, -1, 0, 0, 1, 1, -1, -1 };
+    private static final int[] DY = { 0, 0, 1, -1, 1, -1, 1, -1 };
+    private static final int STRAIGHT_DIRECTIONS = 4;
+    private static final int OCTILE_STRAIGHT_COST = 10;
+    private static final int OCTILE_DIAGONAL_COST = 14;
+
+    /** The extra cost of entering a tile that is blocked by a building. */
+    public static final int BLOCKED_TILE_COST = 16;
+
+    @Getter
+    private WalkabilityGrid grid;
+
+    @Getter
+    private final boolean diagonal;
+
+    private final int directions;
+    private final int straightCost;
+    private final int[] gCost;
+    private final int[] parent;
+    private final int[] visitedGeneration;
+    private final int[] closedGeneration;
+    private final IndexedMinHeap openSet;
+    private final IntArray pathBuffer = new IntArray();
+    private int generation = 0;
+
+    // State of the current search, see startSearch and step
+    private int goalX;
+    private int goalY;
+    private int goalNode = -1;
+    private TileCost extraCost;
+    private int closestReachable = -1;
+    private int closestDistance = Integer.MAX_VALUE;
+    private boolean reachedGoal = false;
+    private boolean searching = false;
+
+    /**
+     * Creates a new A* pathfinder on the given walkability grid.
+     *
+     * @param grid the precomputed walkability of the map
+     */
+    public GridAStarPathfinder(WalkabilityGrid grid) {
+        this(grid, false);
+    }
+
+    /**
+     * Creates a new A* pathfinder on the given walkability grid.
+     *
+     * @param grid     the precomputed walkability of the map
+     * @param diagonal whether to search the 8-neighbourhood instead of the 4-neighbourhood
+     */
+    public GridAStarPathfinder(WalkabilityGrid grid, boolean diagonal) {
+        this.grid = grid;
+        this.diagonal = diagonal;
+        this.directions = diagonal ? DX.length : STRAIGHT_DIRECTIONS;
+        this.straightCost = diagonal ? OCTILE_STRAIGHT_COST : 1;
+        int size = grid.getWidth() * grid.getHeight();
+        this.gCost = new int[size];
+        this.parent = new int[size];
+        this.visitedGeneration = new int[size];
+        this.closedGeneration = new int[size];
+        this.openSet = new IndexedMinHeap(size);
+    }
+
+    /**
+     * Lets the following searches run on another grid of the same size, e.g. a newer
+     * {@link WalkabilityGrid#getSnapshot() snapshot} of the map, so that the search arrays
+     * are reused instead of allocated again.
+     *
+     * @param grid the grid to search on
+     * @throws IllegalArgumentException if the grid has a different size
+     * @throws IllegalStateException    if a stepped search is still running
+     */
+    public void setGrid(WalkabilityGrid grid) {
+        if (grid.getWidth() != this.grid.getWidth() || grid.getHeight() != this.grid.getHeight()) {
+            throw new IllegalArgumentException("The grid must have the same size");
+        }
+        if (searching) {
+            throw new IllegalStateException("The grid cannot be changed during a search");
+        }
+        this.grid = grid;
+    }
+
+    /**
+     * Finds a path from the start position to the goal position using A*.
+     * If the goal is unreachable, returns a path to the closest reachable node to the goal.
+     *
+     * @param start the starting position
+     * @param goal  the goal position
+     * @return an array of {@link Vector2} representing the path (excluding the start), or an empty array if no path is found
+     */
+    @Override
+    public Array<Vector2> findPath(Vector2 start, Vector2 goal) {
+        return findPath(start, goal, null);
+    }
+
+    /**
+     * Finds the cheapest path from the start position to the goal position, where entering a tile
+     * costs one plus the extra cost reported by {@code extraCost}.
+     * <p>
+     * Tiles with a finite extra cost are treated as passable, so a goal that is only cut off by
+     * such tiles is still reached in a single search instead of flooding the reachable map.
+     * </p>
+     *
+     * @param start     the starting position
+     * @param goal      the goal position
+     * @param extraCost the additional cost per tile, or {@code null} for none
+     * @return an array of {@link Vector2} representing the path (excluding the start), or an empty array if no path is found
+     */
+    @Override
+    public Array<Vector2> findPath(Vector2 start, Vector2 goal, TileCost extraCost) {
+        findPath((int) start.x, (int) start.y, (int) goal.x, (int) goal.y, extraCost, pathBuffer);
+
+        Array<Vector2> path = new Array<>(pathBuffer.size);
+        int width = grid.getWidth();
+        for (int i = 0; i < pathBuffer.size; i++) {
+            int index = pathBuffer.get(i);
+            path.add(new Vector2(index % width, index / width));
+        }
+        return path;
+    }
+
+    /**
+     * Allocation-free variant of {@link #findPath(Vector2, Vector2)}.
+     *
+     * @param startX the start tile x coordinate
+     * @param startY the start tile y coordinate
+     * @param goalX  the goal tile x coordinate
+     * @param goalY  the goal tile y coordinate
+     * @param out    receives the flat tile indices of the path (excluding the start); cleared first
+     * @return true if the goal was reached, false if the path leads to the closest reachable tile
+     */
+    public boolean findPath(int startX, int startY, int goalX, int goalY, IntArray out) {
+        return findPath(startX, startY, goalX, goalY, null, out);
+    }
+
+    /**
+     * Allocation-free variant of {@link #findPath(Vector2, Vector2, TileCost)}.
+     *
+     * @param startX    the start tile x coordinate
+     * @param startY    the start tile y coordinate
+     * @param goalX     the goal tile x coordinate
+     * @param goalY     the goal tile y coordinate
+     * @param extraCost the additional cost per tile, or {@code null} for none
+     * @param out       receives the flat tile indices of the path (excluding the start); cleared first
+     * @return true if the goal was reached, false if the path leads to the closest reachable tile
+     */
+    public boolean findPath(
+        int startX,
+        int startY,
+        int goalX,
+        int goalY,
+        TileCost extraCost,
+        IntArray out
+    ) {
+        startSearch(startX, startY, goalX, goalY, extraCost);
+        step(Integer.MAX_VALUE);
+        return finishSearch(out);
+    }
+
+    /**
+     * Starts a search that can be run in several steps with {@link #step(int)},
+     * e.g. spread over multiple frames. Any search still in progress is discarded.
+     *
+     * @param startX    the start tile x coordinate
+     * @param startY    the start tile y coordinate
+     * @param goalX     the goal tile x coordinate
+     * @param goalY     the goal tile y coordinate
+     * @param extraCost the additional cost per tile, or {@code null} for none
+     */
+    public void startSearch(int startX, int startY, int goalX, int goalY, TileCost extraCost) {
+        openSet.clear();
+        this.goalX = goalX;
+        this.goalY = goalY;
+        this.goalNode = grid.inBounds(goalX, goalY) ? grid.index(goalX, goalY) : -1;
+        this.extraCost = extraCost;
+        this.closestReachable = -1;
+        this.closestDistance = Integer.MAX_VALUE;
+        this.reachedGoal = false;
+        this.searching = grid.inBounds(startX, startY);
+        if (!searching) return;
+
+        nextGeneration();
+
+        int startNode = grid.index(startX, startY);
+        int startH = heuristic(startX, startY, goalX, goalY);
+        gCost[startNode] = 0;
+        parent[startNode] = -1;
+        visitedGeneration[startNode] = generation;
+        openSet.insertOrUpdate(startNode, IndexedMinHeap.key(startH, startH));
+    }
+
+    /**
+     * Continues the current search.
+     *
+     * @param maxExpansions the maximum number of tiles to expand in this step
+     * @return true if the search is finished and {@link #finishSearch(IntArray)} can be called
+     */
+    public boolean step(int maxExpansions) {
+        if (!searching) return true;
+
+        int width = grid.getWidth();
+        for (int expanded = 0; expanded < maxExpansions; expanded++) {
+            if (openSet.isEmpty()) {
+                searching = false;
+                return true;
+            }
+
+            int current = openSet.pop();
+            closedGeneration[current] = generation;
+
+            int cx = current % width;
+            int cy = current / width;
+            boolean walkable = grid.isWalkable(current);
+
+            int distanceToGoal = heuristic(cx, cy, goalX, goalY);
+            if (distanceToGoal < closestDistance && walkable) {
+                closestReachable = current;
+                closestDistance = distanceToGoal;
+            }
+
+            if (current == goalNode) {
+                if (walkable || grid.isBlocked(current)) {
+                    openSet.clear();
+                    reachedGoal = true;
+                    searching = false;
+                    return true;
+                }
+                // A blocked goal may be targeted, but never walked through
+                continue;
+            }
+
+            for (int d = 0; d < directions; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+                if (!grid.inBounds(nx, ny)) continue;
+
+                int neighbor = grid.index(nx, ny);
+                if (closedGeneration[neighbor] == generation) continue;
+                boolean blocked = grid.isBlocked(neighbor);
+                if (!grid.isWalkable(neighbor) && !blocked && neighbor != goalNode) continue;
+
+                int tentativeG = gCost[current] + straightCost;
+                if (d >= STRAIGHT_DIRECTIONS) {
+                    if (!isClear(nx, cy) || !isClear(cx, ny)) continue;
+                    tentativeG = gCost[current] + OCTILE_DIAGONAL_COST;
+                }
+                if (blocked) tentativeG += BLOCKED_TILE_COST * straightCost;
+                if (extraCost != null) {
+                    int cost = extraCost.getCost(nx, ny);
+                    if (cost == TileCost.IMPASSABLE) continue;
+                    tentativeG += cost * straightCost;
+                }
+
+                if (visitedGeneration[neighbor] != generation || tentativeG < gCost[neighbor]) {
+                    int h = heuristic(nx, ny, goalX, goalY);
+                    gCost[neighbor] = tentativeG;
+                    parent[neighbor] = current;
+                    visitedGeneration[neighbor] = generation;
+                    openSet.insertOrUpdate(neighbor, IndexedMinHeap.key(tentativeG + h, h));
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a diagonal step may pass the given tile, i.e. whether it is walkable and has
+     * no extra cost.
+     */
+    private boolean isClear(int x, int y) {
+        return grid.isWalkable(x, y) && (extraCost == null || extraCost.getCost(x, y) == 0);
+    }
+
+    /**
+     * Writes the result of the finished search.
+     *
+     * @param out receives the flat tile indices of the path (excluding the start); cleared first
+     * @return true if the goal was reached, false if the path leads to the closest reachable tile
+     */
+    public boolean finishSearch(IntArray out) {
+        out.clear();
+        if (reachedGoal) {
+            reconstructPath(goalNode, out);
+        } else if (closestReachable != -1) {
+            // Could not reach the goal, return path to closest reachable point
+            reconstructPath(closestReachable, out);
+        }
+        return reachedGoal;
+    }
+
+    /**
+     * Writes the path from the start to the given node into {@code out}, excluding the start.
+     *
+     * @param node the last node of the path
+     * @param out  the array to fill
+     */
+    private void reconstructPath(int node, IntArray out) {
+        while (parent[node] != -1) {
+            out.add(node);
+            node = parent[node];
+        }
+        out.reverse();
+    }
+
+    /**
+     * Starts a new search generation, which implicitly resets all visited and closed flags.
+     */
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visitedGeneration, 0);
+            Arrays.fill(closedGeneration, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Computes the Manhattan distance between two tiles, or the octile distance in diagonal mode.
+     */
+    private int heuristic(int ax, int ay, int bx, int by) {
+        int dx = Math.abs(ax - bx);
+        int dy = Math.abs(ay - by);
+        if (!diagonal) return dx + dy;
+        return (
+            OCTILE_STRAIGHT_COST * Math.max(dx, dy) +
+            (OCTILE_DIAGONAL_COST - OCTILE_STRAIGHT_COST) * Math.min(dx, dy)
+        );
+    }
+}
@@ -0,0 +1,527 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * A hierarchical pathfinder (HPA*) for large maps.
+ * <p>
+ * The map is divided into square clusters. Wherever two neighbouring clusters are connected
+ * along their shared border, entrance nodes are placed on both sides: one in the middle of a short
+ * opening, or one at each end of a long one. For every cluster, the walking distances between its
+ * entrance nodes are precomputed with a breadth-first search inside the cluster. All of this is
+ * done once when the pathfinder is created.
+ * </p>
+ * <p>
+ * A search first connects start and goal to the entrance nodes of their clusters and runs A* on
+ * the small abstract graph of entrance nodes. The resulting {@link HierarchicalPath} is then
+ * refined segment by segment with a {@link GridAStarPathfinder}, which can happen lazily while the
+ * entity walks along it (see {@link #refineNext(HierarchicalPath, Array)}). Paths are close to,
+ * but not always exactly, the shortest ones.
+ * </p>
+ * <p>
+ * The pathfinder listens to its {@link WalkabilityGrid}. A changed tile only marks its own cluster,
+ * and the neighbours sharing the border it lies on, for rebuilding before the next search, so
+ * placing or removing a building only rebuilds the clusters and entrances around it. Tiles
+ * blocked by buildings are left out of the abstract graph, and a goal blocked by a building is
+ * reached from its walkable neighbours. An optional {@link TileCost} is only applied during
+ * refinement.
+ * </p>
+ */
+public final class HierarchicalPathfinder implements Pathfinder, WalkabilityGrid.ChangeListener {
+
+    /** Openings at least this long get an entrance at both ends instead of one in the middle. */
+    private static final int LONG_ENTRANCE = 6;
+
+    private static final int UNREACHABLE = -1;
+
+    private static final int[] DX = { 1, -1, 0, 0 };
+    private static final int[] DY = { 0, 0, 1, -1 };
+
+    /**
+     * A path through the abstract graph, from the start over entrance nodes to the goal.
+     */
+    public static class HierarchicalPath {
+
+        private final IntArray nodes;
+        private final TileCost extraCost;
+        private int segment = 0;
+
+        private HierarchicalPath(IntArray nodes, TileCost extraCost) {
+            this.nodes = nodes;
+            this.extraCost = extraCost;
+        }
+
+        /**
+         * @return true if all segments have been refined
+         */
+        public boolean isRefined() {
+            return segment >= nodes.size - 1;
+        }
+
+        /**
+         * @return the number of abstract nodes, including start and goal
+         */
+        public int getNodeCount() {
+            return nodes.size;
+        }
+    }
+
+    /**
+     * A rectangular part of the map with its entrance nodes.
+     */
+    private static class Cluster {
+
+        private final int minX;
+        private final int minY;
+        private final int maxX;
+        private final int maxY;
+
+        /** The tile indices of the entrance nodes. */
+        private final IntArray nodes = new IntArray();
+
+        /** Pairs of the local index of a node and the tile index of the node across the border. */
+        private final IntArray links = new IntArray();
+
+        /** The walking distances between the nodes, {@code nodes.size} squared. */
+        private int[] distances = new int[0];
+
+        private Cluster(int minX, int minY, int maxX, int maxY) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+    }
+
+    @Getter
+    private final WalkabilityGrid grid;
+
+    @Getter
+    private final int clusterSize;
+
+    private final int clustersX;
+    private final int clustersY;
+    private final Cluster[] clusters;
+    private final boolean[] dirty;
+    private final IntArray dirtyClusters = new IntArray();
+    private final GridAStarPathfinder refiner;
+
+    // Abstract search state, indexed by tile like in GridAStarPathfinder
+    private final int[] gCost;
+    private final int[] parent;
+    private final int[] visitedGeneration;
+    private final int[] closedGeneration;
+    private final IndexedMinHeap openSet;
+    private int generation = 0;
+
+    // Breadth-first search buffers, indexed by tile within one cluster
+    private final int[] bfsDistance;
+    private final int[] bfsQueue;
+    private final IntArray goalCosts = new IntArray();
+    private final IntArray refineBuffer = new IntArray();
+
+    /**
+     * Creates the pathfinder and precomputes the entrance nodes and distances of all clusters.
+     *
+     * @param grid        the walkability of the map
+     * @param clusterSize the width and height of a cluster in tiles
+     */
+    public HierarchicalPathfinder(WalkabilityGrid grid, int clusterSize) {
+        this.grid = grid;
+        this.clusterSize = clusterSize;
+        this.clustersX = (grid.getWidth() + clusterSize - 1) / clusterSize;
+        this.clustersY = (grid.getHeight() + clusterSize - 1) / clusterSize;
+        this.clusters = new Cluster[clustersX * clustersY];
+        this.dirty = new boolean[clusters.length];
+        this.refiner = new GridAStarPathfinder(grid);
+
+        int size = grid.getWidth() * grid.getHeight();
+        this.gCost = new int[size];
+        this.parent = new int[size];
+        this.visitedGeneration = new int[size];
+        this.closedGeneration = new int[size];
+        this.openSet = new IndexedMinHeap(size);
+        this.bfsDistance = new int[clusterSize * clusterSize];
+        this.bfsQueue = new int[clusterSize * clusterSize];
+
+        for (int cy = 0; cy < clustersY; cy++) {
+            for (int cx = 0; cx < clustersX; cx++) {
+                clusters[cx + cy * clustersX] =
+                new Cluster(
+                    cx * clusterSize,
+                    cy * clusterSize,
+                    Math.min((cx + 1) * clusterSize, grid.getWidth()),
+                    Math.min((cy + 1) * clusterSize, grid.getHeight())
+                );
+            }
+        }
+        for (int i = 0; i < clusters.length; i++) {
+            rebuildCluster(i);
+        }
+        grid.addChangeListener(this);
+    }
+
+    /**
+     * Finds a path from the start position to the goal position.
+     * If the goal is unreachable, returns a path to the closest reachable tile, like
+     * {@link GridAStarPathfinder}.
+     *
+     * @param start the starting position
+     * @param goal  the goal position
+     * @return the waypoints of the path (excluding the start), or an empty array if no path is found
+     */
+    @Override
+    public Array<Vector2> findPath(Vector2 start, Vector2 goal) {
+        return findPath(start, goal, null);
+    }
+
+    /**
+     * Finds a path from the start position to the goal position, refining all segments at once.
+     *
+     * @param start     the starting position
+     * @param goal      the goal position
+     * @param extraCost the additional cost per tile used during refinement, or {@code null}
+     * @return the waypoints of the path (excluding the start), or an empty array if no path is found
+     */
+    @Override
+    public Array<Vector2> findPath(Vector2 start, Vector2 goal, TileCost extraCost) {
+        HierarchicalPath path = findHierarchicalPath(start, goal, extraCost);
+        if (path == null) return refiner.findPath(start, goal, extraCost);
+
+        Array<Vector2> waypoints = new Array<>();
+        while (!path.isRefined()) {
+            if (!refineNext(path, waypoints)) {
+                return refiner.findPath(start, goal, extraCost);
+            }
+        }
+        return waypoints;
+    }
+
+    /**
+     * Finds a path through the abstract graph without refining it.
+     *
+     * @param start     the starting position
+     * @param goal      the goal position
+     * @param extraCost the additional cost per tile used during refinement, or {@code null}
+     * @return the abstract path, or {@code null} if the goal cannot be reached
+     */
+    public HierarchicalPath findHierarchicalPath(Vector2 start, Vector2 goal, TileCost extraCost) {
+        IntArray nodes = findAbstractPath((int) start.x, (int) start.y, (int) goal.x, (int) goal.y);
+        return nodes == null ? null : new HierarchicalPath(nodes, extraCost);
+    }
+
+    /**
+     * Refines the next segment of an abstract path into tiles.
+     *
+     * @param path the abstract path
+     * @param out  receives the waypoints of the segment (excluding its start)
+     * @return false if the segment could not be walked, e.g. because the map has changed
+     */
+    public boolean refineNext(HierarchicalPath path, Array<Vector2> out) {
+        if (path.isRefined()) return false;
+
+        int width = grid.getWidth();
+        int from = path.nodes.get(path.segment);
+        int to = path.nodes.get(path.segment + 1);
+        path.segment++;
+
+        boolean reached = refiner.findPath(
+            from % width,
+            from / width,
+            to % width,
+            to / width,
+            path.extraCost,
+            refineBuffer
+        );
+        for (int i = 0; i < refineBuffer.size; i++) {
+            int tile = refineBuffer.get(i);
+            out.add(new Vector2(tile % width, tile / width));
+        }
+        return reached;
+    }
+
+    /**
+     * Marks the clusters affected by a changed tile for rebuilding.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     */
+    @Override
+    public void tileChanged(int x, int y) {
+        int cx = x / clusterSize;
+        int cy = y / clusterSize;
+        Cluster cluster = clusters[cx + cy * clustersX];
+
+        markDirty(cx, cy);
+        if (x == cluster.minX) markDirty(cx - 1, cy);
+        if (x == cluster.maxX - 1) markDirty(cx + 1, cy);
+        if (y == cluster.minY) markDirty(cx, cy - 1);
+        if (y == cluster.maxY - 1) markDirty(cx, cy + 1);
+    }
+
+    /**
+     * @return the number of entrance nodes of all clusters
+     */
+    public int getNodeCount() {
+        updateDirtyClusters();
+        int count = 0;
+        for (Cluster cluster : clusters) {
+            count += cluster.nodes.size;
+        }
+        return count;
+    }
+
+    private void markDirty(int cx, int cy) {
+        if (cx < 0 || cy < 0 || cx >= clustersX || cy >= clustersY) return;
+
+        int index = cx + cy * clustersX;
+        if (!dirty[index]) {
+            dirty[index] = true;
+            dirtyClusters.add(index);
+        }
+    }
+
+    private void updateDirtyClusters() {
+        for (int i = 0; i < dirtyClusters.size; i++) {
+            int index = dirtyClusters.get(i);
+            rebuildCluster(index);
+            dirty[index] = false;
+        }
+        dirtyClusters.clear();
+    }
+
+    /**
+     * Finds the entrance nodes of a cluster on all four borders and the distances between them.
+     */
+    private void rebuildCluster(int index) {
+        Cluster cluster = clusters[index];
+        cluster.nodes.clear();
+        cluster.links.clear();
+
+        int cx = index % clustersX;
+        int cy = index / clustersX;
+        if (cx > 0) scanBorder(cluster, -1, 0);
+        if (cx < clustersX - 1) scanBorder(cluster, 1, 0);
+        if (cy > 0) scanBorder(cluster, 0, -1);
+        if (cy < clustersY - 1) scanBorder(cluster, 0, 1);
+
+        int n = cluster.nodes.size;
+        cluster.distances = new int[n * n];
+        for (int a = 0; a < n; a++) {
+            breadthFirstSearch(cluster, cluster.nodes.get(a));
+            for (int b = 0; b < n; b++) {
+                cluster.distances[a * n + b] = localDistance(cluster, cluster.nodes.get(b));
+            }
+        }
+    }
+
+    /**
+     * Places entrances on the border of a cluster toward the neighbour in direction (dx, dy).
+     * Both clusters sharing a border find the same openings, so their entrances line up.
+     */
+    private void scanBorder(Cluster cluster, int dx, int dy) {
+        boolean vertical = dx != 0;
+        int fixed;
+        if (vertical) {
+            fixed = dx > 0 ? cluster.maxX - 1 : cluster.minX;
+        } else {
+            fixed = dy > 0 ? cluster.maxY - 1 : cluster.minY;
+        }
+        int from = vertical ? cluster.minY : cluster.minX;
+        int to = vertical ? cluster.maxY : cluster.maxX;
+
+        int runStart = -1;
+        for (int i = from; i <= to; i++) {
+            int x = vertical ? fixed : i;
+            int y = vertical ? i : fixed;
+            boolean open = i < to && grid.isWalkable(x, y) && grid.isWalkable(x + dx, y + dy);
+            if (open) {
+                if (runStart == -1) runStart = i;
+                continue;
+            }
+            if (runStart == -1) continue;
+
+            int runEnd = i - 1;
+            if (runEnd - runStart + 1 >= LONG_ENTRANCE) {
+                addEntrance(cluster, vertical, fixed, runStart, dx, dy);
+                addEntrance(cluster, vertical, fixed, runEnd, dx, dy);
+            } else {
+                addEntrance(cluster, vertical, fixed, (runStart + runEnd) / 2, dx, dy);
+            }
+            runStart = -1;
+        }
+    }
+
+    private void addEntrance(Cluster cluster, boolean vertical, int fixed, int i, int dx, int dy) {
+        int x = vertical ? fixed : i;
+        int y = vertical ? i : fixed;
+        int tile = grid.index(x, y);
+
+        int local = cluster.nodes.indexOf(tile);
+        if (local == -1) {
+            local = cluster.nodes.size;
+            cluster.nodes.add(tile);
+        }
+        cluster.links.add(local, grid.index(x + dx, y + dy));
+    }
+
+    /**
+     * Computes the walking distance from the given tile to every tile of the cluster,
+     * without leaving the cluster. Read the results with {@link #localDistance}.
+     */
+    private void breadthFirstSearch(Cluster cluster, int startTile) {
+        int width = grid.getWidth();
+        int localWidth = cluster.maxX - cluster.minX;
+        int localHeight = cluster.maxY - cluster.minY;
+        Arrays.fill(bfsDistance, 0, localWidth * localHeight, UNREACHABLE);
+
+        int startX = startTile % width - cluster.minX;
+        int startY = startTile / width - cluster.minY;
+        bfsDistance[startX + startY * localWidth] = 0;
+        bfsQueue[0] = startX + startY * localWidth;
+        int head = 0;
+        int tail = 1;
+
+        while (head < tail) {
+            int current = bfsQueue[head++];
+            int cx = current % localWidth;
+            int cy = current / localWidth;
+
+            for (int d = 0; d < DX.length; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+                if (nx < 0 || ny < 0 || nx >= localWidth || ny >= localHeight) continue;
+
+                int neighbor = nx + ny * localWidth;
+                if (bfsDistance[neighbor] != UNREACHABLE) continue;
+                if (!grid.isWalkable(cluster.minX + nx, cluster.minY + ny)) continue;
+
+                bfsDistance[neighbor] = bfsDistance[current] + 1;
+                bfsQueue[tail++] = neighbor;
+            }
+        }
+    }
+
+    private int localDistance(Cluster cluster, int tile) {
+        int width = grid.getWidth();
+        int localWidth = cluster.maxX - cluster.minX;
+        return bfsDistance[(tile % width - cluster.minX) + (tile / width - cluster.minY) * localWidth];
+    }
+
+    private Cluster clusterOf(int tile) {
+        int width = grid.getWidth();
+        return clusters[(tile % width) / clusterSize + (tile / width) / clusterSize * clustersX];
+    }
+
+    /**
+     * Runs A* on the abstract graph, with start and goal connected to the entrance nodes
+     * of their clusters.
+     *
+     * @return the tiles of the abstract path from start to goal, or {@code null} if there is none
+     */
+    private IntArray findAbstractPath(int startX, int startY, int goalX, int goalY) {
+        if (!grid.inBounds(startX, startY) || !grid.inBounds(goalX, goalY)) return null;
+        int goalTile = grid.index(goalX, goalY);
+        // A goal blocked by a building is targeted from its walkable neighbours
+        if (!grid.isWalkable(goalTile) && !grid.isBlocked(goalTile)) return null;
+        updateDirtyClusters();
+
+        int startTile = grid.index(startX, startY);
+        Cluster startCluster = clusterOf(startTile);
+        Cluster goalCluster = clusterOf(goalTile);
+
+        // Start and goal connected within one cluster, no abstract search needed
+        if (startCluster == goalCluster) {
+            breadthFirstSearch(startCluster, goalTile);
+            if (localDistance(startCluster, startTile) != UNREACHABLE) {
+                IntArray nodes = new IntArray(2);
+                nodes.add(startTile, goalTile);
+                return nodes;
+            }
+        }
+
+        breadthFirstSearch(goalCluster, goalTile);
+        goalCosts.clear();
+        for (int i = 0; i < goalCluster.nodes.size; i++) {
+            goalCosts.add(localDistance(goalCluster, goalCluster.nodes.get(i)));
+        }
+
+        nextGeneration();
+        openSet.clear();
+        gCost[startTile] = 0;
+        parent[startTile] = -1;
+        visitedGeneration[startTile] = generation;
+
+        breadthFirstSearch(startCluster, startTile);
+        for (int i = 0; i < startCluster.nodes.size; i++) {
+            int node = startCluster.nodes.get(i);
+            int distance = localDistance(startCluster, node);
+            if (distance == UNREACHABLE || node == startTile) continue;
+            relax(node, distance, startTile, goalX, goalY);
+        }
+        if (startCluster.nodes.contains(startTile)) {
+            openSet.insertOrUpdate(startTile, IndexedMinHeap.key(0, 0));
+        }
+
+        while (!openSet.isEmpty()) {
+            int current = openSet.pop();
+            closedGeneration[current] = generation;
+            if (current == goalTile) return reconstructPath(goalTile);
+
+            Cluster cluster = clusterOf(current);
+            int local = cluster.nodes.indexOf(current);
+            if (local == -1) continue;
+
+            int g = gCost[current];
+            int n = cluster.nodes.size;
+            for (int other = 0; other < n; other++) {
+                int distance = cluster.distances[local * n + other];
+                if (other == local || distance == UNREACHABLE) continue;
+                relax(cluster.nodes.get(other), g + distance, current, goalX, goalY);
+            }
+            for (int i = 0; i < cluster.links.size; i += 2) {
+                if (cluster.links.get(i) != local) continue;
+                relax(cluster.links.get(i + 1), g + 1, current, goalX, goalY);
+            }
+            if (cluster == goalCluster && goalCosts.get(local) != UNREACHABLE) {
+                relax(goalTile, g + goalCosts.get(local), current, goalX, goalY);
+            }
+        }
+        return null;
+    }
+
+    private void relax(int tile, int g, int from, int goalX, int goalY) {
+        if (closedGeneration[tile] == generation) return;
+        if (visitedGeneration[tile] == generation && g >= gCost[tile]) return;
+
+        int width = grid.getWidth();
+        int h = Math.abs(tile % width - goalX) + Math.abs(tile / width - goalY);
+        gCost[tile] = g;
+        parent[tile] = from;
+        visitedGeneration[tile] = generation;
+        openSet.insertOrUpdate(tile, IndexedMinHeap.key(g + h, h));
+    }
+
+    private IntArray reconstructPath(int tile) {
+        IntArray nodes = new IntArray();
+        while (tile != -1) {
+            nodes.add(tile);
+            tile = parent[tile];
+        }
+        nodes.reverse();
+        return nodes;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visitedGeneration, 0);
+            Arrays.fill(closedGeneration, 0);
+            generation = 1;
+        }
+    }
+}
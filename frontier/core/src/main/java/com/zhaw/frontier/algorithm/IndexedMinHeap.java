@@ -0,0 +1,193 @@
+package com.zhaw.frontier.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap over the integer ids {@code 0..capacity-1} with {@code long} priorities.
+ * <p>
+ * In contrast to {@link java.util.PriorityQueue}, every id knows its position in the heap.
+ * This makes {@link #contains(int)} O(1) and allows changing the priority of an element that is
+ * already queued (decrease-key) in O(log n). The heap is backed by flat arrays and does not
+ * allocate after construction.
+ * </p>
+ */
+public class IndexedMinHeap {
+
+    private static final int ABSENT = -1;
+
+    private final int[] heap;
+    private final long[] priority;
+    private final int[] position;
+    private int size = 0;
+
+    /**
+     * Creates an empty heap for the ids {@code 0..capacity-1}.
+     *
+     * @param capacity the number of distinct ids, e.g. the number of tiles of a map
+     */
+    public IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.priority = new long[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, ABSENT);
+    }
+
+    /**
+     * Packs two non-negative int keys into one priority that orders by {@code primary} first
+     * and by {@code secondary} second.
+     *
+     * @param primary   the primary key (e.g. the f-cost)
+     * @param secondary the tie breaker (e.g. the heuristic)
+     * @return the combined priority
+     */
+    public static long key(int primary, int secondary) {
+        return ((long) primary << 32) | (secondary & 0xffffffffL);
+    }
+
+    /**
+     * @return true if no element is queued
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of queued elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param id the element id
+     * @return true if the element is currently queued
+     */
+    public boolean contains(int id) {
+        return position[id] != ABSENT;
+    }
+
+    /**
+     * @param id a queued element id
+     * @return the current priority of the element
+     */
+    public long getPriority(int id) {
+        return priority[id];
+    }
+
+    /**
+     * Inserts the element, or updates its priority if it is already queued.
+     *
+     * @param id          the element id
+     * @param newPriority the priority of the element
+     */
+    public void insertOrUpdate(int id, long newPriority) {
+        int index = position[id];
+        if (index == ABSENT) {
+            priority[id] = newPriority;
+            heap[size] = id;
+            position[id] = size;
+            siftUp(size++);
+            return;
+        }
+
+        long oldPriority = priority[id];
+        priority[id] = newPriority;
+        if (newPriority < oldPriority) {
+            siftUp(index);
+        } else if (newPriority > oldPriority) {
+            siftDown(index);
+        }
+    }
+
+    /**
+     * @return the id with the lowest priority without removing it
+     */
+    public int peek() {
+        return heap[0];
+    }
+
+    /**
+     * @return the lowest priority currently queued
+     */
+    public long peekPriority() {
+        return priority[heap[0]];
+    }
+
+    /**
+     * Removes and returns the id with the lowest priority.
+     *
+     * @return the removed id
+     */
+    public int pop() {
+        int top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * Removes the element if it is queued.
+     *
+     * @param id the element id
+     */
+    public void remove(int id) {
+        int index = position[id];
+        if (index != ABSENT) removeAt(index);
+    }
+
+    /**
+     * Removes all queued elements. Runs in O(size), not O(capacity).
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void removeAt(int index) {
+        int removed = heap[index];
+        position[removed] = ABSENT;
+        size--;
+        if (index == size) return;
+
+        int last = heap[size];
+        heap[index] = last;
+        position[last] = index;
+        siftDown(index);
+        siftUp(position[last]);
+    }
+
+    private void siftUp(int index) {
+        int id = heap[index];
+        long value = priority[id];
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            int parent = heap[parentIndex];
+            if (priority[parent] <= value) break;
+            heap[index] = parent;
+            position[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    private void siftDown(int index) {
+        int id = heap[index];
+        long value = priority[id];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && priority[heap[right]] < priority[heap[child]]) {
+                child = right;
+            }
+            if (value <= priority[heap[child]]) break;
+            heap[index] = heap[child];
+            position[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+}
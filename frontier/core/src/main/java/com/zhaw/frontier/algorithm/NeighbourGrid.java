@@ -0,0 +1,115 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntArray;
+import java.util.Arrays;
+
+/**
+ * A uniform grid over a set of points given as coordinate arrays, for finding the points within a
+ * fixed radius of each other.
+ * <p>
+ * The cells are as large as the radius, so all points within the radius of a position lie in the
+ * 3x3 cells around it. Unlike the {@link SpatialHash}, the grid stores indices into the arrays of
+ * the caller instead of entities, so callers can keep everything they need per point in
+ * primitive arrays. {@link #build(float[], float[], int)} sorts the points into hashed buckets
+ * with a counting sort and does not allocate once the arrays have grown to the number of points.
+ * </p>
+ * <p>
+ * After a build, {@link #neighbours(float, float, IntArray)} only reads the grid, so it may be
+ * called from several threads at once, each with its own output array.
+ * </p>
+ */
+public class NeighbourGrid {
+
+    private final float cellSize;
+
+    // Per point, indexed like the arrays passed to build
+    private int[] cellX = new int[0];
+    private int[] cellY = new int[0];
+    private int[] pointBucket = new int[0];
+
+    // Point indices sorted by bucket
+    private int[] sorted = new int[0];
+    private int[] bucketStart = new int[1];
+    private int[] bucketEnd = new int[0];
+    private int mask = 0;
+
+    /**
+     * Creates a new, empty grid.
+     *
+     * @param radius the radius of the neighbourhood queries, in tiles
+     */
+    public NeighbourGrid(float radius) {
+        this.cellSize = radius;
+    }
+
+    /**
+     * Replaces the content of the grid with the given points.
+     *
+     * @param x     the x coordinates of the points
+     * @param y     the y coordinates of the points
+     * @param count the number of points, i.e. the used length of both arrays
+     */
+    public void build(float[] x, float[] y, int count) {
+        if (cellX.length < count) {
+            int capacity = MathUtils.nextPowerOfTwo(count);
+            cellX = new int[capacity];
+            cellY = new int[capacity];
+            pointBucket = new int[capacity];
+            sorted = new int[capacity];
+        }
+
+        int buckets = Math.max(16, MathUtils.nextPowerOfTwo(count * 2));
+        if (bucketEnd.length != buckets) {
+            bucketStart = new int[buckets + 1];
+            bucketEnd = new int[buckets];
+        } else {
+            Arrays.fill(bucketStart, 0);
+        }
+        mask = buckets - 1;
+
+        for (int i = 0; i < count; i++) {
+            cellX[i] = MathUtils.floor(x[i] / cellSize);
+            cellY[i] = MathUtils.floor(y[i] / cellSize);
+            pointBucket[i] = bucket(cellX[i], cellY[i]);
+            bucketStart[pointBucket[i] + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+        System.arraycopy(bucketStart, 0, bucketEnd, 0, buckets);
+        for (int i = 0; i < count; i++) {
+            sorted[bucketEnd[pointBucket[i]]++] = i;
+        }
+    }
+
+    /**
+     * Finds the points in the 3x3 cells around the given position. These include all points
+     * within the radius, but also some further away, which the caller filters by distance.
+     *
+     * @param x   the x coordinate of the position
+     * @param y   the y coordinate of the position
+     * @param out receives the indices of the points, including the point at the position itself;
+     *            cleared first
+     */
+    public void neighbours(float x, float y, IntArray out) {
+        out.clear();
+        int centerX = MathUtils.floor(x / cellSize);
+        int centerY = MathUtils.floor(y / cellSize);
+
+        for (int cx = centerX - 1; cx <= centerX + 1; cx++) {
+            for (int cy = centerY - 1; cy <= centerY + 1; cy++) {
+                int b = bucket(cx, cy);
+                for (int slot = bucketStart[b]; slot < bucketStart[b + 1]; slot++) {
+                    int index = sorted[slot];
+                    // Buckets are shared by all cells with the same hash
+                    if (cellX[index] == cx && cellY[index] == cy) out.add(index);
+                }
+            }
+        }
+    }
+
+    private int bucket(int x, int y) {
+        return ((x * 73856093) ^ (y * 19349663)) & mask;
+    }
+}
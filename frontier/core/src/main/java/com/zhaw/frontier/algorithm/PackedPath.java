@@ -0,0 +1,119 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * An immutable path of tiles, packed into a single int array.
+ * <p>
+ * Each tile is stored as {@code x << 16 | y}. Since a path never changes after it was created,
+ * one instance can be shared by all entities walking the same route, e.g. through the
+ * {@link PathCache}. Each entity only keeps a cursor into the shared path.
+ * </p>
+ */
+public final class PackedPath {
+
+    /** A path without any waypoints. */
+    public static final PackedPath EMPTY = new PackedPath(new int[0]);
+
+    private final int[] tiles;
+
+    private PackedPath(int[] tiles) {
+        this.tiles = tiles;
+    }
+
+    /**
+     * Creates a path from flat tile indices, as produced by {@link GridAStarPathfinder}.
+     *
+     * @param indices the tile indices ({@code y * width + x})
+     * @param width   the width of the grid the indices refer to
+     * @return the packed path
+     */
+    public static PackedPath fromIndices(IntArray indices, int width) {
+        if (indices.isEmpty()) return EMPTY;
+
+        int[] tiles = new int[indices.size];
+        for (int i = 0; i < indices.size; i++) {
+            int index = indices.get(i);
+            tiles[i] = pack(index % width, index / width);
+        }
+        return new PackedPath(tiles);
+    }
+
+    /**
+     * Creates a path from waypoints. The waypoints are truncated to tile coordinates.
+     *
+     * @param waypoints the waypoints of the path
+     * @return the packed path
+     */
+    public static PackedPath fromWaypoints(Array<Vector2> waypoints) {
+        if (waypoints.isEmpty()) return EMPTY;
+
+        int[] tiles = new int[waypoints.size];
+        for (int i = 0; i < waypoints.size; i++) {
+            Vector2 waypoint = waypoints.get(i);
+            tiles[i] = pack((int) waypoint.x, (int) waypoint.y);
+        }
+        return new PackedPath(tiles);
+    }
+
+    /**
+     * @return the number of tiles in the path
+     */
+    public int size() {
+        return tiles.length;
+    }
+
+    /**
+     * @return true if the path has no tiles
+     */
+    public boolean isEmpty() {
+        return tiles.length == 0;
+    }
+
+    /**
+     * @param i the position in the path
+     * @return the x coordinate of the tile
+     */
+    public int getX(int i) {
+        return tiles[i] >>> 16;
+    }
+
+    /**
+     * @param i the position in the path
+     * @return the y coordinate of the tile
+     */
+    public int getY(int i) {
+        return tiles[i] & 0xffff;
+    }
+
+    /**
+     * Copies the tile at the given position into {@code out}.
+     *
+     * @param i   the position in the path
+     * @param out the vector to write to
+     * @return {@code out}, for chaining
+     */
+    public Vector2 get(int i, Vector2 out) {
+        return out.set(getX(i), getY(i));
+    }
+
+    /**
+     * Converts the path into newly allocated waypoints.
+     *
+     * @param from the first position to include
+     * @return the waypoints from {@code from} to the end of the path
+     */
+    public Array<Vector2> toWaypoints(int from) {
+        Array<Vector2> waypoints = new Array<>(Math.max(tiles.length - from, 0));
+        for (int i = from; i < tiles.length; i++) {
+            waypoints.add(new Vector2(getX(i), getY(i)));
+        }
+        return waypoints;
+    }
+
+    private static int pack(int x, int y) {
+        return (x << 16) | (y & 0xffff);
+    }
+}
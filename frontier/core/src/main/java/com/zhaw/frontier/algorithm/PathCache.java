@@ -0,0 +1,195 @@
+package com.zhaw.frontier.algorithm;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * A least-recently-used cache of {@link PackedPath}s keyed by start and goal tile.
+ * <p>
+ * Enemies spawned at the same spawn point request the same route, so the path is only computed
+ * once and then shared. The cache remembers the {@link WalkabilityGrid#getVersion()} its paths
+ * were computed for; as soon as the grid changes, the whole cache is dropped. Placed and removed
+ * buildings block and free their tiles in the grid, so they drop the paths through their
+ * footprint as well.
+ * </p>
+ * <p>
+ * Paths searched with extra tile costs are additionally keyed by what the costs depend on, e.g.
+ * the {@link WallCostMap.CostProfile} of the attacker and the {@link WallCostMap#getVersion()}
+ * of the walls. Paths of outdated costs are no longer found and are evicted over time.
+ * </p>
+ */
+public class PathCache {
+
+    private final WalkabilityGrid grid;
+    private final LinkedHashMap<Key, PackedPath> paths;
+    private final Key lookup = new Key();
+    private int version = -1;
+
+    @Getter
+    private int hits = 0;
+
+    @Getter
+    private int misses = 0;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param grid     the grid the cached paths are computed on
+     * @param capacity the maximum number of paths kept before the least recently used is evicted
+     */
+    public PathCache(WalkabilityGrid grid, int capacity) {
+        this.grid = grid;
+        this.paths =
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, PackedPath> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached path between two tiles.
+     *
+     * @param startX the start tile x coordinate
+     * @param startY the start tile y coordinate
+     * @param goalX  the goal tile x coordinate
+     * @param goalY  the goal tile y coordinate
+     * @return the cached path, or {@code null} if there is none for the current grid
+     */
+    public PackedPath get(int startX, int startY, int goalX, int goalY) {
+        return get(startX, startY, goalX, goalY, null, 0);
+    }
+
+    /**
+     * Returns the cached path between two tiles, searched with the given extra costs.
+     *
+     * @param startX      the start tile x coordinate
+     * @param startY      the start tile y coordinate
+     * @param goalX       the goal tile x coordinate
+     * @param goalY       the goal tile y coordinate
+     * @param costKey     what the extra costs depend on, or {@code null} for none
+     * @param costVersion the version of the extra costs
+     * @return the cached path, or {@code null} if there is none for the current grid and costs
+     */
+    public PackedPath get(
+        int startX,
+        int startY,
+        int goalX,
+        int goalY,
+        Object costKey,
+        int costVersion
+    ) {
+        validate();
+        PackedPath path = null;
+        if (grid.inBounds(startX, startY) && grid.inBounds(goalX, goalY)) {
+            path = paths.get(lookup.set(tiles(startX, startY, goalX, goalY), costKey, costVersion));
+        }
+        if (path == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return path;
+    }
+
+    /**
+     * Stores the path between two tiles, computed on the current grid.
+     *
+     * @param startX the start tile x coordinate
+     * @param startY the start tile y coordinate
+     * @param goalX  the goal tile x coordinate
+     * @param goalY  the goal tile y coordinate
+     * @param path   the path to share
+     */
+    public void put(int startX, int startY, int goalX, int goalY, PackedPath path) {
+        put(startX, startY, goalX, goalY, null, 0, path);
+    }
+
+    /**
+     * Stores the path between two tiles, computed on the current grid with the given extra costs.
+     *
+     * @param startX      the start tile x coordinate
+     * @param startY      the start tile y coordinate
+     * @param goalX       the goal tile x coordinate
+     * @param goalY       the goal tile y coordinate
+     * @param costKey     what the extra costs depend on, or {@code null} for none
+     * @param costVersion the version of the extra costs
+     * @param path        the path to share
+     */
+    public void put(
+        int startX,
+        int startY,
+        int goalX,
+        int goalY,
+        Object costKey,
+        int costVersion,
+        PackedPath path
+    ) {
+        validate();
+        if (!grid.inBounds(startX, startY) || !grid.inBounds(goalX, goalY)) return;
+        paths.put(new Key().set(tiles(startX, startY, goalX, goalY), costKey, costVersion), path);
+    }
+
+    /**
+     * @return the number of cached paths
+     */
+    public int size() {
+        return paths.size();
+    }
+
+    /**
+     * Removes all cached paths. The hit and miss counters are kept.
+     */
+    public void clear() {
+        paths.clear();
+    }
+
+    private void validate() {
+        if (version != grid.getVersion()) {
+            paths.clear();
+            version = grid.getVersion();
+        }
+    }
+
+    private long tiles(int startX, int startY, int goalX, int goalY) {
+        return ((long) grid.index(startX, startY) << 32) | grid.index(goalX, goalY);
+    }
+
+    /**
+     * The start and goal tile of a path together with the costs it was searched with.
+     * Lookups reuse one instance, so only stored keys are allocated.
+     */
+    private static final class Key {
+
+        private long tiles;
+        private Object costKey;
+        private int costVersion;
+
+        private Key set(long tiles, Object costKey, int costVersion) {
+            this.tiles = tiles;
+            this.costKey = costKey;
+            this.costVersion = costVersion;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key other)) return false;
+            return (
+                tiles == other.tiles &&
+                costVersion == other.costVersion &&
+                Objects.equals(costKey, other.costKey)
+            );
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Long.hashCode(tiles);
+            hash = 31 * hash + Objects.hashCode(costKey);
+            return 31 * hash + costVersion;
+        }
+    }
+}
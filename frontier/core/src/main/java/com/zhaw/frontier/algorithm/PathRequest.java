@@ -0,0 +1,59 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.ashley.core.Entity;
+import lombok.Getter;
+
+/**
+ * A search submitted to a {@link PathRequestScheduler}.
+ * <p>
+ * The request is created on the main thread and handed back to it once completed,
+ * with the resulting {@link #getPath() path} filled in.
+ * </p>
+ */
+public class PathRequest {
+
+    @Getter
+    private final Entity entity;
+
+    @Getter
+    private final int startX;
+
+    @Getter
+    private final int startY;
+
+    @Getter
+    private final int goalX;
+
+    @Getter
+    private final int goalY;
+
+    @Getter
+    private final TileCost extraCost;
+
+    /** The resulting path, available once the request is completed. */
+    @Getter
+    PackedPath path;
+
+    final float priority;
+    final long submittedAt;
+
+    PathRequest(
+        Entity entity,
+        int startX,
+        int startY,
+        int goalX,
+        int goalY,
+        TileCost extraCost,
+        float priority,
+        long submittedAt
+    ) {
+        this.entity = entity;
+        this.startX = startX;
+        this.startY = startY;
+        this.goalX = goalX;
+        this.goalY = goalY;
+        this.extraCost = extraCost;
+        this.priority = priority;
+        this.submittedAt = submittedAt;
+    }
+}
@@ -0,0 +1,179 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import lombok.Getter;
+
+/**
+ * A queue of A* searches that are processed within a fixed time budget per frame.
+ * <p>
+ * Instead of running every search to completion in the frame it was requested, searches are
+ * queued and {@link #process(Consumer)} works on them until the budget is used up. A search that
+ * does not fit into the remaining budget is resumed in the next frame.
+ * </p>
+ * <p>
+ * Requests are ordered by the distance between start and goal plus the time they were submitted,
+ * so that entities close to their target are served first, but no request waits forever.
+ * Queue depth and latency are recorded to help sizing the budget.
+ * </p>
+ */
+public class PathRequestQueue implements PathRequestScheduler {
+
+    /** Number of expansions between two checks of the time budget. */
+    private static final int EXPANSIONS_PER_CHECK = 64;
+
+    /** Priority penalty per second a request was submitted later, in tiles. */
+    private static final float WAITING_WEIGHT = 10f;
+
+    private final GridAStarPathfinder pathfinder;
+    private final long frameBudgetNanos;
+    private final long createdAt = TimeUtils.nanoTime();
+    private final PriorityQueue<PathRequest> queue = new PriorityQueue<>((a, b) ->
+        Float.compare(a.priority, b.priority)
+    );
+    private final ObjectMap<Entity, PathRequest> pending = new ObjectMap<>();
+    private final IntArray result = new IntArray();
+    private PathRequest current = null;
+
+    /** Number of requests completed since the queue was created. */
+    @Getter
+    private long completedRequests = 0;
+
+    /** Average time between submitting and completing a request, in milliseconds. */
+    @Getter
+    private float averageLatencyMs = 0f;
+
+    /** Longest time between submitting and completing a request, in milliseconds. */
+    @Getter
+    private float maxLatencyMs = 0f;
+
+    /** Time spent searching during the last call to {@link #process(Consumer)}, in milliseconds. */
+    @Getter
+    private float lastFrameTimeMs = 0f;
+
+    /**
+     * Creates a new request queue.
+     *
+     * @param pathfinder    the pathfinder to run the searches on; it must not be used elsewhere,
+     *                      since searches are kept open across frames
+     * @param frameBudgetMs the time that may be spent on searches per frame, in milliseconds
+     */
+    public PathRequestQueue(GridAStarPathfinder pathfinder, float frameBudgetMs) {
+        this.pathfinder = pathfinder;
+        this.frameBudgetNanos = (long) (frameBudgetMs * 1_000_000L);
+    }
+
+    /**
+     * Queues a search. Its priority is the Manhattan distance between start and goal plus a
+     * penalty for the time since the queue was created.
+     */
+    @Override
+    public void submit(
+        Entity entity,
+        int startX,
+        int startY,
+        int goalX,
+        int goalY,
+        TileCost extraCost
+    ) {
+        cancel(entity);
+
+        long now = TimeUtils.nanoTime();
+        float distance = Math.abs(goalX - startX) + Math.abs(goalY - startY);
+        float priority = distance + WAITING_WEIGHT * ((now - createdAt) / 1_000_000_000f);
+
+        PathRequest request = new PathRequest(
+            entity,
+            startX,
+            startY,
+            goalX,
+            goalY,
+            extraCost,
+            priority,
+            now
+        );
+        queue.add(request);
+        pending.put(entity, request);
+    }
+
+    @Override
+    public void cancel(Entity entity) {
+        PathRequest request = pending.remove(entity);
+        if (request == null) return;
+
+        if (request == current) {
+            current = null;
+        } else {
+            queue.remove(request);
+        }
+    }
+
+    @Override
+    public PathRequest getPending(Entity entity) {
+        return pending.get(entity);
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return pending.size;
+    }
+
+    /**
+     * Works on the queued searches until the frame budget is used up.
+     *
+     * @param onCompleted called with every request completed in this frame
+     */
+    @Override
+    public void process(Consumer<PathRequest> onCompleted) {
+        long frameStart = TimeUtils.nanoTime();
+        long deadline = frameStart + frameBudgetNanos;
+
+        while (TimeUtils.nanoTime() < deadline) {
+            if (current == null) {
+                current = queue.poll();
+                if (current == null) break;
+                pathfinder.startSearch(
+                    current.getStartX(),
+                    current.getStartY(),
+                    current.getGoalX(),
+                    current.getGoalY(),
+                    current.getExtraCost()
+                );
+            }
+
+            if (!pathfinder.step(EXPANSIONS_PER_CHECK)) continue;
+
+            PathRequest completed = current;
+            current = null;
+            pending.remove(completed.getEntity());
+
+            pathfinder.finishSearch(result);
+            completed.path = PackedPath.fromIndices(result, pathfinder.getGrid().getWidth());
+            recordLatency(completed);
+            onCompleted.accept(completed);
+        }
+
+        lastFrameTimeMs = (TimeUtils.nanoTime() - frameStart) / 1_000_000f;
+    }
+
+    /**
+     * Drops all pending requests.
+     */
+    @Override
+    public void dispose() {
+        queue.clear();
+        pending.clear();
+        current = null;
+    }
+
+    private void recordLatency(PathRequest request) {
+        float latencyMs = (TimeUtils.nanoTime() - request.submittedAt) / 1_000_000f;
+        completedRequests++;
+        averageLatencyMs += (latencyMs - averageLatencyMs) / completedRequests;
+        maxLatencyMs = Math.max(maxLatencyMs, latencyMs);
+    }
+}
@@ -0,0 +1,52 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Disposable;
+import java.util.function.Consumer;
+
+/**
+ * Decides when the A* searches requested by entities are run.
+ * <p>
+ * All methods are called from the main thread. Each entity has at most one pending request;
+ * submitting a new one replaces the old one. Completed requests are handed back through
+ * {@link #process(Consumer)}, so that the caller can apply them to the entities.
+ * </p>
+ */
+public interface PathRequestScheduler extends Disposable {
+    /**
+     * Schedules a search for the given entity, replacing any request it still has pending.
+     *
+     * @param entity    the entity the path is for
+     * @param startX    the start tile x coordinate
+     * @param startY    the start tile y coordinate
+     * @param goalX     the goal tile x coordinate
+     * @param goalY     the goal tile y coordinate
+     * @param extraCost the additional cost per tile, or {@code null} for none
+     */
+    void submit(Entity entity, int startX, int startY, int goalX, int goalY, TileCost extraCost);
+
+    /**
+     * Drops the pending request of the given entity, e.g. because the entity was removed.
+     *
+     * @param entity the entity whose request should be dropped
+     */
+    void cancel(Entity entity);
+
+    /**
+     * @param entity the entity to check
+     * @return the request of the entity that is not completed yet, or {@code null} if there is none
+     */
+    PathRequest getPending(Entity entity);
+
+    /**
+     * @return the number of requests waiting or in progress
+     */
+    int getQueueDepth();
+
+    /**
+     * Hands back the requests completed since the last call. Called once per frame.
+     *
+     * @param onCompleted called with every completed request
+     */
+    void process(Consumer<PathRequest> onCompleted);
+}
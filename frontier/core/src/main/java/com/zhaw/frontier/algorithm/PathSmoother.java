@@ -0,0 +1,185 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Shortens tile paths by string pulling over a {@link WalkabilityGrid}.
+ * <p>
+ * A waypoint is dropped whenever the waypoint after it can be seen in a straight line from the
+ * last kept waypoint, so long straight or diagonal runs collapse into a single segment. Lines
+ * are traced through every tile they touch; a line passing exactly through a tile corner needs
+ * both tiles beside the corner to be free, so smoothed paths never cut corners either.
+ * </p>
+ * <p>
+ * Tiles with an extra cost (e.g. walls a path breaks through) block the line of sight, so such
+ * tiles stay waypoints. Everything that checks tiles along a smoothed path uses
+ * {@link #traceLine} to walk the segments between the waypoints.
+ * </p>
+ */
+public class PathSmoother {
+
+    /**
+     * Receives the tiles visited by {@link #traceLine}.
+     */
+    @FunctionalInterface
+    public interface TileVisitor {
+        /**
+         * Visits a tile.
+         *
+         * @param x the tile x coordinate
+         * @param y the tile y coordinate
+         * @return true to continue, false to stop tracing
+         */
+        boolean visit(int x, int y);
+    }
+
+    private final WalkabilityGrid grid;
+
+    /**
+     * Creates a new path smoother.
+     *
+     * @param grid the walkability the smoothed segments must stay on
+     */
+    public PathSmoother(WalkabilityGrid grid) {
+        this.grid = grid;
+    }
+
+    /**
+     * Visits every tile touched by the straight line between the centres of two tiles,
+     * excluding the first and including the last tile. Where the line passes exactly through a
+     * corner, both tiles beside the corner are visited before the diagonal one.
+     *
+     * @param x0      the start tile x coordinate
+     * @param y0      the start tile y coordinate
+     * @param x1      the end tile x coordinate
+     * @param y1      the end tile y coordinate
+     * @param visitor the visitor to call for each tile
+     * @return true if all tiles were visited, false if the visitor stopped early
+     */
+    public static boolean traceLine(int x0, int y0, int x1, int y1, TileVisitor visitor) {
+        int dx = Math.abs(x1 - x0);
+        int dy = Math.abs(y1 - y0);
+        int sx = x1 > x0 ? 1 : -1;
+        int sy = y1 > y0 ? 1 : -1;
+        int error = dx - dy;
+
+        int x = x0;
+        int y = y0;
+        while (x != x1 || y != y1) {
+            if (error > 0) {
+                x += sx;
+                error -= 2 * dy;
+            } else if (error < 0) {
+                y += sy;
+                error += 2 * dx;
+            } else {
+                if (!visitor.visit(x + sx, y) || !visitor.visit(x, y + sy)) return false;
+                x += sx;
+                y += sy;
+                error += 2 * (dx - dy);
+            }
+            if (!visitor.visit(x, y)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether an entity can walk in a straight line between the centres of two tiles.
+     *
+     * @param x0        the start tile x coordinate
+     * @param y0        the start tile y coordinate
+     * @param x1        the end tile x coordinate
+     * @param y1        the end tile y coordinate
+     * @param extraCost tiles with an extra cost block the line, or {@code null} for none
+     * @return true if every tile on the line is walkable and has no extra cost
+     */
+    public boolean hasLineOfSight(int x0, int y0, int x1, int y1, TileCost extraCost) {
+        return traceLine(
+            x0,
+            y0,
+            x1,
+            y1,
+            (x, y) -> grid.isWalkable(x, y) && (extraCost == null || extraCost.getCost(x, y) == 0)
+        );
+    }
+
+    /**
+     * Removes all waypoints that can be skipped by walking in a straight line.
+     *
+     * @param start     the tile the path starts from (not part of the path)
+     * @param path      the waypoints to smooth
+     * @param extraCost tiles with an extra cost are kept as waypoints, or {@code null} for none
+     * @return a new array with the remaining waypoints, which always ends with the last waypoint
+     */
+    public Array<Vector2> smooth(Vector2 start, Array<Vector2> path, TileCost extraCost) {
+        Array<Vector2> smoothed = new Array<>();
+        int anchorX = (int) start.x;
+        int anchorY = (int) start.y;
+
+        for (int i = 0; i < path.size; i++) {
+            Vector2 waypoint = path.get(i);
+            boolean last = i == path.size - 1;
+            if (!last) {
+                Vector2 next = path.get(i + 1);
+                int nextX = (int) next.x;
+                int nextY = (int) next.y;
+                if (hasLineOfSight(anchorX, anchorY, nextX, nextY, extraCost)) continue;
+            }
+            smoothed.add(waypoint);
+            anchorX = (int) waypoint.x;
+            anchorY = (int) waypoint.y;
+        }
+        return smoothed;
+    }
+
+    /**
+     * Removes all waypoints of a shared path that can be skipped by walking in a straight line.
+     *
+     * @param startX    the x coordinate of the tile the path starts from
+     * @param startY    the y coordinate of the tile the path starts from
+     * @param path      the path to smooth
+     * @param extraCost tiles with an extra cost are kept as waypoints, or {@code null} for none
+     * @return the smoothed path
+     */
+    public PackedPath smooth(int startX, int startY, PackedPath path, TileCost extraCost) {
+        if (path.isEmpty()) return path;
+        Array<Vector2> waypoints = path.toWaypoints(0);
+        return PackedPath.fromWaypoints(smooth(new Vector2(startX, startY), waypoints, extraCost));
+    }
+
+    /**
+     * Expands a smoothed path back into single steps between neighbouring tiles,
+     * e.g. to edit individual tiles of it.
+     *
+     * @param start the tile the path starts from (not part of the path)
+     * @param path  the waypoints to expand
+     * @return a new array with one waypoint per tile, each a straight step from the previous one
+     */
+    public static Array<Vector2> densify(Vector2 start, Array<Vector2> path) {
+        Array<Vector2> dense = new Array<>(path.size);
+        // The last added tile; of the two tiles beside a corner only the first one is a step
+        int[] last = { (int) start.x, (int) start.y };
+        for (Vector2 waypoint : path) {
+            if ((int) waypoint.x == last[0] && (int) waypoint.y == last[1]) {
+                // Keep a waypoint on the start tile, the entity may not have reached it yet
+                dense.add(new Vector2(waypoint));
+                continue;
+            }
+            traceLine(
+                last[0],
+                last[1],
+                (int) waypoint.x,
+                (int) waypoint.y,
+                (x, y) -> {
+                    if (Math.abs(x - last[0]) + Math.abs(y - last[1]) != 1) return true;
+                    dense.add(new Vector2(x, y));
+                    last[0] = x;
+                    last[1] = y;
+                    return true;
+                }
+            );
+        }
+        return dense;
+    }
+}
@@ -0,0 +1,227 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import lombok.Getter;
+
+/**
+ * Runs A* searches on a background {@link ExecutorService}.
+ * <p>
+ * Each search runs on the {@link WalkabilityGrid#getSnapshot() snapshot} of the grid taken when it
+ * was submitted, so workers never read state that the main thread changes. Completed searches are
+ * collected in a concurrent queue and handed back on the main thread by
+ * {@link #process(Consumer)}. A result computed on an older grid version than the current one,
+ * e.g. before a building was placed, is discarded, and the entity simply requests a new path.
+ * A search that throws is logged and discarded the same way, so the entity is not left waiting.
+ * </p>
+ * <p>
+ * {@link GridAStarPathfinder}s are not thread-safe, so every running search borrows one from a
+ * pool and returns it afterwards. This works with both platform and virtual threads. Snapshots
+ * of the grid all have the same size, so a borrowed pathfinder is only pointed at the snapshot
+ * of its search instead of being allocated again whenever the grid has changed.
+ * The {@link TileCost} of a request is read on a worker thread as well and must not read any
+ * components, see {@link WallCostMap#snapshotCostFor(Entity)}.
+ * </p>
+ */
+public class PathWorkerPool implements PathRequestScheduler {
+
+    private final WalkabilityGrid grid;
+    private final ExecutorService executor;
+    private final boolean diagonal;
+    private final ObjectMap<Entity, PathRequest> pending = new ObjectMap<>();
+    private final ConcurrentLinkedQueue<CompletedSearch> completed = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<GridAStarPathfinder> pathfinders =
+        new ConcurrentLinkedQueue<>();
+
+    /** Number of results dropped because the grid changed while they were computed. */
+    @Getter
+    private long staleResults = 0;
+
+    /** Number of searches that failed with an exception. */
+    @Getter
+    private long failedSearches = 0;
+
+    /** Number of requests completed since the pool was created. */
+    @Getter
+    private long completedRequests = 0;
+
+    /** Average time between submitting and completing a request, in milliseconds. */
+    @Getter
+    private float averageLatencyMs = 0f;
+
+    /**
+     * The result of a search, passed from a worker to the main thread.
+     */
+    private static class CompletedSearch {
+
+        private final PathRequest request;
+        private final PackedPath path;
+        private final int gridVersion;
+        private final RuntimeException failure;
+
+        private CompletedSearch(PathRequest request, PackedPath path, int gridVersion) {
+            this.request = request;
+            this.path = path;
+            this.gridVersion = gridVersion;
+            this.failure = null;
+        }
+
+        private CompletedSearch(PathRequest request, RuntimeException failure) {
+            this.request = request;
+            this.path = null;
+            this.gridVersion = -1;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Creates a new worker pool.
+     *
+     * @param grid     the grid to take snapshots of
+     * @param executor the executor to run the searches on; it is shut down by {@link #dispose()}
+     */
+    public PathWorkerPool(WalkabilityGrid grid, ExecutorService executor) {
+        this(grid, executor, false);
+    }
+
+    /**
+     * Creates a new worker pool.
+     *
+     * @param grid     the grid to take snapshots of
+     * @param executor the executor to run the searches on; it is shut down by {@link #dispose()}
+     * @param diagonal whether the searches may move diagonally, see {@link GridAStarPathfinder}
+     */
+    public PathWorkerPool(WalkabilityGrid grid, ExecutorService executor, boolean diagonal) {
+        this.grid = grid;
+        this.executor = executor;
+        this.diagonal = diagonal;
+    }
+
+    @Override
+    public void submit(
+        Entity entity,
+        int startX,
+        int startY,
+        int goalX,
+        int goalY,
+        TileCost extraCost
+    ) {
+        PathRequest request = new PathRequest(
+            entity,
+            startX,
+            startY,
+            goalX,
+            goalY,
+            extraCost,
+            0f,
+            TimeUtils.nanoTime()
+        );
+        WalkabilityGrid snapshot = grid.getSnapshot();
+
+        pending.put(entity, request);
+        try {
+            executor.execute(() -> {
+                try {
+                    completed.add(search(request, snapshot));
+                } catch (RuntimeException e) {
+                    completed.add(new CompletedSearch(request, e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The pool is shutting down, the entity keeps waiting for a path
+            pending.remove(entity);
+        }
+    }
+
+    @Override
+    public void cancel(Entity entity) {
+        // The search may already be running, its result is ignored once it arrives
+        pending.remove(entity);
+    }
+
+    @Override
+    public PathRequest getPending(Entity entity) {
+        return pending.get(entity);
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return pending.size;
+    }
+
+    /**
+     * Hands back the searches completed by the workers since the last call. Results of cancelled
+     * or replaced requests, failed searches and results computed on an outdated grid are dropped.
+     *
+     * @param onCompleted called with every completed request
+     */
+    @Override
+    public void process(Consumer<PathRequest> onCompleted) {
+        CompletedSearch search;
+        while ((search = completed.poll()) != null) {
+            PathRequest request = search.request;
+            if (pending.get(request.getEntity()) != request) continue;
+
+            pending.remove(request.getEntity());
+            if (search.failure != null) {
+                failedSearches++;
+                Gdx.app.error("PathWorkerPool", "Path search failed", search.failure);
+                continue;
+            }
+            if (search.gridVersion != grid.getVersion()) {
+                staleResults++;
+                continue;
+            }
+
+            request.path = search.path;
+            recordLatency(request);
+            onCompleted.accept(request);
+        }
+    }
+
+    /**
+     * Stops the workers. Searches that are still running are abandoned.
+     */
+    @Override
+    public void dispose() {
+        executor.shutdownNow();
+        pending.clear();
+        completed.clear();
+    }
+
+    private CompletedSearch search(PathRequest request, WalkabilityGrid snapshot) {
+        GridAStarPathfinder pathfinder = pathfinders.poll();
+        if (pathfinder == null) {
+            pathfinder = new GridAStarPathfinder(snapshot, diagonal);
+        } else if (pathfinder.getGrid() != snapshot) {
+            pathfinder.setGrid(snapshot);
+        }
+
+        IntArray result = new IntArray();
+        pathfinder.findPath(
+            request.getStartX(),
+            request.getStartY(),
+            request.getGoalX(),
+            request.getGoalY(),
+            request.getExtraCost(),
+            result
+        );
+        pathfinders.add(pathfinder);
+
+        PackedPath path = PackedPath.fromIndices(result, snapshot.getWidth());
+        return new CompletedSearch(request, path, snapshot.getVersion());
+    }
+
+    private void recordLatency(PathRequest request) {
+        float latencyMs = (TimeUtils.nanoTime() - request.submittedAt) / 1_000_000f;
+        completedRequests++;
+        averageLatencyMs += (latencyMs - averageLatencyMs) / completedRequests;
+    }
+}
@@ -0,0 +1,36 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A tile based pathfinder that computes a walkable route between two tiles.
+ */
+public interface Pathfinder {
+    /**
+     * Finds a path from the start position to the goal position.
+     * If the goal is unreachable, returns a path to the closest reachable tile to the goal.
+     *
+     * @param start the starting position
+     * @param goal  the goal position
+     * @return an array of {@link Vector2} representing the path (excluding the start), or an empty array if no path is found
+     */
+    Array<Vector2> findPath(Vector2 start, Vector2 goal);
+
+    /**
+     * Finds the cheapest path from the start position to the goal position, where entering a tile
+     * costs one plus the extra cost reported by {@code extraCost}.
+     * <p>
+     * Pathfinders without cost support ignore {@code extraCost} and behave like
+     * {@link #findPath(Vector2, Vector2)}.
+     * </p>
+     *
+     * @param start     the starting position
+     * @param goal      the goal position
+     * @param extraCost the additional cost per tile, or {@code null} for none
+     * @return an array of {@link Vector2} representing the path (excluding the start), or an empty array if no path is found
+     */
+    default Array<Vector2> findPath(Vector2 start, Vector2 goal, TileCost extraCost) {
+        return findPath(start, goal);
+    }
+}
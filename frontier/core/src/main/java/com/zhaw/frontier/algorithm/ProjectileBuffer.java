@@ -0,0 +1,117 @@
+package com.zhaw.frontier.algorithm;
+
+import lombok.Getter;
+
+/**
+ * Stores all projectiles in flight as parallel arrays instead of as entities.
+ * <p>
+ * Projectile {@code i} is described by the entries at index {@code i} of the arrays, for
+ * {@code i < size}. Removing a projectile moves the last one into its place, so the live
+ * projectiles always occupy the front of the arrays and updating them is a loop over plain
+ * arrays without allocations or engine bookkeeping.
+ * </p>
+ */
+public class ProjectileBuffer {
+
+    /** Position, in tiles. */
+    public final float[] x;
+    public final float[] y;
+
+    /** Velocity, in tiles per second. */
+    public final float[] velocityX;
+    public final float[] velocityY;
+
+    /** Direction of flight in degrees, used for drawing. */
+    public final float[] rotation;
+
+    /** Time in seconds until the projectile is removed if it does not hit anything. */
+    public final float[] lifetime;
+
+    /** Damage dealt to the entity that is hit. */
+    public final int[] damage;
+
+    @Getter
+    private final int capacity;
+
+    private int size = 0;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity the maximum number of projectiles in flight
+     */
+    public ProjectileBuffer(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        rotation = new float[capacity];
+        lifetime = new float[capacity];
+        damage = new int[capacity];
+    }
+
+    /**
+     * Returns the number of projectiles in flight.
+     *
+     * @return the number of used entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a projectile.
+     *
+     * @param startX    the x coordinate of the start position, in tiles
+     * @param startY    the y coordinate of the start position, in tiles
+     * @param velocityX the x component of the velocity, in tiles per second
+     * @param velocityY the y component of the velocity, in tiles per second
+     * @param damage    the damage dealt on a hit
+     * @param lifetime  the time in seconds after which a projectile that hit nothing is removed
+     * @return false if the buffer is full and the projectile was not added
+     */
+    public boolean add(
+        float startX,
+        float startY,
+        float velocityX,
+        float velocityY,
+        int damage,
+        float lifetime
+    ) {
+        if (size == capacity) return false;
+
+        int i = size++;
+        this.x[i] = startX;
+        this.y[i] = startY;
+        this.velocityX[i] = velocityX;
+        this.velocityY[i] = velocityY;
+        this.rotation[i] = (float) Math.toDegrees(Math.atan2(velocityY, velocityX));
+        this.damage[i] = damage;
+        this.lifetime[i] = lifetime;
+        return true;
+    }
+
+    /**
+     * Removes a projectile by moving the last projectile into its place.
+     *
+     * @param i the index of the projectile to remove
+     */
+    public void remove(int i) {
+        int last = --size;
+        x[i] = x[last];
+        y[i] = y[last];
+        velocityX[i] = velocityX[last];
+        velocityY[i] = velocityY[last];
+        rotation[i] = rotation[last];
+        damage[i] = damage[last];
+        lifetime[i] = lifetime[last];
+    }
+
+    /**
+     * Removes all projectiles.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -12,7 +12,7 @@ import java.util.*;
  * It searches for a walkable path from a start point to a goal point, using Manhattan distance as a heuristic.
  * If no path to the goal is found, it returns the path to the closest reachable tile.
  */
-public class SimpleAStarPathfinder {
+public class SimpleAStarPathfinder implements Pathfinder {
 
     private final List<TiledMapTileLayer> layers;
     private final Engine engine;
@@ -36,6 +36,7 @@ public class SimpleAStarPathfinder {
      * @param goal  the goal position
      * @return an array of {@link Vector2} representing the path (excluding the start), or an empty array if no path is found
      */
+    @Override
     public Array<Vector2> findPath(Vector2 start, Vector2 goal) {
         int width = layers.get(0).getWidth();
         int height = layers.get(0).getHeight();
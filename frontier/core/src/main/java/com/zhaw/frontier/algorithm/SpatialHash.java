@@ -0,0 +1,282 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.zhaw.frontier.components.PositionComponent;
+import java.util.Arrays;
+
+/**
+ * A uniform grid of square cells over the positions of entities, stored in a hash table so that
+ * the map size does not matter.
+ * <p>
+ * The hash is rebuilt from scratch with {@link #rebuild(ImmutableArray)}, which sorts the entities
+ * into their buckets with a counting sort in linear time and without allocating once the arrays
+ * have grown to the number of entities. Queries only visit the cells overlapping the query circle
+ * and write their results into buffers supplied by the caller.
+ * </p>
+ * <p>
+ * The buckets are built from the positions at the time of the rebuild, while queries compare the
+ * current positions. Entities that moved by up to {@code margin} tiles since the rebuild are
+ * still found.
+ * </p>
+ * <p>
+ * Every rebuild compares the content of each bucket with the previous rebuild. Callers that cache
+ * the result of {@link #withinCells} can ask {@link #changedSince} whether any entity entered or
+ * left the cells of their query since, instead of querying again every frame.
+ * </p>
+ */
+public class SpatialHash {
+
+    private final ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(
+        PositionComponent.class
+    );
+    private final float cellSize;
+    private final float margin;
+
+    // Entries sorted by bucket, see rebuild
+    private Entity[] entities = new Entity[0];
+    private int[] cellX = new int[0];
+    private int[] cellY = new int[0];
+    private int[] bucketStart = new int[1];
+    private int mask = 0;
+    private int size = 0;
+
+    // Change tracking, see changedSince
+    private int version = 0;
+    private int[] bucketChecksum = new int[0];
+    private int[] bucketVersion = new int[0];
+
+    // Scratch buffers of rebuild and nearest
+    private int[] unsortedX = new int[0];
+    private int[] unsortedY = new int[0];
+    private int[] unsortedBucket = new int[0];
+    private int[] bucketEnd = new int[0];
+    private int[] newChecksum = new int[0];
+    private final FloatArray distances = new FloatArray();
+
+    /**
+     * Creates a new, empty spatial hash.
+     *
+     * @param cellSize the width and height of a cell, in tiles
+     * @param margin   how far entities may move between rebuilds and still be found, in tiles
+     */
+    public SpatialHash(float cellSize, float margin) {
+        this.cellSize = cellSize;
+        this.margin = margin;
+    }
+
+    /**
+     * Replaces the content of the hash with the given entities at their current positions.
+     *
+     * @param source the entities to insert, all of which need a {@link PositionComponent}
+     */
+    public void rebuild(ImmutableArray<Entity> source) {
+        if (entities.length < source.size()) {
+            int capacity = MathUtils.nextPowerOfTwo(source.size());
+            entities = new Entity[capacity];
+            cellX = new int[capacity];
+            cellY = new int[capacity];
+            unsortedX = new int[capacity];
+            unsortedY = new int[capacity];
+            unsortedBucket = new int[capacity];
+        }
+        Arrays.fill(entities, size, entities.length, null);
+        size = source.size();
+        version++;
+
+        int buckets = Math.max(16, MathUtils.nextPowerOfTwo(size * 2));
+        if (bucketEnd.length != buckets) {
+            bucketStart = new int[buckets + 1];
+            bucketEnd = new int[buckets];
+            newChecksum = new int[buckets];
+            // The cells are spread differently over the new buckets, so all of them changed
+            bucketChecksum = new int[buckets];
+            bucketVersion = new int[buckets];
+            Arrays.fill(bucketVersion, version);
+        } else {
+            Arrays.fill(bucketStart, 0);
+            Arrays.fill(newChecksum, 0);
+        }
+        mask = buckets - 1;
+
+        // Count the entries per bucket, then turn the counts into start offsets
+        for (int i = 0; i < size; i++) {
+            Vector2 position = pm.get(source.get(i)).basePosition;
+            int x = MathUtils.floor(position.x / cellSize);
+            int y = MathUtils.floor(position.y / cellSize);
+            unsortedX[i] = x;
+            unsortedY[i] = y;
+            unsortedBucket[i] = bucket(x, y);
+            bucketStart[unsortedBucket[i] + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+
+        System.arraycopy(bucketStart, 0, bucketEnd, 0, buckets);
+        for (int i = 0; i < size; i++) {
+            int slot = bucketEnd[unsortedBucket[i]]++;
+            entities[slot] = source.get(i);
+            cellX[slot] = unsortedX[i];
+            cellY[slot] = unsortedY[i];
+            newChecksum[unsortedBucket[i]] += checksum(entities[slot], cellX[slot], cellY[slot]);
+        }
+
+        for (int b = 0; b < buckets; b++) {
+            if (newChecksum[b] != bucketChecksum[b]) {
+                bucketChecksum[b] = newChecksum[b];
+                bucketVersion[b] = version;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rebuilds so far, to be passed to {@link #changedSince} later.
+     *
+     * @return the version of the current content
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks whether any entity entered or left the cells visited by {@link #withinCells} with the
+     * same center and radius since the given version. Entities moving within a cell do not count.
+     *
+     * @param center       the center of the query circle
+     * @param radius       the radius of the query circle, in tiles
+     * @param sinceVersion the version returned by {@link #getVersion()} at the time of the query
+     * @return true if the result of {@link #withinCells} may differ from the one at that version
+     */
+    public boolean changedSince(Vector2 center, float radius, int sinceVersion) {
+        if (bucketVersion.length == 0) return true;
+        float reach = radius + margin;
+        int minX = MathUtils.floor((center.x - reach) / cellSize);
+        int maxX = MathUtils.floor((center.x + reach) / cellSize);
+        int minY = MathUtils.floor((center.y - reach) / cellSize);
+        int maxY = MathUtils.floor((center.y + reach) / cellSize);
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                if (bucketVersion[bucket(x, y)] > sinceVersion) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of entities in the hash.
+     *
+     * @return the number of entities inserted by the last rebuild
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds all entities within the given radius.
+     *
+     * @param center the center of the query circle
+     * @param radius the radius of the query circle, in tiles
+     * @param family only entities matching this family are returned, or {@code null} for all
+     * @param out    receives the entities in no particular order; cleared first
+     */
+    public void withinRadius(Vector2 center, float radius, Family family, Array<Entity> out) {
+        out.clear();
+        float radius2 = radius * radius;
+        float reach = radius + margin;
+        int minX = MathUtils.floor((center.x - reach) / cellSize);
+        int maxX = MathUtils.floor((center.x + reach) / cellSize);
+        int minY = MathUtils.floor((center.y - reach) / cellSize);
+        int maxY = MathUtils.floor((center.y + reach) / cellSize);
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                int b = bucket(x, y);
+                for (int i = bucketStart[b]; i < bucketStart[b + 1]; i++) {
+                    // Buckets are shared by all cells with the same hash
+                    if (cellX[i] != x || cellY[i] != y) continue;
+
+                    Entity entity = entities[i];
+                    if (family != null && !family.matches(entity)) continue;
+                    if (center.dst2(pm.get(entity).basePosition) <= radius2) out.add(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds all entities in the cells overlapping the given circle. This is a superset of
+     * {@link #withinRadius}, which does not change while the entities only move within their
+     * cells, see {@link #changedSince}.
+     *
+     * @param center the center of the query circle
+     * @param radius the radius of the query circle, in tiles
+     * @param family only entities matching this family are returned, or {@code null} for all
+     * @param out    receives the entities in no particular order; cleared first
+     */
+    public void withinCells(Vector2 center, float radius, Family family, Array<Entity> out) {
+        out.clear();
+        float reach = radius + margin;
+        int minX = MathUtils.floor((center.x - reach) / cellSize);
+        int maxX = MathUtils.floor((center.x + reach) / cellSize);
+        int minY = MathUtils.floor((center.y - reach) / cellSize);
+        int maxY = MathUtils.floor((center.y + reach) / cellSize);
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                int b = bucket(x, y);
+                for (int i = bucketStart[b]; i < bucketStart[b + 1]; i++) {
+                    if (cellX[i] != x || cellY[i] != y) continue;
+                    if (family == null || family.matches(entities[i])) out.add(entities[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the {@code k} entities closest to the given position within the given radius.
+     *
+     * @param center the position to search from
+     * @param k      the maximum number of entities to return
+     * @param radius the maximum distance, in tiles
+     * @param family only entities matching this family are returned, or {@code null} for all
+     * @param out    receives the entities ordered by distance, closest first; cleared first
+     */
+    public void nearest(Vector2 center, int k, float radius, Family family, Array<Entity> out) {
+        withinRadius(center, radius, family, out);
+
+        // Selection of the k closest entries into the front of the buffer
+        int kept = Math.min(k, out.size);
+        distances.clear();
+        for (int i = 0; i < out.size; i++) {
+            distances.add(center.dst2(pm.get(out.get(i)).basePosition));
+        }
+        for (int i = 0; i < kept; i++) {
+            int closest = i;
+            for (int j = i + 1; j < out.size; j++) {
+                if (distances.get(j) < distances.get(closest)) closest = j;
+            }
+            out.swap(i, closest);
+            distances.swap(i, closest);
+        }
+        out.truncate(kept);
+    }
+
+    private static int checksum(Entity entity, int x, int y) {
+        int hash = System.identityHashCode(entity);
+        hash = hash * 31 + x;
+        hash = hash * 31 + y;
+        return hash * 0x9E3779B9;
+    }
+
+    private int bucket(int x, int y) {
+        return ((x * 73856093) ^ (y * 19349663)) & mask;
+    }
+}
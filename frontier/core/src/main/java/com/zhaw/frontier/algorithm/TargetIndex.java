@@ -0,0 +1,223 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.zhaw.frontier.components.PositionComponent;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Answers nearest-target queries for all entities of a given target type
+ * (e.g. {@link com.zhaw.frontier.components.HQComponent}).
+ * <p>
+ * The targets of each type are kept in square buckets of {@code cellSize} tiles, which are
+ * updated through an {@link EntityListener} when targets are added or removed. A query visits the
+ * buckets in rings around the query position and stops as soon as no bucket further out can hold
+ * a closer target, so its cost depends on the target density around the query and not on the
+ * total number of targets. Any number of targets per type is supported.
+ * </p>
+ * <p>
+ * Targets are bucketed by their position when they are added. Targets are expected to stay in
+ * place (buildings); if one is moved, {@link #invalidate()} rebuilds the buckets.
+ * </p>
+ */
+public class TargetIndex implements Disposable {
+
+    private final Engine engine;
+    private final int cellSize;
+    private final ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(
+        PositionComponent.class
+    );
+    private final Map<Class<? extends Component>, TargetBuckets> buckets = new HashMap<>();
+
+    /**
+     * Creates a new target index.
+     *
+     * @param engine   the Ashley engine, used to track the entities of each target type
+     * @param cellSize the width and height of a bucket, in tiles
+     */
+    public TargetIndex(Engine engine, int cellSize) {
+        this.engine = engine;
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Finds the target of the given type closest to the given position.
+     *
+     * @param targetType the component class that target entities must have
+     * @param position   the position to search from
+     * @return the closest target by straight-line distance, or {@code null} if there is none
+     */
+    public Entity findNearest(Class<? extends Component> targetType, Vector2 position) {
+        TargetBuckets targetBuckets = buckets.get(targetType);
+        if (targetBuckets == null) {
+            targetBuckets = new TargetBuckets(targetType);
+            buckets.put(targetType, targetBuckets);
+        }
+        return targetBuckets.findNearest(position);
+    }
+
+    /**
+     * Rebuilds the buckets of all target types, e.g. after a target was moved.
+     */
+    public void invalidate() {
+        for (TargetBuckets targetBuckets : buckets.values()) {
+            targetBuckets.dirty = true;
+        }
+    }
+
+    /**
+     * Stops tracking the targets of all types.
+     */
+    @Override
+    public void dispose() {
+        for (TargetBuckets targetBuckets : buckets.values()) {
+            engine.removeEntityListener(targetBuckets);
+        }
+        buckets.clear();
+    }
+
+    private static int key(int cellX, int cellY) {
+        return (cellX << 16) | (cellY & 0xFFFF);
+    }
+
+    /**
+     * The buckets of one target type. Listens to the engine so that they follow the added and
+     * removed targets.
+     */
+    private class TargetBuckets implements EntityListener {
+
+        private final ImmutableArray<Entity> targets;
+        private final IntMap<Array<Entity>> cells = new IntMap<>();
+        private final ObjectIntMap<Entity> cellOf = new ObjectIntMap<>();
+        private int minCellX;
+        private int minCellY;
+        private int maxCellX;
+        private int maxCellY;
+        private boolean dirty = true;
+
+        // State of the current query, see findNearest and visitCell
+        private Entity closest;
+        private float closestDistance;
+
+        TargetBuckets(Class<? extends Component> targetType) {
+            Family family = Family.all(targetType, PositionComponent.class).get();
+            this.targets = engine.getEntitiesFor(family);
+            engine.addEntityListener(family, this);
+        }
+
+        Entity findNearest(Vector2 position) {
+            if (dirty) rebuild();
+            if (cellOf.size == 0) return null;
+
+            int cellX = MathUtils.floor(position.x / cellSize);
+            int cellY = MathUtils.floor(position.y / cellSize);
+            int maxRing = Math.max(
+                Math.max(cellX - minCellX, maxCellX - cellX),
+                Math.max(cellY - minCellY, maxCellY - cellY)
+            );
+
+            closest = null;
+            closestDistance = Float.MAX_VALUE;
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // Every tile of this ring is at least ring - 1 whole buckets away
+                float bound = Math.max(0, ring - 1) * cellSize;
+                if (closest != null && bound * bound > closestDistance) break;
+
+                if (ring == 0) {
+                    visitCell(cellX, cellY, position);
+                    continue;
+                }
+                for (int x = cellX - ring; x <= cellX + ring; x++) {
+                    visitCell(x, cellY - ring, position);
+                    visitCell(x, cellY + ring, position);
+                }
+                for (int y = cellY - ring + 1; y < cellY + ring; y++) {
+                    visitCell(cellX - ring, y, position);
+                    visitCell(cellX + ring, y, position);
+                }
+            }
+
+            Entity result = closest;
+            closest = null;
+            return result;
+        }
+
+        private void visitCell(int cellX, int cellY, Vector2 position) {
+            if (cellX < minCellX || cellX > maxCellX || cellY < minCellY || cellY > maxCellY) {
+                return;
+            }
+            Array<Entity> cell = cells.get(key(cellX, cellY));
+            if (cell == null) return;
+
+            for (int i = 0; i < cell.size; i++) {
+                Entity candidate = cell.get(i);
+                float distance = position.dst2(pm.get(candidate).basePosition);
+                if (distance < closestDistance) {
+                    closestDistance = distance;
+                    closest = candidate;
+                }
+            }
+        }
+
+        private void rebuild() {
+            cells.clear();
+            cellOf.clear();
+            minCellX = Integer.MAX_VALUE;
+            minCellY = Integer.MAX_VALUE;
+            maxCellX = Integer.MIN_VALUE;
+            maxCellY = Integer.MIN_VALUE;
+            for (Entity target : targets) {
+                add(target);
+            }
+            dirty = false;
+        }
+
+        private void add(Entity target) {
+            Vector2 position = pm.get(target).basePosition;
+            int cellX = MathUtils.floor(position.x / cellSize);
+            int cellY = MathUtils.floor(position.y / cellSize);
+            int key = key(cellX, cellY);
+
+            Array<Entity> cell = cells.get(key);
+            if (cell == null) {
+                cell = new Array<>(false, 4);
+                cells.put(key, cell);
+            }
+            cell.add(target);
+            cellOf.put(target, key);
+
+            minCellX = Math.min(minCellX, cellX);
+            minCellY = Math.min(minCellY, cellY);
+            maxCellX = Math.max(maxCellX, cellX);
+            maxCellY = Math.max(maxCellY, cellY);
+        }
+
+        @Override
+        public void entityAdded(Entity entity) {
+            if (!dirty) add(entity);
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            if (dirty || !cellOf.containsKey(entity)) return;
+
+            int key = cellOf.remove(entity, 0);
+            Array<Entity> cell = cells.get(key);
+            cell.removeValue(entity, true);
+            // The extent of the buckets is kept, it only bounds the search
+            if (cell.isEmpty()) cells.remove(key);
+        }
+    }
+}
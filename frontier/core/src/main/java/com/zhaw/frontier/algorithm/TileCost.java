@@ -0,0 +1,23 @@
+package com.zhaw.frontier.algorithm;
+
+/**
+ * Additional cost of entering a tile, on top of the regular step cost of one.
+ * <p>
+ * Used by {@link GridAStarPathfinder} to make tiles that are walkable on the map, but occupied by
+ * something that has to be dealt with first (e.g. a hostile wall), more expensive to cross.
+ * </p>
+ */
+@FunctionalInterface
+public interface TileCost {
+    /** Returned by {@link #getCost(int, int)} if the tile cannot be entered at all. */
+    int IMPASSABLE = -1;
+
+    /**
+     * Returns the additional cost of entering the given tile.
+     *
+     * @param x the tile x coordinate
+     * @param y the tile y coordinate
+     * @return a non-negative extra cost, or {@link #IMPASSABLE}
+     */
+    int getCost(int x, int y);
+}
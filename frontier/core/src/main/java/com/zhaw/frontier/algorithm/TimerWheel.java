@@ -0,0 +1,154 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+
+/**
+ * A hierarchical timer wheel that schedules items for simulation ticks.
+ * <p>
+ * The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots. An item due within
+ * {@value #SLOTS} ticks is put into the slot of its tick on the lowest level; items further away
+ * are put into a slot of a higher level, which covers {@value #SLOTS} times as many ticks per
+ * slot. Whenever the lower level wraps around, the next slot of the level above is cascaded into
+ * the lower levels. Scheduling and expiring are therefore constant time, no matter how many items
+ * are waiting, and nothing is allocated once the slots have grown.
+ * </p>
+ * <p>
+ * Items can not be cancelled. Callers that reschedule or drop an item check on expiry whether it
+ * is still due.
+ * </p>
+ *
+ * @param <T> the type of the scheduled items
+ */
+public class TimerWheel<T> {
+
+    /** The number of slots of each level. */
+    public static final int SLOTS = 64;
+
+    /** The number of levels. Items further away than the top level covers wait on its last slot. */
+    public static final int LEVELS = 4;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    // Per level and slot
+    private final Array<T>[][] items;
+    private final LongArray[][] deadlines;
+
+    private long tick;
+    private int size;
+
+    /**
+     * Creates an empty wheel at tick 0.
+     */
+    public TimerWheel() {
+        // Generic arrays cannot be created directly
+        @SuppressWarnings("unchecked")
+        Array<T>[][] slots = (Array<T>[][]) new Array<?>[LEVELS][SLOTS];
+        items = slots;
+        deadlines = new LongArray[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                items[level][slot] = new Array<>(false, 4);
+                deadlines[level][slot] = new LongArray(false, 4);
+            }
+        }
+    }
+
+    /**
+     * Returns the last tick the wheel was advanced to.
+     *
+     * @return the current tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of items that have not expired yet.
+     *
+     * @return the number of scheduled items
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules an item. Items due at or before the current tick expire with the next tick.
+     *
+     * @param item     the item
+     * @param deadline the tick at which the item expires
+     */
+    public void schedule(T item, long deadline) {
+        place(item, Math.max(deadline, tick + 1));
+        size++;
+    }
+
+    /**
+     * Advances the wheel tick by tick and collects the items that expired.
+     *
+     * @param toTick  the tick to advance to; ticks before the current one are ignored
+     * @param expired receives the expired items in the order of their deadlines
+     */
+    public void advance(long toTick, Array<T> expired) {
+        while (tick < toTick) {
+            tick++;
+            cascade();
+
+            int slot = (int) (tick & SLOT_MASK);
+            Array<T> due = items[0][slot];
+            size -= due.size;
+            expired.addAll(due);
+            due.clear();
+            deadlines[0][slot].clear();
+        }
+    }
+
+    /**
+     * Removes all items, keeping the current tick.
+     */
+    public void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                items[level][slot].clear();
+                deadlines[level][slot].clear();
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Moves the items of the slots that begin at the current tick to the lower levels, starting
+     * with the highest level, whose items may fall into a slot cascaded right after.
+     */
+    private void cascade() {
+        int top = 0;
+        while (top + 1 < LEVELS && (tick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level > 0; level--) {
+            int slot = (int) ((tick >> (SLOT_BITS * level)) & SLOT_MASK);
+            Array<T> cascaded = items[level][slot];
+            LongArray cascadedDeadlines = deadlines[level][slot];
+            // Every item lands in another slot, so this one is not modified while iterating
+            for (int i = 0; i < cascaded.size; i++) {
+                place(cascaded.get(i), cascadedDeadlines.get(i));
+            }
+            cascaded.clear();
+            cascadedDeadlines.clear();
+        }
+    }
+
+    private void place(T item, long deadline) {
+        long delay = Math.min(deadline - tick, MAX_DELAY);
+        int level = 0;
+        while (delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        long slotTick = Math.min(deadline, tick + MAX_DELAY);
+        int slot = (int) ((slotTick >> (SLOT_BITS * level)) & SLOT_MASK);
+        items[level][slot].add(item);
+        deadlines[level][slot].add(deadline);
+    }
+}
@@ -0,0 +1,262 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.components.map.TiledPropertiesEnum;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * A precomputed walkability map of the tile grid, stored as a bitset.
+ * <p>
+ * The {@code IS_TRAVERSABLE} property of all map layers is read once when the grid is created,
+ * so pathfinding algorithms do not have to query the TiledMap on every expansion.
+ * Every change to the grid increments {@link #getVersion()}, which allows derived data
+ * (e.g. a {@link FlowField}) to detect that it has become stale.
+ * </p>
+ * <p>
+ * Buildings are kept apart from the terrain: a walkable tile covered by a building is
+ * {@link #isBlocked(int) blocked} and no longer walkable, and becomes walkable again when the
+ * building is removed. Searches may still plan through blocked tiles, e.g. to attack the building.
+ * </p>
+ * <p>
+ * Data that can be updated locally (e.g. the clusters of a {@link HierarchicalPathfinder})
+ * registers a {@link ChangeListener} to be told which tile changed.
+ * </p>
+ * <p>
+ * A grid is not thread-safe. Searches on other threads use a read-only {@link #getSnapshot()}
+ * of it, which keeps the version it was taken at.
+ * </p>
+ */
+public class WalkabilityGrid {
+
+    /**
+     * Receives every change of the walkability of a tile.
+     */
+    public interface ChangeListener {
+        /**
+         * Called after the walkability of a tile has changed.
+         *
+         * @param x the x coordinate of the tile
+         * @param y the y coordinate of the tile
+         */
+        void tileChanged(int x, int y);
+    }
+
+    @Getter
+    private final int width;
+
+    @Getter
+    private final int height;
+
+    private final long[] bits;
+    private final long[] blocked;
+
+    @Getter
+    private int version = 0;
+
+    private final boolean readOnly;
+    private WalkabilityGrid snapshot = null;
+    private final Array<ChangeListener> listeners = new Array<>();
+
+    /**
+     * Creates a new grid of the given size in which every tile is blocked.
+     *
+     * @param width  the width of the grid in tiles
+     * @param height the height of the grid in tiles
+     */
+    public WalkabilityGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.bits = new long[(width * height + 63) >>> 6];
+        this.blocked = new long[bits.length];
+        this.readOnly = false;
+    }
+
+    private WalkabilityGrid(WalkabilityGrid source) {
+        this.width = source.width;
+        this.height = source.height;
+        this.bits = source.bits.clone();
+        this.blocked = source.blocked.clone();
+        this.version = source.version;
+        this.readOnly = true;
+    }
+
+    /**
+     * Builds a grid from the given tile layers.
+     * <p>
+     * A tile is walkable unless any layer contains a tile at that position which is not marked
+     * as traversable. The first layer defines the size of the grid.
+     * </p>
+     *
+     * @param layers the layers to read, e.g. from {@code MapLoader.getAllWalkableLayers()}
+     * @return the precomputed walkability grid
+     */
+    public static WalkabilityGrid fromLayers(List<TiledMapTileLayer> layers) {
+        int width = layers.get(0).getWidth();
+        int height = layers.get(0).getHeight();
+        WalkabilityGrid grid = new WalkabilityGrid(width, height);
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                grid.setWalkable(x, y, isTraversable(layers, x, y));
+            }
+        }
+        grid.version = 0;
+        return grid;
+    }
+
+    private static boolean isTraversable(List<TiledMapTileLayer> layers, int x, int y) {
+        for (TiledMapTileLayer layer : layers) {
+            TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+            if (cell != null && cell.getTile() != null) {
+                Boolean traversable = cell
+                    .getTile()
+                    .getProperties()
+                    .get(TiledPropertiesEnum.IS_TRAVERSABLE.toString(), Boolean.class);
+
+                // If any layer says "not traversable", we consider it blocked
+                if (!Boolean.TRUE.equals(traversable)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given coordinates lie within the grid.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if the tile is inside the grid
+     */
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Converts tile coordinates to a flat index into the grid.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the flat index {@code x + y * width}
+     */
+    public int index(int x, int y) {
+        return x + y * width;
+    }
+
+    /**
+     * Determines whether the tile at the given coordinates is walkable.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if the tile is inside the grid, traversable and not blocked
+     */
+    public boolean isWalkable(int x, int y) {
+        return inBounds(x, y) && isWalkable(index(x, y));
+    }
+
+    /**
+     * Determines whether the tile at the given flat index is walkable.
+     *
+     * @param index the flat index, see {@link #index(int, int)}
+     * @return true if the tile is traversable and not blocked
+     */
+    public boolean isWalkable(int index) {
+        return ((bits[index >>> 6] & ~blocked[index >>> 6]) & (1L << index)) != 0;
+    }
+
+    /**
+     * Determines whether the tile at the given flat index is traversable terrain that is covered
+     * by a building.
+     *
+     * @param index the flat index, see {@link #index(int, int)}
+     * @return true if the tile is blocked
+     */
+    public boolean isBlocked(int index) {
+        return ((bits[index >>> 6] & blocked[index >>> 6]) & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns an immutable copy of the grid at its current version.
+     * <p>
+     * The copy is only taken again after the grid has changed, so all callers between two
+     * changes share the same snapshot. It may be read from any thread.
+     * </p>
+     *
+     * @return the read-only snapshot, or this grid if it is a snapshot itself
+     */
+    public WalkabilityGrid getSnapshot() {
+        if (readOnly) return this;
+        if (snapshot == null || snapshot.version != version) {
+            snapshot = new WalkabilityGrid(this);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Changes the walkability of a tile. The version is only incremented if the value changes.
+     *
+     * @param x        the x coordinate
+     * @param y        the y coordinate
+     * @param walkable whether the tile can be traversed
+     * @throws IllegalStateException if the grid is a snapshot
+     */
+    public void setWalkable(int x, int y, boolean walkable) {
+        if (inBounds(x, y)) set(bits, x, y, walkable);
+    }
+
+    /**
+     * Marks a tile as covered by a building, or as free again. The version is only incremented
+     * if the walkability of the tile changes.
+     *
+     * @param x       the x coordinate
+     * @param y       the y coordinate
+     * @param blocked whether a building covers the tile
+     * @throws IllegalStateException if the grid is a snapshot
+     */
+    public void setBlocked(int x, int y, boolean blocked) {
+        if (inBounds(x, y)) set(this.blocked, x, y, blocked);
+    }
+
+    private void set(long[] target, int x, int y, boolean value) {
+        if (readOnly) {
+            throw new IllegalStateException("A grid snapshot cannot be changed");
+        }
+        int index = index(x, y);
+        long mask = 1L << index;
+        if (((target[index >>> 6] & mask) != 0) == value) return;
+
+        boolean wasWalkable = isWalkable(index);
+        if (value) {
+            target[index >>> 6] |= mask;
+        } else {
+            target[index >>> 6] &= ~mask;
+        }
+        if (isWalkable(index) == wasWalkable) return;
+        version++;
+
+        for (int i = 0; i < listeners.size; i++) {
+            listeners.get(i).tileChanged(x, y);
+        }
+    }
+
+    /**
+     * Registers a listener that is notified about every changed tile.
+     *
+     * @param listener the listener to add
+     */
+    public void addChangeListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addChangeListener(ChangeListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeChangeListener(ChangeListener listener) {
+        listeners.removeValue(listener, true);
+    }
+}
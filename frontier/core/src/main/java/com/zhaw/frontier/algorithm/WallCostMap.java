@@ -0,0 +1,370 @@
+package com.zhaw.frontier.algorithm;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.zhaw.frontier.components.AttackComponent;
+import com.zhaw.frontier.components.HealthComponent;
+import com.zhaw.frontier.components.OccupiesTilesComponent;
+import com.zhaw.frontier.components.TeamComponent;
+import com.zhaw.frontier.components.WallPieceComponent;
+import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.enums.Team;
+import lombok.Getter;
+
+/**
+ * Keeps track of the tiles occupied by walls and derives the cost of breaking through them.
+ * <p>
+ * A hostile wall is passable for an attacker at the price of the time it takes to destroy it:
+ * the number of hits needed ({@link HealthComponent#currentHealth} divided by
+ * {@link AttackComponent#damage}) times the attack interval, converted into the number of tiles
+ * the attacker could have walked in the meantime. With this cost, a {@link GridAStarPathfinder}
+ * finds the cheapest way to the goal in one bounded search, choosing between walking around a
+ * wall and breaking through it.
+ * </p>
+ * <p>
+ * The map listens to the engine, so walls are registered and removed as they are built and
+ * destroyed, until it is disposed.
+ * </p>
+ * <p>
+ * The cost only depends on the walls and on the {@link CostProfile} of the attacker, so attackers
+ * with equal profiles can share the paths found with it. The {@link #getVersion() version} of the
+ * map changes whenever walls are built or destroyed, and with the next {@link #update()} after a
+ * wall was damaged, so such paths can be kept until then.
+ * </p>
+ */
+public final class WallCostMap implements EntityListener, Disposable {
+
+    private final WalkabilityGrid grid;
+    private final Engine engine;
+    private final Entity[] walls;
+    private final Array<Entity> registeredWalls = new Array<>();
+    /** The health of each registered wall at the last update, to notice damage. */
+    private final IntArray registeredHealth = new IntArray();
+
+    /** Changes whenever the walls or their health, and therefore the costs, have changed. */
+    @Getter
+    private int version = 0;
+
+    /** The snapshots taken at the current version, by attacker profile. */
+    private final ObjectMap<CostProfile, Snapshot> snapshots = new ObjectMap<>();
+
+    private final ComponentMapper<OccupiesTilesComponent> occm = ComponentMapper.getFor(
+        OccupiesTilesComponent.class
+    );
+    private final ComponentMapper<HealthComponent> hm = ComponentMapper.getFor(
+        HealthComponent.class
+    );
+    private final ComponentMapper<AttackComponent> am = ComponentMapper.getFor(
+        AttackComponent.class
+    );
+    private final ComponentMapper<TeamComponent> tm = ComponentMapper.getFor(TeamComponent.class);
+    private final ComponentMapper<PathfindingBehaviourComponent> pfm = ComponentMapper.getFor(
+        PathfindingBehaviourComponent.class
+    );
+
+    /**
+     * Creates a new wall cost map and registers all walls already in the engine.
+     *
+     * @param grid   the walkability grid defining the map size
+     * @param engine the Ashley engine the walls are added to
+     */
+    public WallCostMap(WalkabilityGrid grid, Engine engine) {
+        this.grid = grid;
+        this.engine = engine;
+        this.walls = new Entity[grid.getWidth() * grid.getHeight()];
+
+        Family family = Family
+            .all(WallPieceComponent.class, OccupiesTilesComponent.class, HealthComponent.class)
+            .get();
+        for (Entity wall : engine.getEntitiesFor(family)) {
+            entityAdded(wall);
+        }
+        engine.addEntityListener(family, this);
+    }
+
+    /**
+     * Returns the wall occupying the given tile.
+     *
+     * @param x the tile x coordinate
+     * @param y the tile y coordinate
+     * @return the wall entity, or {@code null} if there is none
+     */
+    public Entity getWall(int x, int y) {
+        if (!grid.inBounds(x, y)) return null;
+        return walls[grid.index(x, y)];
+    }
+
+    /**
+     * Checks whether any tile of the given path is occupied by a wall.
+     * Waypoints of a smoothed path may be further apart, the tiles between them are traced.
+     *
+     * @param path the waypoints to check
+     * @return true if the path crosses at least one wall
+     */
+    public boolean crossesWall(Array<Vector2> path) {
+        if (path.isEmpty()) return false;
+        Vector2 first = path.first();
+        int x = (int) first.x;
+        int y = (int) first.y;
+        if (getWall(x, y) != null) return true;
+
+        for (int i = 1; i < path.size; i++) {
+            Vector2 waypoint = path.get(i);
+            if (crossesWall(x, y, (int) waypoint.x, (int) waypoint.y)) return true;
+            x = (int) waypoint.x;
+            y = (int) waypoint.y;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any tile of the given path is occupied by a wall.
+     * Waypoints of a smoothed path may be further apart, the tiles between them are traced.
+     *
+     * @param path the path to check
+     * @return true if the path crosses at least one wall
+     */
+    public boolean crossesWall(PackedPath path) {
+        if (path.isEmpty()) return false;
+        if (getWall(path.getX(0), path.getY(0)) != null) return true;
+        return crossesWall(path.getX(0), path.getY(0), path);
+    }
+
+    /**
+     * Checks whether any tile on the way from the start tile along the given path is occupied by
+     * a wall, including the tiles between the start and the first waypoint.
+     *
+     * @param startX the x coordinate of the tile the path starts from
+     * @param startY the y coordinate of the tile the path starts from
+     * @param path   the path to check
+     * @return true if the path crosses at least one wall
+     */
+    public boolean crossesWall(int startX, int startY, PackedPath path) {
+        int x = startX;
+        int y = startY;
+        for (int i = 0; i < path.size(); i++) {
+            if (crossesWall(x, y, path.getX(i), path.getY(i))) return true;
+            x = path.getX(i);
+            y = path.getY(i);
+        }
+        return false;
+    }
+
+    private boolean crossesWall(int x0, int y0, int x1, int y1) {
+        return !PathSmoother.traceLine(x0, y0, x1, y1, (x, y) -> getWall(x, y) == null);
+    }
+
+    /**
+     * Returns the properties of an attacker that its cost of breaking through walls depends on.
+     *
+     * @param attacker the entity that would have to break through
+     * @return the profile of the attacker; equal for attackers with the same wall costs
+     */
+    public CostProfile profileOf(Entity attacker) {
+        AttackComponent attack = am.get(attacker);
+        if (attack == null || attack.damage <= 0) return CostProfile.CANNOT_ATTACK;
+
+        PathfindingBehaviourComponent path = pfm.get(attacker);
+        float tilesPerAttack = (attack.attackInterval / 1000f) * (path != null ? path.speed : 1f);
+        Team team = tm.has(attacker) ? tm.get(attacker).team : null;
+        return new CostProfile(team, attack.damage, tilesPerAttack);
+    }
+
+    /**
+     * Returns the cost of walking through walls for the given attacker.
+     * <p>
+     * Walls of the attacker's own team, and all walls if the attacker cannot attack,
+     * are {@link TileCost#IMPASSABLE}. Tiles without a wall have no extra cost.
+     * </p>
+     *
+     * @param attacker the entity that would have to break through
+     * @return the tile cost for this attacker
+     */
+    public TileCost costFor(Entity attacker) {
+        return costFor(profileOf(attacker));
+    }
+
+    /**
+     * Returns the cost of walking through walls for attackers with the given profile.
+     *
+     * @param profile the profile of the attackers, see {@link #profileOf(Entity)}
+     * @return the tile cost for these attackers
+     */
+    public TileCost costFor(CostProfile profile) {
+        if (profile.damage() <= 0) {
+            return (x, y) -> getWall(x, y) == null ? 0 : TileCost.IMPASSABLE;
+        }
+
+        return (x, y) -> {
+            Entity wall = getWall(x, y);
+            if (wall == null) return 0;
+            if (!isHostile(profile, wall)) return TileCost.IMPASSABLE;
+
+            int hits = (int) Math.ceil(Math.max(hm.get(wall).currentHealth, 0) / profile.damage());
+            return Math.max(1, (int) Math.ceil(hits * profile.tilesPerAttack()));
+        };
+    }
+
+    /**
+     * Returns the cost of walking through walls for the given attacker, fixed at the current state
+     * of the walls.
+     * <p>
+     * Unlike {@link #costFor(Entity)}, the returned cost does not read any components, so it can be
+     * used by searches running on other threads. The snapshot is taken once per profile and
+     * {@link #getVersion() version} and shared by all attackers of that profile.
+     * </p>
+     *
+     * @param attacker the entity that would have to break through
+     * @return the tile cost for this attacker at the time of the call
+     */
+    public Snapshot snapshotCostFor(Entity attacker) {
+        CostProfile profile = profileOf(attacker);
+        Snapshot snapshot = snapshots.get(profile);
+        if (snapshot == null || snapshot.version != version) {
+            snapshot = takeSnapshot(profile);
+            snapshots.put(profile, snapshot);
+        }
+        return snapshot;
+    }
+
+    private Snapshot takeSnapshot(CostProfile profile) {
+        TileCost liveCost = costFor(profile);
+        IntIntMap costs = new IntIntMap();
+        for (Entity wall : registeredWalls) {
+            OccupiesTilesComponent tiles = occm.get(wall);
+            for (int y = tiles.tileY; y < tiles.tileY + tiles.heightInTiles; y++) {
+                for (int x = tiles.tileX; x < tiles.tileX + tiles.widthInTiles; x++) {
+                    if (getWall(x, y) == wall) {
+                        costs.put(grid.index(x, y), liveCost.getCost(x, y));
+                    }
+                }
+            }
+        }
+        return new Snapshot(grid, costs, profile, version);
+    }
+
+    /**
+     * Notices walls whose health has changed since the last update, which changes the
+     * {@link #getVersion() version}. Called once per frame by the owner of the map.
+     */
+    public void update() {
+        boolean changed = false;
+        for (int i = 0; i < registeredWalls.size; i++) {
+            int health = hm.get(registeredWalls.get(i)).currentHealth;
+            if (registeredHealth.get(i) != health) {
+                registeredHealth.set(i, health);
+                changed = true;
+            }
+        }
+        if (changed) version++;
+    }
+
+    /**
+     * Stops tracking the walls of the engine.
+     */
+    @Override
+    public void dispose() {
+        engine.removeEntityListener(this);
+        registeredWalls.clear();
+        registeredHealth.clear();
+        snapshots.clear();
+    }
+
+    /**
+     * Registers the tiles of a newly added wall.
+     *
+     * @param entity the wall entity
+     */
+    @Override
+    public void entityAdded(Entity entity) {
+        registeredWalls.add(entity);
+        registeredHealth.add(hm.get(entity).currentHealth);
+        setTiles(entity, entity);
+        version++;
+    }
+
+    /**
+     * Clears the tiles of a removed wall.
+     *
+     * @param entity the wall entity
+     */
+    @Override
+    public void entityRemoved(Entity entity) {
+        int index = registeredWalls.indexOf(entity, true);
+        if (index >= 0) {
+            registeredWalls.removeIndex(index);
+            registeredHealth.removeIndex(index);
+        }
+        setTiles(entity, null);
+        version++;
+    }
+
+    private void setTiles(Entity wall, Entity value) {
+        OccupiesTilesComponent tiles = occm.get(wall);
+        for (int y = tiles.tileY; y < tiles.tileY + tiles.heightInTiles; y++) {
+            for (int x = tiles.tileX; x < tiles.tileX + tiles.widthInTiles; x++) {
+                if (!grid.inBounds(x, y)) continue;
+
+                int index = grid.index(x, y);
+                if (value != null || walls[index] == wall) {
+                    walls[index] = value;
+                }
+            }
+        }
+    }
+
+    private boolean isHostile(CostProfile profile, Entity wall) {
+        return profile.team() != null && tm.has(wall) && tm.get(wall).team != profile.team();
+    }
+
+    /**
+     * The properties of an attacker that its cost of breaking through walls depends on.
+     *
+     * @param team           the team of the attacker, whose own walls it does not break through
+     * @param damage         the damage of one hit, or 0 if the attacker cannot attack
+     * @param tilesPerAttack the number of tiles the attacker walks in the time of one attack
+     */
+    public record CostProfile(Team team, float damage, float tilesPerAttack) {
+        /** The profile of all attackers that cannot break through walls. */
+        public static final CostProfile CANNOT_ATTACK = new CostProfile(null, 0, 0);
+    }
+
+    /**
+     * The cost of walking through walls for the attackers of one profile, fixed at one version of
+     * the map.
+     */
+    public static final class Snapshot implements TileCost {
+
+        private final WalkabilityGrid grid;
+        private final IntIntMap costs;
+
+        /** The profile of the attackers this cost applies to. */
+        @Getter
+        private final CostProfile profile;
+
+        /** The {@link WallCostMap#getVersion() version} of the map the costs were taken at. */
+        @Getter
+        private final int version;
+
+        private Snapshot(WalkabilityGrid grid, IntIntMap costs, CostProfile profile, int version) {
+            this.grid = grid;
+            this.costs = costs;
+            this.profile = profile;
+            this.version = version;
+        }
+
+        @Override
+        public int getCost(int x, int y) {
+            return grid.inBounds(x, y) ? costs.get(grid.index(x, y), 0) : 0;
+        }
+    }
+}
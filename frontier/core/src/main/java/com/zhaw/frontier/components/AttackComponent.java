@@ -10,7 +10,7 @@ import com.badlogic.ashley.core.Component;
  *   <li>Attack damage (how much damage is dealt per hit)</li>
  *   <li>Attack range (in tiles)</li>
  *   <li>Attack interval (delay between attacks, in milliseconds)</li>
- *   <li>Internal cooldown timer for managing when the next attack can occur</li>
+ *   <li>The simulation tick from which the next attack can occur</li>
  * </ul>
  */
 public class AttackComponent implements Component {
@@ -24,8 +24,11 @@ public class AttackComponent implements Component {
     /** The time in milliseconds between consecutive attacks. */
     public float attackInterval = 1000f;
 
-    /** Internal cooldown timer used to track when the next attack is allowed. */
-    public float attackCooldown = 0f;
+    /**
+     * The simulation tick from which the next attack is allowed, as counted by the
+     * {@link com.zhaw.frontier.systems.GameClockSystem}.
+     */
+    public long readyAtTick = 0L;
 
     /**
      * Constructs an {@code AttackComponent} with default values.
@@ -43,6 +46,5 @@ public class AttackComponent implements Component {
         this.damage = damage;
         this.attackRange = attackRange;
         this.attackInterval = attackInterval;
-        this.attackCooldown = 0f;
     }
 }
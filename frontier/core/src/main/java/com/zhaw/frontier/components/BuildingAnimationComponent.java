@@ -9,6 +9,11 @@ import java.util.*;
 /**
  * Animation component for buildings.
  * Supports multiple parallel animations.
+ * <p>
+ * A building keeps the state time of each animation type in an array indexed by the ordinal of
+ * the type. The frame to draw is looked up when the building is rendered, see
+ * {@link #getCurrentFrame()}.
+ * </p>
  */
 public class BuildingAnimationComponent implements Component {
 
@@ -26,6 +31,11 @@ public class BuildingAnimationComponent implements Component {
         SMOKE,
     }
 
+    /** All animation types, in the order of their ordinals */
+    public static final BuildingAnimationType[] TYPES = BuildingAnimationType.values();
+
+    private static final TileOffset BASE_TILE = new TileOffset(0, 0);
+
     /** All available animations by type */
     public EnumMap<
         BuildingAnimationType,
@@ -37,8 +47,23 @@ public class BuildingAnimationComponent implements Component {
         BuildingAnimationType.class
     );
 
-    /** Individual state time per animation type */
-    public EnumMap<BuildingAnimationType, Float> stateTimes = new EnumMap<>(
-        BuildingAnimationType.class
-    );
+    /** Individual state time per animation type, indexed by its ordinal */
+    public float[] stateTimes = new float[TYPES.length];
+
+    /**
+     * Returns the frame of the active animation drawn on top, which is the active animation
+     * type declared last, at its state time.
+     *
+     * @return the frame to draw, or null if no active animation has frames
+     */
+    public TextureRegion getCurrentFrame() {
+        for (int i = TYPES.length - 1; i >= 0; i--) {
+            if (!activeAnimations.contains(TYPES[i])) continue;
+            HashMap<TileOffset, Animation<TextureRegion>> animationMap = animations.get(TYPES[i]);
+            if (animationMap == null) continue;
+            Animation<TextureRegion> animation = animationMap.get(BASE_TILE);
+            if (animation != null) return animation.getKeyFrame(stateTimes[i]);
+        }
+        return null;
+    }
 }
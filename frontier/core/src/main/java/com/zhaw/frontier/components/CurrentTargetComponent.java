@@ -2,13 +2,84 @@ package com.zhaw.frontier.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BinaryHeap;
+import com.zhaw.frontier.utils.EntityHandle;
 
 /**
  * CurrentTargetComponent tracks a target which is currently being hot at by a
  * tower.
+ * <p>
+ * Every tower keeps this component for its whole life. The target is cleared and set instead of
+ * adding and removing the component, and the enemies near the tower are cached in
+ * {@link #candidates}, which the {@link com.zhaw.frontier.systems.TowerTargetingSystem} only
+ * queries again when an enemy moved into or out of the cells around the tower.
+ * </p>
  */
 
 public class CurrentTargetComponent implements Component {
 
-    public Entity target;
+    /**
+     * The order in which a tower picks among the enemies in its range.
+     */
+    public enum TargetPriority {
+        /** The enemy with the shortest remaining path, i.e. the one furthest along. */
+        FIRST,
+        /** The enemy closest to the tower. */
+        CLOSEST,
+        /** The enemy with the most health. */
+        STRONGEST,
+        /** The enemy with the least health. */
+        LOWEST_HEALTH,
+    }
+
+    /**
+     * An enemy ranked in {@link #ranking}.
+     */
+    public static class CandidateNode extends BinaryHeap.Node {
+
+        public Entity enemy;
+
+        public CandidateNode() {
+            super(0);
+        }
+    }
+
+    public final EntityHandle target = new EntityHandle();
+
+    /**
+     * The order in which the tower picks among the enemies in its range, {@link
+     * TargetPriority#CLOSEST} by default. This is a change in behaviour: before priorities
+     * existed, a tower shot at the first enemy in range in the order of the engine's entities,
+     * regardless of distance.
+     */
+    public TargetPriority priority = TargetPriority.CLOSEST;
+
+    /** The enemies in the cells around the range of the tower, some of them out of range. */
+    public final Array<Entity> candidates = new Array<>(false, 8);
+
+    /** The spatial hash version at which {@link #candidates} were queried, -1 for never. */
+    public int candidatesVersion = -1;
+
+    /** The candidates in range, best first according to {@link #priority}. */
+    public final BinaryHeap<CandidateNode> ranking = new BinaryHeap<>(8, true);
+
+    private final Array<CandidateNode> nodes = new Array<>();
+
+    public CurrentTargetComponent() {}
+
+    public CurrentTargetComponent(TargetPriority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * Returns the node for the candidate with the given index, reusing nodes between updates.
+     *
+     * @param index the index of the candidate in {@link #candidates}
+     * @return a node that is not part of {@link #ranking}
+     */
+    public CandidateNode getNode(int index) {
+        while (nodes.size <= index) nodes.add(new CandidateNode());
+        return nodes.get(index);
+    }
 }
@@ -0,0 +1,11 @@
+package com.zhaw.frontier.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks an {@link com.badlogic.ashley.core.Entity} whose health has dropped below its maximum.
+ *
+ * <p>It is added by {@link com.zhaw.frontier.systems.HealthSystem#applyDamage} the first time the
+ * entity takes damage, so only these entities are considered when health bars are drawn.</p>
+ */
+public class DamagedComponent implements Component {}
@@ -11,16 +11,20 @@ import com.badlogic.ashley.core.Component;
  * <ul>
  *   <li>Time until the entity should be removed from the engine</li>
  *   <li>Whether the death animation has been played</li>
+ *   <li>Whether the removal has been scheduled</li>
  * </ul>
  */
 public class DeathComponent implements Component {
 
-    /** Time in seconds until the entity is removed from the engine. */
+    /** Game time in seconds until the entity is removed from the engine. */
     public float timeUntilRemoval;
 
     /** Whether the death animation has already been played. */
     public boolean animationPlayed = false;
 
+    /** Whether the removal has already been scheduled on the game clock. */
+    public boolean removalScheduled = false;
+
     /**
      * Constructs a {@code DeathComponent} with a specified removal delay.
      *
@@ -7,6 +7,11 @@ import java.util.EnumMap;
 
 /**
  * Animation component specifically for enemies, supporting a single active animation.
+ * <p>
+ * An enemy only keeps the type of its current animation and the time it has been playing. The
+ * animations themselves are shared by all enemies of a type; the frame to draw is looked up when
+ * the enemy is rendered, see {@link #getCurrentFrame()}.
+ * </p>
  */
 public class EnemyAnimationComponent implements Component {
 
@@ -30,7 +35,7 @@ public class EnemyAnimationComponent implements Component {
         DEATH,
     }
 
-    /** All animations mapped by type */
+    /** All animations mapped by type, shared between the enemies of a type */
     public EnumMap<EnemyAnimationType, Animation<TextureRegion>> animations = new EnumMap<>(
         EnemyAnimationType.class
     );
@@ -41,6 +46,14 @@ public class EnemyAnimationComponent implements Component {
     /** Time passed for the current animation */
     public float stateTime = 0f;
 
-    /** The index of the last frame displayed */
-    public int lastFrameIndex = -1;
+    /**
+     * Returns the frame of the current animation at the current state time.
+     *
+     * @return the frame to draw, or null if there is no animation of the current type
+     */
+    public TextureRegion getCurrentFrame() {
+        if (currentAnimation == null) return null;
+        Animation<TextureRegion> animation = animations.get(currentAnimation);
+        return animation != null ? animation.getKeyFrame(stateTime) : null;
+    }
 }
@@ -1,19 +1,87 @@
 package com.zhaw.frontier.components;
 
 import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Component that represents the tiles occupied by an entity.
- * This component is used to track the tiles that an entity occupies
+ * This component is used to track the tiles that an entity occupies.
+ * <p>
+ * Buildings always occupy a rectangle of tiles, which is stored as its bottom left tile and its
+ * size. An empty rectangle (the default) occupies no tiles.
+ * </p>
  */
 public class OccupiesTilesComponent implements Component {
 
+    /** The x coordinate of the bottom left occupied tile. */
+    public int tileX;
+
+    /** The y coordinate of the bottom left occupied tile. */
+    public int tileY;
+
+    /** The number of occupied tiles along the x axis. */
+    public int widthInTiles;
+
+    /** The number of occupied tiles along the y axis. */
+    public int heightInTiles;
+
+    /**
+     * Sets the occupied rectangle.
+     *
+     * @param tileX         the x coordinate of the bottom left tile
+     * @param tileY         the y coordinate of the bottom left tile
+     * @param widthInTiles  the number of tiles along the x axis
+     * @param heightInTiles the number of tiles along the y axis
+     */
+    public void set(int tileX, int tileY, int widthInTiles, int heightInTiles) {
+        this.tileX = tileX;
+        this.tileY = tileY;
+        this.widthInTiles = widthInTiles;
+        this.heightInTiles = heightInTiles;
+    }
+
+    /**
+     * Checks whether the given tile is occupied by the entity.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if the tile lies within the occupied rectangle
+     */
+    public boolean contains(int x, int y) {
+        return x >= tileX && x < tileX + widthInTiles && y >= tileY && y < tileY + heightInTiles;
+    }
+
+    /**
+     * Returns the number of occupied tiles.
+     *
+     * @return the area of the occupied rectangle
+     */
+    public int getTileCount() {
+        return Math.max(0, widthInTiles) * Math.max(0, heightInTiles);
+    }
+
+    /**
+     * Checks whether the entity occupies any tile.
+     *
+     * @return true if the occupied rectangle is empty
+     */
+    public boolean isEmpty() {
+        return widthInTiles <= 0 || heightInTiles <= 0;
+    }
+
     /**
-     * The list of tiles occupied by the entity.
-     * Each tile is represented by its coordinates (x, y).
+     * Finds the occupied tile closest to the given position.
+     *
+     * @param position the position to measure from
+     * @param out      receives the coordinates of the closest tile
+     * @return {@code out}, or {@code null} if no tile is occupied
      */
-    public List<Vector2> occupiedTiles = new ArrayList<>();
+    public Vector2 getClosestTile(Vector2 position, Vector2 out) {
+        if (isEmpty()) return null;
+        // The distance is separable, so the closest tile is the closest one along each axis
+        int x = MathUtils.clamp(MathUtils.round(position.x), tileX, tileX + widthInTiles - 1);
+        int y = MathUtils.clamp(MathUtils.round(position.y), tileY, tileY + heightInTiles - 1);
+        return out.set(x, y);
+    }
 }
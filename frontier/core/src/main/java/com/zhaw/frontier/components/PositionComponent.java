@@ -12,7 +12,7 @@ public class PositionComponent implements Component {
     public Vector2 basePosition = new Vector2();
 
     /**
-     * The previous position of the entity.
+     * The previous position of the entity, i.e. its position before the last simulation tick.
      */
     public Vector2 previousPosition = new Vector2();
 
@@ -43,4 +43,16 @@ public class PositionComponent implements Component {
         this.widthInTiles = widthInTiles;
         this.heightInTiles = heightInTiles;
     }
+
+    /**
+     * Returns the position at which the entity is drawn, between its previous and its current
+     * position.
+     *
+     * @param interpolation how far the frame lies between the previous (0) and the current tick (1)
+     * @param out           receives the position
+     * @return {@code out}
+     */
+    public Vector2 getRenderPosition(float interpolation, Vector2 out) {
+        return out.set(previousPosition).lerp(basePosition, interpolation);
+    }
 }
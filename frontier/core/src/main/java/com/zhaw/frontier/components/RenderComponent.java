@@ -2,11 +2,17 @@ package com.zhaw.frontier.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.zhaw.frontier.utils.SpriteSheet;
 import com.zhaw.frontier.utils.TileOffset;
 import java.util.HashMap;
 
 /**
  * contains sprite data for rendering an {@link com.badlogic.ashley.core.Entity}
+ * <p>
+ * The sprites of an entity come from a {@link SpriteSheet} shared by all entities of the same
+ * variant. Tiles that differ for a single entity, such as the current direction of a tower, are
+ * put into {@link #sprites}, which is empty for most entities.
+ * </p>
  */
 public class RenderComponent implements Component {
 
@@ -20,7 +26,12 @@ public class RenderComponent implements Component {
     public RenderType renderType;
 
     /**
-     * Sprites relativ zur Basis-Position
+     * Geteilte Sprites relativ zur Basis-Position
+     */
+    public SpriteSheet sheet;
+
+    /**
+     * Sprites relativ zur Basis-Position, die das Sheet für diese Entity überschreiben
      */
     public HashMap<TileOffset, TextureRegion> sprites = new HashMap<>();
 
@@ -43,4 +54,19 @@ public class RenderComponent implements Component {
         this.widthInTiles = widthInTiles;
         this.heightInTiles = heightInTiles;
     }
+
+    /**
+     * Returns the sprite of a tile, preferring the sprites of this entity over its sheet.
+     *
+     * @param x the x offset of the tile from the base tile
+     * @param y the y offset of the tile from the base tile
+     * @return the region to draw, or null if the tile has no sprite
+     */
+    public TextureRegion getSprite(int x, int y) {
+        if (!sprites.isEmpty()) {
+            TextureRegion region = sprites.get(TileOffset.of(x, y));
+            if (region != null) return region;
+        }
+        return sheet != null ? sheet.get(x, y) : null;
+    }
 }
@@ -23,6 +23,7 @@ public class RoundAnimationComponent implements Component {
     /**
      * All available animations by type.
      * Each animation is represented as a map of tile offsets to texture regions.
+     * The map may be shared between entities and must not be modified.
      */
     public Map<TileOffset, Array<TextureRegion>> frames = new HashMap<>();
 
@@ -2,7 +2,9 @@ package com.zhaw.frontier.components;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.zhaw.frontier.utils.SpriteSheet;
 import com.zhaw.frontier.utils.TileOffset;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,4 +33,24 @@ public class WallPieceComponent implements Component {
     public WallPiece currentWallPiece = WallPiece.SINGLE;
 
     public Map<WallPiece, HashMap<TileOffset, TextureRegion>> wallPieceTextures = new HashMap<>();
+
+    /** Sprite sheets of the pieces, built from the textures on first use and shared per material */
+    public Map<WallPiece, SpriteSheet> wallPieceSheets = new EnumMap<>(WallPiece.class);
+
+    /**
+     * Returns the sprite sheet of a piece.
+     *
+     * @param piece the wall piece
+     * @return the sheet, or null if there are no textures for the piece
+     */
+    public SpriteSheet getSheet(WallPiece piece) {
+        SpriteSheet sheet = wallPieceSheets.get(piece);
+        if (sheet == null) {
+            HashMap<TileOffset, TextureRegion> textures = wallPieceTextures.get(piece);
+            if (textures == null) return null;
+            sheet = SpriteSheet.of(textures, 1, 1);
+            wallPieceSheets.put(piece, sheet);
+        }
+        return sheet;
+    }
 }
@@ -2,19 +2,49 @@ package com.zhaw.frontier.components.behaviours;
 
 import com.badlogic.ashley.core.Component;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.HierarchicalPathfinder;
+import com.zhaw.frontier.algorithm.PackedPath;
+import com.zhaw.frontier.utils.EntityHandle;
 
 /**
  * A component that stores pathfinding behavior data for an entity.
  * Includes the current path, movement speed, target entity (if any),
  * and flags for whether the path is complete or needs recalculation.
+ * <p>
+ * The path is either a {@link PackedPath} shared with other entities, of which the component
+ * only keeps a cursor, or a list of {@link #waypoints} owned by this entity. Found paths are
+ * shared; own waypoints are only used for paths that are changed while they are walked, i.e.
+ * repaired paths and waypoints refined lazily from a {@link #hierarchicalPath}.
+ * </p>
+ * <p>
+ * Consecutive waypoints of a smoothed path can be several tiles apart, see
+ * {@link com.zhaw.frontier.algorithm.PathSmoother}. {@link #getNextTile(Vector2)} returns the
+ * tile the entity actually enters next.
+ * </p>
  */
 public class PathfindingBehaviourComponent implements Component {
 
-    /** The list of waypoints (positions) the entity should follow. */
+    /** The list of waypoints (positions) the entity should follow, if it has no shared path. */
     public Array<Vector2> waypoints = new Array<>();
 
+    /** The shared path the entity follows, or {@code null} if it follows its own waypoints. */
+    public PackedPath sharedPath = null;
+
+    /** The index of the next waypoint in {@link #sharedPath}. */
+    public int pathCursor = 0;
+
+    /**
+     * The abstract path whose remaining segments are appended to {@link #waypoints},
+     * or {@code null} if the waypoints are complete.
+     */
+    public HierarchicalPathfinder.HierarchicalPath hierarchicalPath = null;
+
+    private final Vector2 nextWaypoint = new Vector2();
+    private final Vector2 nextTile = new Vector2();
+
     /** The final destination point of the current path. */
     public Vector2 destination = null;
 
@@ -28,7 +58,7 @@ public class PathfindingBehaviourComponent implements Component {
     public float speed = 0f;
 
     /** The target entity this entity is trying to reach, if any. */
-    public Entity targetEntity = null;
+    public final EntityHandle targetEntity = new EntityHandle();
 
     /**
      * Constructs a new {@code PathfindingBehaviourComponent} with a given speed.
@@ -45,27 +75,130 @@ public class PathfindingBehaviourComponent implements Component {
      * @return true if the waypoints list is not empty; false otherwise
      */
     public boolean hasPath() {
-        return waypoints.size > 0;
+        return getRemainingWaypointCount() > 0;
+    }
+
+    /**
+     * Returns the number of waypoints left on the current path.
+     *
+     * @return the number of remaining waypoints
+     */
+    public int getRemainingWaypointCount() {
+        return sharedPath != null ? sharedPath.size() - pathCursor : waypoints.size;
+    }
+
+    /**
+     * Follows the given shared path from its start, replacing the current path.
+     *
+     * @param path the path to follow
+     */
+    public void setSharedPath(PackedPath path) {
+        waypoints.clear();
+        hierarchicalPath = null;
+        sharedPath = path;
+        pathCursor = 0;
+    }
+
+    /**
+     * Follows the given waypoints, replacing the current path.
+     *
+     * @param path the waypoints to follow; they are copied into {@link #waypoints}
+     */
+    public void setWaypoints(Array<Vector2> path) {
+        sharedPath = null;
+        hierarchicalPath = null;
+        pathCursor = 0;
+        waypoints.clear();
+        waypoints.addAll(path);
+    }
+
+    /**
+     * Copies the remaining part of a shared path into {@link #waypoints},
+     * so that the path can be modified without affecting other entities.
+     */
+    public void detachSharedPath() {
+        if (sharedPath == null) return;
+        setWaypoints(sharedPath.toWaypoints(pathCursor));
     }
 
     /**
      * Retrieves the next waypoint in the path.
      *
+     * The returned vector of a shared path is reused, callers must copy it to keep it.
+     *
      * @return the next waypoint as a {@link Vector2}, or null if no path exists
      */
     public Vector2 getNextWaypoint() {
-        return hasPath() ? waypoints.first() : null;
+        if (!hasPath()) return null;
+        if (sharedPath != null) return sharedPath.get(pathCursor, nextWaypoint);
+        return waypoints.first();
+    }
+
+    /**
+     * Retrieves the tile the entity enters next on its way to the next waypoint.
+     * This is the next waypoint itself, unless the waypoint is more than one tile away.
+     *
+     * The returned vector is reused, callers must copy it to keep it.
+     *
+     * @param position the current position of the entity
+     * @return the next tile, or null if no path exists
+     */
+    public Vector2 getNextTile(Vector2 position) {
+        Vector2 waypoint = getNextWaypoint();
+        if (waypoint == null) return null;
+
+        float dx = waypoint.x - position.x;
+        float dy = waypoint.y - position.y;
+        float steps = Math.max(Math.abs(dx), Math.abs(dy));
+        if (steps <= 1f) return nextTile.set((int) waypoint.x, (int) waypoint.y);
+        return nextTile.set(
+            MathUtils.round(position.x + dx / steps),
+            MathUtils.round(position.y + dy / steps)
+        );
+    }
+
+    /**
+     * Returns the length of the remaining path in straight tile steps, which is the number of
+     * remaining waypoints unless the path was smoothed.
+     *
+     * @param position the current position of the entity
+     * @return the Manhattan length from the position along all remaining waypoints
+     */
+    public int getRemainingPathLength(Vector2 position) {
+        int length = 0;
+        int x = (int) position.x;
+        int y = (int) position.y;
+        for (int i = 0; i < getRemainingWaypointCount(); i++) {
+            int nextX;
+            int nextY;
+            if (sharedPath != null) {
+                nextX = sharedPath.getX(pathCursor + i);
+                nextY = sharedPath.getY(pathCursor + i);
+            } else {
+                nextX = (int) waypoints.get(i).x;
+                nextY = (int) waypoints.get(i).y;
+            }
+            length += Math.abs(nextX - x) + Math.abs(nextY - y);
+            x = nextX;
+            y = nextY;
+        }
+        return length;
     }
 
     /**
      * Advances to the next waypoint in the path.
-     * Removes the current waypoint and sets {@code pathCompleted} to true if none remain.
+     * Moves the cursor of a shared path forward, or removes the current waypoint,
+     * and sets {@code pathCompleted} to true if none remain.
      */
     public void advanceToNextWaypoint() {
-        if (hasPath()) {
+        if (!hasPath()) return;
+
+        if (sharedPath != null) {
+            pathCursor++;
+        } else {
             waypoints.removeIndex(0);
-            if (waypoints.size == 0) pathCompleted = true;
         }
+        if (!hasPath()) pathCompleted = true;
     }
 
     /**
@@ -74,7 +207,7 @@ public class PathfindingBehaviourComponent implements Component {
      */
     public void resetPath() {
         this.destination = null;
-        this.targetEntity = null;
+        this.targetEntity.clear();
         this.needsRepath = true;
         this.pathCompleted = false;
     }
@@ -85,23 +218,32 @@ public class PathfindingBehaviourComponent implements Component {
      * @param e the target {@link Entity}
      */
     public void setTargetEntity(Entity e) {
-        this.targetEntity = e;
+        this.targetEntity.set(e);
+    }
+
+    /**
+     * Returns the target entity if it still exists.
+     *
+     * @return the target entity, or {@code null} if there is none or it was removed
+     */
+    public Entity getTargetEntity() {
+        return targetEntity.get();
     }
 
     /**
      * Clears the currently assigned target entity.
      */
     public void clearTargetEntity() {
-        this.targetEntity = null;
+        this.targetEntity.clear();
     }
 
     /**
      * Determines if the path is currently blocked by a target entity.
      * This is often used to indicate the target is unreachable or has moved.
      *
-     * @return true if a target entity is assigned; false otherwise
+     * @return true if a target entity is assigned and still exists; false otherwise
      */
     public boolean isBlockedByEntity() {
-        return targetEntity != null;
+        return targetEntity.isAlive();
     }
 }
@@ -0,0 +1,176 @@
+package com.zhaw.frontier.components.map;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.zhaw.frontier.components.OccupiesTilesComponent;
+import com.zhaw.frontier.systems.TileOccupancySystem;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Component of the map entity that knows which entity occupies each tile.
+ * <p>
+ * Every tile stores the index of its occupant in a table of occupants, or 0 for a free tile, so
+ * asking who is on a tile is a single array read. The grid is sized to the map when the map is
+ * loaded and grows when an occupant lies outside of it. It is kept up to date by the
+ * {@link TileOccupancySystem}.
+ * </p>
+ */
+public class TileOccupancyComponent implements Component {
+
+    private static final int FREE = 0;
+
+    @Getter
+    private int width;
+
+    @Getter
+    private int height;
+
+    /** Occupant index + 1 per tile, row by row. */
+    private int[] tiles = new int[0];
+
+    private final Array<Entity> occupants = new Array<>();
+    /** The occupied rectangle of each occupant index, as x, y, width and height. */
+    private final IntArray rectangles = new IntArray();
+    private final IntArray freeIndices = new IntArray();
+    private final ObjectIntMap<Entity> indexOf = new ObjectIntMap<>();
+
+    /**
+     * Resizes the grid to the given number of tiles, keeping all occupants.
+     *
+     * @param width  the width of the map, in tiles
+     * @param height the height of the map, in tiles
+     */
+    public void resize(int width, int height) {
+        this.width = width;
+        this.height = height;
+        tiles = new int[width * height];
+        for (int index = 0; index < occupants.size; index++) {
+            if (occupants.get(index) != null) stamp(index, index + 1);
+        }
+    }
+
+    /**
+     * Returns the entity occupying the given tile.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return the occupant, or {@code null} if the tile is free or outside of the grid
+     */
+    public Entity getOccupant(int x, int y) {
+        if (!inBounds(x, y)) return null;
+        int value = tiles[y * width + x];
+        return value == FREE ? null : occupants.get(value - 1);
+    }
+
+    /**
+     * Checks whether the given tile is occupied.
+     *
+     * @param x the x coordinate of the tile
+     * @param y the y coordinate of the tile
+     * @return true if an entity occupies the tile
+     */
+    public boolean isOccupied(int x, int y) {
+        return inBounds(x, y) && tiles[y * width + x] != FREE;
+    }
+
+    /**
+     * Checks whether none of the tiles of the given rectangle is occupied.
+     *
+     * @param tileX         the x coordinate of the bottom left tile
+     * @param tileY         the y coordinate of the bottom left tile
+     * @param widthInTiles  the number of tiles along the x axis
+     * @param heightInTiles the number of tiles along the y axis
+     * @return true if all tiles of the rectangle are free
+     */
+    public boolean isAreaFree(int tileX, int tileY, int widthInTiles, int heightInTiles) {
+        for (int y = tileY; y < tileY + heightInTiles; y++) {
+            for (int x = tileX; x < tileX + widthInTiles; x++) {
+                if (isOccupied(x, y)) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks the tiles of the given entity as occupied by it, replacing its previous tiles.
+     *
+     * @param entity the occupying entity
+     * @param area   the tiles occupied by the entity
+     */
+    public void occupy(Entity entity, OccupiesTilesComponent area) {
+        release(entity);
+        if (area.isEmpty()) return;
+
+        int right = area.tileX + area.widthInTiles;
+        int top = area.tileY + area.heightInTiles;
+        if (right > width || top > height) {
+            resize(Math.max(width, right), Math.max(height, top));
+        }
+
+        int index;
+        if (freeIndices.notEmpty()) {
+            index = freeIndices.pop();
+            occupants.set(index, entity);
+        } else {
+            index = occupants.size;
+            occupants.add(entity);
+            rectangles.setSize(rectangles.size + 4);
+        }
+        rectangles.set(index * 4, area.tileX);
+        rectangles.set(index * 4 + 1, area.tileY);
+        rectangles.set(index * 4 + 2, area.widthInTiles);
+        rectangles.set(index * 4 + 3, area.heightInTiles);
+        indexOf.put(entity, index);
+        stamp(index, index + 1);
+    }
+
+    /**
+     * Frees the tiles occupied by the given entity.
+     *
+     * @param entity the entity that no longer occupies its tiles
+     */
+    public void release(Entity entity) {
+        if (!indexOf.containsKey(entity)) return;
+
+        int index = indexOf.remove(entity, 0);
+        stamp(index, FREE);
+        occupants.set(index, null);
+        freeIndices.add(index);
+    }
+
+    /**
+     * Frees all tiles.
+     */
+    public void clear() {
+        Arrays.fill(tiles, FREE);
+        occupants.clear();
+        rectangles.clear();
+        freeIndices.clear();
+        indexOf.clear();
+    }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Writes the given value into the tiles of an occupant. Tiles that were taken over by another
+     * occupant since are left alone when freeing.
+     */
+    private void stamp(int index, int value) {
+        int minX = Math.max(0, rectangles.get(index * 4));
+        int minY = Math.max(0, rectangles.get(index * 4 + 1));
+        int maxX = Math.min(width, rectangles.get(index * 4) + rectangles.get(index * 4 + 2));
+        int maxY = Math.min(height, rectangles.get(index * 4 + 1) + rectangles.get(index * 4 + 3));
+        for (int y = minY; y < maxY; y++) {
+            for (int x = minX; x < maxX; x++) {
+                int tile = y * width + x;
+                if (value != FREE || tiles[tile] == index + 1) tiles[tile] = value;
+            }
+        }
+    }
+}
@@ -24,6 +24,15 @@ public class AppProperties {
     /** The strength of the avoidance force applied between units. */
     public static final float AVOID_STRENGTH = 1f;
 
+    /** Whether large crowds are steered on several threads. */
+    public static final boolean PARALLEL_STEERING = true;
+
+    /** The number of units from which steering runs on several threads, if enabled. */
+    public static final int PARALLEL_STEERING_MIN_ENTITIES = 1024;
+
+    /** The number of simulation ticks per second of game time. */
+    public static final int SIMULATION_TICKS_PER_SECOND = 30;
+
     /** Duration of the orc attack animation frame (in seconds). */
     public static final float ORC_ATTACK_DURATION = 0.1f;
 
@@ -42,6 +51,51 @@ public class AppProperties {
      */
     public static final float PATH_FOLLOWER_STOP_TRESHOLD = 0.1f;
 
+    /** The maximum number of shared paths kept in the path cache. */
+    public static final int PATH_CACHE_CAPACITY = 256;
+
+    /** The time that may be spent on queued A* searches per frame, in milliseconds. */
+    public static final float PATHFINDING_FRAME_BUDGET_MS = 2f;
+
+    /**
+     * Whether A* searches run on background threads instead of within the frame budget
+     * on the render thread.
+     */
+    public static final boolean ASYNC_PATHFINDING = true;
+
+    /** Maps with at least this many tiles use hierarchical pathfinding. */
+    public static final int HIERARCHICAL_PATHFINDING_MIN_TILES = 128 * 128;
+
+    /** The width and height of a cluster of the hierarchical pathfinder, in tiles. */
+    public static final int HIERARCHICAL_PATHFINDING_CLUSTER_SIZE = 16;
+
+    /** Whether A* may move diagonally (without cutting corners) instead of in four directions. */
+    public static final boolean DIAGONAL_PATHFINDING = false;
+
+    /** Whether paths are smoothed into straight segments between few waypoints. */
+    public static final boolean PATH_SMOOTHING = true;
+
+    /** The width and height of a bucket of the target index, in tiles. */
+    public static final int TARGET_INDEX_CELL_SIZE = 8;
+
+    /** The width and height of a cell of the spatial hash over all entities, in tiles. */
+    public static final float SPATIAL_HASH_CELL_SIZE = 2f;
+
+    /** How far entities may move within a frame and still be found in the spatial hash, in tiles. */
+    public static final float SPATIAL_HASH_MARGIN = 1f;
+
+    /** The largest radius of a {@link com.zhaw.frontier.components.CircleCollisionComponent}. */
+    public static final float MAX_COLLISION_RADIUS = 1f;
+
+    /** The width and height of a prebuilt chunk of the map layers, in tiles. */
+    public static final int MAP_CHUNK_SIZE = 16;
+
+    /** The distance after which a projectile that hit nothing is removed, in tiles. */
+    public static final float PROJECTILE_MAX_RANGE = 16f;
+
+    /** The maximum number of projectiles in flight at the same time. */
+    public static final int MAX_PROJECTILES = 4096;
+
     public static final float WORLD_HEIGHT = 64 * 16;
     public static final float WORLD_WIDTH = 64 * 16;
 
@@ -1,18 +1,13 @@
 package com.zhaw.frontier.entityFactories;
 
-import com.badlogic.ashley.core.Engine;
-import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.zhaw.frontier.components.PositionComponent;
-import com.zhaw.frontier.components.ProjectileComponent;
-import com.zhaw.frontier.components.RenderComponent;
-import com.zhaw.frontier.components.RenderComponent.RenderType;
-import com.zhaw.frontier.components.TextureRotationComponent;
-import com.zhaw.frontier.components.VelocityComponent;
+import com.zhaw.frontier.algorithm.ProjectileBuffer;
+import com.zhaw.frontier.configs.AppProperties;
+import com.zhaw.frontier.systems.ProjectileSystem;
 import com.zhaw.frontier.utils.AssetManagerInstance;
-import com.zhaw.frontier.utils.TileOffset;
 
 /**
  * Factory pattern for creating arrows
@@ -23,27 +18,20 @@ public class ArrowFactory {
 
     /**
      * Creates an arrow that shoots from tower to the target, predicts the posiition
-     * with the velocity.
+     * with the velocity. The arrow is added to the given buffer of a
+     * {@link ProjectileSystem}. An arrow that hits nothing is removed after
+     * {@link AppProperties#PROJECTILE_MAX_RANGE} tiles.
+     *
+     * @return the velocity of the arrow, or null if the target cannot be hit or the buffer is
+     *         full
      */
-    public static Entity createArrow(
-        Engine engine,
+    public static Vector2 createArrow(
+        ProjectileBuffer projectiles,
         Vector2 tower,
         Vector2 target,
         Vector2 targetVelocity,
         int damage
     ) {
-        Entity arrow = engine.createEntity();
-
-        TextureAtlas atlas = AssetManagerInstance
-            .getManager()
-            .get("packed/textures.atlas", TextureAtlas.class);
-        var render = new RenderComponent();
-        render.renderType = RenderType.NORMAL;
-        render.sprites.put(new TileOffset(0, 0), atlas.findRegion("Arrow"));
-
-        arrow.add(new PositionComponent(tower.x, tower.y));
-
-        var velocity = new VelocityComponent();
         Vector2 calcVelocity = calculateInterceptVelocity(
             tower,
             ARROW_SPEED,
@@ -54,21 +42,30 @@ public class ArrowFactory {
             Gdx.app.debug("[ArrowFactory]", "Velocity is null");
             return null;
         }
-        velocity.velocity = calcVelocity;
-        // todo add lifetime for arrows so they can be removed after they should hit the
-        // target
 
-        var rotation = new TextureRotationComponent();
-        rotation.rotation = calcVelocity.angleDeg();
-
-        var projectile = new ProjectileComponent();
-        projectile.damage = damage;
+        boolean added = projectiles.add(
+            tower.x,
+            tower.y,
+            calcVelocity.x,
+            calcVelocity.y,
+            damage,
+            AppProperties.PROJECTILE_MAX_RANGE / ARROW_SPEED
+        );
+        if (!added) {
+            Gdx.app.debug("[ArrowFactory]", "Projectile buffer is full");
+            return null;
+        }
+        return calcVelocity;
+    }
 
-        arrow.add(rotation);
-        arrow.add(projectile);
-        arrow.add(velocity);
-        arrow.add(render);
-        return arrow;
+    /**
+     * Returns the texture of an arrow.
+     */
+    public static TextureRegion getArrowRegion() {
+        TextureAtlas atlas = AssetManagerInstance
+            .getManager()
+            .get("packed/textures.atlas", TextureAtlas.class);
+        return atlas.findRegion("Arrow");
     }
 
     /**
@@ -257,8 +257,7 @@ public class EnemyFactory {
 
         TextureRegion firstFrame = initialAnimation.getKeyFrame(0f);
         if (firstFrame != null) {
-            TileOffset offset = new TileOffset(0, 0);
-            render.sprites.put(offset, new TextureRegion(firstFrame));
+            render.sprites.put(TileOffset.of(0, 0), firstFrame);
         } else {
             Gdx.app.error("EnemyFactory", "No first frame found for WALK_DOWN");
         }
@@ -12,6 +12,7 @@ import com.zhaw.frontier.components.map.ResourceTypeEnum;
 import com.zhaw.frontier.configs.AppProperties;
 import com.zhaw.frontier.enums.Team;
 import com.zhaw.frontier.utils.AssetManagerInstance;
+import com.zhaw.frontier.utils.SpriteSheet;
 import com.zhaw.frontier.utils.TileOffset;
 import java.util.HashMap;
 import java.util.Map;
@@ -29,6 +30,12 @@ public class HQFactory {
         HashMap<TileOffset, Animation<TextureRegion>>
     > clockAnimationCache = new HashMap<>();
 
+    /** Frames of the sand clock per tile, shared by all HQs since they are never modified. */
+    private static final Map<TileOffset, Array<TextureRegion>> clockFrameCache = new HashMap<>();
+
+    /** First frames of the sand clock, the sprites of every HQ until the first round ends. */
+    private static SpriteSheet clockSheet;
+
     /**
      * Creates a new Headquarters (HQ) entity with a sand clock animation.
      * @param engine the engine to which the entity will be added
@@ -231,26 +238,31 @@ public class HQFactory {
         RoundAnimationComponent roundAnimation = hq.getComponent(RoundAnimationComponent.class);
         roundAnimation.currentFrameIndex = 0;
 
-        HashMap<TileOffset, Animation<TextureRegion>> tileAnimations = clockAnimationCache.get(
-            RoundAnimationComponent.HQRoundAnimationType.SAND_CLOCK
-        );
-
-        for (var entry : tileAnimations.entrySet()) {
-            TileOffset offset = entry.getKey();
-            Animation<TextureRegion> anim = entry.getValue();
-
-            Object[] rawFrames = anim.getKeyFrames();
-            Array<TextureRegion> frames = new Array<>();
-            for (Object frame : rawFrames) {
-                frames.add((TextureRegion) frame);
+        if (clockFrameCache.isEmpty()) {
+            HashMap<TileOffset, Animation<TextureRegion>> tileAnimations = clockAnimationCache.get(
+                RoundAnimationComponent.HQRoundAnimationType.SAND_CLOCK
+            );
+            for (var entry : tileAnimations.entrySet()) {
+                // The key frames are kept in an Object[], so they cannot be read as TextureRegion[]
+                Object[] keyFrames = entry.getValue().getKeyFrames();
+                Array<TextureRegion> frames = new Array<>(keyFrames.length);
+                for (Object frame : keyFrames) {
+                    frames.add((TextureRegion) frame);
+                }
+                clockFrameCache.put(entry.getKey(), frames);
             }
+        }
+        roundAnimation.frames = clockFrameCache;
 
-            roundAnimation.frames.put(offset, frames);
-
+        if (clockSheet == null) {
             // Layer 0: base frame (static or first frame)
-            TextureRegion baseFrame = frames.first();
-            render.sprites.put(offset, new TextureRegion(baseFrame));
+            HashMap<TileOffset, TextureRegion> baseFrames = new HashMap<>();
+            for (var entry : clockFrameCache.entrySet()) {
+                baseFrames.put(entry.getKey(), entry.getValue().first());
+            }
+            clockSheet = SpriteSheet.of(baseFrames, HQ_TILE_SIZE, HQ_TILE_SIZE);
         }
+        render.sheet = clockSheet;
 
         Gdx.app.debug(
             "HQFactory",
@@ -5,13 +5,14 @@ import com.badlogic.ashley.core.Entity;
 import com.zhaw.frontier.components.map.BottomLayerComponent;
 import com.zhaw.frontier.components.map.DecorationLayerComponent;
 import com.zhaw.frontier.components.map.ResourceLayerComponent;
+import com.zhaw.frontier.components.map.TileOccupancyComponent;
 
 /**
  * A factory class responsible for creating and initializing map entities.
  * <p>
  * This factory provides a method to create a default map entity, which is initialized
  * with the necessary map layer components: {@link BottomLayerComponent}, {@link ResourceLayerComponent},
- * and {@link DecorationLayerComponent}.
+ * and {@link DecorationLayerComponent}, and the {@link TileOccupancyComponent} of the map.
  * </p>
  */
 public class MapFactory {
@@ -23,7 +24,8 @@ public class MapFactory {
      * <ul>
      *   <li>{@link BottomLayerComponent} for the bottom layer of the map,</li>
      *   <li>{@link ResourceLayerComponent} for the resource layer of the map,</li>
-     *   <li>{@link DecorationLayerComponent} for the decoration layer of the map.</li>
+     *   <li>{@link DecorationLayerComponent} for the decoration layer of the map,</li>
+     *   <li>{@link TileOccupancyComponent} for the tiles occupied by buildings.</li>
      * </ul>
      * </p>
      *
@@ -35,6 +37,7 @@ public class MapFactory {
         map.add(new BottomLayerComponent());
         map.add(new ResourceLayerComponent());
         map.add(new DecorationLayerComponent());
+        map.add(new TileOccupancyComponent());
         return map;
     }
 }
@@ -9,6 +9,7 @@ import com.zhaw.frontier.components.map.ResourceTypeEnum;
 import com.zhaw.frontier.configs.AppProperties;
 import com.zhaw.frontier.enums.Team;
 import com.zhaw.frontier.utils.AssetManagerInstance;
+import com.zhaw.frontier.utils.SpriteSheet;
 import com.zhaw.frontier.utils.TileOffset;
 import java.util.*;
 
@@ -34,6 +35,9 @@ public class ResourceBuildingFactory {
         HashMap<TileOffset, TextureRegion>
     > ironResourceBuildingCache = new HashMap<>();
 
+    /** Sprite sheets per resource type, shared by all resource buildings of that type. */
+    private static final Map<Enum<?>, SpriteSheet> sheetCache = new HashMap<>();
+
     public static Entity woodResourceBuilding(Engine engine, float x, float y) {
         initWoodResourceBuilding();
         Entity resourceBuilding = createResourceBuildingWithType(
@@ -48,8 +52,8 @@ public class ResourceBuildingFactory {
             TILE_SIZE,
             TILE_SIZE
         );
-        renderComponent.sprites =
-        new HashMap<>(woodResourceBuildingCache.get(ResourceTypeEnum.RESOURCE_TYPE_WOOD));
+        renderComponent.sheet =
+        getSheet(woodResourceBuildingCache, ResourceTypeEnum.RESOURCE_TYPE_WOOD);
         renderComponent.heightInTiles = 2;
         renderComponent.widthInTiles = 2;
 
@@ -78,8 +82,8 @@ public class ResourceBuildingFactory {
             TILE_SIZE,
             TILE_SIZE
         );
-        renderComponent.sprites =
-        new HashMap<>(stoneResourceBuildingCache.get(ResourceTypeEnum.RESOURCE_TYPE_STONE));
+        renderComponent.sheet =
+        getSheet(stoneResourceBuildingCache, ResourceTypeEnum.RESOURCE_TYPE_STONE);
         renderComponent.heightInTiles = 2;
         renderComponent.widthInTiles = 2;
         CostComponent cost = new CostComponent();
@@ -107,8 +111,8 @@ public class ResourceBuildingFactory {
             TILE_SIZE,
             TILE_SIZE
         );
-        renderComponent.sprites =
-        new HashMap<>(ironResourceBuildingCache.get(ResourceTypeEnum.RESOURCE_TYPE_IRON));
+        renderComponent.sheet =
+        getSheet(ironResourceBuildingCache, ResourceTypeEnum.RESOURCE_TYPE_IRON);
         renderComponent.heightInTiles = 2;
         renderComponent.widthInTiles = 2;
         CostComponent cost = new CostComponent();
@@ -151,6 +155,13 @@ public class ResourceBuildingFactory {
         return resourceBuilding;
     }
 
+    private static SpriteSheet getSheet(
+        Map<Enum<?>, HashMap<TileOffset, TextureRegion>> cache,
+        ResourceTypeEnum type
+    ) {
+        return sheetCache.computeIfAbsent(type, t -> SpriteSheet.of(cache.get(t), 2, 2));
+    }
+
     private static void initWoodResourceBuilding() {
         if (!woodResourceBuildingCache.isEmpty()) return;
 
@@ -69,7 +69,7 @@ public class TowerFactory {
         directionTextures.animationTextures.put(135, atlas.findRegion("Wood_Tower7"));
         directionTextures.animationTextures.put(90, atlas.findRegion("Wood_Tower8"));
         renderComponent.sprites.put(
-            new TileOffset(0, 0),
+            TileOffset.of(0, 0),
             directionTextures.animationTextures.get(0)
         );
 
@@ -87,6 +87,7 @@ public class TowerFactory {
         tower.add(new OccupiesTilesComponent());
         tower.add(new HealthComponent());
         tower.add(new TowerComponent());
+        tower.add(new CurrentTargetComponent());
         tower.add(new TeamComponent(Team.PLAYER));
         tower.add(new BuildingAnimationComponent());
         return tower;
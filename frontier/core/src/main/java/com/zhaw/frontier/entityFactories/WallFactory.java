@@ -9,7 +9,9 @@ import com.zhaw.frontier.components.map.ResourceTypeEnum;
 import com.zhaw.frontier.configs.AppProperties;
 import com.zhaw.frontier.enums.Team;
 import com.zhaw.frontier.utils.AssetManagerInstance;
+import com.zhaw.frontier.utils.SpriteSheet;
 import com.zhaw.frontier.utils.TileOffset;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,14 +40,20 @@ public class WallFactory {
         HashMap<TileOffset, TextureRegion>
     > ironWallPiecesCache = new HashMap<>();
 
+    // Sprite sheets per material, shared by all walls of that material
+    private static final Map<WallPieceComponent.WallPiece, SpriteSheet> woodWallSheetsCache =
+        new EnumMap<>(WallPieceComponent.WallPiece.class);
+    private static final Map<WallPieceComponent.WallPiece, SpriteSheet> stoneWallSheetsCache =
+        new EnumMap<>(WallPieceComponent.WallPiece.class);
+    private static final Map<WallPieceComponent.WallPiece, SpriteSheet> ironWallSheetsCache =
+        new EnumMap<>(WallPieceComponent.WallPiece.class);
+
     public static Entity createWoodWall(Engine engine, float x, float y) {
         initWoodWallPiecesSprites();
         Entity wall = createDefaultWall(engine, x, y);
         wall.add(new EntityTypeComponent(EntityTypeComponent.EntityType.WOOD_WALL));
         RenderComponent render = new RenderComponent(RenderComponent.RenderType.BUILDING, 10, 1, 1);
 
-        render.sprites =
-        new HashMap<>(woodWallPiecesCache.get(WallPieceComponent.WallPiece.SINGLE));
         wall.add(render);
 
         CostComponent cost = new CostComponent();
@@ -54,7 +62,9 @@ public class WallFactory {
 
         WallPieceComponent wallPiece = new WallPieceComponent();
         wallPiece.wallPieceTextures = woodWallPiecesCache;
+        wallPiece.wallPieceSheets = woodWallSheetsCache;
         wallPiece.currentWallPiece = WallPieceComponent.WallPiece.SINGLE;
+        render.sheet = wallPiece.getSheet(WallPieceComponent.WallPiece.SINGLE);
         wall.add(wallPiece);
         return wall;
     }
@@ -65,8 +75,6 @@ public class WallFactory {
         wall.add(new EntityTypeComponent(EntityTypeComponent.EntityType.STONE_WALL));
         RenderComponent render = new RenderComponent(RenderComponent.RenderType.BUILDING, 10, 1, 1);
 
-        render.sprites =
-        new HashMap<>(stoneWallPiecesCache.get(WallPieceComponent.WallPiece.SINGLE));
         wall.add(render);
 
         CostComponent cost = new CostComponent();
@@ -75,7 +83,9 @@ public class WallFactory {
 
         WallPieceComponent wallPiece = new WallPieceComponent();
         wallPiece.wallPieceTextures = stoneWallPiecesCache;
+        wallPiece.wallPieceSheets = stoneWallSheetsCache;
         wallPiece.currentWallPiece = WallPieceComponent.WallPiece.SINGLE;
+        render.sheet = wallPiece.getSheet(WallPieceComponent.WallPiece.SINGLE);
         wall.add(wallPiece);
         return wall;
     }
@@ -86,8 +96,6 @@ public class WallFactory {
         wall.add(new EntityTypeComponent(EntityTypeComponent.EntityType.IRON_WALL));
         RenderComponent render = new RenderComponent(RenderComponent.RenderType.BUILDING, 10, 1, 1);
 
-        render.sprites =
-        new HashMap<>(ironWallPiecesCache.get(WallPieceComponent.WallPiece.SINGLE));
         wall.add(render);
 
         CostComponent cost = new CostComponent();
@@ -96,7 +104,9 @@ public class WallFactory {
 
         WallPieceComponent wallPiece = new WallPieceComponent();
         wallPiece.wallPieceTextures = ironWallPiecesCache;
+        wallPiece.wallPieceSheets = ironWallSheetsCache;
         wallPiece.currentWallPiece = WallPieceComponent.WallPiece.SINGLE;
+        render.sheet = wallPiece.getSheet(WallPieceComponent.WallPiece.SINGLE);
         wall.add(wallPiece);
         return wall;
     }
@@ -9,7 +9,8 @@ public class EntityData {
     public Float x, y;
     public Integer maxHealth;
     public Integer currentHealth;
-    public Float damage, range, speed, cooldown;
+    public Float damage, range, speed;
+    public Long cooldownTicks;
     public HashMap<String, Integer> inventory = new HashMap<>();
     public String resourceType;
     public Integer countOfAdjacentResources;
@@ -11,7 +11,10 @@ import com.badlogic.gdx.utils.JsonWriter;
 import com.zhaw.frontier.components.*;
 import com.zhaw.frontier.components.map.ResourceTypeEnum;
 import com.zhaw.frontier.entityFactories.*;
+import com.zhaw.frontier.systems.GameClockSystem;
+import com.zhaw.frontier.systems.HealthSystem;
 import com.zhaw.frontier.systems.TurnSystem;
+import com.zhaw.frontier.systems.WallAdjacencyChecker;
 import com.zhaw.frontier.systems.building.BuildingPlacer;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +46,7 @@ public class SaveGameManager {
     public void saveGame(String filePath) {
         GameState gameState = new GameState();
         ImmutableArray<Entity> allEntities = engine.getEntitiesFor(Family.all().get());
+        long tick = GameClockSystem.obtain(engine).getTick();
 
         for (Entity entity : allEntities) {
             EntityData data = new EntityData();
@@ -69,13 +73,13 @@ public class SaveGameManager {
                 data.maxHealth = healthComponent.maxHealth;
             }
 
-            // Saves the attack information.
+            // Saves the attack information. The cooldown is saved as the ticks it has left.
             AttackComponent attackComponent = entity.getComponent(AttackComponent.class);
             if (attackComponent != null) {
                 data.damage = attackComponent.damage;
                 data.range = attackComponent.attackRange;
                 data.speed = attackComponent.attackInterval;
-                data.cooldown = attackComponent.attackCooldown;
+                data.cooldownTicks = Math.max(0L, attackComponent.readyAtTick - tick);
             }
 
             // Saves the inventory
@@ -165,6 +169,7 @@ public class SaveGameManager {
 
         TurnSystem.getInstance().setTurnCounter(gameState.metadata.turnCounter);
         TurnSystem.getInstance().setGamePhase(gameState.metadata.gamePhase);
+        GameClockSystem clock = GameClockSystem.obtain(engine);
 
         for (EntityData data : gameState.entities) {
             EntityTypeComponent.EntityType entityType;
@@ -257,6 +262,7 @@ public class SaveGameManager {
                 HealthComponent health = entity.getComponent(HealthComponent.class);
                 if (health != null) {
                     health.currentHealth = data.currentHealth;
+                    HealthSystem.markDamaged(entity, health);
                 }
             }
 
@@ -266,7 +272,9 @@ public class SaveGameManager {
                     if (data.damage != null) attack.damage = data.damage;
                     if (data.range != null) attack.attackRange = data.range;
                     if (data.speed != null) attack.attackInterval = data.speed;
-                    if (data.cooldown != null) attack.attackCooldown = data.cooldown;
+                    if (data.cooldownTicks != null) {
+                        attack.readyAtTick = clock.getTick() + data.cooldownTicks;
+                    }
                 }
             }
 
@@ -295,12 +303,10 @@ public class SaveGameManager {
             }
 
             WallPieceComponent wallPieceType = entity.getComponent(WallPieceComponent.class);
-            RenderComponent renderComponent = entity.getComponent(RenderComponent.class);
 
             if (wallPieceType != null && data.wallPieceType != null) {
                 wallPieceType.currentWallPiece = data.wallPieceType;
-                renderComponent.sprites =
-                wallPieceType.wallPieceTextures.get(wallPieceType.currentWallPiece);
+                WallAdjacencyChecker.applyWallPieceSprites(entity);
             }
             engine.addEntity(entity);
         }
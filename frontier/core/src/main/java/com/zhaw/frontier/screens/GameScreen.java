@@ -16,7 +16,16 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.zhaw.frontier.FrontierGame;
-import com.zhaw.frontier.algorithm.SimpleAStarPathfinder;
+import com.zhaw.frontier.algorithm.FlowFieldPathfinder;
+import com.zhaw.frontier.algorithm.GridAStarPathfinder;
+import com.zhaw.frontier.algorithm.HierarchicalPathfinder;
+import com.zhaw.frontier.algorithm.PathCache;
+import com.zhaw.frontier.algorithm.PathRequestQueue;
+import com.zhaw.frontier.algorithm.PathRequestScheduler;
+import com.zhaw.frontier.algorithm.PathSmoother;
+import com.zhaw.frontier.algorithm.PathWorkerPool;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import com.zhaw.frontier.algorithm.WallCostMap;
 import com.zhaw.frontier.audio.SoundSystem;
 import com.zhaw.frontier.components.EntityTypeComponent;
 import com.zhaw.frontier.components.HQComponent;
@@ -24,6 +33,7 @@ import com.zhaw.frontier.components.InventoryComponent;
 import com.zhaw.frontier.components.NonRemovalObjectComponent;
 import com.zhaw.frontier.components.map.BottomLayerComponent;
 import com.zhaw.frontier.components.map.ResourceTypeEnum;
+import com.zhaw.frontier.configs.AppProperties;
 import com.zhaw.frontier.entityFactories.CursorFactory;
 import com.zhaw.frontier.entityFactories.HQFactory;
 import com.zhaw.frontier.enums.GameMode;
@@ -32,11 +42,10 @@ import com.zhaw.frontier.systems.*;
 import com.zhaw.frontier.systems.behaviour.IdleBehaviourSystem;
 import com.zhaw.frontier.systems.behaviour.PatrolBehaviourSystem;
 import com.zhaw.frontier.systems.building.BuildingManagerSystem;
-import com.zhaw.frontier.systems.movement.BlockingMovementSystem;
+import com.zhaw.frontier.systems.movement.EnemyMovementSystem;
 import com.zhaw.frontier.systems.movement.MovementSystem;
-import com.zhaw.frontier.systems.movement.PathFollowerSystem;
+import com.zhaw.frontier.systems.movement.PathRepairSystem;
 import com.zhaw.frontier.systems.movement.PathfindingSystem;
-import com.zhaw.frontier.systems.movement.SteeringMovementSystem;
 import com.zhaw.frontier.ui.BaseUI;
 import com.zhaw.frontier.ui.BuildingMenuUi;
 import com.zhaw.frontier.ui.ResourceUI;
@@ -48,6 +57,7 @@ import com.zhaw.frontier.wrappers.SpriteBatchInterface;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
 import lombok.Getter;
 
 /**
@@ -67,6 +77,8 @@ public class GameScreen implements Screen, ButtonClickObserver {
     @Getter
     private Engine engine;
 
+    private final SimulationLoop simulationLoop;
+
     private BaseUI baseUI;
     private TurnUI turnUI;
     private CameraControlSystem cameraControlSystem;
@@ -87,6 +99,7 @@ public class GameScreen implements Screen, ButtonClickObserver {
         Gdx.graphics.setCursor(CursorFactory.createDefaultCursor());
         this.renderer = new OrthogonalTiledMapRenderer(null, spriteBatchWrapper.getBatch());
         this.engine = new Engine();
+        this.simulationLoop = new SimulationLoop(engine);
 
         this.gameWorldView = new ExtendViewport(16, 9);
         this.gameWorldView.getCamera().position.set(8, 4.5f, 0);
@@ -119,20 +132,40 @@ public class GameScreen implements Screen, ButtonClickObserver {
             sampleLayer.getTileHeight()
         );
 
+        WalkabilityGrid walkabilityGrid = WalkabilityGrid.fromLayers(
+            MapLoader.getInstance().getAllWalkableLayers()
+        );
+        WallCostMap wallCostMap = new WallCostMap(walkabilityGrid, engine);
+
+        // Clusters of large maps are precomputed once the map is loaded
+        HierarchicalPathfinder hierarchicalPathfinder = null;
+        if (
+            walkabilityGrid.getWidth() * walkabilityGrid.getHeight() >=
+            AppProperties.HIERARCHICAL_PATHFINDING_MIN_TILES
+        ) {
+            hierarchicalPathfinder =
+            new HierarchicalPathfinder(
+                walkabilityGrid,
+                AppProperties.HIERARCHICAL_PATHFINDING_CLUSTER_SIZE
+            );
+        }
+
+        // The clock is kept when the game is resumed, so that running cooldowns stay valid
+        GameClockSystem.obtain(engine);
+        engine.addSystem(new SpatialHashSystem());
+        engine.addSystem(new TileOccupancySystem());
         engine.addSystem(new IdleBehaviourSystem());
         engine.addSystem(new PatrolBehaviourSystem());
         engine.addSystem(new EnemyAttackSystem());
         engine.addSystem(new EnemyAttackAnimationSystem());
         engine.addSystem(new HealthSystem());
         engine.addSystem(new DeathSystem());
-        engine.addSystem(new BlockingMovementSystem());
         var rangeVisual = new RangeVisualSystem(sampleLayer);
         engine.addSystem(rangeVisual);
 
         Gdx.app.debug("[DEBUG] - GameScreen", "Initializing Movement System.");
-        engine.addSystem(new PathFollowerSystem());
-        engine.addSystem(new SteeringMovementSystem());
-        engine.addSystem(new MovementSystem());
+        engine.addSystem(new EnemyMovementSystem(wallCostMap));
+        engine.addSystem(new MovementSystem(false));
         engine.addSystem(new AnimationSystem());
         Gdx.app.debug("[DEBUG] - GameScreen", "Animation System initialized.");
 
@@ -145,11 +178,10 @@ public class GameScreen implements Screen, ButtonClickObserver {
         Gdx.app.debug("[DEBUG] - GameScreen", "Lost condition system initialized.");
 
         engine.addSystem(new StateDirectionalTextureSystem());
-        engine.addSystem(new ProjectileCollisionSystem());
+        engine.addSystem(new ProjectileSystem());
 
         engine.addSystem(new SoundSystem());
         engine.addSystem(new TowerTargetingSystem());
-        engine.addSystem(new CooldownSystem());
         engine.addSystem(new EnemyTurnMonitorSystem());
         engine.addSystem(new BuildingManagerSystem(sampleLayer, gameWorldView, engine));
 
@@ -176,6 +208,7 @@ public class GameScreen implements Screen, ButtonClickObserver {
         buildingMenuUi.addObserver(this);
         buildingMenuUi.addObserver(baseUI);
         turnUI = new TurnUI(stage);
+        turnUI.setSpeed(simulationLoop.getSpeed());
 
         Gdx.app.debug("GameScreen", "Initializing Render System.");
         // setup render system
@@ -186,12 +219,41 @@ public class GameScreen implements Screen, ButtonClickObserver {
 
         ErrorSystem.init(stage, skin);
 
-        SimpleAStarPathfinder pathfinder = new SimpleAStarPathfinder(
-            MapLoader.getInstance().getAllWalkableLayers(),
-            engine
+        GridAStarPathfinder pathfinder = new GridAStarPathfinder(
+            walkabilityGrid,
+            AppProperties.DIAGONAL_PATHFINDING
+        );
+        FlowFieldPathfinder flowFieldPathfinder = new FlowFieldPathfinder(walkabilityGrid, engine);
+        PathCache pathCache = new PathCache(walkabilityGrid, AppProperties.PATH_CACHE_CAPACITY);
+        PathRequestScheduler pathRequestScheduler = null;
+        if (hierarchicalPathfinder == null && AppProperties.ASYNC_PATHFINDING) {
+            // Virtual threads are scheduled on one carrier thread per core
+            pathRequestScheduler =
+            new PathWorkerPool(
+                walkabilityGrid,
+                Executors.newVirtualThreadPerTaskExecutor(),
+                AppProperties.DIAGONAL_PATHFINDING
+            );
+        } else if (hierarchicalPathfinder == null) {
+            pathRequestScheduler =
+            new PathRequestQueue(
+                new GridAStarPathfinder(walkabilityGrid, AppProperties.DIAGONAL_PATHFINDING),
+                AppProperties.PATHFINDING_FRAME_BUDGET_MS
+            );
+        }
+        // Hierarchical searches are cheap enough to run on the render thread
+        PathfindingSystem pathfindingSystem = new PathfindingSystem(
+            hierarchicalPathfinder != null ? hierarchicalPathfinder : pathfinder,
+            flowFieldPathfinder,
+            wallCostMap,
+            pathCache,
+            pathRequestScheduler,
+            AppProperties.PATH_SMOOTHING ? new PathSmoother(walkabilityGrid) : null
         );
-        PathfindingSystem pathfindingSystem = new PathfindingSystem(pathfinder);
         engine.addSystem(pathfindingSystem);
+        engine.addSystem(
+            new PathRepairSystem(pathfinder, walkabilityGrid, flowFieldPathfinder, wallCostMap)
+        );
 
         Gdx.app.debug("[DEBUG] - GameScreen", "Initializing Enemy Spawn Manager.");
         EnemySpawnSystem.create(engine);
@@ -223,7 +285,7 @@ public class GameScreen implements Screen, ButtonClickObserver {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
         handleInput();
-        engine.update(delta);
+        simulationLoop.update(delta);
         updateUI();
         baseUI.render(delta);
     }
@@ -238,6 +300,10 @@ public class GameScreen implements Screen, ButtonClickObserver {
             baseUI.dispose();
             frontierGame.switchScreenWithoutDispose(new PauseScreen(frontierGame, this));
         }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.TAB)) {
+            simulationLoop.cycleSpeed();
+            turnUI.setSpeed(simulationLoop.getSpeed());
+        }
         // ***********************************
         // Simulate resource production -> Temporary for testing
         if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
@@ -280,6 +346,7 @@ public class GameScreen implements Screen, ButtonClickObserver {
         engine.removeAllEntities();
 
         removeSystems();
+        MapLoader.getInstance().disposeMapChunkCache();
 
         stage.dispose();
         baseUI.dispose();
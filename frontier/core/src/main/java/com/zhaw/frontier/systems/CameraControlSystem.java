@@ -24,7 +24,7 @@ import lombok.Getter;
  * be controlled through ECS components.
  * </p>
  */
-public class CameraControlSystem extends IteratingSystem {
+public class CameraControlSystem extends IteratingSystem implements FrameSystem {
 
     private final Viewport viewport;
     private final Engine engine;
@@ -1,10 +1,10 @@
 package com.zhaw.frontier.systems;
 
 import com.badlogic.ashley.core.*;
-import com.badlogic.ashley.systems.IteratingSystem;
 import com.zhaw.frontier.components.*;
 import com.zhaw.frontier.components.BuildingAnimationComponent.BuildingAnimationType;
 import com.zhaw.frontier.components.EnemyAnimationComponent.EnemyAnimationType;
+import com.zhaw.frontier.utils.EntityHandle;
 import com.zhaw.frontier.utils.GameStats;
 import com.zhaw.frontier.utils.QueueAnimation;
 
@@ -14,14 +14,19 @@ import com.zhaw.frontier.utils.QueueAnimation;
  * When an entity dies, this system:
  * <ul>
  *   <li>Plays the appropriate death animation (enemy or building)</li>
- *   <li>Counts down a removal timer</li>
+ *   <li>Schedules its removal on the {@link GameClockSystem}, after
+ *       {@link DeathComponent#timeUntilRemoval} of game time</li>
  *   <li>Removes the entity from the engine once the timer expires</li>
  * </ul>
+ * The system listens for entities gaining a {@link DeathComponent} instead of visiting the dying
+ * entities every frame, and the removal waits while the game is paused.
  *
  * <p>Death animations are pushed to the {@link AnimationQueueComponent} and must
  * be configured separately via {@link EnemyAnimationComponent} or {@link BuildingAnimationComponent}.</p>
  */
-public class DeathSystem extends IteratingSystem {
+public class DeathSystem extends EntitySystem implements EntityListener {
+
+    private final Family family = Family.all(DeathComponent.class).get();
 
     private final ComponentMapper<DeathComponent> dm = ComponentMapper.getFor(DeathComponent.class);
     private final ComponentMapper<AnimationQueueComponent> aqm = ComponentMapper.getFor(
@@ -33,38 +38,73 @@ public class DeathSystem extends IteratingSystem {
     private final ComponentMapper<BuildingAnimationComponent> buildingAnimM =
         ComponentMapper.getFor(BuildingAnimationComponent.class);
 
+    private Engine engine;
+    private GameClockSystem clock;
+
     /**
-     * Constructs the {@code DeathSystem} to process all entities with {@link DeathComponent}.
+     * Called when the system is added to the engine. Handles the entities that are already dying
+     * and listens for new ones.
+     *
+     * @param engine the Ashley engine instance
      */
-    public DeathSystem() {
-        super(Family.all(DeathComponent.class).get());
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.engine = engine;
+        EntityHandle.track(engine);
+        clock = GameClockSystem.obtain(engine);
+        for (Entity entity : engine.getEntitiesFor(family)) {
+            entityAdded(entity);
+        }
+        engine.addEntityListener(family, this);
     }
 
     /**
-     * Processes a single entity each frame.
-     * If the death animation hasn't played, it triggers it.
-     * Then it decrements the removal timer and removes the entity once the timer reaches zero.
+     * Called when the system is removed from the engine. Removals that are already scheduled
+     * still take place.
      *
-     * @param entity    the entity to process
-     * @param deltaTime time since last frame in seconds
+     * @param engine the Ashley engine instance
      */
     @Override
-    protected void processEntity(Entity entity, float deltaTime) {
-        DeathComponent death = dm.get(entity);
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+    }
 
+    /**
+     * Plays the death animation of an entity that just died and schedules its removal.
+     *
+     * @param entity the dying entity
+     */
+    @Override
+    public void entityAdded(Entity entity) {
+        DeathComponent death = dm.get(entity);
         if (!death.animationPlayed) {
             playDeathAnimation(entity);
             death.animationPlayed = true;
         }
+        if (death.removalScheduled) return;
+        death.removalScheduled = true;
 
-        death.timeUntilRemoval -= deltaTime;
-        if (death.timeUntilRemoval <= 0) {
-            if (entity.getComponent(EnemyComponent.class) != null) {
-                GameStats.getInstance().addKill();
-            }
+        EntityHandle handle = new EntityHandle();
+        handle.set(entity);
+        clock.schedule(() -> remove(handle), clock.ticksFor(death.timeUntilRemoval * 1000f));
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {}
+
+    /**
+     * Removes a dead entity from the engine, unless it has already been removed otherwise.
+     *
+     * @param handle the dead entity
+     */
+    private void remove(EntityHandle handle) {
+        Entity entity = handle.get();
+        if (entity == null) return;
 
-            getEngine().removeEntity(entity);
+        if (entity.getComponent(EnemyComponent.class) != null) {
+            GameStats.getInstance().addKill();
         }
+        engine.removeEntity(entity);
     }
 
     /**
@@ -2,13 +2,17 @@ package com.zhaw.frontier.systems;
 
 import com.badlogic.ashley.core.ComponentMapper;
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.zhaw.frontier.components.*;
-import com.zhaw.frontier.utils.TileOffset;
-import java.util.HashMap;
 import java.util.Objects;
 
+/**
+ * Advances the default animations of entities without queued animations.
+ * <p>
+ * Enemies play the walk animation in the direction they are looking, buildings all their active
+ * animations. Only the animation types and state times are updated; the frames are looked up when
+ * the entities are drawn, so entities outside the view cost no more than adding up their time.
+ * </p>
+ */
 public class DefaultAnimationManager {
 
     private final ComponentMapper<EnemyAnimationComponent> enemyAnimM = ComponentMapper.getFor(
@@ -43,32 +47,14 @@ public class DefaultAnimationManager {
     }
 
     private void processEnemy(Entity entity, float deltaTime) {
-        int BASE_SPRITE_LAYER = 0;
         if (!enemyAnimM.has(entity) || !velocityM.has(entity)) return;
 
         EnemyAnimationComponent anim = enemyAnimM.get(entity);
-        RenderComponent render = entity.getComponent(RenderComponent.class);
 
         handleEnemyDirection(entity);
 
+        // The frame is looked up from the state time when the enemy is drawn
         anim.stateTime += deltaTime;
-
-        if (anim != null && anim.currentAnimation != null) {
-            Animation<TextureRegion> animation = anim.animations.get(anim.currentAnimation);
-            if (animation != null) {
-                int currentFrameIndex = animation.getKeyFrameIndex(anim.stateTime);
-
-                if (currentFrameIndex != anim.lastFrameIndex) {
-                    TextureRegion frame = animation.getKeyFrame(anim.stateTime);
-
-                    render.sprites.forEach((offset, region) -> {
-                        region.setRegion(frame);
-                    });
-
-                    anim.lastFrameIndex = currentFrameIndex;
-                }
-            }
-        }
     }
 
     private void handleEnemyDirection(Entity entity) {
@@ -95,7 +81,6 @@ public class DefaultAnimationManager {
         if (anim.currentAnimation != newAnim) {
             anim.currentAnimation = newAnim;
             anim.stateTime = 0f;
-            anim.lastFrameIndex = -1; // ← Reset bei Animationswechsel
         }
     }
 
@@ -103,22 +88,9 @@ public class DefaultAnimationManager {
         if (!buildingAnimM.has(entity)) return;
 
         BuildingAnimationComponent anim = buildingAnimM.get(entity);
-        for (var type : anim.activeAnimations) {
-            anim.stateTimes.merge(type, deltaTime, Float::sum);
-        }
-
-        RenderComponent render = rm.get(entity);
-
-        for (BuildingAnimationComponent.BuildingAnimationType type : anim.activeAnimations) {
-            HashMap<TileOffset, Animation<TextureRegion>> animationMap = anim.animations.get(type);
-            if (animationMap != null) {
-                Animation<TextureRegion> animation = animationMap.get(new TileOffset(0, 0));
-                if (animation != null) {
-                    render.sprites.forEach((offset, region) -> {
-                        region.setRegion(animation.getKeyFrame(anim.stateTimes.get(type)));
-                    });
-                }
-            }
+        BuildingAnimationComponent.BuildingAnimationType[] types = BuildingAnimationComponent.TYPES;
+        for (int i = 0; i < types.length; i++) {
+            if (anim.activeAnimations.contains(types[i])) anim.stateTimes[i] += deltaTime;
         }
     }
 }
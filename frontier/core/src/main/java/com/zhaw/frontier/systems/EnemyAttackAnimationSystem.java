@@ -6,8 +6,8 @@ import com.badlogic.gdx.math.Vector2;
 import com.zhaw.frontier.components.*;
 import com.zhaw.frontier.components.EnemyAnimationComponent.EnemyAnimationType;
 import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.utils.EntityHandle;
 import com.zhaw.frontier.utils.QueueAnimation;
-import java.util.List;
 
 /**
  * A system that triggers and manages enemy attack animations based on combat conditions.
@@ -19,7 +19,9 @@ import java.util.List;
  *     <li>Is not moving</li>
  * </ul>
  * <p>
- * If any of those conditions are not met, it clears the current attack animation.
+ * If any of those conditions are not met, it clears the current attack animation. Only enemies
+ * that have just attacked, i.e. whose attack is cooling down on the {@link GameClockSystem}, are
+ * processed.
  * Animations are enqueued through {@link AnimationQueueComponent} using {@link QueueAnimation}.
  * </p>
  */
@@ -34,9 +36,6 @@ public class EnemyAttackAnimationSystem extends IteratingSystem {
     private final ComponentMapper<AnimationQueueComponent> aqm = ComponentMapper.getFor(
         AnimationQueueComponent.class
     );
-    private final ComponentMapper<CooldownComponent> cm = ComponentMapper.getFor(
-        CooldownComponent.class
-    );
     private final ComponentMapper<AttackComponent> am = ComponentMapper.getFor(
         AttackComponent.class
     );
@@ -47,22 +46,32 @@ public class EnemyAttackAnimationSystem extends IteratingSystem {
         HealthComponent.class
     );
 
+    private GameClockSystem clock;
+
     /**
-     * Constructs a system that updates all entities with position, attack, animation queue, and cooldown.
+     * Constructs a system that updates all entities with position, attack and animation queue
+     * while their attack is cooling down.
      */
     public EnemyAttackAnimationSystem() {
         super(
             Family
-                .all(
-                    PositionComponent.class,
-                    AttackComponent.class,
-                    AnimationQueueComponent.class,
-                    CooldownComponent.class
-                )
+                .all(PositionComponent.class, AttackComponent.class, AnimationQueueComponent.class)
                 .get()
         );
     }
 
+    /**
+     * Called when the system is added to the engine. Tracks the targets of the attackers.
+     *
+     * @param engine the Ashley engine instance
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        super.addedToEngine(engine);
+        EntityHandle.track(engine);
+        clock = GameClockSystem.obtain(engine);
+    }
+
     /**
      * Processes a single enemy entity per frame.
      * If the entity has a valid target in range and is not moving, an attack animation is played.
@@ -74,13 +83,10 @@ public class EnemyAttackAnimationSystem extends IteratingSystem {
     @Override
     protected void processEntity(Entity attacker, float deltaTime) {
         if (!pm.has(attacker) || !am.has(attacker)) return;
+        if (clock.isReady(am.get(attacker))) return; // Only attackers that just attacked
 
         PathfindingBehaviourComponent path = pfm.get(attacker);
-        Entity target = (path != null &&
-                path.targetEntity != null &&
-                !path.targetEntity.isScheduledForRemoval())
-            ? path.targetEntity
-            : null;
+        Entity target = path != null ? path.getTargetEntity() : null;
 
         if (target == null || !pm.has(target) || !hm.has(target) || hm.get(target).isDead) {
             clearAttackAnimationIfPresent(attacker);
@@ -122,17 +128,9 @@ public class EnemyAttackAnimationSystem extends IteratingSystem {
         if (target == null || !pm.has(target)) return attackerPos.cpy();
 
         if (target.getComponent(OccupiesTilesComponent.class) != null) {
-            List<Vector2> tiles = target.getComponent(OccupiesTilesComponent.class).occupiedTiles;
-            float minDist = Float.MAX_VALUE;
-            Vector2 closest = null;
-
-            for (Vector2 tile : tiles) {
-                float dist = attackerPos.dst2(tile); // squared distance for performance
-                if (dist < minDist) {
-                    minDist = dist;
-                    closest = tile;
-                }
-            }
+            Vector2 closest = target
+                .getComponent(OccupiesTilesComponent.class)
+                .getClosestTile(attackerPos, new Vector2());
 
             return closest != null ? closest : pm.get(target).basePosition.cpy();
         } else {
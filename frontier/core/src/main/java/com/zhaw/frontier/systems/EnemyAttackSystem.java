@@ -3,9 +3,10 @@ package com.zhaw.frontier.systems;
 import com.badlogic.ashley.core.*;
 import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.zhaw.frontier.components.*;
 import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
-import java.util.List;
+import com.zhaw.frontier.utils.EntityHandle;
 
 /**
  * System that enables AI-controlled entities (enemies) to attack hostile targets.
@@ -23,13 +24,14 @@ import java.util.List;
  * <p>Attack priorities:</p>
  * <ol>
  *   <li>If the entity has a {@link PathfindingBehaviourComponent} with a valid targetEntity, that is used.</li>
- *   <li>Otherwise, the system searches for the nearest valid target within range.</li>
+ *   <li>Otherwise, the system searches for a valid target within range in the shared
+ *   {@link com.zhaw.frontier.algorithm.SpatialHash}.</li>
  * </ol>
  *
  * <p>When an attack occurs:</p>
  * <ul>
  *   <li>Target's health is reduced by the attacker's damage</li>
- *   <li>The attacker enters a cooldown state via {@link CooldownComponent}</li>
+ *   <li>The attacker enters a cooldown on the {@link GameClockSystem}</li>
  *   <li>If the target dies, pathfinding is reset</li>
  * </ul>
  */
@@ -51,24 +53,30 @@ public class EnemyAttackSystem extends EntitySystem {
     private final ComponentMapper<VelocityComponent> vm = ComponentMapper.getFor(
         VelocityComponent.class
     );
-    private final ComponentMapper<CooldownComponent> cm = ComponentMapper.getFor(
-        CooldownComponent.class
-    );
     private final ComponentMapper<OccupiesTilesComponent> otm = ComponentMapper.getFor(
         OccupiesTilesComponent.class
     );
 
+    private final Family potentialTargetFamily = Family
+        .all(PositionComponent.class, TeamComponent.class, HealthComponent.class)
+        .exclude(DeathComponent.class)
+        .get();
+    private final Array<Entity> potentialTargets = new Array<>(false, 8);
+    private final Vector2 closestTile = new Vector2();
+
     private ImmutableArray<Entity> attackers;
-    private ImmutableArray<Entity> potentialTargets;
+    private SpatialHashSystem spatialHashSystem;
+    private GameClockSystem clock;
 
     /**
      * Called when the system is added to the engine.
-     * Filters attacker and target entities.
+     * Filters attacker and target entities and tracks the targets of the attackers.
      *
      * @param engine the Ashley engine instance
      */
     @Override
     public void addedToEngine(Engine engine) {
+        EntityHandle.track(engine);
         attackers =
         engine.getEntitiesFor(
             Family
@@ -82,13 +90,8 @@ public class EnemyAttackSystem extends EntitySystem {
                 .get()
         );
 
-        potentialTargets =
-        engine.getEntitiesFor(
-            Family
-                .all(PositionComponent.class, TeamComponent.class, HealthComponent.class)
-                .exclude(DeathComponent.class)
-                .get()
-        );
+        spatialHashSystem = SpatialHashSystem.obtain(engine);
+        clock = GameClockSystem.obtain(engine);
     }
 
     /**
@@ -101,9 +104,9 @@ public class EnemyAttackSystem extends EntitySystem {
     @Override
     public void update(float deltaTime) {
         for (Entity attacker : attackers) {
-            if (cm.has(attacker)) continue; // Skip if in cooldown
-
             AttackComponent attack = am.get(attacker);
+            if (!clock.isReady(attack)) continue; // Skip if in cooldown
+
             PositionComponent pos = pm.get(attacker);
             PathfindingBehaviourComponent path = pfm.get(attacker);
 
@@ -112,12 +115,8 @@ public class EnemyAttackSystem extends EntitySystem {
             float closestDistance = Float.MAX_VALUE;
 
             // Priority 1: current pathfinding target
-            if (
-                path != null &&
-                path.targetEntity != null &&
-                !path.targetEntity.isScheduledForRemoval()
-            ) {
-                Entity potential = path.targetEntity;
+            Entity potential = path != null ? path.getTargetEntity() : null;
+            if (potential != null) {
                 if (
                     attacker != potential &&
                     isHostile(attacker, potential) &&
@@ -134,12 +133,17 @@ public class EnemyAttackSystem extends EntitySystem {
 
             // Priority 2: any nearby hostile target
             if (target == null) {
-                for (Entity possible : potentialTargets) {
-                    if (attacker == possible || !isHostile(attacker, possible)) continue;
-                    if (!pm.has(possible)) continue;
-
-                    float distance = pos.basePosition.dst(pm.get(possible).basePosition);
-                    if (distance <= attack.attackRange) {
+                spatialHashSystem
+                    .getSpatialHash()
+                    .withinRadius(
+                        attackerPos,
+                        attack.attackRange,
+                        potentialTargetFamily,
+                        potentialTargets
+                    );
+                for (int i = 0; i < potentialTargets.size; i++) {
+                    Entity possible = potentialTargets.get(i);
+                    if (attacker != possible && isHostile(attacker, possible)) {
                         target = possible;
                         break;
                     }
@@ -159,17 +163,14 @@ public class EnemyAttackSystem extends EntitySystem {
 
                 // Deal damage
                 HealthComponent health = hm.get(target);
-                health.currentHealth -= attack.damage;
+                HealthSystem.applyDamage(target, health, (int) attack.damage);
 
                 // Apply attack cooldown
-                CooldownComponent cooldown = new CooldownComponent();
-                cooldown.start = System.currentTimeMillis();
-                cooldown.duration = (long) attack.attackInterval;
-                attacker.add(cooldown);
+                clock.startCooldown(attack);
 
                 // Handle target death
                 if (health.currentHealth <= 0) {
-                    if (path != null && target == path.targetEntity) {
+                    if (path != null && target == path.getTargetEntity()) {
                         path.clearTargetEntity();
                         path.resetPath();
                     } else if (path != null) {
@@ -181,27 +182,13 @@ public class EnemyAttackSystem extends EntitySystem {
     }
 
     private boolean isTargetInRange(Vector2 attackerPos, Entity target, float attackRange) {
-        if (otm.has(target)) {
-            List<Vector2> tiles = otm.get(target).occupiedTiles;
-            for (Vector2 tile : tiles) {
-                if (attackerPos.dst(tile) <= attackRange) return true;
-            }
-            return false;
-        } else {
-            Vector2 targetPos = pm.get(target).basePosition;
-            return attackerPos.dst(targetPos) <= attackRange;
-        }
+        return getDistanceToTarget(attackerPos, target) <= attackRange;
     }
 
     private float getDistanceToTarget(Vector2 attackerPos, Entity target) {
         if (otm.has(target)) {
-            List<Vector2> tiles = otm.get(target).occupiedTiles;
-            float minDist = Float.MAX_VALUE;
-            for (Vector2 tile : tiles) {
-                float dist = attackerPos.dst(tile);
-                if (dist < minDist) minDist = dist;
-            }
-            return minDist;
+            Vector2 tile = otm.get(target).getClosestTile(attackerPos, closestTile);
+            return tile != null ? attackerPos.dst(tile) : Float.MAX_VALUE;
         } else {
             return attackerPos.dst(pm.get(target).basePosition);
         }
@@ -0,0 +1,11 @@
+package com.zhaw.frontier.systems;
+
+/**
+ * Marks a system that runs once per rendered frame with the real frame time, such as rendering
+ * and camera control, instead of once per simulation tick.
+ * <p>
+ * The {@link SimulationLoop} only updates these systems after all ticks of a frame ran, so they
+ * see the final state of the frame and draw it only once, no matter how many ticks ran.
+ * </p>
+ */
+public interface FrameSystem {}
@@ -0,0 +1,136 @@
+package com.zhaw.frontier.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.TimerWheel;
+import com.zhaw.frontier.components.AttackComponent;
+import com.zhaw.frontier.configs.AppProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Counts the simulation ticks of an engine and runs game-time timers.
+ * <p>
+ * The clock advances by {@link AppProperties#SIMULATION_TICKS_PER_SECOND} ticks per second of
+ * game time. Driven by a {@link SimulationLoop}, every update is one tick of
+ * {@link #TICK_DURATION}. The clock only advances while the engine is updated, so everything
+ * timed by it stops while the game is paused and runs faster at a higher game speed, unlike
+ * timers on the wall clock.
+ * </p>
+ * <p>
+ * Cooldowns are not components: an attacker keeps the tick at which it may attack again in
+ * {@link AttackComponent#readyAtTick}, which systems compare with the current tick through
+ * {@link #isReady(AttackComponent)} and {@link #startCooldown(AttackComponent)}. Starting and
+ * ending a cooldown therefore does not change the families of the attacker. Other delayed actions,
+ * such as the removal of dead entities by the {@link DeathSystem}, are scheduled with
+ * {@link #schedule(Runnable, long)} on a {@link TimerWheel}.
+ * </p>
+ * <p>
+ * Systems using the clock find it with {@link #obtain(Engine)}, which adds it to the engine if it
+ * is missing.
+ * </p>
+ */
+public class GameClockSystem extends EntitySystem {
+
+    /** The game time of one tick, in seconds. */
+    public static final float TICK_DURATION = 1f / AppProperties.SIMULATION_TICKS_PER_SECOND;
+
+    private final TimerWheel<Runnable> timers = new TimerWheel<>();
+    private final Array<Runnable> expired = new Array<>(false, 16);
+    private float accumulator;
+
+    /** The number of ticks that have passed since the clock was created. */
+    @Getter
+    private long tick;
+
+    /**
+     * How far the rendered frame lies between the previous tick (0) and the current tick (1).
+     * Set by the {@link SimulationLoop}; frames are rendered at the current tick without it.
+     */
+    @Getter
+    @Setter
+    private float interpolation = 1f;
+
+    /**
+     * Creates the clock, which advances before all other systems.
+     */
+    public GameClockSystem() {
+        super(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the clock of the given engine, adding one if the engine has none yet.
+     *
+     * @param engine the Ashley engine instance
+     * @return the clock of the engine
+     */
+    public static GameClockSystem obtain(Engine engine) {
+        GameClockSystem system = engine.getSystem(GameClockSystem.class);
+        if (system == null) {
+            system = new GameClockSystem();
+            engine.addSystem(system);
+        }
+        return system;
+    }
+
+    /**
+     * Advances the clock by the elapsed game time and runs the timers that expired.
+     *
+     * @param deltaTime the time elapsed since the last frame (in seconds)
+     */
+    @Override
+    public void update(float deltaTime) {
+        accumulator += deltaTime;
+        while (accumulator >= TICK_DURATION) {
+            accumulator -= TICK_DURATION;
+            tick++;
+        }
+
+        timers.advance(tick, expired);
+        for (int i = 0; i < expired.size; i++) {
+            expired.get(i).run();
+        }
+        expired.clear();
+    }
+
+    /**
+     * Converts a duration into ticks, rounding up so that a duration never ends early.
+     *
+     * @param milliseconds the duration in milliseconds of game time
+     * @return the number of ticks
+     */
+    public long ticksFor(float milliseconds) {
+        return (long) Math.ceil(milliseconds * AppProperties.SIMULATION_TICKS_PER_SECOND / 1000f);
+    }
+
+    /**
+     * Checks whether an attacker may attack.
+     *
+     * @param attack the attack of the attacker
+     * @return true if its cooldown is over
+     */
+    public boolean isReady(AttackComponent attack) {
+        return tick >= attack.readyAtTick;
+    }
+
+    /**
+     * Starts the cooldown of an attacker that just attacked, lasting its attack interval.
+     *
+     * @param attack the attack of the attacker
+     */
+    public void startCooldown(AttackComponent attack) {
+        attack.readyAtTick = tick + ticksFor(attack.attackInterval);
+    }
+
+    /**
+     * Runs an action after the given number of ticks. The action runs on the thread updating the
+     * engine, before the other systems of that frame.
+     *
+     * @param action the action to run
+     * @param ticks  the delay in ticks; actions with no delay run with the next tick
+     */
+    public void schedule(Runnable action, long ticks) {
+        timers.schedule(action, tick + ticks);
+    }
+}
@@ -1,105 +1,167 @@
 package com.zhaw.frontier.systems;
 
+import com.badlogic.ashley.core.ComponentMapper;
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.zhaw.frontier.components.DamagedComponent;
 import com.zhaw.frontier.components.HealthComponent;
 import com.zhaw.frontier.components.PositionComponent;
 import com.zhaw.frontier.components.RenderComponent;
-import com.zhaw.frontier.mappers.MapLayerMapper;
 
 /**
- * Handles the creation and rendering of health bars for entities with health.
- * This class draws colored bars above entities, representing their current health status.
+ * Draws the health bars of damaged entities as an overlay above all entities.
+ * <p>
+ * Only entities marked with a {@link DamagedComponent} are considered, so entities at full health
+ * cost nothing. Every bar is one quad of a shared white pixel, tinted through the vertex colour
+ * from a precomputed colour ramp. All bars are drawn in one pass after the entities, so the batch
+ * does not switch textures between them and draws them with a single draw call, and nothing is
+ * allocated while drawing.
+ * </p>
  */
 public class HealthBarManager {
 
-    private static MapLayerMapper mapLayerMapper = new MapLayerMapper();
-    private static final Sprite HEALTH_BAR_SPRITE = createHealthBarSprite();
+    private static final Family FAMILY = Family
+        .all(
+            DamagedComponent.class,
+            HealthComponent.class,
+            PositionComponent.class,
+            RenderComponent.class
+        )
+        .get();
+
+    private static final float BAR_HEIGHT = 3f;
+    private static final float BAR_GAP = 2f;
+
+    // Packed colours per percent of health
+    private static final float[] COLOR_RAMP = createColorRamp();
+
+    private final ComponentMapper<HealthComponent> hm = ComponentMapper.getFor(
+        HealthComponent.class
+    );
+    private final ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(
+        PositionComponent.class
+    );
+    private final ComponentMapper<RenderComponent> rm = ComponentMapper.getFor(
+        RenderComponent.class
+    );
+
+    private final Vector2 drawn = new Vector2();
+    private ImmutableArray<Entity> damaged;
+    private TextureRegion whitePixel;
 
     /**
-     * Initializes the health bar sprite as a 1x1 white pixel, which will be resized and tinted dynamically.
+     * Starts following the damaged entities of an engine.
      *
-     * @return a reusable {@link Sprite} representing the health bar.
+     * @param engine the Ashley engine instance
      */
-    private static Sprite createHealthBarSprite() {
-        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pixmap.setColor(Color.WHITE);
-        pixmap.fill();
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-
-        Sprite bar = new Sprite(texture);
-        bar.setSize(1, 1);
-        bar.setOrigin(0, 0);
-        bar.setScale(1, 1);
-        bar.setColor(Color.WHITE);
-        bar.setAlpha(1f);
-        return bar;
+    public void addedToEngine(Engine engine) {
+        damaged = engine.getEntitiesFor(FAMILY);
     }
 
     /**
-     * Draws the health bar for a single entity if it has health and render data.
-     *
-     * @param renderer the {@link SpriteBatch} used for drawing.
-     * @param entity   the {@link Entity} to draw a health bar for.
+     * Frees the texture the bars are drawn with, e.g. when the render system is removed from the
+     * engine. It is created again by the next {@link #draw}.
      */
-    public static void drawHealthBar(SpriteBatch renderer, Entity entity, Engine engine) {
-        renderHealthBar(renderer, entity, engine);
+    public void dispose() {
+        if (whitePixel == null) return;
+        whitePixel.getTexture().dispose();
+        whitePixel = null;
     }
 
     /**
-     * Renders the health bar above the entity based on its current health.
-     * If the entity is fully healed or dead, no bar is drawn.
+     * Draws the health bars of all damaged entities within the view bounds. Must be called
+     * between {@code begin} and {@code end} of the batch.
      *
-     * @param renderer the {@link SpriteBatch} for rendering.
-     * @param entity   the entity to render a health bar for.
+     * @param batch         the {@link SpriteBatch} used for drawing
+     * @param viewBounds    the part of the map seen by the camera, in pixels
+     * @param interpolation how far the frame lies between the last two ticks, for moving units
+     * @param tileWidth     the width of a tile in pixels
+     * @param tileHeight    the height of a tile in pixels
      */
-    private static void renderHealthBar(SpriteBatch renderer, Entity entity, Engine engine) {
-        HealthComponent health = entity.getComponent(HealthComponent.class);
-        PositionComponent position = entity.getComponent(PositionComponent.class);
-        RenderComponent render = entity.getComponent(RenderComponent.class);
-
-        if (health == null || position == null || render == null) return;
-
-        Sprite healthBar = new Sprite(HEALTH_BAR_SPRITE);
-
-        float hpPercent = MathUtils.clamp((float) health.currentHealth / health.maxHealth, 0f, 1f);
-        if (hpPercent >= 1f || hpPercent <= 0f) return;
-
-        Color barColor = getHealthColor(hpPercent);
-        healthBar.setColor(barColor);
-
-        int tileSize = 16;
-
-        float barWidth = render.widthInTiles * hpPercent * tileSize;
-        float barHeight = 3f;
-        float offsetY = render.heightInTiles * tileSize + 2f;
-
-        if (render.renderType == RenderComponent.RenderType.BUILDING) {
-            Vector2 pixelCoordinate = calculatePixelCoordinate(
-                (int) position.basePosition.x,
-                (int) position.basePosition.y,
-                engine
-            );
-            healthBar.setPosition(pixelCoordinate.x, pixelCoordinate.y + offsetY);
-        } else {
-            healthBar.setPosition(
-                position.basePosition.x * tileSize,
-                position.basePosition.y * tileSize + offsetY
+    public void draw(
+        SpriteBatch batch,
+        Rectangle viewBounds,
+        float interpolation,
+        int tileWidth,
+        int tileHeight
+    ) {
+        if (damaged == null || damaged.size() == 0) return;
+        TextureRegion pixel = getWhitePixel();
+        float batchColor = batch.getPackedColor();
+
+        for (int i = 0; i < damaged.size(); i++) {
+            Entity entity = damaged.get(i);
+            HealthComponent health = hm.get(entity);
+
+            float hpPercent = MathUtils.clamp(
+                (float) health.currentHealth / health.maxHealth,
+                0f,
+                1f
             );
+            if (hpPercent >= 1f || hpPercent <= 0f) continue;
+
+            PositionComponent position = pm.get(entity);
+            RenderComponent render = rm.get(entity);
+            float x;
+            float y;
+            if (render.renderType == RenderComponent.RenderType.BUILDING) {
+                x = (int) position.basePosition.x * tileWidth;
+                y = (int) position.basePosition.y * tileHeight;
+            } else {
+                position.getRenderPosition(interpolation, drawn);
+                x = drawn.x * tileWidth;
+                y = drawn.y * tileHeight;
+            }
+            y += render.heightInTiles * tileHeight + BAR_GAP;
+
+            float barWidth = render.widthInTiles * hpPercent * tileWidth;
+            if (
+                x + barWidth < viewBounds.x ||
+                x > viewBounds.x + viewBounds.width ||
+                y + BAR_HEIGHT < viewBounds.y ||
+                y > viewBounds.y + viewBounds.height
+            ) {
+                continue;
+            }
+
+            batch.setPackedColor(COLOR_RAMP[(int) (hpPercent * 100)]);
+            batch.draw(pixel, x, y, barWidth, BAR_HEIGHT);
         }
 
-        healthBar.setSize(barWidth, barHeight);
-        healthBar.draw(renderer);
+        batch.setPackedColor(batchColor);
+    }
 
-        renderer.setColor(Color.WHITE); // Reset batch color
+    /**
+     * Returns the 1x1 white pixel the bars are drawn with, created on first use.
+     */
+    private TextureRegion getWhitePixel() {
+        if (whitePixel == null) {
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(Color.WHITE);
+            pixmap.fill();
+            whitePixel = new TextureRegion(new Texture(pixmap));
+            pixmap.dispose();
+        }
+        return whitePixel;
+    }
+
+    private static float[] createColorRamp() {
+        float[] ramp = new float[101];
+        Color color = new Color();
+        for (int percent = 0; percent <= 100; percent++) {
+            ramp[percent] = getHealthColor(percent / 100f, color).toFloatBits();
+        }
+        return ramp;
     }
 
     /**
@@ -107,11 +169,10 @@ public class HealthBarManager {
      * Green for high HP, orange in the middle, red for low HP.
      *
      * @param healthPercent a float from 0 (dead) to 1 (full health)
+     * @param healthColor   receives the color
      * @return the {@link Color} to use for the bar
      */
-    private static Color getHealthColor(float healthPercent) {
-        Color healthColor = new Color();
-
+    private static Color getHealthColor(float healthPercent, Color healthColor) {
         if (healthPercent >= 0.7f) {
             // 70%–99%: Green
             healthColor.set(0f, 1f, 0f, 1f);
@@ -133,18 +194,4 @@ public class HealthBarManager {
 
         return healthColor;
     }
-
-    /**
-     * Converts tile coordinates to pixel coordinates using the tile size of the map.
-     *
-     * @param x the tile x-coordinate.
-     * @param y the tile y-coordinate.
-     * @return a {@link Vector2} representing the pixel position on screen.
-     */
-    private static Vector2 calculatePixelCoordinate(int x, int y, Engine engine) {
-        Entity map = engine.getEntitiesFor(mapLayerMapper.mapLayerFamily).first();
-        int tileX = x * mapLayerMapper.bottomLayerMapper.get(map).bottomLayer.getTileWidth();
-        int tileY = y * mapLayerMapper.bottomLayerMapper.get(map).bottomLayer.getTileHeight();
-        return new Vector2(tileX, tileY);
-    }
 }
@@ -5,6 +5,7 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IntervalIteratingSystem;
 import com.badlogic.gdx.Gdx;
+import com.zhaw.frontier.components.DamagedComponent;
 import com.zhaw.frontier.components.DeathComponent;
 import com.zhaw.frontier.components.HealthComponent;
 
@@ -22,6 +23,34 @@ public class HealthSystem extends IntervalIteratingSystem {
         Gdx.app.debug("HealthSystem", "initialized");
     }
 
+    /**
+     * Deals damage to an entity and marks it as damaged, so that its health bar is drawn.
+     *
+     * @param target the entity taking the damage
+     * @param health the health of the entity
+     * @param damage the amount of health to subtract
+     */
+    public static void applyDamage(Entity target, HealthComponent health, int damage) {
+        health.currentHealth -= damage;
+        markDamaged(target, health);
+    }
+
+    /**
+     * Marks an entity as damaged if its health is below its maximum, for example after loading
+     * a saved game.
+     *
+     * @param target the entity
+     * @param health the health of the entity
+     */
+    public static void markDamaged(Entity target, HealthComponent health) {
+        if (
+            health.currentHealth < health.maxHealth &&
+            target.getComponent(DamagedComponent.class) == null
+        ) {
+            target.add(new DamagedComponent());
+        }
+    }
+
     @Override
     protected void processEntity(Entity entity) {
         var entityHealth = hm.get(entity);
@@ -0,0 +1,195 @@
+package com.zhaw.frontier.systems;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+import java.util.Arrays;
+
+/**
+ * Keeps the static tile layers of the map as prebuilt geometry, split into square chunks.
+ * <p>
+ * Every chunk holds one {@link SpriteCache} with one cache per layer, so drawing a chunk only
+ * submits its prebuilt vertices instead of looking up and batching each cell again. Only the
+ * chunks intersecting the view bounds of the camera are drawn, so the cost of drawing the map
+ * depends on the size of the view, not on the size of the map.
+ * </p>
+ * <p>
+ * Each chunk is built once, the first time it is drawn, so creating the cache needs no graphics
+ * context and chunks that never come into view cost nothing. Code that changes a cell of a layer
+ * calls {@link #invalidate(int, int)}, after which only the chunk of that cell is rebuilt before
+ * it is drawn the next time.
+ * </p>
+ * <p>
+ * The layers are drawn one after another and the chunks of a layer from the top right to the
+ * bottom left. Within a chunk, the cells are drawn in the same order in which they used to be
+ * drawn one by one, so tiles larger than a cell overlap their neighbours as before. Across chunk
+ * borders the order is not kept: a chunk is drawn completely before the one below it, so where
+ * two tiles larger than a cell overlap each other across such a border, they may be drawn in the
+ * opposite order than before.
+ * </p>
+ */
+public class MapChunkCache implements Disposable {
+
+    private final TiledMapTileLayer[] layers;
+    private final int chunkSize;
+    private final int tileWidth;
+    private final int tileHeight;
+    private final int widthInTiles;
+    private final int heightInTiles;
+    private final int chunksX;
+    private final int chunksY;
+
+    // Per chunk, indexed by x + y * chunksX
+    private final SpriteCache[] caches;
+    private final int[] capacities;
+    private final int[][] cacheIds;
+    private final boolean[] dirty;
+
+    // Cells may hold tiles larger than a cell, which reach into the view from outside
+    private final int overhangX;
+    private final int overhangY;
+
+    /**
+     * Creates the chunks of the given layers. The layers must have the same size and tile size.
+     *
+     * @param chunkSize the width and height of a chunk, in tiles
+     * @param layers    the layers, from back to front
+     */
+    public MapChunkCache(int chunkSize, TiledMapTileLayer... layers) {
+        this.layers = layers;
+        this.chunkSize = chunkSize;
+        this.tileWidth = layers[0].getTileWidth();
+        this.tileHeight = layers[0].getTileHeight();
+        this.widthInTiles = layers[0].getWidth();
+        this.heightInTiles = layers[0].getHeight();
+        this.chunksX = (widthInTiles + chunkSize - 1) / chunkSize;
+        this.chunksY = (heightInTiles + chunkSize - 1) / chunkSize;
+
+        caches = new SpriteCache[chunksX * chunksY];
+        capacities = new int[chunksX * chunksY];
+        cacheIds = new int[chunksX * chunksY][layers.length];
+        dirty = new boolean[chunksX * chunksY];
+        Arrays.fill(dirty, true);
+
+        int maxWidth = tileWidth;
+        int maxHeight = tileHeight;
+        for (TiledMapTileLayer layer : layers) {
+            for (int i = 0; i < widthInTiles; i++) {
+                for (int j = 0; j < heightInTiles; j++) {
+                    TiledMapTileLayer.Cell cell = layer.getCell(i, j);
+                    if (cell == null) continue;
+                    TextureRegion region = cell.getTile().getTextureRegion();
+                    maxWidth = Math.max(maxWidth, region.getRegionWidth());
+                    maxHeight = Math.max(maxHeight, region.getRegionHeight());
+                }
+            }
+        }
+        overhangX = maxWidth - tileWidth;
+        overhangY = maxHeight - tileHeight;
+    }
+
+    /**
+     * Marks the chunk of a cell to be rebuilt, after a cell of one of the layers was changed.
+     *
+     * @param tileX the x coordinate of the changed cell
+     * @param tileY the y coordinate of the changed cell
+     */
+    public void invalidate(int tileX, int tileY) {
+        if (tileX < 0 || tileY < 0 || tileX >= widthInTiles || tileY >= heightInTiles) return;
+        dirty[tileX / chunkSize + (tileY / chunkSize) * chunksX] = true;
+    }
+
+    /**
+     * Draws the chunks within the view bounds. Must not be called between {@code begin} and
+     * {@code end} of a batch.
+     *
+     * @param projection the combined matrix of the camera
+     * @param viewBounds the part of the map seen by the camera, in pixels
+     */
+    public void draw(Matrix4 projection, Rectangle viewBounds) {
+        int chunkWidth = chunkSize * tileWidth;
+        int chunkHeight = chunkSize * tileHeight;
+        int fromX = Math.max(0, MathUtils.floor((viewBounds.x - overhangX) / chunkWidth));
+        int fromY = Math.max(0, MathUtils.floor((viewBounds.y - overhangY) / chunkHeight));
+        float right = viewBounds.x + viewBounds.width;
+        float top = viewBounds.y + viewBounds.height;
+        int toX = Math.min(chunksX - 1, MathUtils.floor(right / chunkWidth));
+        int toY = Math.min(chunksY - 1, MathUtils.floor(top / chunkHeight));
+
+        for (int layer = 0; layer < layers.length; layer++) {
+            for (int x = toX; x >= fromX; x--) {
+                for (int y = toY; y >= fromY; y--) {
+                    int chunk = x + y * chunksX;
+                    if (dirty[chunk]) build(chunk);
+
+                    SpriteCache cache = caches[chunk];
+                    cache.setProjectionMatrix(projection);
+                    cache.begin();
+                    cache.draw(cacheIds[chunk][layer]);
+                    cache.end();
+                }
+            }
+        }
+    }
+
+    /**
+     * Frees the geometry of all chunks.
+     */
+    @Override
+    public void dispose() {
+        for (SpriteCache cache : caches) {
+            if (cache != null) cache.dispose();
+        }
+    }
+
+    /**
+     * Builds the geometry of one chunk, growing its sprite cache if the cells no longer fit.
+     */
+    private void build(int chunk) {
+        int startX = (chunk % chunksX) * chunkSize;
+        int startY = (chunk / chunksX) * chunkSize;
+        int endX = Math.min(startX + chunkSize, widthInTiles);
+        int endY = Math.min(startY + chunkSize, heightInTiles);
+
+        int count = 0;
+        for (TiledMapTileLayer layer : layers) {
+            for (int i = startX; i < endX; i++) {
+                for (int j = startY; j < endY; j++) {
+                    if (layer.getCell(i, j) != null) count++;
+                }
+            }
+        }
+        if (caches[chunk] == null || capacities[chunk] < count) {
+            if (caches[chunk] != null) caches[chunk].dispose();
+            capacities[chunk] = Math.max(1, count);
+            caches[chunk] = new SpriteCache(capacities[chunk], true);
+        }
+
+        SpriteCache cache = caches[chunk];
+        cache.clear();
+        for (int layer = 0; layer < layers.length; layer++) {
+            cache.beginCache();
+            for (int i = endX - 1; i >= startX; i--) {
+                for (int j = endY - 1; j >= startY; j--) {
+                    TiledMapTileLayer.Cell cell = layers[layer].getCell(i, j);
+                    if (cell == null) continue;
+
+                    TextureRegion region = cell.getTile().getTextureRegion();
+                    cache.add(
+                        region,
+                        i * tileWidth,
+                        j * tileHeight,
+                        region.getRegionWidth(),
+                        region.getRegionHeight()
+                    );
+                }
+            }
+            cacheIds[chunk][layer] = cache.endCache();
+        }
+        dirty[chunk] = false;
+    }
+}
@@ -10,6 +10,8 @@ import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.zhaw.frontier.components.map.BottomLayerComponent;
 import com.zhaw.frontier.components.map.DecorationLayerComponent;
 import com.zhaw.frontier.components.map.ResourceLayerComponent;
+import com.zhaw.frontier.components.map.TileOccupancyComponent;
+import com.zhaw.frontier.configs.AppProperties;
 import com.zhaw.frontier.entityFactories.MapFactory;
 import com.zhaw.frontier.exceptions.MapLoadingException;
 import java.nio.file.Path;
@@ -38,6 +40,10 @@ public class MapLoader {
     @Getter
     private Entity mapEntity;
 
+    /** The prebuilt geometry of the static map layers, drawn by the {@link RenderSystem}. */
+    @Getter
+    private MapChunkCache mapChunkCache;
+
     /**
      * Constructs a new {@code MapLoader}. This constructor is private to enforce
      * the singleton pattern.
@@ -91,7 +97,7 @@ public class MapLoader {
      * map entity using the {@link MapFactory}. It then assigns the bottom,
      * decoration, and resource layers
      * to the corresponding components of the map entity before adding it to the
-     * engine.
+     * engine. Finally, the layers are compiled into a {@link MapChunkCache}.
      * </p>
      *
      * @param engine the {@link Engine} that manages entities.
@@ -106,8 +112,19 @@ public class MapLoader {
         (TiledMapTileLayer) map.getLayers().get(1);
         mapEntity.getComponent(ResourceLayerComponent.class).resourceLayer =
         (TiledMapTileLayer) map.getLayers().get(2);
+        TiledMapTileLayer bottomLayer = (TiledMapTileLayer) map.getLayers().get(0);
+        mapEntity
+            .getComponent(TileOccupancyComponent.class)
+            .resize(bottomLayer.getWidth(), bottomLayer.getHeight());
 
         engine.addEntity(mapEntity);
+
+        if (mapChunkCache != null) mapChunkCache.dispose();
+        mapChunkCache =
+        new MapChunkCache(
+            AppProperties.MAP_CHUNK_SIZE,
+            getAllWalkableLayers().toArray(new TiledMapTileLayer[0])
+        );
         Gdx.app.debug(
             "MapLoader",
             "Layer " +
@@ -140,6 +157,16 @@ public class MapLoader {
         );
     }
 
+    /**
+     * Frees the prebuilt geometry of the map layers, e.g. when the game screen is disposed.
+     * It is built again by the next {@link #initMapLayerEntities(Engine)}.
+     */
+    public void disposeMapChunkCache() {
+        if (mapChunkCache == null) return;
+        mapChunkCache.dispose();
+        mapChunkCache = null;
+    }
+
     public List<TiledMapTileLayer> getAllWalkableLayers() {
         List<TiledMapTileLayer> layers = new ArrayList<>();
 
@@ -0,0 +1,199 @@
+package com.zhaw.frontier.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.ProjectileBuffer;
+import com.zhaw.frontier.algorithm.SpatialHash;
+import com.zhaw.frontier.components.CircleCollisionComponent;
+import com.zhaw.frontier.components.HealthComponent;
+import com.zhaw.frontier.components.PositionComponent;
+import com.zhaw.frontier.configs.AppProperties;
+import com.zhaw.frontier.entityFactories.ArrowFactory;
+import lombok.Getter;
+
+/**
+ * Moves, collides and draws all projectiles in flight.
+ * <p>
+ * Projectiles are not entities but entries of a {@link ProjectileBuffer}, so firing one does not
+ * touch the engine. Every update moves each projectile and checks the segment it travelled
+ * against the colliders near it, which are looked up in the shared {@link SpatialHash}. The
+ * first collider along the segment is hit, so a fast projectile cannot pass through a collider
+ * between two frames. Projectiles that hit nothing are removed when their lifetime runs out.
+ * </p>
+ * <p>
+ * The {@link RenderSystem} draws all projectiles in one pass with {@link #draw(SpriteBatch)}.
+ * Systems that fire projectiles find this system with {@link #obtain(Engine)}.
+ * </p>
+ */
+public class ProjectileSystem extends EntitySystem {
+
+    private final Family collisionFamily = Family
+        .all(CircleCollisionComponent.class, PositionComponent.class, HealthComponent.class)
+        .get();
+    private final ComponentMapper<PositionComponent> positionComponentMapper =
+        ComponentMapper.getFor(PositionComponent.class);
+    private final ComponentMapper<CircleCollisionComponent> collisionComponentMapper =
+        ComponentMapper.getFor(CircleCollisionComponent.class);
+    private final ComponentMapper<HealthComponent> healthComponentMapper = ComponentMapper.getFor(
+        HealthComponent.class
+    );
+
+    @Getter
+    private final ProjectileBuffer projectiles = new ProjectileBuffer(
+        AppProperties.MAX_PROJECTILES
+    );
+
+    private final Array<Entity> collisionObjects = new Array<>(false, 8);
+    private final Vector2 sweepStart = new Vector2();
+    private final Vector2 sweepEnd = new Vector2();
+    private final Vector2 sweepCenter = new Vector2();
+    private final Vector2 colliderCenter = new Vector2();
+    private SpatialHashSystem spatialHashSystem;
+    private GameClockSystem clock;
+    private TextureRegion arrowRegion;
+
+    public ProjectileSystem() {
+        Gdx.app.debug("ProjectileSystem", "initialized");
+    }
+
+    /**
+     * Returns the projectile system of the given engine, adding one if the engine has none yet.
+     *
+     * @param engine the Ashley engine instance
+     * @return the projectile system of the engine
+     */
+    public static ProjectileSystem obtain(Engine engine) {
+        ProjectileSystem system = engine.getSystem(ProjectileSystem.class);
+        if (system == null) {
+            system = new ProjectileSystem();
+            engine.addSystem(system);
+        }
+        return system;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        spatialHashSystem = SpatialHashSystem.obtain(engine);
+        clock = GameClockSystem.obtain(engine);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        projectiles.clear();
+    }
+
+    /**
+     * Moves all projectiles and applies the damage of those that hit a collider.
+     *
+     * @param deltaTime the time since the last frame, in seconds
+     */
+    @Override
+    public void update(float deltaTime) {
+        SpatialHash spatialHash = spatialHashSystem.getSpatialHash();
+        float[] x = projectiles.x;
+        float[] y = projectiles.y;
+        float[] lifetime = projectiles.lifetime;
+
+        int i = 0;
+        while (i < projectiles.size()) {
+            sweepStart.set(x[i], y[i]);
+            x[i] += projectiles.velocityX[i] * deltaTime;
+            y[i] += projectiles.velocityY[i] * deltaTime;
+            sweepEnd.set(x[i], y[i]);
+
+            Entity hit = findFirstHit(spatialHash, sweepStart, sweepEnd);
+            if (hit != null) {
+                HealthSystem.applyDamage(
+                    hit,
+                    healthComponentMapper.get(hit),
+                    projectiles.damage[i]
+                );
+                projectiles.remove(i);
+                continue;
+            }
+
+            lifetime[i] -= deltaTime;
+            if (lifetime[i] <= 0) {
+                projectiles.remove(i);
+                continue;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Draws all projectiles. Must be called between {@code begin} and {@code end} of the batch.
+     * Projectiles fly in straight lines, so they are drawn between their positions of the last
+     * two ticks by moving them back along their velocity.
+     *
+     * @param batch the batch to draw with, in pixel coordinates
+     */
+    public void draw(SpriteBatch batch) {
+        if (projectiles.size() == 0) return;
+        if (arrowRegion == null) arrowRegion = ArrowFactory.getArrowRegion();
+
+        int width = arrowRegion.getRegionWidth();
+        int height = arrowRegion.getRegionHeight();
+        float lag = (1 - clock.getInterpolation()) * GameClockSystem.TICK_DURATION;
+        for (int i = 0; i < projectiles.size(); i++) {
+            float x = projectiles.x[i] - projectiles.velocityX[i] * lag;
+            float y = projectiles.y[i] - projectiles.velocityY[i] * lag;
+            batch.draw(
+                arrowRegion,
+                x * AppProperties.TILE_SIZE,
+                y * AppProperties.TILE_SIZE,
+                8,
+                8,
+                width,
+                height,
+                1,
+                1,
+                projectiles.rotation[i]
+            );
+        }
+    }
+
+    /**
+     * Finds the collider that the segment from start to end enters first.
+     */
+    private Entity findFirstHit(SpatialHash spatialHash, Vector2 start, Vector2 end) {
+        sweepCenter.set(start).add(end).scl(0.5f);
+        float reach = start.dst(end) / 2 + AppProperties.MAX_COLLISION_RADIUS;
+        spatialHash.withinRadius(sweepCenter, reach, collisionFamily, collisionObjects);
+
+        Entity firstHit = null;
+        float firstDistance = Float.MAX_VALUE;
+        for (int i = 0; i < collisionObjects.size; i++) {
+            var enemyEntity = collisionObjects.get(i);
+            var enemyPosition = positionComponentMapper.get(enemyEntity).basePosition;
+            Circle enemyCollider = collisionComponentMapper.get(enemyEntity).collisionObject;
+            enemyCollider.setPosition(enemyPosition);
+            colliderCenter.set(enemyCollider.x, enemyCollider.y);
+
+            float radius2 = enemyCollider.radius * enemyCollider.radius;
+            boolean intersects = start.epsilonEquals(end)
+                ? enemyCollider.contains(end)
+                : Intersector.intersectSegmentCircle(start, end, colliderCenter, radius2);
+            if (!intersects) continue;
+
+            // Colliders closer to the start of the segment are entered first
+            float distance = start.dst2(colliderCenter);
+            if (distance < firstDistance) {
+                firstDistance = distance;
+                firstHit = enemyEntity;
+            }
+        }
+        collisionObjects.clear();
+        return firstHit;
+    }
+}
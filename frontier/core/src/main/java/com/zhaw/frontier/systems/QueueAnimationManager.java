@@ -2,12 +2,8 @@ package com.zhaw.frontier.systems;
 
 import com.badlogic.ashley.core.ComponentMapper;
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.zhaw.frontier.components.*;
 import com.zhaw.frontier.utils.QueueAnimation;
-import com.zhaw.frontier.utils.TileOffset;
-import java.util.HashMap;
 
 /**
  * Handles conditional (one-shot or time-based) animations for entities.
@@ -20,6 +16,10 @@ import java.util.HashMap;
  * When a queued animation ends (based on duration), the system restores the idle state
  * (for enemies) or removes the animation from the active set (for buildings).
  * </p>
+ * <p>
+ * Like the {@link DefaultAnimationManager}, it only changes animation types and state times; the
+ * frames are looked up when the entities are drawn.
+ * </p>
  */
 public class QueueAnimationManager {
 
@@ -60,13 +60,9 @@ public class QueueAnimationManager {
             if (anim.currentAnimation != newAnim) {
                 anim.currentAnimation = newAnim;
                 anim.stateTime = 0f;
-                // set frame change
-                anim.lastFrameIndex = -1;
             } else {
                 anim.stateTime += deltaTime;
             }
-
-            renderEnemySprite(entity);
         }
 
         if (buildingAnimM.has(entity)) {
@@ -75,9 +71,7 @@ public class QueueAnimationManager {
                 (BuildingAnimationComponent.BuildingAnimationType) current.animationType;
 
             anim.activeAnimations.add(type);
-            anim.stateTimes.merge(type, deltaTime, Float::sum);
-
-            renderBuildingSprite(entity);
+            anim.stateTimes[type.ordinal()] += deltaTime;
         }
 
         handleFinishedConditionalAnimation(entity, current, queue);
@@ -127,8 +121,6 @@ public class QueueAnimationManager {
                     }
 
                     anim.stateTime = 0f;
-                    anim.lastFrameIndex = -1;
-                    renderEnemySprite(entity);
                 }
             }
 
@@ -137,67 +129,7 @@ public class QueueAnimationManager {
 
                 // Remove finished animation
                 anim.activeAnimations.remove(current.animationType);
-                anim.stateTimes.remove(current.animationType);
-                renderBuildingSprite(entity);
-            }
-        }
-    }
-
-    /**
-     * Updates the sprite of an enemy based on its current animation state and frame.
-     *
-     * @param entity the enemy entity to render
-     */
-    private void renderEnemySprite(Entity entity) {
-        RenderComponent render = entity.getComponent(RenderComponent.class);
-        EnemyAnimationComponent anim = enemyAnimM.get(entity);
-
-        if (anim != null && anim.currentAnimation != null) {
-            Animation<TextureRegion> animation = anim.animations.get(anim.currentAnimation);
-            if (animation != null) {
-                int currentFrameIndex = animation.getKeyFrameIndex(anim.stateTime);
-
-                if (currentFrameIndex != anim.lastFrameIndex) {
-                    TextureRegion frame = animation.getKeyFrame(anim.stateTime);
-
-                    render.sprites.forEach((offset, region) -> {
-                        region.setRegion(frame);
-                    });
-                    anim.lastFrameIndex = currentFrameIndex;
-                }
-            }
-        }
-    }
-
-    /**
-     * Updates the sprite of a building based on all currently active animations.
-     *
-     * @param entity the building entity to render
-     */
-    private void renderBuildingSprite(Entity entity) {
-        RenderComponent render = entity.getComponent(RenderComponent.class);
-        BuildingAnimationComponent anim = buildingAnimM.get(entity);
-
-        if (anim != null) {
-            for (BuildingAnimationComponent.BuildingAnimationType type : anim.activeAnimations) {
-                HashMap<TileOffset, Animation<TextureRegion>> animationMap = anim.animations.get(
-                    type
-                );
-
-                if (animationMap != null) {
-                    Animation<TextureRegion> animation = animationMap.get(new TileOffset(0, 0));
-                    if (animation != null) {
-                        int currentFrameIndex = animation.getKeyFrameIndex(
-                            anim.stateTimes.get(type)
-                        );
-                        TextureRegion frame = animation.getKeyFrame(anim.stateTimes.get(type));
-
-                        render.sprites.forEach((offset, region) -> {
-                            region.setRegion(frame);
-                        });
-                        // optional add last frame for buildings
-                    }
-                }
+                anim.stateTimes[current.animationType.ordinal()] = 0f;
             }
         }
     }
@@ -0,0 +1,238 @@
+package com.zhaw.frontier.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.components.PositionComponent;
+import com.zhaw.frontier.components.RangeComponent;
+import com.zhaw.frontier.components.RenderComponent;
+
+/**
+ * Keeps the rendered entities in drawing order and culls them to the view of the camera.
+ * <p>
+ * The queue holds every entity with a {@link PositionComponent} and a {@link RenderComponent}.
+ * It is kept up to date by listening to the engine, so it is not rebuilt while entities are only
+ * moving. Every frame, {@link #update(Rectangle, float, int, int)} computes the pixel position and
+ * one float sort key per entity: entities further down on the map are drawn later, entities on
+ * the same row by their {@link RenderComponent#zIndex}. The queue is then sorted by insertion
+ * sort, which is linear when the order has barely changed since the last frame and keeps entities
+ * with equal keys in their previous order, so they do not flicker.
+ * </p>
+ * <p>
+ * Entities whose sprites, range and health bar lie entirely outside the view bounds are skipped;
+ * the visible entities are read back in drawing order with {@link #get(int)}.
+ * </p>
+ */
+public class RenderQueue implements EntityListener {
+
+    private static final Family FAMILY = Family
+        .all(PositionComponent.class, RenderComponent.class)
+        .get();
+
+    // The share of a row a step of the z-index moves the key, so it only orders entities on a row
+    private static final float Z_INDEX_WEIGHT = 1f / 1024f;
+
+    private final ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(
+        PositionComponent.class
+    );
+    private final ComponentMapper<RenderComponent> rm = ComponentMapper.getFor(
+        RenderComponent.class
+    );
+    private final ComponentMapper<RangeComponent> rangeMapper = ComponentMapper.getFor(
+        RangeComponent.class
+    );
+
+    private final Array<Entity> entities = new Array<>(true, 64, Entity.class);
+    private final Vector2 renderPosition = new Vector2();
+
+    // Per entity in the order of the queue, valid after an update
+    private float[] keys = new float[64];
+    private float[] pixelX = new float[64];
+    private float[] pixelY = new float[64];
+
+    private int[] visible = new int[64];
+    private int visibleCount;
+
+    /**
+     * Fills the queue with the rendered entities of an engine and keeps it up to date.
+     *
+     * @param engine the Ashley engine instance
+     */
+    public void addedToEngine(Engine engine) {
+        entities.clear();
+        visibleCount = 0;
+        ImmutableArray<Entity> existing = engine.getEntitiesFor(FAMILY);
+        for (Entity entity : existing) {
+            entities.add(entity);
+        }
+        engine.addEntityListener(FAMILY, this);
+    }
+
+    /**
+     * Stops following the entities of an engine.
+     *
+     * @param engine the Ashley engine instance
+     */
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+        entities.clear();
+        visibleCount = 0;
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        // Placed at its row by the next sort
+        entities.add(entity);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        entities.removeValue(entity, true);
+        visibleCount = 0;
+    }
+
+    /**
+     * Computes the positions and keys of all entities, sorts the queue and collects the entities
+     * within the view bounds.
+     *
+     * @param viewBounds    the part of the map seen by the camera, in pixels
+     * @param interpolation how far the frame lies between the last two ticks, for moving units
+     * @param tileWidth     the width of a tile in pixels
+     * @param tileHeight    the height of a tile in pixels
+     */
+    public void update(Rectangle viewBounds, float interpolation, int tileWidth, int tileHeight) {
+        int size = entities.size;
+        if (keys.length < size) {
+            int capacity = Math.max(size, keys.length * 2);
+            keys = new float[capacity];
+            pixelX = new float[capacity];
+            pixelY = new float[capacity];
+            visible = new int[capacity];
+        }
+
+        Entity[] items = entities.items;
+        for (int i = 0; i < size; i++) {
+            PositionComponent pos = pm.get(items[i]);
+            RenderComponent render = rm.get(items[i]);
+            if (
+                render.renderType == RenderComponent.RenderType.BUILDING ||
+                render.renderType == RenderComponent.RenderType.TOWER
+            ) {
+                pixelX[i] = (int) pos.basePosition.x * tileWidth;
+                pixelY[i] = (int) pos.basePosition.y * tileHeight;
+            } else {
+                // Units are drawn between their positions of the last two ticks
+                pos.getRenderPosition(interpolation, renderPosition);
+                pixelX[i] = renderPosition.x * tileWidth;
+                pixelY[i] = renderPosition.y * tileHeight;
+            }
+            keys[i] = -pixelY[i] / tileHeight + render.zIndex * Z_INDEX_WEIGHT;
+        }
+
+        sort(items, size);
+
+        visibleCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (isVisible(items[i], i, viewBounds, tileWidth, tileHeight)) {
+                visible[visibleCount++] = i;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entities to draw this frame.
+     *
+     * @return the number of visible entities
+     */
+    public int size() {
+        return visibleCount;
+    }
+
+    /**
+     * Returns a visible entity.
+     *
+     * @param index the position in drawing order, below {@link #size()}
+     * @return the entity
+     */
+    public Entity get(int index) {
+        return entities.items[visible[index]];
+    }
+
+    /**
+     * Returns the x coordinate at which a visible entity is drawn.
+     *
+     * @param index the position in drawing order, below {@link #size()}
+     * @return the x coordinate of its lower left tile, in pixels
+     */
+    public float getPixelX(int index) {
+        return pixelX[visible[index]];
+    }
+
+    /**
+     * Returns the y coordinate at which a visible entity is drawn.
+     *
+     * @param index the position in drawing order, below {@link #size()}
+     * @return the y coordinate of its lower left tile, in pixels
+     */
+    public float getPixelY(int index) {
+        return pixelY[visible[index]];
+    }
+
+    private void sort(Entity[] items, int size) {
+        for (int i = 1; i < size; i++) {
+            float key = keys[i];
+            if (keys[i - 1] <= key) continue;
+
+            Entity entity = items[i];
+            float x = pixelX[i];
+            float y = pixelY[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                items[j + 1] = items[j];
+                keys[j + 1] = keys[j];
+                pixelX[j + 1] = pixelX[j];
+                pixelY[j + 1] = pixelY[j];
+                j--;
+            }
+            items[j + 1] = entity;
+            keys[j + 1] = key;
+            pixelX[j + 1] = x;
+            pixelY[j + 1] = y;
+        }
+    }
+
+    private boolean isVisible(
+        Entity entity,
+        int i,
+        Rectangle viewBounds,
+        int tileWidth,
+        int tileHeight
+    ) {
+        RenderComponent render = rm.get(entity);
+        // One tile around the entity covers sprites larger than a tile and the health bar
+        float marginX = tileWidth;
+        float marginY = tileHeight;
+        RangeComponent range = rangeMapper.get(entity);
+        if (range != null) {
+            marginX = Math.max(marginX, range.range / 2);
+            marginY = Math.max(marginY, range.range / 2);
+        }
+
+        float left = pixelX[i] - marginX;
+        float bottom = pixelY[i] - marginY;
+        float right = pixelX[i] + render.widthInTiles * tileWidth + marginX;
+        float top = pixelY[i] + render.heightInTiles * tileHeight + marginY;
+        return (
+            right >= viewBounds.x &&
+            left <= viewBounds.x + viewBounds.width &&
+            top >= viewBounds.y &&
+            bottom <= viewBounds.y + viewBounds.height
+        );
+    }
+}
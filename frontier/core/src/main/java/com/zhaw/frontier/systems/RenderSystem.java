@@ -4,8 +4,6 @@ import com.badlogic.ashley.core.ComponentMapper;
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.EntitySystem;
-import com.badlogic.ashley.core.Family;
-import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -14,51 +12,54 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.zhaw.frontier.components.*;
-import com.zhaw.frontier.components.map.BottomLayerComponent;
-import com.zhaw.frontier.components.map.DecorationLayerComponent;
-import com.zhaw.frontier.components.map.ResourceLayerComponent;
 import com.zhaw.frontier.mappers.MapLayerMapper;
-import com.zhaw.frontier.utils.MapLayerRenderEntry;
-import com.zhaw.frontier.utils.TileOffset;
-import com.zhaw.frontier.utils.WorldCoordinateUtils;
-import java.util.*;
 
 /**
  * System responsible for rendering the map and game entities.
  * <p>
  * This system renders the tiled map layers (bottom, decoration, and resource
  * layers)
- * using an {@link OrthogonalTiledMapRenderer} and draws game entities
+ * from the {@link MapChunkCache} built by the {@link MapLoader}, culled to the view
+ * bounds of the {@link OrthogonalTiledMapRenderer}, and draws game entities
  * (currently buildings)
  * with a {@link SpriteBatch}. Building entities are rendered based on their
  * {@link PositionComponent}
  * and {@link RenderComponent} data.
  * </p>
+ * <p>
+ * Entities are drawn in the order of a {@link RenderQueue}, which skips entities outside the
+ * view bounds and sorts the others from the top of the map to the bottom. The health bars of
+ * damaged entities are drawn afterwards by the {@link HealthBarManager}.
+ * </p>
  */
-public class RenderSystem extends EntitySystem {
+public class RenderSystem extends EntitySystem implements FrameSystem {
 
     private final Viewport viewport;
     private final OrthogonalTiledMapRenderer renderer;
     private final ShapeRenderer shapeRenderer = new ShapeRenderer();
 
-    private ImmutableArray<Entity> buildings;
-    private ImmutableArray<Entity> enemies;
-    private ImmutableArray<Entity> towers;
-    private ImmutableArray<Entity> normal;
     private Entity mapEntity;
     private ComponentMapper<TextureRotationComponent> textureRotationComponentMapper =
         ComponentMapper.getFor(TextureRotationComponent.class);
     private ComponentMapper<RangeComponent> rangeComponentMapper = ComponentMapper.getFor(
         RangeComponent.class
     );
+    private final ComponentMapper<EnemyAnimationComponent> enemyAnimationMapper =
+        ComponentMapper.getFor(EnemyAnimationComponent.class);
+    private final ComponentMapper<BuildingAnimationComponent> buildingAnimationMapper =
+        ComponentMapper.getFor(BuildingAnimationComponent.class);
 
     private final MapLayerMapper mapLayerMapper = new MapLayerMapper();
+    private final RenderQueue renderQueue = new RenderQueue();
+    private final HealthBarManager healthBarManager = new HealthBarManager();
+    private final Vector2 basePixel = new Vector2();
+    private GameClockSystem clock;
 
     /**
      * Constructs a new RenderSystem.
@@ -88,42 +89,22 @@ public class RenderSystem extends EntitySystem {
     @Override
     public void addedToEngine(Engine engine) {
         super.addedToEngine(engine);
+        this.clock = GameClockSystem.obtain(engine);
         this.mapEntity = engine.getEntitiesFor(mapLayerMapper.mapLayerFamily).first();
-        this.buildings =
-        engine.getEntitiesFor(
-            Family
-                .all(
-                    PositionComponent.class,
-                    RenderComponent.class,
-                    BuildingAnimationComponent.class
-                )
-                .get()
-        );
-        this.enemies =
-        engine.getEntitiesFor(
-            Family
-                .all(PositionComponent.class, RenderComponent.class, EnemyAnimationComponent.class)
-                .get()
-        );
-
-        this.towers =
-        engine.getEntitiesFor(
-            Family
-                .all(PositionComponent.class, RenderComponent.class, TowerAnimationComponent.class)
-                .get()
-        );
+        renderQueue.addedToEngine(engine);
+        healthBarManager.addedToEngine(engine);
+    }
 
-        this.normal =
-        engine.getEntitiesFor(
-            Family
-                .all(PositionComponent.class, RenderComponent.class)
-                .exclude(
-                    TowerAnimationComponent.class,
-                    EnemyAnimationComponent.class,
-                    BuildingAnimationComponent.class
-                )
-                .get()
-        );
+    /**
+     * Called when the system is removed from an engine, e.g. when the game screen is disposed.
+     * Releases the texture of the health bars.
+     *
+     * @param engine The {@link Engine} this system was removed from.
+     */
+    @Override
+    public void removedFromEngine(Engine engine) {
+        renderQueue.removedFromEngine(engine);
+        healthBarManager.dispose();
     }
 
     /**
@@ -142,17 +123,33 @@ public class RenderSystem extends EntitySystem {
 
         // Apply viewport and update camera.
         viewport.apply();
-        renderer.setView((OrthographicCamera) viewport.getCamera());
+        OrthographicCamera camera = (OrthographicCamera) viewport.getCamera();
+        renderer.setView(camera);
+
+        // Render the visible chunks of the prebuilt map layers.
+        MapChunkCache mapChunkCache = MapLoader.getInstance().getMapChunkCache();
+        if (mapChunkCache != null) mapChunkCache.draw(camera.combined, renderer.getViewBounds());
 
         // Begin the sprite batch.
         renderer.getBatch().begin();
 
-        // Render the tiled map layers.
-        renderMapLayers((SpriteBatch) renderer.getBatch());
-
         // Render all building entities.
         renderAllEntities((SpriteBatch) renderer.getBatch());
 
+        // Render all projectiles in flight.
+        ProjectileSystem projectileSystem = getEngine().getSystem(ProjectileSystem.class);
+        if (projectileSystem != null) projectileSystem.draw((SpriteBatch) renderer.getBatch());
+
+        // Render the health bars of damaged entities above everything else.
+        TiledMapTileLayer bottomLayer = mapLayerMapper.bottomLayerMapper.get(mapEntity).bottomLayer;
+        healthBarManager.draw(
+            (SpriteBatch) renderer.getBatch(),
+            renderer.getViewBounds(),
+            clock.getInterpolation(),
+            bottomLayer.getTileWidth(),
+            bottomLayer.getTileHeight()
+        );
+
         // End the sprite batch.
         renderer.getBatch().end();
     }
@@ -167,112 +164,19 @@ public class RenderSystem extends EntitySystem {
         );
     }
 
-    private void renderMapLayers(SpriteBatch renderer) {
-        int BOTTOM_LAYER = 0;
-        int DECORATION_LAYER = 1;
-        int RESOURCE_LAYER = 2;
-
-        List<MapLayerRenderEntry> layersToRender = new ArrayList<>();
-
-        layersToRender.add(
-            new MapLayerRenderEntry(
-                "bottomLayer",
-                BOTTOM_LAYER,
-                mapEntity.getComponent(BottomLayerComponent.class).bottomLayer
-            )
-        );
-        layersToRender.add(
-            new MapLayerRenderEntry(
-                "decorationLayer",
-                DECORATION_LAYER,
-                mapEntity.getComponent(DecorationLayerComponent.class).decorationLayer
-            )
-        );
-        layersToRender.add(
-            new MapLayerRenderEntry(
-                "resourceLayer",
-                RESOURCE_LAYER,
-                mapEntity.getComponent(ResourceLayerComponent.class).resourceLayer
-            )
-        );
-
-        // sort with z-index
-        layersToRender.sort(Comparator.comparingInt(l -> l.zIndex));
-
-        // Render alle Layers
-        for (MapLayerRenderEntry layer : layersToRender) {
-            if (layer.layer != null) {
-                for (int i = layer.layer.getWidth(); i >= 0; i--) {
-                    for (int j = layer.layer.getHeight(); j >= 0; j--) {
-                        // Get the tile at the current position
-                        if (layer.layer.getCell(i, j) == null) continue;
-
-                        // Render the tile at the specified position
-                        renderer.draw(
-                            layer.layer.getCell(i, j).getTile().getTextureRegion(),
-                            i * 16,
-                            j * 16,
-                            layer.layer.getCell(i, j).getTile().getTextureRegion().getRegionWidth(),
-                            layer.layer.getCell(i, j).getTile().getTextureRegion().getRegionHeight()
-                        );
-                    }
-                }
-            } else {
-                Gdx.app.debug("RenderSystem", "Skipping null layer: " + layer.name);
-            }
-        }
-    }
-
     private void renderAllEntities(SpriteBatch batch) {
-        Array<Entity> combined = new Array<>();
-
-        towers.forEach(e -> combined.add(e));
-        buildings.forEach(e -> combined.add(e));
-        enemies.forEach(e -> combined.add(e));
-        normal.forEach(e -> combined.add(e));
-
-        combined.sort(
-            Comparator
-                .comparingDouble(entity -> {
-                    PositionComponent pos = ((Entity) entity).getComponent(PositionComponent.class);
-                    float pixelCoord = WorldCoordinateUtils.calculateWorldCoordinate(
-                        viewport,
-                        mapEntity.getComponent(BottomLayerComponent.class).bottomLayer,
-                        pos.basePosition.x,
-                        pos.basePosition.y
-                    )
-                        .y;
-                    return pixelCoord + pos.heightInTiles;
-                })
-                .thenComparingInt(entity -> {
-                    RenderComponent render = ((Entity) entity).getComponent(RenderComponent.class);
-                    return render.zIndex;
-                })
+        TiledMapTileLayer bottomLayer = mapLayerMapper.bottomLayerMapper.get(mapEntity).bottomLayer;
+        renderQueue.update(
+            renderer.getViewBounds(),
+            clock.getInterpolation(),
+            bottomLayer.getTileWidth(),
+            bottomLayer.getTileHeight()
         );
 
-        for (Entity entity : combined) {
+        for (int index = 0; index < renderQueue.size(); index++) {
+            Entity entity = renderQueue.get(index);
             RenderComponent render = entity.getComponent(RenderComponent.class);
-            PositionComponent pos = entity.getComponent(PositionComponent.class);
-            Vector2 basePixel = new Vector2();
-            if (
-                render.renderType == RenderComponent.RenderType.BUILDING ||
-                render.renderType == RenderComponent.RenderType.TOWER
-            ) {
-                basePixel =
-                WorldCoordinateUtils.calculatePixelCoordinateForBuildings(
-                    pos.basePosition.x,
-                    pos.basePosition.y,
-                    mapEntity.getComponent(BottomLayerComponent.class).bottomLayer
-                );
-            }
-
-            if (render.renderType == RenderComponent.RenderType.ENEMY) {
-                basePixel = new Vector2(pos.basePosition.x * 16, pos.basePosition.y * 16);
-            }
-
-            if (render.renderType == RenderComponent.RenderType.NORMAL) {
-                basePixel = new Vector2(pos.basePosition.x * 16, pos.basePosition.y * 16);
-            }
+            basePixel.set(renderQueue.getPixelX(index), renderQueue.getPixelY(index));
 
             float rotation = 0;
             var rotationComponent = textureRotationComponentMapper.get(entity);
@@ -286,10 +190,13 @@ public class RenderSystem extends EntitySystem {
                 renderTowerRange(batch, range, basePixel);
             }
 
+            // An animated entity shows the current frame of its animation on all its tiles
+            TextureRegion frame = getAnimationFrame(entity);
+
             for (int i = 0; i < render.widthInTiles; i++) {
                 for (int j = render.heightInTiles - 1; j >= 0; j--) {
-                    TileOffset offset = new TileOffset(i, j);
-                    TextureRegion region = render.sprites.get(offset);
+                    TextureRegion region = frame != null ? frame : render.getSprite(i, j);
+                    if (region == null) continue;
 
                     float drawX = basePixel.x + i * 16;
                     float drawY = basePixel.y + j * 16;
@@ -308,11 +215,17 @@ public class RenderSystem extends EntitySystem {
                     );
                 }
             }
-
-            HealthBarManager.drawHealthBar(batch, entity, getEngine());
         }
     }
 
+    private TextureRegion getAnimationFrame(Entity entity) {
+        EnemyAnimationComponent enemyAnimation = enemyAnimationMapper.get(entity);
+        if (enemyAnimation != null) return enemyAnimation.getCurrentFrame();
+        BuildingAnimationComponent buildingAnimation = buildingAnimationMapper.get(entity);
+        if (buildingAnimation != null) return buildingAnimation.getCurrentFrame();
+        return null;
+    }
+
     public void drawGridWithTempPixel(
         SpriteBatch batch,
         int mapWidthInTiles,
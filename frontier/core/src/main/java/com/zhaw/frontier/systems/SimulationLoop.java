@@ -0,0 +1,122 @@
+package com.zhaw.frontier.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.zhaw.frontier.components.PositionComponent;
+import lombok.Getter;
+
+/**
+ * Updates an engine with a fixed timestep.
+ * <p>
+ * The frame time, multiplied by the {@link #getSpeed() game speed}, is collected in an
+ * accumulator. For every {@link GameClockSystem#TICK_DURATION} in it, all simulation systems are
+ * updated once with exactly that duration, so they behave the same at any frame rate. At a higher
+ * speed several ticks run per frame. Afterwards, the {@link FrameSystem}s are updated once with
+ * the real frame time, so the screen is only drawn once per frame.
+ * </p>
+ * <p>
+ * Before each tick, the position of every entity is stored in
+ * {@link PositionComponent#previousPosition}. The time left in the accumulator is handed to the
+ * {@link GameClockSystem} as {@link GameClockSystem#getInterpolation() interpolation}, with which
+ * the rendering blends between the previous and the current position of each tick.
+ * </p>
+ */
+public final class SimulationLoop implements EntityListener {
+
+    /** The game speeds that can be selected, as multiples of real time. */
+    public static final int[] SPEEDS = { 1, 2, 4, 8 };
+
+    // Longer frames, e.g. after loading, are not caught up to avoid a spiral of slow frames
+    private static final float MAX_FRAME_TIME = 0.25f;
+
+    private final ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(
+        PositionComponent.class
+    );
+
+    private final Engine engine;
+    private final ImmutableArray<Entity> positioned;
+    private float accumulator;
+
+    /** The current game speed, one of {@link #SPEEDS}. */
+    @Getter
+    private int speed = SPEEDS[0];
+
+    /**
+     * Creates a loop for the given engine.
+     *
+     * @param engine the engine to update
+     */
+    public SimulationLoop(Engine engine) {
+        this.engine = engine;
+        Family family = Family.all(PositionComponent.class).get();
+        positioned = engine.getEntitiesFor(family);
+        engine.addEntityListener(family, this);
+    }
+
+    /**
+     * Runs the simulation ticks that are due and then the frame systems.
+     *
+     * @param delta the time elapsed since the last frame (in seconds)
+     */
+    public void update(float delta) {
+        GameClockSystem clock = GameClockSystem.obtain(engine);
+        accumulator += Math.min(delta, MAX_FRAME_TIME) * speed;
+
+        if (accumulator >= GameClockSystem.TICK_DURATION) {
+            setProcessing(false);
+            while (accumulator >= GameClockSystem.TICK_DURATION) {
+                accumulator -= GameClockSystem.TICK_DURATION;
+                for (int i = 0; i < positioned.size(); i++) {
+                    PositionComponent pos = pm.get(positioned.get(i));
+                    pos.previousPosition.set(pos.basePosition);
+                }
+                engine.update(GameClockSystem.TICK_DURATION);
+            }
+        }
+
+        clock.setInterpolation(accumulator / GameClockSystem.TICK_DURATION);
+        setProcessing(true);
+        engine.update(delta);
+    }
+
+    /**
+     * Selects the next game speed, starting over after the fastest.
+     */
+    public void cycleSpeed() {
+        int next = 0;
+        for (int i = 0; i < SPEEDS.length; i++) {
+            if (SPEEDS[i] == speed) next = (i + 1) % SPEEDS.length;
+        }
+        speed = SPEEDS[next];
+    }
+
+    /**
+     * Enables either the frame systems or the simulation systems of the engine.
+     */
+    private void setProcessing(boolean frame) {
+        ImmutableArray<EntitySystem> systems = engine.getSystems();
+        for (int i = 0; i < systems.size(); i++) {
+            EntitySystem system = systems.get(i);
+            system.setProcessing(system instanceof FrameSystem == frame);
+        }
+    }
+
+    /**
+     * Lets new entities start out at their position instead of blending in from the origin.
+     *
+     * @param entity the added entity
+     */
+    @Override
+    public void entityAdded(Entity entity) {
+        PositionComponent pos = pm.get(entity);
+        pos.previousPosition.set(pos.basePosition);
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {}
+}
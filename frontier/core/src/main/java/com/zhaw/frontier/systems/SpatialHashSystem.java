@@ -0,0 +1,116 @@
+package com.zhaw.frontier.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.zhaw.frontier.algorithm.SpatialHash;
+import com.zhaw.frontier.components.PositionComponent;
+import com.zhaw.frontier.configs.AppProperties;
+
+/**
+ * Keeps a {@link SpatialHash} over all entities with a {@link PositionComponent}, shared by the
+ * systems that look for entities around a position (targeting, collisions, attacks).
+ * <p>
+ * The hash is rebuilt at the start of every frame, before all other systems. When entities are
+ * added or removed during the frame, it is rebuilt again before the next query, so that queries
+ * never return removed entities.
+ * </p>
+ * <p>
+ * Systems using the hash find this system with {@link #obtain(Engine)}, which adds it to the
+ * engine if it is missing, and call {@link #getSpatialHash()} whenever they query.
+ * </p>
+ */
+public class SpatialHashSystem extends EntitySystem implements EntityListener {
+
+    private final SpatialHash spatialHash = new SpatialHash(
+        AppProperties.SPATIAL_HASH_CELL_SIZE,
+        AppProperties.SPATIAL_HASH_MARGIN
+    );
+    private ImmutableArray<Entity> entities;
+    private boolean dirty = true;
+
+    /**
+     * Creates the system, which runs before all other systems.
+     */
+    public SpatialHashSystem() {
+        super(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the spatial hash system of the given engine, adding one if the engine has none yet.
+     *
+     * @param engine the Ashley engine instance
+     * @return the spatial hash system of the engine
+     */
+    public static SpatialHashSystem obtain(Engine engine) {
+        SpatialHashSystem system = engine.getSystem(SpatialHashSystem.class);
+        if (system == null) {
+            system = new SpatialHashSystem();
+            engine.addSystem(system);
+        }
+        return system;
+    }
+
+    /**
+     * Called when the system is added to the engine.
+     * Tracks all positioned entities.
+     *
+     * @param engine the Ashley engine instance
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        Family family = Family.all(PositionComponent.class).get();
+        entities = engine.getEntitiesFor(family);
+        engine.addEntityListener(family, this);
+        dirty = true;
+    }
+
+    /**
+     * Called when the system is removed from the engine.
+     *
+     * @param engine the Ashley engine instance
+     */
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+    }
+
+    /**
+     * Rebuilds the hash from the current positions.
+     *
+     * @param deltaTime the time since the last frame (not used)
+     */
+    @Override
+    public void update(float deltaTime) {
+        rebuild();
+    }
+
+    /**
+     * Returns the spatial hash, rebuilt first if entities were added or removed since the last
+     * rebuild.
+     *
+     * @return the spatial hash over all positioned entities
+     */
+    public SpatialHash getSpatialHash() {
+        if (dirty && entities != null) rebuild();
+        return spatialHash;
+    }
+
+    private void rebuild() {
+        spatialHash.rebuild(entities);
+        dirty = false;
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+        dirty = true;
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        dirty = true;
+    }
+}
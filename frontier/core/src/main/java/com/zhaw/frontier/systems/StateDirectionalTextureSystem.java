@@ -30,8 +30,7 @@ public class StateDirectionalTextureSystem extends IteratingSystem {
         var possible = direction.animationTextures.keySet();
         var nearest = clampToNearest(direction.degrees, possible);
 
-        renderComponent.sprites.clear();
-        renderComponent.sprites.put(new TileOffset(0, 0), direction.animationTextures.get(nearest));
+        renderComponent.sprites.put(TileOffset.of(0, 0), direction.animationTextures.get(nearest));
     }
 
     public static int clampToNearest(int degrees, Set<Integer> allowedDegrees) {
@@ -0,0 +1,128 @@
+package com.zhaw.frontier.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.zhaw.frontier.components.OccupiesTilesComponent;
+import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.components.map.TileOccupancyComponent;
+
+/**
+ * Keeps the {@link TileOccupancyComponent} of the map entity in sync with the entities that
+ * occupy tiles.
+ * <p>
+ * Occupants are entered when they are added to the engine (placement and loading) and removed
+ * when they leave it (removal by the player and death). When a map entity with a
+ * {@link TileOccupancyComponent} is added, all current occupants are entered into its grid.
+ * Without a map entity, e.g. in tests, the system keeps a grid of its own.
+ * </p>
+ * <p>
+ * Users of the grid find this system with {@link #obtain(Engine)}, which adds it to the engine if
+ * it is missing.
+ * </p>
+ */
+public class TileOccupancySystem extends EntitySystem {
+
+    private final ComponentMapper<OccupiesTilesComponent> occm = ComponentMapper.getFor(
+        OccupiesTilesComponent.class
+    );
+    private final ComponentMapper<TileOccupancyComponent> tom = ComponentMapper.getFor(
+        TileOccupancyComponent.class
+    );
+
+    private final Family occupantFamily = Family
+        .all(OccupiesTilesComponent.class)
+        .exclude(PathfindingBehaviourComponent.class)
+        .get();
+    private final Family mapFamily = Family.all(TileOccupancyComponent.class).get();
+
+    private final EntityListener occupantListener = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            occupancy.occupy(entity, occm.get(entity));
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            occupancy.release(entity);
+        }
+    };
+
+    private final EntityListener mapListener = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            adopt(tom.get(entity));
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            if (tom.get(entity) == occupancy) adopt(new TileOccupancyComponent());
+        }
+    };
+
+    private ImmutableArray<Entity> occupants;
+    private TileOccupancyComponent occupancy = new TileOccupancyComponent();
+
+    /**
+     * Returns the tile occupancy system of the given engine, adding one if the engine has none yet.
+     *
+     * @param engine the Ashley engine instance
+     * @return the tile occupancy system of the engine
+     */
+    public static TileOccupancySystem obtain(Engine engine) {
+        TileOccupancySystem system = engine.getSystem(TileOccupancySystem.class);
+        if (system == null) {
+            system = new TileOccupancySystem();
+            engine.addSystem(system);
+        }
+        return system;
+    }
+
+    /**
+     * Called when the system is added to the engine.
+     * Enters all current occupants into the grid of the map entity.
+     *
+     * @param engine the Ashley engine instance
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        occupants = engine.getEntitiesFor(occupantFamily);
+        engine.addEntityListener(occupantFamily, occupantListener);
+        engine.addEntityListener(mapFamily, mapListener);
+
+        ImmutableArray<Entity> maps = engine.getEntitiesFor(mapFamily);
+        adopt(maps.size() > 0 ? tom.get(maps.first()) : new TileOccupancyComponent());
+    }
+
+    /**
+     * Called when the system is removed from the engine.
+     *
+     * @param engine the Ashley engine instance
+     */
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(occupantListener);
+        engine.removeEntityListener(mapListener);
+    }
+
+    /**
+     * Returns the grid of occupied tiles.
+     *
+     * @return the tile occupancy of the map entity, or of this system if there is no map entity
+     */
+    public TileOccupancyComponent getOccupancy() {
+        return occupancy;
+    }
+
+    private void adopt(TileOccupancyComponent target) {
+        occupancy = target;
+        occupancy.clear();
+        for (Entity occupant : occupants) {
+            occupancy.occupy(occupant, occm.get(occupant));
+        }
+    }
+}
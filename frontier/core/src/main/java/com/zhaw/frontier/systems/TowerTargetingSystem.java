@@ -5,12 +5,13 @@ import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.badlogic.ashley.core.Family;
 import com.badlogic.ashley.systems.IntervalIteratingSystem;
-import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.zhaw.frontier.algorithm.SpatialHash;
 import com.zhaw.frontier.components.AttackComponent;
 import com.zhaw.frontier.components.CircleCollisionComponent;
-import com.zhaw.frontier.components.CooldownComponent;
 import com.zhaw.frontier.components.CurrentTargetComponent;
+import com.zhaw.frontier.components.CurrentTargetComponent.CandidateNode;
 import com.zhaw.frontier.components.DeathComponent;
 import com.zhaw.frontier.components.EnemyComponent;
 import com.zhaw.frontier.components.HealthComponent;
@@ -18,22 +19,51 @@ import com.zhaw.frontier.components.PositionComponent;
 import com.zhaw.frontier.components.TowerAnimationComponent;
 import com.zhaw.frontier.components.TowerComponent;
 import com.zhaw.frontier.components.VelocityComponent;
+import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
 import com.zhaw.frontier.entityFactories.ArrowFactory;
+import com.zhaw.frontier.utils.EntityHandle;
 
 /**
- * Finds a target in range and spawns arrow that shoot at the target as long as
- * its in range and no cooldown is active.
+ * Picks targets for towers and spawns arrows that shoot at them whenever their cooldown on the
+ * {@link GameClockSystem} is over.
+ * <p>
+ * Every tower caches the enemies in the cells around its range in its
+ * {@link CurrentTargetComponent}. The cache is only queried again from the {@link SpatialHash}
+ * when an enemy entered or left these cells, so the cost of targeting grows with the number of
+ * enemies near towers instead of with all enemies. Whenever a tower is ready to shoot, the
+ * candidates in range are ranked by the {@link CurrentTargetComponent.TargetPriority} of the
+ * tower and the best one that can be hit is shot at.
+ * </p>
+ * <p>
+ * Targets are sticky: a tower keeps shooting at its current target while it is alive and in
+ * range, unless another candidate ranks strictly better. Towers therefore do not flip between
+ * enemies of equal rank.
+ * </p>
  */
 public class TowerTargetingSystem extends IntervalIteratingSystem {
 
-    private ImmutableArray<Entity> enemies;
-    private final ComponentMapper<TowerComponent> towerComponentMapper = ComponentMapper.getFor(
-        TowerComponent.class
-    );
+    private final Family enemyFamily = Family
+        .all(
+            CircleCollisionComponent.class,
+            PositionComponent.class,
+            VelocityComponent.class,
+            HealthComponent.class,
+            EnemyComponent.class
+        )
+        .exclude(DeathComponent.class)
+        .get();
+    private SpatialHashSystem spatialHashSystem;
+    private ProjectileSystem projectileSystem;
+    private GameClockSystem clock;
     private final ComponentMapper<PositionComponent> positionComponentMapper =
         ComponentMapper.getFor(PositionComponent.class);
     private final ComponentMapper<VelocityComponent> velocityComponentMapper =
         ComponentMapper.getFor(VelocityComponent.class);
+    private final ComponentMapper<HealthComponent> healthComponentMapper = ComponentMapper.getFor(
+        HealthComponent.class
+    );
+    private final ComponentMapper<PathfindingBehaviourComponent> pathComponentMapper =
+        ComponentMapper.getFor(PathfindingBehaviourComponent.class);
     private final ComponentMapper<AttackComponent> attackComponentMapper = ComponentMapper.getFor(
         AttackComponent.class
     );
@@ -45,7 +75,12 @@ public class TowerTargetingSystem extends IntervalIteratingSystem {
     public TowerTargetingSystem() {
         super(
             Family
-                .all(TowerAnimationComponent.class, TowerComponent.class, AttackComponent.class)
+                .all(
+                    TowerAnimationComponent.class,
+                    TowerComponent.class,
+                    AttackComponent.class,
+                    CurrentTargetComponent.class
+                )
                 .exclude(DeathComponent.class)
                 .get(),
             0.1f
@@ -56,91 +91,137 @@ public class TowerTargetingSystem extends IntervalIteratingSystem {
     @Override
     public void addedToEngine(Engine engine) {
         super.addedToEngine(engine);
+        EntityHandle.track(engine);
 
-        Family enemyFamily = Family
-            .all(
-                CircleCollisionComponent.class,
-                PositionComponent.class,
-                VelocityComponent.class,
-                HealthComponent.class,
-                EnemyComponent.class
-            )
-            .exclude(DeathComponent.class)
-            .get();
-
-        this.enemies = engine.getEntitiesFor(enemyFamily);
+        spatialHashSystem = SpatialHashSystem.obtain(engine);
+        projectileSystem = ProjectileSystem.obtain(engine);
+        clock = GameClockSystem.obtain(engine);
     }
 
     @Override
     protected void processEntity(Entity tower) {
-        var currentTarget = targetComponentMapper.get(tower);
+        var targeting = targetComponentMapper.get(tower);
+        var towerPosition = positionComponentMapper.get(tower).basePosition;
+        var attack = attackComponentMapper.get(tower);
+        var attackRange = attack.attackRange;
+
+        refreshCandidates(targeting, towerPosition, attackRange);
 
-        // remove already killed enemies
-        if (currentTarget != null && !enemies.contains(currentTarget.target, false)) {
-            tower.remove(CurrentTargetComponent.class);
-            currentTarget = null;
+        // forget targets that were killed or left the range
+        if (!inRange(targeting.target.get(), towerPosition, attackRange)) {
+            targeting.target.clear();
         }
+        if (!clock.isReady(attack)) return;
 
-        if (currentTarget == null) {
-            findNewTarget(tower);
-        } else {
-            shootAtTarget(tower, currentTarget.target);
+        rankCandidates(targeting, towerPosition, attackRange);
+        Entity current = targeting.target.get();
+        if (current != null && !ranksStrictlyBetter(targeting, current, towerPosition)) {
+            if (shootAtTarget(tower, current)) {
+                targeting.ranking.clear();
+                return;
+            }
         }
+        while (targeting.ranking.size > 0) {
+            Entity enemy = targeting.ranking.pop().enemy;
+            if (shootAtTarget(tower, enemy)) {
+                targeting.target.set(enemy);
+                targeting.ranking.clear();
+                return;
+            }
+        }
+        targeting.target.clear();
     }
 
-    private void shootAtTarget(Entity tower, Entity enemy) {
-        if (inRange(tower, enemy) && tower.getComponent(CooldownComponent.class) == null) {
-            var enemyPosition = positionComponentMapper.get(enemy).basePosition;
-            var enemyVelocity = velocityComponentMapper.get(enemy).velocity;
-            var towerPosition = positionComponentMapper.get(tower).basePosition;
-            var attack = attackComponentMapper.get(tower);
-
-            // todo add stats from attackcomponent
-            var arrow = ArrowFactory.createArrow(
-                getEngine(),
-                towerPosition,
-                enemyPosition,
-                enemyVelocity,
-                (int) attack.damage
-            );
-            if (arrow != null) {
-                // set tower direction
-                var arrowVelocity = velocityComponentMapper.get(arrow).velocity;
-                var animation = towerAnimationComponentComponentMapper.get(tower);
-                animation.degrees = (int) arrowVelocity.angleDeg();
-
-                getEngine().addEntity(arrow);
-
-                // add cooldown component
-                var cooldownComponent = new CooldownComponent();
-                cooldownComponent.start = System.currentTimeMillis();
-                cooldownComponent.duration = (long) attack.attackInterval;
-                tower.add(cooldownComponent);
-            }
-        } else {
-            tower.remove(CurrentTargetComponent.class);
+    private void refreshCandidates(
+        CurrentTargetComponent targeting,
+        Vector2 towerPosition,
+        float attackRange
+    ) {
+        SpatialHash spatialHash = spatialHashSystem.getSpatialHash();
+        if (!spatialHash.changedSince(towerPosition, attackRange, targeting.candidatesVersion)) {
+            return;
         }
+        spatialHash.withinCells(towerPosition, attackRange, enemyFamily, targeting.candidates);
+        targeting.candidatesVersion = spatialHash.getVersion();
     }
 
-    private void findNewTarget(Entity tower) {
-        for (var enemy : enemies) {
-            if (inRange(tower, enemy)) {
-                var target = new CurrentTargetComponent();
-                target.target = enemy;
-                tower.add(target);
-                return;
-            }
+    private void rankCandidates(
+        CurrentTargetComponent targeting,
+        Vector2 towerPosition,
+        float attackRange
+    ) {
+        targeting.ranking.clear();
+        for (int i = 0; i < targeting.candidates.size; i++) {
+            Entity enemy = targeting.candidates.get(i);
+            if (!inRange(enemy, towerPosition, attackRange)) continue;
+
+            CandidateNode node = targeting.getNode(i);
+            node.enemy = enemy;
+            targeting.ranking.add(node, score(targeting.priority, enemy, towerPosition));
         }
     }
 
-    private boolean inRange(Entity tower, Entity enemy) {
-        var enemyPosition = positionComponentMapper.get(enemy);
-        var towerPosition = positionComponentMapper.get(tower);
-        var towerAttackComponent = attackComponentMapper.get(tower);
+    /**
+     * Checks whether the best ranked candidate is strictly better than the current target.
+     */
+    private boolean ranksStrictlyBetter(
+        CurrentTargetComponent targeting,
+        Entity current,
+        Vector2 towerPosition
+    ) {
+        if (targeting.ranking.size == 0) return false;
+        float currentScore = score(targeting.priority, current, towerPosition);
+        return targeting.ranking.peek().getValue() > currentScore;
+    }
+
+    /**
+     * Rates an enemy for the given priority, higher is better.
+     */
+    private float score(
+        CurrentTargetComponent.TargetPriority priority,
+        Entity enemy,
+        Vector2 towerPosition
+    ) {
+        var enemyPosition = positionComponentMapper.get(enemy).basePosition;
+        return switch (priority) {
+            case FIRST -> {
+                // enemies without a path are ranked last
+                var path = pathComponentMapper.get(enemy);
+                if (path == null) yield -Float.MAX_VALUE;
+                yield -path.getRemainingPathLength(enemyPosition);
+            }
+            case CLOSEST -> -enemyPosition.dst2(towerPosition);
+            case STRONGEST -> healthComponentMapper.get(enemy).currentHealth;
+            case LOWEST_HEALTH -> -healthComponentMapper.get(enemy).currentHealth;
+        };
+    }
 
-        return (
-            enemyPosition.basePosition.dst(towerPosition.basePosition) <=
-            towerAttackComponent.attackRange
+    private boolean shootAtTarget(Entity tower, Entity enemy) {
+        var enemyPosition = positionComponentMapper.get(enemy).basePosition;
+        var enemyVelocity = velocityComponentMapper.get(enemy).velocity;
+        var towerPosition = positionComponentMapper.get(tower).basePosition;
+        var attack = attackComponentMapper.get(tower);
+
+        var arrowVelocity = ArrowFactory.createArrow(
+            projectileSystem.getProjectiles(),
+            towerPosition,
+            enemyPosition,
+            enemyVelocity,
+            (int) attack.damage
         );
+        if (arrowVelocity == null) return false;
+
+        // set tower direction
+        var animation = towerAnimationComponentComponentMapper.get(tower);
+        animation.degrees = (int) arrowVelocity.angleDeg();
+
+        clock.startCooldown(attack);
+        return true;
+    }
+
+    private boolean inRange(Entity enemy, Vector2 towerPosition, float attackRange) {
+        if (enemy == null || !enemyFamily.matches(enemy)) return false;
+        var enemyPosition = positionComponentMapper.get(enemy).basePosition;
+        return enemyPosition.dst2(towerPosition) <= attackRange * attackRange;
     }
 }
@@ -1,15 +1,12 @@
 package com.zhaw.frontier.systems;
 
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.zhaw.frontier.components.PositionComponent;
 import com.zhaw.frontier.components.RenderComponent;
 import com.zhaw.frontier.components.WallPieceComponent;
-import com.zhaw.frontier.utils.TileOffset;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Utility class responsible for analyzing wall adjacency.
@@ -36,18 +33,22 @@ public class WallAdjacencyChecker {
         WallPieceComponent wallPiece = entity.getComponent(WallPieceComponent.class);
         wallPiece.currentWallPiece = determineWallPiece(entity, allWalls);
 
+        applyWallPieceSprites(entity);
+    }
+
+    /**
+     * Points the {@link RenderComponent} of a wall to the shared sprites of its current piece.
+     * The sprites are never modified, so walls of the same material and piece share them.
+     *
+     * @param entity the wall entity
+     */
+    public static void applyWallPieceSprites(Entity entity) {
+        WallPieceComponent wallPiece = entity.getComponent(WallPieceComponent.class);
         RenderComponent renderComponent = entity.getComponent(RenderComponent.class);
-        HashMap<TileOffset, TextureRegion> original = wallPiece.wallPieceTextures.get(
-            wallPiece.currentWallPiece
-        );
-
-        // Deep copy each TextureRegion to prevent shared sprite references
-        HashMap<TileOffset, TextureRegion> deepCopy = new HashMap<>();
-        for (Map.Entry<TileOffset, TextureRegion> entry : original.entrySet()) {
-            deepCopy.put(entry.getKey(), new TextureRegion(entry.getValue())); // clone region
-        }
+        if (wallPiece == null || renderComponent == null) return;
 
-        renderComponent.sprites = deepCopy;
+        renderComponent.sheet = wallPiece.getSheet(wallPiece.currentWallPiece);
+        if (!renderComponent.sprites.isEmpty()) renderComponent.sprites = new HashMap<>();
     }
 
     private static WallPieceComponent.WallPiece determineWallPiece(
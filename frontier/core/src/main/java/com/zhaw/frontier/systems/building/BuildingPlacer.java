@@ -2,8 +2,6 @@ package com.zhaw.frontier.systems.building;
 
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
-import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.Vector2;
@@ -13,10 +11,10 @@ import com.zhaw.frontier.components.map.TiledPropertiesEnum;
 import com.zhaw.frontier.mappers.MapLayerMapper;
 import com.zhaw.frontier.systems.ErrorSystem;
 import com.zhaw.frontier.systems.ResourceAdjacencyChecker;
+import com.zhaw.frontier.systems.TileOccupancySystem;
 import com.zhaw.frontier.systems.WallManager;
+import com.zhaw.frontier.systems.movement.PathRepairSystem;
 import com.zhaw.frontier.utils.WorldCoordinateUtils;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Handles validation and placement of buildings onto a tiled map based on
@@ -30,7 +28,8 @@ import java.util.List;
  * <li>Checks for existing building collisions</li>
  * <li>If the building is a resource producer, checks for adjacent
  * resources</li>
- * <li>Marks the tile area as occupied and adds the entity to the engine</li>
+ * <li>Marks the tile area as occupied and adds the entity to the engine, where the
+ * {@link PathRepairSystem} picks it up and repairs the paths over the new building</li>
  * </ul>
  * </p>
  */
@@ -233,46 +232,16 @@ public class BuildingPlacer {
      * @return true if a tile is already occupied, false otherwise
      */
     private boolean checkIfPlaceIsOccupiedByBuilding(Engine engine, Entity entityBuilding) {
-        ImmutableArray<Entity> entitiesWithPosition = engine.getEntitiesFor(
-            Family.all(PositionComponent.class).exclude(EnemyComponent.class).get()
-        );
-
-        Vector2 targetTile = new Vector2(
-            (int) entityBuilding.getComponent(PositionComponent.class).basePosition.x,
-            (int) entityBuilding.getComponent(PositionComponent.class).basePosition.y
-        );
-
-        int width = entityBuilding.getComponent(PositionComponent.class).widthInTiles;
-        int height = entityBuilding.getComponent(PositionComponent.class).heightInTiles;
-
-        // Alle Tiles, die das neue Gebäude beanspruchen würde
-        List<Vector2> tilesToCheck = new ArrayList<>();
-        for (int dx = 0; dx < width; dx++) {
-            for (int dy = 0; dy < height; dy++) {
-                tilesToCheck.add(new Vector2(targetTile.x + dx, targetTile.y + dy));
-            }
-        }
-
-        // Prüfe, ob eins dieser Tiles bereits von anderen Entities belegt ist
-        for (Entity entity : entitiesWithPosition) {
-            if (entity == entityBuilding) continue;
-
-            PositionComponent pos = entity.getComponent(PositionComponent.class);
-            for (int x = (int) pos.basePosition.x; x < pos.basePosition.x + pos.widthInTiles; x++) {
-                for (
-                    int y = (int) pos.basePosition.y;
-                    y < pos.basePosition.y + pos.heightInTiles;
-                    y++
-                ) {
-                    Vector2 occupiedTile = new Vector2(x, y);
-                    if (tilesToCheck.contains(occupiedTile)) {
-                        return true;
-                    }
-                }
-            }
-        }
-
-        return false;
+        PositionComponent position = entityBuilding.getComponent(PositionComponent.class);
+        return !TileOccupancySystem
+            .obtain(engine)
+            .getOccupancy()
+            .isAreaFree(
+                (int) position.basePosition.x,
+                (int) position.basePosition.y,
+                position.widthInTiles,
+                position.heightInTiles
+            );
     }
 
     /**
@@ -397,7 +366,7 @@ public class BuildingPlacer {
      * {@link OccupiesTilesComponent}.
      *
      * <p>
-     * Populates all covered tile coordinates based on its position and size.
+     * Sets the covered rectangle of tiles based on its position and size.
      * </p>
      *
      * @param entity the building to register
@@ -407,16 +376,11 @@ public class BuildingPlacer {
         OccupiesTilesComponent occupiesTilesComponent = entity.getComponent(
             OccupiesTilesComponent.class
         );
-        int tileX = (int) positionComponent.basePosition.x;
-        int tileY = (int) positionComponent.basePosition.y;
-
-        int offsetX = positionComponent.widthInTiles;
-        int offsetY = positionComponent.heightInTiles;
-
-        for (int x = tileX; x < tileX + offsetX; x++) {
-            for (int y = tileY; y < tileY + offsetY; y++) {
-                occupiesTilesComponent.occupiedTiles.add(new Vector2(x, y));
-            }
-        }
+        occupiesTilesComponent.set(
+            (int) positionComponent.basePosition.x,
+            (int) positionComponent.basePosition.y,
+            positionComponent.widthInTiles,
+            positionComponent.heightInTiles
+        );
     }
 }
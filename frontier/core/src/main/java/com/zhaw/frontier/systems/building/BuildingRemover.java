@@ -2,18 +2,16 @@ package com.zhaw.frontier.systems.building;
 
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
-import com.badlogic.ashley.core.Family;
-import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.zhaw.frontier.components.CostComponent;
 import com.zhaw.frontier.components.InventoryComponent;
 import com.zhaw.frontier.components.NonRemovalObjectComponent;
-import com.zhaw.frontier.components.OccupiesTilesComponent;
-import com.zhaw.frontier.components.PositionComponent;
 import com.zhaw.frontier.components.WallPieceComponent;
+import com.zhaw.frontier.components.map.TileOccupancyComponent;
 import com.zhaw.frontier.systems.ErrorSystem;
+import com.zhaw.frontier.systems.TileOccupancySystem;
 import com.zhaw.frontier.systems.WallManager;
 import com.zhaw.frontier.utils.WorldCoordinateUtils;
 
@@ -21,8 +19,8 @@ import com.zhaw.frontier.utils.WorldCoordinateUtils;
  * Responsible for removing building entities from the map.
  * <p>
  * The {@code BuildingRemover} calculates the world coordinates from the input coordinates
- * using the provided viewport and tile layer. It then iterates over all entities with a
- * {@link PositionComponent} to find and remove an entity located at the specified position.
+ * using the provided viewport and tile layer. It then looks up the entity occupying the tile at
+ * the specified position and removes it.
  * </p>
  */
 public class BuildingRemover {
@@ -45,7 +43,7 @@ public class BuildingRemover {
      * Attempts to remove a building entity from the map at the specified coordinates.
      * <p>
      * The method converts the given coordinates into world coordinates using the provided tile layer,
-     * then iterates over all entities that have a {@link PositionComponent} and {@link OccupiesTilesComponent}.
+     * then looks up the entity occupying that tile in the {@link TileOccupancyComponent} of the map.
      * If an entity is found occupying the calculated tile position, it is removed from the engine.
      * </p>
      *
@@ -69,30 +67,21 @@ public class BuildingRemover {
         int worldCoordinateX = (int) worldCoordinate.x;
         int worldCoordinateY = (int) worldCoordinate.y;
 
-        ImmutableArray<Entity> entitiesWithPosition = engine.getEntitiesFor(
-            Family.all(PositionComponent.class, OccupiesTilesComponent.class).get()
-        );
-        for (Entity entity : entitiesWithPosition) {
-            OccupiesTilesComponent occupiesTilesComponent = entity.getComponent(
-                OccupiesTilesComponent.class
-            );
-
-            if (occupiesTilesComponent != null) {
-                for (Vector2 tile : occupiesTilesComponent.occupiedTiles) {
-                    if (tile.x == worldCoordinateX && tile.y == worldCoordinateY) {
-                        if (entity.getComponent(NonRemovalObjectComponent.class) != null) {
-                            ErrorSystem.getInstance().showObjectCannotBeDestroyed();
-                            return false;
-                        }
-                        engine.removeEntity(entity);
-                        updateWalls(entity);
-                        refundResources(entity, inventoryComponent);
-                        return true;
-                    }
-                }
-            }
+        Entity entity = TileOccupancySystem
+            .obtain(engine)
+            .getOccupancy()
+            .getOccupant(worldCoordinateX, worldCoordinateY);
+        if (entity == null) {
+            return false;
+        }
+        if (entity.getComponent(NonRemovalObjectComponent.class) != null) {
+            ErrorSystem.getInstance().showObjectCannotBeDestroyed();
+            return false;
         }
-        return false;
+        engine.removeEntity(entity);
+        updateWalls(entity);
+        refundResources(entity, inventoryComponent);
+        return true;
     }
 
     private void updateWalls(Entity entity) {
@@ -3,14 +3,19 @@ package com.zhaw.frontier.systems.movement;
 import com.badlogic.ashley.core.*;
 import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.math.Vector2;
+import com.zhaw.frontier.algorithm.WallCostMap;
 import com.zhaw.frontier.components.*;
 import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.components.map.TileOccupancyComponent;
+import com.zhaw.frontier.systems.TileOccupancySystem;
+import com.zhaw.frontier.utils.EntityHandle;
 
 /**
  * A system that detects if an entity using {@link PathfindingBehaviourComponent}
  * is blocked by a hostile static entity that occupies tiles (e.g., buildings or walls).
  * <p>
- * If the next waypoint is blocked by a hostile, the entity will mark that blocker as a target.
+ * If the next tile on the way to the waypoint is blocked by a hostile, the entity will mark that
+ * blocker as a target.
  * This allows for dynamic path interruption and enemy aggression logic.
  * </p>
  * <p>Entities handled must have:</p>
@@ -19,32 +24,60 @@ import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
  *     <li>{@link VelocityComponent}</li>
  *     <li>{@link PathfindingBehaviourComponent}</li>
  * </ul>
- * <p>Blockers must have {@link OccupiesTilesComponent} and not {@link PathfindingBehaviourComponent}.</p>
+ * <p>Blockers must have {@link OccupiesTilesComponent} and not {@link PathfindingBehaviourComponent}.
+ * They are looked up by tile in the {@link TileOccupancyComponent} of the map.</p>
+ * <p>
+ * If a {@link WallCostMap} is provided, walls are looked up directly by tile. A path that was
+ * planned through a wall thereby hands the wall over to the attack logic as soon as the entity
+ * reaches it, without another path search.
+ * </p>
  */
 public class BlockingMovementSystem extends EntitySystem {
 
+    private final ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(
+        PositionComponent.class
+    );
     private final ComponentMapper<VelocityComponent> vm = ComponentMapper.getFor(
         VelocityComponent.class
     );
     private final ComponentMapper<PathfindingBehaviourComponent> pfm = ComponentMapper.getFor(
         PathfindingBehaviourComponent.class
     );
-    private final ComponentMapper<OccupiesTilesComponent> occm = ComponentMapper.getFor(
-        OccupiesTilesComponent.class
+    private static final ComponentMapper<TeamComponent> tm = ComponentMapper.getFor(
+        TeamComponent.class
     );
-    private final ComponentMapper<TeamComponent> tm = ComponentMapper.getFor(TeamComponent.class);
+
+    private final WallCostMap wallCostMap;
 
     private ImmutableArray<Entity> enemies;
-    private ImmutableArray<Entity> tileOccupiers;
+    private TileOccupancySystem tileOccupancySystem;
+
+    /**
+     * Constructs a {@code BlockingMovementSystem} that checks all tile occupiers.
+     */
+    public BlockingMovementSystem() {
+        this(null);
+    }
+
+    /**
+     * Constructs a {@code BlockingMovementSystem} that looks up walls in the given map first.
+     *
+     * @param wallCostMap the tiles occupied by walls, or {@code null} to check all tile occupiers
+     */
+    public BlockingMovementSystem(WallCostMap wallCostMap) {
+        this.wallCostMap = wallCostMap;
+    }
 
     /**
      * Called when the system is added to the engine.
-     * Initializes filtered lists for moving pathfinding entities and static tile-occupying blockers.
+     * Initializes filtered lists for moving pathfinding entities and static tile-occupying
+     * blockers, and tracks the blockers that become targets.
      *
      * @param engine the Ashley engine
      */
     @Override
     public void addedToEngine(Engine engine) {
+        EntityHandle.track(engine);
         enemies =
         engine.getEntitiesFor(
             Family
@@ -56,17 +89,11 @@ public class BlockingMovementSystem extends EntitySystem {
                 .get()
         );
 
-        tileOccupiers =
-        engine.getEntitiesFor(
-            Family
-                .all(OccupiesTilesComponent.class)
-                .exclude(PathfindingBehaviourComponent.class)
-                .get()
-        );
+        tileOccupancySystem = TileOccupancySystem.obtain(engine);
     }
 
     /**
-     * Checks each pathfinding entity to determine if its next waypoint is blocked by a hostile entity.
+     * Checks each pathfinding entity to determine if its next tile is blocked by a hostile entity.
      * If blocked, sets the blocker as the target in the {@link PathfindingBehaviourComponent}.
      *
      * @param deltaTime time since last frame (unused)
@@ -74,40 +101,50 @@ public class BlockingMovementSystem extends EntitySystem {
     @Override
     public void update(float deltaTime) {
         int enemyCount = enemies.size();
-        int blockerCount = tileOccupiers.size();
+        TileOccupancyComponent occupancy = tileOccupancySystem.getOccupancy();
 
         for (int i = 0; i < enemyCount; i++) {
             Entity enemy = enemies.get(i);
-            VelocityComponent vel = vm.get(enemy);
-            PathfindingBehaviourComponent path = pfm.get(enemy);
-
-            if (!vel.desiredVelocity.isZero() || !path.hasPath()) continue;
-
-            Vector2 nextWaypoint = path.getNextWaypoint();
-            int nextX = (int) Math.floor(nextWaypoint.x);
-            int nextY = (int) Math.floor(nextWaypoint.y);
-
-            boolean blockerFound = false;
-
-            // Static blockers (e.g., hostile buildings)
-            for (int j = 0; j < blockerCount; j++) {
-                Entity blocker = tileOccupiers.get(j);
-                if (blocker == enemy) continue;
-
-                OccupiesTilesComponent occ = occm.get(blocker);
-                for (Vector2 tile : occ.occupiedTiles) {
-                    int tileX = (int) Math.floor(tile.x);
-                    int tileY = (int) Math.floor(tile.y);
+            PositionComponent pos = pm.get(enemy);
+            checkBlocker(enemy, pos, vm.get(enemy), pfm.get(enemy), occupancy, wallCostMap);
+        }
+    }
 
-                    if (tileX == nextX && tileY == nextY && isHostile(enemy, blocker)) {
-                        path.setTargetEntity(blocker);
-                        blockerFound = true;
-                        break;
-                    }
-                }
+    /**
+     * Sets the hostile blocker of the next tile of one stopped entity as its target.
+     *
+     * @param enemy       the entity
+     * @param pos         the position of the entity
+     * @param vel         the velocity of the entity
+     * @param path        the path of the entity
+     * @param occupancy   the tiles occupied by static entities
+     * @param wallCostMap the tiles occupied by walls, or {@code null}
+     */
+    static void checkBlocker(
+        Entity enemy,
+        PositionComponent pos,
+        VelocityComponent vel,
+        PathfindingBehaviourComponent path,
+        TileOccupancyComponent occupancy,
+        WallCostMap wallCostMap
+    ) {
+        if (!vel.desiredVelocity.isZero() || !path.hasPath()) return;
+
+        Vector2 nextTile = path.getNextTile(pos.basePosition);
+        int nextX = (int) Math.floor(nextTile.x);
+        int nextY = (int) Math.floor(nextTile.y);
+
+        // Walls (e.g., on a path planned to break through them)
+        Entity wall = wallCostMap != null ? wallCostMap.getWall(nextX, nextY) : null;
+        if (wall != null && wall != enemy && isHostile(enemy, wall)) {
+            path.setTargetEntity(wall);
+            return;
+        }
 
-                if (blockerFound) break;
-            }
+        // Static blockers (e.g., hostile buildings)
+        Entity blocker = occupancy.getOccupant(nextX, nextY);
+        if (blocker != null && blocker != enemy && isHostile(enemy, blocker)) {
+            path.setTargetEntity(blocker);
         }
     }
 
@@ -118,7 +155,7 @@ public class BlockingMovementSystem extends EntitySystem {
      * @param b the second entity
      * @return true if they are hostile; false otherwise
      */
-    private boolean isHostile(Entity a, Entity b) {
+    private static boolean isHostile(Entity a, Entity b) {
         return tm.has(a) && tm.has(b) && tm.get(a).team != tm.get(b).team;
     }
 }
@@ -0,0 +1,151 @@
+package com.zhaw.frontier.systems.movement;
+
+import com.badlogic.ashley.core.*;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.MathUtils;
+import com.zhaw.frontier.algorithm.CrowdSteering;
+import com.zhaw.frontier.algorithm.WallCostMap;
+import com.zhaw.frontier.components.*;
+import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.components.map.TileOccupancyComponent;
+import com.zhaw.frontier.configs.AppProperties;
+import com.zhaw.frontier.systems.TileOccupancySystem;
+import com.zhaw.frontier.utils.EntityHandle;
+
+/**
+ * Moves all pathfinding entities in one stage, replacing the {@link BlockingMovementSystem},
+ * {@link PathFollowerSystem}, {@link SteeringMovementSystem} and the {@link MovementSystem} for
+ * these entities.
+ * <p>
+ * The stages run the same per-entity code as the separate systems, in the same order, but the
+ * entities are only iterated twice per frame instead of four times:
+ * </p>
+ * <ol>
+ *     <li>Each entity looks for a hostile blocker, follows its path and is entered into the
+ *     {@link CrowdSteering} with its new desired velocity. Its components are kept in arrays for
+ *     the second pass.</li>
+ *     <li>After the whole crowd was steered, which needs all desired velocities, each entity takes
+ *     over its steered velocity and is moved, unless it is dying.</li>
+ * </ol>
+ * <p>
+ * The non-pathfinding entities are still moved by a {@link MovementSystem} created with
+ * {@code includePathfinding = false}.
+ * </p>
+ */
+public class EnemyMovementSystem extends EntitySystem {
+
+    private final ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(
+        PositionComponent.class
+    );
+    private final ComponentMapper<VelocityComponent> vm = ComponentMapper.getFor(
+        VelocityComponent.class
+    );
+    private final ComponentMapper<PathfindingBehaviourComponent> pfm = ComponentMapper.getFor(
+        PathfindingBehaviourComponent.class
+    );
+    private final ComponentMapper<DeathComponent> dm = ComponentMapper.getFor(
+        DeathComponent.class
+    );
+
+    private final Family family = Family
+        .all(PositionComponent.class, VelocityComponent.class, PathfindingBehaviourComponent.class)
+        .get();
+    private final WallCostMap wallCostMap;
+    private final CrowdSteering crowd;
+
+    // Components of the entities of the current frame, indexed like enemies
+    private PositionComponent[] positions = new PositionComponent[0];
+    private VelocityComponent[] velocities = new VelocityComponent[0];
+    private PathfindingBehaviourComponent[] paths = new PathfindingBehaviourComponent[0];
+    private boolean[] dying = new boolean[0];
+
+    private ImmutableArray<Entity> enemies;
+    private TileOccupancySystem tileOccupancySystem;
+
+    /**
+     * Constructs the system, steering in parallel if {@link AppProperties#PARALLEL_STEERING} is
+     * set.
+     *
+     * @param wallCostMap the tiles occupied by walls, or {@code null} to check all tile occupiers
+     */
+    public EnemyMovementSystem(WallCostMap wallCostMap) {
+        this(wallCostMap, AppProperties.PARALLEL_STEERING);
+    }
+
+    /**
+     * Constructs the system.
+     *
+     * @param wallCostMap the tiles occupied by walls, or {@code null} to check all tile occupiers
+     * @param parallel    whether large crowds are steered on several threads
+     */
+    public EnemyMovementSystem(WallCostMap wallCostMap, boolean parallel) {
+        this.wallCostMap = wallCostMap;
+        this.crowd = new CrowdSteering(parallel);
+    }
+
+    /**
+     * Called when the system is added to the engine.
+     * Filters the pathfinding entities and tracks the blockers that become targets.
+     *
+     * @param engine the Ashley engine
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        EntityHandle.track(engine);
+        enemies = engine.getEntitiesFor(family);
+        tileOccupancySystem = TileOccupancySystem.obtain(engine);
+    }
+
+    /**
+     * Moves all pathfinding entities.
+     *
+     * @param deltaTime the time elapsed since the last frame (in seconds)
+     */
+    @Override
+    public void update(float deltaTime) {
+        int size = enemies.size();
+        ensureCapacity(size);
+        crowd.ensureCapacity(size);
+        TileOccupancyComponent occupancy = tileOccupancySystem.getOccupancy();
+
+        for (int i = 0; i < size; i++) {
+            Entity enemy = enemies.get(i);
+            PositionComponent pos = pm.get(enemy);
+            VelocityComponent vel = vm.get(enemy);
+            PathfindingBehaviourComponent path = pfm.get(enemy);
+            positions[i] = pos;
+            velocities[i] = vel;
+            paths[i] = path;
+            dying[i] = dm.has(enemy);
+
+            BlockingMovementSystem.checkBlocker(enemy, pos, vel, path, occupancy, wallCostMap);
+            PathFollowerSystem.followPath(pos, vel, path, occupancy);
+            crowd.set(
+                i,
+                pos.basePosition.x,
+                pos.basePosition.y,
+                vel.desiredVelocity.x,
+                vel.desiredVelocity.y,
+                path.speed
+            );
+        }
+
+        crowd.steer(size);
+
+        for (int i = 0; i < size; i++) {
+            SteeringMovementSystem.applySteering(positions[i], velocities[i], crowd, i);
+            if (!dying[i]) {
+                MovementSystem.move(positions[i], velocities[i], paths[i], deltaTime);
+            }
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (positions.length >= size) return;
+        int capacity = MathUtils.nextPowerOfTwo(size);
+        positions = new PositionComponent[capacity];
+        velocities = new VelocityComponent[capacity];
+        paths = new PathfindingBehaviourComponent[capacity];
+        dying = new boolean[capacity];
+    }
+}
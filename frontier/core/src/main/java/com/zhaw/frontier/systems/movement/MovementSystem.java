@@ -32,10 +32,22 @@ public class MovementSystem extends EntitySystem {
         PathfindingBehaviourComponent.class
     );
 
+    private final boolean includePathfinding;
     private ImmutableArray<Entity> movables;
 
     public MovementSystem() {
+        this(true);
+    }
+
+    /**
+     * Creates the system.
+     *
+     * @param includePathfinding whether entities with a {@link PathfindingBehaviourComponent} are
+     *                           moved as well; false if an {@link EnemyMovementSystem} moves them
+     */
+    public MovementSystem(boolean includePathfinding) {
         super();
+        this.includePathfinding = includePathfinding;
         Gdx.app.debug("MovementSystem", "initialized");
     }
 
@@ -47,13 +59,13 @@ public class MovementSystem extends EntitySystem {
      */
     @Override
     public void addedToEngine(Engine engine) {
-        movables =
-        engine.getEntitiesFor(
-            Family
-                .all(PositionComponent.class, VelocityComponent.class)
-                .exclude(DeathComponent.class)
-                .get()
-        );
+        Family.Builder family = Family.all(PositionComponent.class, VelocityComponent.class);
+        if (includePathfinding) {
+            family.exclude(DeathComponent.class);
+        } else {
+            family.exclude(DeathComponent.class, PathfindingBehaviourComponent.class);
+        }
+        movables = engine.getEntitiesFor(family.get());
     }
 
     /**
@@ -63,23 +75,39 @@ public class MovementSystem extends EntitySystem {
      */
     @Override
     public void update(float deltaTime) {
-        for (Entity entity : movables) {
-            PositionComponent pos = pm.get(entity);
-            VelocityComponent vel = vm.get(entity);
+        for (int i = 0; i < movables.size(); i++) {
+            Entity entity = movables.get(i);
+            move(pm.get(entity), vm.get(entity), pfm.get(entity), deltaTime);
+        }
+    }
 
-            pos.previousPosition.set(pos.basePosition);
-            pos.basePosition.x += vel.velocity.x * deltaTime;
-            pos.basePosition.y += vel.velocity.y * deltaTime;
+    /**
+     * Moves one entity by its velocity and updates its looking direction.
+     *
+     * @param pos       the position of the entity
+     * @param vel       the velocity of the entity
+     * @param path      the path of the entity, or {@code null} if it has none
+     * @param deltaTime the time elapsed since the last frame (in seconds)
+     */
+    static void move(
+        PositionComponent pos,
+        VelocityComponent vel,
+        PathfindingBehaviourComponent path,
+        float deltaTime
+    ) {
+        pos.previousPosition.set(pos.basePosition);
+        pos.basePosition.x += vel.velocity.x * deltaTime;
+        pos.basePosition.y += vel.velocity.y * deltaTime;
 
-            calculateLookingDirection(entity);
-        }
+        calculateLookingDirection(pos, vel, path);
     }
 
-    private void calculateLookingDirection(Entity entity) {
+    private static void calculateLookingDirection(
+        PositionComponent pos,
+        VelocityComponent vel,
+        PathfindingBehaviourComponent path
+    ) {
         final float DIRECTION_EPSILON = 0.05f;
-        PositionComponent pos = pm.get(entity);
-        VelocityComponent vel = vm.get(entity);
-        PathfindingBehaviourComponent path = pfm.get(entity);
 
         // 1. Prefer actual movement (most accurate)
         float dx = pos.basePosition.x - pos.previousPosition.x;
@@ -98,9 +126,11 @@ public class MovementSystem extends EntitySystem {
 
         // 3. Fallback to intent (next waypoint)
         if (path != null && path.hasPath()) {
-            Vector2 dir = new Vector2(path.getNextWaypoint()).sub(pos.basePosition);
-            if (dir.len2() > DIRECTION_EPSILON * DIRECTION_EPSILON) {
-                pos.lookingDirection.set(dir).nor();
+            Vector2 waypoint = path.getNextWaypoint();
+            dx = waypoint.x - pos.basePosition.x;
+            dy = waypoint.y - pos.basePosition.y;
+            if (dx * dx + dy * dy > DIRECTION_EPSILON * DIRECTION_EPSILON) {
+                pos.lookingDirection.set(dx, dy).nor();
             }
         }
     }
@@ -5,19 +5,22 @@ import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.math.Vector2;
 import com.zhaw.frontier.components.*;
 import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.components.map.TileOccupancyComponent;
 import com.zhaw.frontier.configs.AppProperties;
+import com.zhaw.frontier.systems.TileOccupancySystem;
 
 /**
  * A system that moves entities along a path defined by {@link PathfindingBehaviourComponent}.
  * <p>
- * The system checks whether the next waypoint is blocked by any static entity
- * (with {@link OccupiesTilesComponent} but without {@link PathfindingBehaviourComponent})
- * and updates the {@link VelocityComponent} accordingly.
+ * The system checks whether the next tile on the way to the waypoint is blocked by any static
+ * entity (with {@link OccupiesTilesComponent} but without {@link PathfindingBehaviourComponent}),
+ * which is a single lookup in the {@link TileOccupancySystem}, and updates the
+ * {@link VelocityComponent} accordingly.
  * </p>
  *
  * <p>Main responsibilities:</p>
  * <ul>
- *     <li>Detects whether the next waypoint is blocked by a static entity</li>
+ *     <li>Detects whether the next tile towards the waypoint is blocked by a static entity</li>
  *     <li>Moves the entity toward the next waypoint using its movement speed</li>
  *     <li>Snaps the entity to the waypoint once it is reached</li>
  *     <li>Clears velocity if the path is completed or blocked</li>
@@ -34,12 +37,9 @@ public class PathFollowerSystem extends EntitySystem {
     private final ComponentMapper<PathfindingBehaviourComponent> pathm = ComponentMapper.getFor(
         PathfindingBehaviourComponent.class
     );
-    private final ComponentMapper<OccupiesTilesComponent> occm = ComponentMapper.getFor(
-        OccupiesTilesComponent.class
-    );
 
     private ImmutableArray<Entity> entities;
-    private ImmutableArray<Entity> tileOccupiers;
+    private TileOccupancySystem tileOccupancySystem;
 
     /**
      * Called when the system is added to the engine. Sets up the entity filters.
@@ -59,19 +59,14 @@ public class PathFollowerSystem extends EntitySystem {
                 .get()
         );
 
-        tileOccupiers =
-        engine.getEntitiesFor(
-            Family
-                .all(OccupiesTilesComponent.class)
-                .exclude(PathfindingBehaviourComponent.class)
-                .get()
-        );
+        tileOccupancySystem = TileOccupancySystem.obtain(engine);
     }
 
     /**
      * Updates all path-following entities.
      * <p>
-     * If the next waypoint is blocked, movement is halted.
+     * If the next tile is blocked, movement is halted. On a smoothed path this is the tile
+     * the entity is about to enter, not the possibly distant waypoint.
      * Otherwise, the entity moves toward the waypoint, and once close enough,
      * it snaps to the tile and advances the path.
      * </p>
@@ -80,55 +75,57 @@ public class PathFollowerSystem extends EntitySystem {
      */
     @Override
     public void update(float deltaTime) {
-        for (Entity entity : entities) {
-            PositionComponent pos = pm.get(entity);
-            VelocityComponent vel = vm.get(entity);
-            PathfindingBehaviourComponent path = pathm.get(entity);
-
-            float speed = path.speed;
-
-            if (path.hasPath()) {
-                Vector2 nextWaypoint = path.getNextWaypoint();
-                int tileX = (int) nextWaypoint.x;
-                int tileY = (int) nextWaypoint.y;
+        TileOccupancyComponent occupancy = tileOccupancySystem.getOccupancy();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity entity = entities.get(i);
+            followPath(pm.get(entity), vm.get(entity), pathm.get(entity), occupancy);
+        }
+    }
 
-                boolean isBlocked = false;
+    /**
+     * Sets the desired velocity of one entity towards its next waypoint, or to zero if the next
+     * tile is occupied, the waypoint was reached or there is no path.
+     *
+     * @param pos       the position of the entity
+     * @param vel       the velocity of the entity
+     * @param path      the path of the entity
+     * @param occupancy the tiles occupied by static entities
+     */
+    static void followPath(
+        PositionComponent pos,
+        VelocityComponent vel,
+        PathfindingBehaviourComponent path,
+        TileOccupancyComponent occupancy
+    ) {
+        if (!path.hasPath()) {
+            vel.desiredVelocity.setZero(); // No path
+            return;
+        }
 
-                // Check if the waypoint is occupied
-                for (int j = 0; j < tileOccupiers.size(); j++) {
-                    Entity blocker = tileOccupiers.get(j);
-                    OccupiesTilesComponent occ = occm.get(blocker);
-                    for (Vector2 tile : occ.occupiedTiles) {
-                        if ((int) tile.x == tileX && (int) tile.y == tileY) {
-                            isBlocked = true;
-                            break;
-                        }
-                    }
-                    if (isBlocked) break;
-                }
+        Vector2 nextTile = path.getNextTile(pos.basePosition);
+        int tileX = (int) nextTile.x;
+        int tileY = (int) nextTile.y;
 
-                if (isBlocked) {
-                    vel.desiredVelocity.setZero(); // Blocked: stop movement
-                    continue;
-                }
+        // Check if the next tile is occupied
+        if (occupancy.isOccupied(tileX, tileY)) {
+            vel.desiredVelocity.setZero(); // Blocked: stop movement
+            return;
+        }
 
-                // Move toward next waypoint
-                Vector2 direction = new Vector2(nextWaypoint).sub(pos.basePosition);
+        // Move toward next waypoint
+        Vector2 nextWaypoint = path.getNextWaypoint();
+        float dx = nextWaypoint.x - pos.basePosition.x;
+        float dy = nextWaypoint.y - pos.basePosition.y;
+        float len2 = dx * dx + dy * dy;
 
-                if (
-                    direction.len2() <
-                    AppProperties.PATH_FOLLOWER_STOP_TRESHOLD *
-                        AppProperties.PATH_FOLLOWER_STOP_TRESHOLD
-                ) {
-                    path.advanceToNextWaypoint();
-                    vel.desiredVelocity.setZero(); // Reached waypoint
-                } else {
-                    direction.nor().scl(speed);
-                    vel.desiredVelocity.set(direction);
-                }
-            } else {
-                vel.desiredVelocity.setZero(); // No path
-            }
+        if (
+            len2 <
+            AppProperties.PATH_FOLLOWER_STOP_TRESHOLD * AppProperties.PATH_FOLLOWER_STOP_TRESHOLD
+        ) {
+            path.advanceToNextWaypoint();
+            vel.desiredVelocity.setZero(); // Reached waypoint
+        } else {
+            vel.desiredVelocity.set(dx, dy).nor().scl(path.speed);
         }
     }
 }
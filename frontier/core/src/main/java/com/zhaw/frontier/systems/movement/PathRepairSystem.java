@@ -0,0 +1,441 @@
+package com.zhaw.frontier.systems.movement;
+
+import com.badlogic.ashley.core.*;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.zhaw.frontier.algorithm.FlowField;
+import com.zhaw.frontier.algorithm.FlowFieldPathfinder;
+import com.zhaw.frontier.algorithm.PackedPath;
+import com.zhaw.frontier.algorithm.PathSmoother;
+import com.zhaw.frontier.algorithm.Pathfinder;
+import com.zhaw.frontier.algorithm.TileCost;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import com.zhaw.frontier.algorithm.WallCostMap;
+import com.zhaw.frontier.components.OccupiesTilesComponent;
+import com.zhaw.frontier.components.PositionComponent;
+import com.zhaw.frontier.components.TargetTypeComponent;
+import com.zhaw.frontier.components.WallPieceComponent;
+import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import java.util.Arrays;
+
+/**
+ * A system that incrementally repairs existing paths when buildings are placed or removed.
+ * <p>
+ * The system listens for buildings entering and leaving the engine (placement by the
+ * {@link com.zhaw.frontier.systems.building.BuildingPlacer}, removal by the
+ * {@link com.zhaw.frontier.systems.building.BuildingRemover}, destruction and loading). It marks
+ * their tiles as {@link WalkabilityGrid#setBlocked blocked} in the walkability grid, except for
+ * walls, whose cost is handled by the {@link WallCostMap}, and reports them to
+ * {@link #buildingPlaced(Entity)} and {@link #buildingRemoved(Entity)}. The changes are collected
+ * and processed once per update, so building several things during a wave does not cause a
+ * repath storm.
+ * </p>
+ * <p>This system performs the following tasks:</p>
+ * <ul>
+ *   <li>Leaves all paths untouched that do not run over a newly occupied tile, including the
+ *       tiles between the waypoints of smoothed paths</li>
+ *   <li>Replaces only the blocked section of an affected path by a local detour,
+ *       computed between the waypoints right before and right after the blocked tiles</li>
+ *   <li>Falls back to a full repath if no local detour exists</li>
+ *   <li>After a removal, only marks entities for repath whose remaining path passes within
+ *       {@link #REMOVAL_RADIUS} tiles of the removed building and that are currently detouring
+ *       (their path is longer than the shortest route on the map)</li>
+ * </ul>
+ */
+public class PathRepairSystem extends EntitySystem {
+
+    /** Paths further than this many tiles away from a removed building are not checked. */
+    public static final int REMOVAL_RADIUS = 8;
+
+    private final ComponentMapper<PositionComponent> pm = ComponentMapper.getFor(
+        PositionComponent.class
+    );
+    private final ComponentMapper<PathfindingBehaviourComponent> pathm = ComponentMapper.getFor(
+        PathfindingBehaviourComponent.class
+    );
+    private final ComponentMapper<TargetTypeComponent> ttm = ComponentMapper.getFor(
+        TargetTypeComponent.class
+    );
+    private final ComponentMapper<OccupiesTilesComponent> occm = ComponentMapper.getFor(
+        OccupiesTilesComponent.class
+    );
+    private final ComponentMapper<WallPieceComponent> wm = ComponentMapper.getFor(
+        WallPieceComponent.class
+    );
+
+    private final Pathfinder pathfinder;
+    private final WalkabilityGrid grid;
+    private final FlowFieldPathfinder flowFieldPathfinder;
+    private final WallCostMap wallCostMap;
+
+    /** Building placed on each tile in the current batch, indexed by tile. */
+    private final Entity[] placedBuildings;
+    /** Batch in which each tile was last occupied, indexed by tile. */
+    private final int[] placedInBatch;
+    private int batch = 1;
+    private boolean hasPlacements = false;
+    /** The rectangles (min x, min y, max x, max y) of the buildings removed in this batch. */
+    private final IntArray removedAreas = new IntArray();
+
+    private final Family buildingFamily = Family
+        .all(OccupiesTilesComponent.class)
+        .exclude(PathfindingBehaviourComponent.class)
+        .get();
+
+    private final EntityListener buildingListener = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            setBlocked(entity, true);
+            buildingPlaced(entity);
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            setBlocked(entity, false);
+            buildingRemoved(entity);
+        }
+    };
+
+    private Engine engine;
+    private ImmutableArray<Entity> entities;
+
+    /**
+     * Constructs a new {@code PathRepairSystem}.
+     *
+     * @param pathfinder          the pathfinder used to compute local detours
+     * @param grid                the walkability grid the paths were computed on
+     * @param flowFieldPathfinder the shortest routes on the map, or {@code null} to skip repairs
+     *                            after removals
+     * @param wallCostMap         the wall costs used for detours, or {@code null} to treat all new
+     *                            buildings as impassable
+     */
+    public PathRepairSystem(
+        Pathfinder pathfinder,
+        WalkabilityGrid grid,
+        FlowFieldPathfinder flowFieldPathfinder,
+        WallCostMap wallCostMap
+    ) {
+        this.pathfinder = pathfinder;
+        this.grid = grid;
+        this.flowFieldPathfinder = flowFieldPathfinder;
+        this.wallCostMap = wallCostMap;
+        int size = grid.getWidth() * grid.getHeight();
+        this.placedBuildings = new Entity[size];
+        this.placedInBatch = new int[size];
+    }
+
+    /**
+     * Called when the system is added to the engine. Sets up the entity filter, blocks the tiles
+     * of the buildings that already exist and listens for new and removed ones.
+     *
+     * @param engine the Ashley engine
+     */
+    @Override
+    public void addedToEngine(Engine engine) {
+        this.engine = engine;
+        entities =
+        engine.getEntitiesFor(
+            Family.all(PositionComponent.class, PathfindingBehaviourComponent.class).get()
+        );
+        for (Entity building : engine.getEntitiesFor(buildingFamily)) {
+            setBlocked(building, true);
+        }
+        engine.addEntityListener(buildingFamily, buildingListener);
+    }
+
+    /**
+     * Called when the system is removed from the engine.
+     *
+     * @param engine the Ashley engine
+     */
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(buildingListener);
+    }
+
+    /**
+     * Notifies the system that a building now occupies its tiles. Called for every building
+     * added to the engine.
+     *
+     * @param building the placed building with its {@link OccupiesTilesComponent} filled in
+     */
+    public void buildingPlaced(Entity building) {
+        OccupiesTilesComponent occupiesTiles = occm.get(building);
+        if (occupiesTiles == null) return;
+
+        int right = occupiesTiles.tileX + occupiesTiles.widthInTiles;
+        int top = occupiesTiles.tileY + occupiesTiles.heightInTiles;
+        for (int y = occupiesTiles.tileY; y < top; y++) {
+            for (int x = occupiesTiles.tileX; x < right; x++) {
+                if (!grid.inBounds(x, y)) continue;
+
+                int index = grid.index(x, y);
+                placedBuildings[index] = building;
+                placedInBatch[index] = batch;
+                hasPlacements = true;
+            }
+        }
+    }
+
+    /**
+     * Notifies the system that a building no longer occupies its tiles. Called for every
+     * building removed from the engine.
+     *
+     * @param building the removed building
+     */
+    public void buildingRemoved(Entity building) {
+        OccupiesTilesComponent occupiesTiles = occm.get(building);
+        if (occupiesTiles == null) return;
+
+        int right = occupiesTiles.tileX + occupiesTiles.widthInTiles;
+        int top = occupiesTiles.tileY + occupiesTiles.heightInTiles;
+        for (int y = occupiesTiles.tileY; y < top; y++) {
+            for (int x = occupiesTiles.tileX; x < right; x++) {
+                if (!grid.inBounds(x, y)) continue;
+
+                int index = grid.index(x, y);
+                if (placedInBatch[index] == batch && placedBuildings[index] == building) {
+                    placedInBatch[index] = 0;
+                    placedBuildings[index] = null;
+                }
+            }
+        }
+        removedAreas.add(occupiesTiles.tileX, occupiesTiles.tileY, right - 1, top - 1);
+    }
+
+    /**
+     * Marks the tiles of a building as blocked or free in the walkability grid. Walls are left
+     * walkable, the {@link WallCostMap} makes them expensive instead.
+     *
+     * @param building the building
+     * @param blocked  whether the building covers its tiles
+     */
+    private void setBlocked(Entity building, boolean blocked) {
+        if (wm.has(building)) return;
+
+        OccupiesTilesComponent occupiesTiles = occm.get(building);
+        int right = occupiesTiles.tileX + occupiesTiles.widthInTiles;
+        int top = occupiesTiles.tileY + occupiesTiles.heightInTiles;
+        for (int y = occupiesTiles.tileY; y < top; y++) {
+            for (int x = occupiesTiles.tileX; x < right; x++) {
+                grid.setBlocked(x, y, blocked);
+            }
+        }
+    }
+
+    /**
+     * Repairs the paths affected by the changes reported since the last update.
+     *
+     * @param deltaTime time since last update (not used)
+     */
+    @Override
+    public void update(float deltaTime) {
+        boolean hasRemovals = removedAreas.size > 0;
+        if (!hasPlacements && !hasRemovals) return;
+
+        PathfindingSystem pathfindingSystem = engine.getSystem(PathfindingSystem.class);
+        for (Entity entity : entities) {
+            PathfindingBehaviourComponent path = pathm.get(entity);
+            if (path.needsRepath) {
+                // A search that is still running does not know about the new buildings
+                if (hasPlacements && pathfindingSystem != null) {
+                    pathfindingSystem.cancelPathRequest(entity);
+                }
+                continue;
+            }
+            if (!path.hasPath()) continue;
+
+            if (hasPlacements && repairBlockedSections(entity, path)) continue;
+            if (hasRemovals && isNearRemoval(entity, path) && isDetouring(entity, path)) {
+                path.needsRepath = true;
+            }
+        }
+
+        if (hasPlacements) Arrays.fill(placedBuildings, null);
+        hasPlacements = false;
+        removedAreas.clear();
+        batch++;
+    }
+
+    /**
+     * Replaces every section of the path that runs over newly occupied tiles by a local detour.
+     *
+     * @param entity the entity owning the path
+     * @param path   the path to repair
+     * @return true if the path was affected, whether it was repaired or marked for repath
+     */
+    private boolean repairBlockedSections(Entity entity, PathfindingBehaviourComponent path) {
+        // Shared paths are only copied if they actually need to be changed
+        Vector2 position = pm.get(entity).basePosition;
+        if (!pathIsAffected(position, path)) return false;
+        path.detachSharedPath();
+
+        // Blocked tiles may lie between the waypoints of a smoothed path, edit it tile by tile
+        Vector2 startTile = new Vector2((int) position.x, (int) position.y);
+        Array<Vector2> waypoints = path.waypoints;
+        Array<Vector2> steps = PathSmoother.densify(startTile, waypoints);
+        waypoints.clear();
+        waypoints.addAll(steps);
+        boolean affected = false;
+
+        int first = 0;
+        while (true) {
+            while (first < waypoints.size && !isNewlyOccupied(waypoints.get(first))) first++;
+            if (first == waypoints.size) return affected;
+            affected = true;
+
+            int last = first;
+            while (last + 1 < waypoints.size && isNewlyOccupied(waypoints.get(last + 1))) {
+                last++;
+            }
+
+            // The destination itself was built over, the path has to be recomputed as a whole
+            if (last == waypoints.size - 1) {
+                path.needsRepath = true;
+                return true;
+            }
+
+            Vector2 from = first == 0 ? startTile : waypoints.get(first - 1);
+            Vector2 to = waypoints.get(last + 1);
+
+            Array<Vector2> detour = pathfinder.findPath(from, to, detourCost(entity));
+            if (detour.isEmpty() || !detour.peek().equals(to)) {
+                path.needsRepath = true;
+                return true;
+            }
+
+            // Swap the blocked tiles and the rejoin point for the detour, which ends there too
+            waypoints.removeRange(first, last + 1);
+            for (int i = 0; i < detour.size; i++) {
+                waypoints.insert(first + i, detour.get(i));
+            }
+
+            // A detour may break through a new wall on purpose, continue behind it
+            first += detour.size;
+        }
+    }
+
+    /**
+     * Checks whether the remaining path, including the current tile of the entity, passes within
+     * {@link #REMOVAL_RADIUS} tiles of a building removed in this batch. Only such paths can
+     * have been a detour around it.
+     *
+     * @param entity the entity owning the path
+     * @param path   the current path
+     * @return true if the path passes close to a removed building
+     */
+    private boolean isNearRemoval(Entity entity, PathfindingBehaviourComponent path) {
+        Vector2 position = pm.get(entity).basePosition;
+        if (isNearRemoval((int) position.x, (int) position.y)) return true;
+        return !traceRemainingPath(position, path, (x, y) -> !isNearRemoval(x, y));
+    }
+
+    private boolean isNearRemoval(int x, int y) {
+        for (int i = 0; i < removedAreas.size; i += 4) {
+            int dx = Math.max(removedAreas.get(i) - x, x - removedAreas.get(i + 2));
+            int dy = Math.max(removedAreas.get(i + 1) - y, y - removedAreas.get(i + 3));
+            if (Math.max(dx, dy) <= REMOVAL_RADIUS) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the entity walks a longer way than the shortest route on the map,
+     * which means a removed building may have opened a shorter way. The remaining path is
+     * measured in tile steps, so smoothed paths are not mistaken for detours.
+     *
+     * @param entity the entity owning the path
+     * @param path   the current path
+     * @return true if the entity is detouring
+     */
+    private boolean isDetouring(Entity entity, PathfindingBehaviourComponent path) {
+        if (flowFieldPathfinder == null || !ttm.has(entity)) return false;
+
+        Vector2 position = pm.get(entity).basePosition;
+        int x = (int) position.x;
+        int y = (int) position.y;
+        if (!grid.inBounds(x, y)) return false;
+
+        FlowField field = flowFieldPathfinder.getField(ttm.get(entity).targetComponentType);
+        int shortest = field.getDistance(grid.index(x, y));
+        return (
+            shortest != FlowField.UNREACHABLE && path.getRemainingPathLength(position) > shortest
+        );
+    }
+
+    /**
+     * Checks whether the remaining path runs over a newly occupied tile, tracing the tiles
+     * between the waypoints.
+     *
+     * @param position the current position of the entity
+     * @param path     the path to check
+     * @return true if the path has to be repaired
+     */
+    private boolean pathIsAffected(Vector2 position, PathfindingBehaviourComponent path) {
+        return !traceRemainingPath(position, path, (x, y) -> !isNewlyOccupied(x, y));
+    }
+
+    /**
+     * Visits the tiles of the remaining path, including the tiles between the waypoints.
+     *
+     * @param position the current position of the entity
+     * @param path     the path to trace
+     * @param visitor  the visitor to call for each tile
+     * @return true if all tiles were visited, false if the visitor stopped early
+     */
+    private boolean traceRemainingPath(
+        Vector2 position,
+        PathfindingBehaviourComponent path,
+        PathSmoother.TileVisitor visitor
+    ) {
+        int x = (int) position.x;
+        int y = (int) position.y;
+
+        PackedPath sharedPath = path.sharedPath;
+        for (int i = 0; i < path.getRemainingWaypointCount(); i++) {
+            int nextX;
+            int nextY;
+            if (sharedPath != null) {
+                nextX = sharedPath.getX(path.pathCursor + i);
+                nextY = sharedPath.getY(path.pathCursor + i);
+            } else {
+                nextX = (int) path.waypoints.get(i).x;
+                nextY = (int) path.waypoints.get(i).y;
+            }
+            if (!PathSmoother.traceLine(x, y, nextX, nextY, visitor)) return false;
+            x = nextX;
+            y = nextY;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the cost of the tiles around a blocked section for the given entity.
+     * Newly placed buildings are impassable, except for walls, which can be broken through.
+     *
+     * @param entity the entity the detour is computed for
+     * @return the tile cost for the detour search
+     */
+    private TileCost detourCost(Entity entity) {
+        TileCost wallCost = wallCostMap != null ? wallCostMap.costFor(entity) : null;
+
+        return (x, y) -> {
+            int index = grid.index(x, y);
+            if (placedInBatch[index] == batch) {
+                boolean breakable = wallCost != null && wm.has(placedBuildings[index]);
+                if (!breakable) return TileCost.IMPASSABLE;
+            }
+            return wallCost != null ? wallCost.getCost(x, y) : 0;
+        };
+    }
+
+    private boolean isNewlyOccupied(Vector2 waypoint) {
+        return isNewlyOccupied((int) waypoint.x, (int) waypoint.y);
+    }
+
+    private boolean isNewlyOccupied(int x, int y) {
+        return grid.inBounds(x, y) && placedInBatch[grid.index(x, y)] == batch;
+    }
+}
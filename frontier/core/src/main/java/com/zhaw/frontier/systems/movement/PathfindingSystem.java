@@ -3,17 +3,65 @@ package com.zhaw.frontier.systems.movement;
 import com.badlogic.ashley.core.*;
 import com.badlogic.ashley.utils.ImmutableArray;
 import com.badlogic.gdx.math.Vector2;
-import com.zhaw.frontier.algorithm.SimpleAStarPathfinder;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.FlowFieldPathfinder;
+import com.zhaw.frontier.algorithm.HierarchicalPathfinder;
+import com.zhaw.frontier.algorithm.PackedPath;
+import com.zhaw.frontier.algorithm.PathCache;
+import com.zhaw.frontier.algorithm.PathRequest;
+import com.zhaw.frontier.algorithm.PathRequestQueue;
+import com.zhaw.frontier.algorithm.PathRequestScheduler;
+import com.zhaw.frontier.algorithm.PathSmoother;
+import com.zhaw.frontier.algorithm.PathWorkerPool;
+import com.zhaw.frontier.algorithm.Pathfinder;
+import com.zhaw.frontier.algorithm.TargetIndex;
+import com.zhaw.frontier.algorithm.TileCost;
+import com.zhaw.frontier.algorithm.WallCostMap;
 import com.zhaw.frontier.components.PositionComponent;
 import com.zhaw.frontier.components.TargetTypeComponent;
 import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.configs.AppProperties;
+import com.zhaw.frontier.utils.EntityHandle;
 
 /**
  * A system that manages pathfinding for entities with {@link PathfindingBehaviourComponent}.
  * <p>
- * It uses a {@link SimpleAStarPathfinder} to compute paths toward the nearest target entity
+ * It uses a {@link Pathfinder} (A*) to compute paths toward the nearest target entity
  * matching the component type specified in {@link TargetTypeComponent}.
  * </p>
+ * <p>
+ * If a {@link FlowFieldPathfinder} is provided, entities read their route from the shared flow
+ * field of their target type instead, so that a whole wave does not need one A* search per enemy.
+ * A* is only used as fallback for entities that cannot reach any target through the field.
+ * </p>
+ * <p>
+ * If a {@link WallCostMap} is provided, hostile walls are passable for A* at the cost of breaking
+ * through them. Routes from the flow field that run into a wall are then replaced by a cost-aware
+ * A* path, which either walks around the wall or breaks through where it is cheapest.
+ * </p>
+ * <p>
+ * A* paths are stored as {@link PackedPath}s in a {@link PathCache} and shared, so that enemies
+ * from the same spawn point reuse one path and only keep a cursor into it. Paths found with wall
+ * costs are cached under the {@link WallCostMap.CostProfile} of the attacker and the
+ * {@link WallCostMap#getVersion() version} of the walls, so they are shared between attackers of
+ * the same kind until a wall is built, damaged or destroyed.
+ * </p>
+ * <p>
+ * If a {@link PathRequestScheduler} is provided, A* searches are handed to it instead of being run
+ * immediately, e.g. to a {@link PathRequestQueue} working within a fixed time budget per frame or to
+ * a {@link PathWorkerPool} running them on background threads. Entities keep following their old
+ * path while they wait, and the results are applied on the main thread.
+ * </p>
+ * <p>
+ * If the pathfinder is a {@link HierarchicalPathfinder} and no scheduler is provided, only the
+ * abstract path is searched up front. Its segments are refined into waypoints as the entity
+ * advances, a few waypoints ahead.
+ * </p>
+ * <p>
+ * If a {@link PathSmoother} is provided, flow field routes and A* paths are smoothed before they
+ * are cached or assigned, so that entities walk straight lines between few waypoints instead of
+ * stepping from tile to tile. Hierarchical paths are refined lazily and stay unsmoothed.
+ * </p>
  * <p>This system performs the following tasks:</p>
  * <ul>
  *   <li>Checks if a path is needed or must be recalculated</li>
@@ -34,8 +82,29 @@ public class PathfindingSystem extends EntitySystem {
         TargetTypeComponent.class
     );
 
-    private final SimpleAStarPathfinder pathfinder;
+    /** Number of waypoints kept ahead of the entity when refining a hierarchical path. */
+    private static final int REFINE_AHEAD_WAYPOINTS = 8;
+
+    private static final Array<Vector2> NO_WAYPOINTS = new Array<>(0);
+
+    private final Pathfinder pathfinder;
+    private final HierarchicalPathfinder hierarchicalPathfinder;
+    private final FlowFieldPathfinder flowFieldPathfinder;
+    private final WallCostMap wallCostMap;
+    private final PathCache pathCache;
+    private final PathRequestScheduler requestScheduler;
+    private final PathSmoother pathSmoother;
+    private final EntityListener requestCanceller = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {}
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            requestScheduler.cancel(entity);
+        }
+    };
     private Engine engine;
+    private TargetIndex targetIndex;
 
     private final Family pathingFamily = Family
         .all(
@@ -50,18 +119,137 @@ public class PathfindingSystem extends EntitySystem {
      *
      * @param pathfinder the A* pathfinding engine to use
      */
-    public PathfindingSystem(SimpleAStarPathfinder pathfinder) {
+    public PathfindingSystem(Pathfinder pathfinder) {
+        this(pathfinder, null);
+    }
+
+    /**
+     * Constructs a {@code PathfindingSystem} that prefers shared flow fields over A*.
+     *
+     * @param pathfinder          the A* pathfinding engine used as fallback
+     * @param flowFieldPathfinder the flow field provider, or {@code null} to always use A*
+     */
+    public PathfindingSystem(
+        Pathfinder pathfinder,
+        FlowFieldPathfinder flowFieldPathfinder
+    ) {
+        this(pathfinder, flowFieldPathfinder, null);
+    }
+
+    /**
+     * Constructs a {@code PathfindingSystem} that prefers shared flow fields over A*
+     * and lets A* break through hostile walls.
+     *
+     * @param pathfinder          the A* pathfinding engine used as fallback
+     * @param flowFieldPathfinder the flow field provider, or {@code null} to always use A*
+     * @param wallCostMap         the wall costs for A*, or {@code null} to ignore walls
+     */
+    public PathfindingSystem(
+        Pathfinder pathfinder,
+        FlowFieldPathfinder flowFieldPathfinder,
+        WallCostMap wallCostMap
+    ) {
+        this(pathfinder, flowFieldPathfinder, wallCostMap, null);
+    }
+
+    /**
+     * Constructs a {@code PathfindingSystem} that additionally shares equal paths between
+     * entities through the given cache.
+     *
+     * @param pathfinder          the A* pathfinding engine used as fallback
+     * @param flowFieldPathfinder the flow field provider, or {@code null} to always use A*
+     * @param wallCostMap         the wall costs for A*, or {@code null} to ignore walls
+     * @param pathCache           the cache of shared paths, or {@code null} to compute every path
+     */
+    public PathfindingSystem(
+        Pathfinder pathfinder,
+        FlowFieldPathfinder flowFieldPathfinder,
+        WallCostMap wallCostMap,
+        PathCache pathCache
+    ) {
+        this(pathfinder, flowFieldPathfinder, wallCostMap, pathCache, null);
+    }
+
+    /**
+     * Constructs a {@code PathfindingSystem} that hands its A* searches to a scheduler instead of
+     * completing them immediately.
+     *
+     * @param pathfinder          the A* pathfinding engine used if there is no request queue
+     * @param flowFieldPathfinder the flow field provider, or {@code null} to always use A*
+     * @param wallCostMap         the wall costs for A*, or {@code null} to ignore walls
+     * @param pathCache           the cache of shared paths, or {@code null} to compute every path
+     * @param requestScheduler    the scheduler for A* searches, or {@code null} to search immediately
+     */
+    public PathfindingSystem(
+        Pathfinder pathfinder,
+        FlowFieldPathfinder flowFieldPathfinder,
+        WallCostMap wallCostMap,
+        PathCache pathCache,
+        PathRequestScheduler requestScheduler
+    ) {
+        this(pathfinder, flowFieldPathfinder, wallCostMap, pathCache, requestScheduler, null);
+    }
+
+    /**
+     * Constructs a {@code PathfindingSystem} that smooths the paths it assigns.
+     *
+     * @param pathfinder          the A* pathfinding engine used if there is no request queue
+     * @param flowFieldPathfinder the flow field provider, or {@code null} to always use A*
+     * @param wallCostMap         the wall costs for A*, or {@code null} to ignore walls
+     * @param pathCache           the cache of shared paths, or {@code null} to compute every path
+     * @param requestScheduler    the scheduler for A* searches, or {@code null} to search immediately
+     * @param pathSmoother        the smoother for new paths, or {@code null} to keep every tile
+     */
+    public PathfindingSystem(
+        Pathfinder pathfinder,
+        FlowFieldPathfinder flowFieldPathfinder,
+        WallCostMap wallCostMap,
+        PathCache pathCache,
+        PathRequestScheduler requestScheduler,
+        PathSmoother pathSmoother
+    ) {
         this.pathfinder = pathfinder;
+        this.hierarchicalPathfinder =
+        pathfinder instanceof HierarchicalPathfinder hierarchical ? hierarchical : null;
+        this.flowFieldPathfinder = flowFieldPathfinder;
+        this.wallCostMap = wallCostMap;
+        this.pathCache = pathCache;
+        this.requestScheduler = requestScheduler;
+        this.pathSmoother = pathSmoother;
     }
 
     /**
-     * Called when the system is added to the engine. Stores a reference to the engine.
+     * Called when the system is added to the engine. Stores a reference to the engine,
+     * starts indexing and tracking the targets and drops queued searches of entities that are removed.
      *
      * @param engine the Ashley engine instance
      */
     @Override
     public void addedToEngine(Engine engine) {
         this.engine = engine;
+        this.targetIndex = new TargetIndex(engine, AppProperties.TARGET_INDEX_CELL_SIZE);
+        EntityHandle.track(engine);
+        if (requestScheduler == null) return;
+
+        engine.addEntityListener(pathingFamily, requestCanceller);
+    }
+
+    /**
+     * Called when the system is removed from the engine. Stops indexing the targets, stops
+     * tracking the walls and the targets of the flow fields and stops the request scheduler,
+     * e.g. the worker threads of a {@link PathWorkerPool}.
+     *
+     * @param engine the Ashley engine instance
+     */
+    @Override
+    public void removedFromEngine(Engine engine) {
+        targetIndex.dispose();
+        if (flowFieldPathfinder != null) flowFieldPathfinder.dispose();
+        if (wallCostMap != null) wallCostMap.dispose();
+        if (requestScheduler == null) return;
+
+        engine.removeEntityListener(requestCanceller);
+        requestScheduler.dispose();
     }
 
     /**
@@ -75,6 +263,7 @@ public class PathfindingSystem extends EntitySystem {
      */
     @Override
     public void update(float deltaTime) {
+        if (wallCostMap != null) wallCostMap.update();
         ImmutableArray<Entity> pathingEntities = engine.getEntitiesFor(pathingFamily);
 
         for (Entity entity : pathingEntities) {
@@ -83,17 +272,27 @@ public class PathfindingSystem extends EntitySystem {
             TargetTypeComponent targetType = ttm.get(entity);
 
             // Target removed externally? Reset.
-            if (
-                path.targetEntity != null && !engine.getEntities().contains(path.targetEntity, true)
-            ) {
+            if (path.targetEntity.isStale()) {
                 path.destination = null;
-                path.targetEntity = null;
+                path.clearTargetEntity();
                 path.pathCompleted = false;
                 path.needsRepath = true;
             }
 
+            if (path.hierarchicalPath != null && !path.needsRepath) {
+                refineAhead(path);
+            }
+
             if ((path.hasPath() || path.pathCompleted) && !path.needsRepath) continue;
 
+            // Shared flow field toward the nearest target of this type
+            if (
+                path.destination == null &&
+                followFlowField(path, pos.basePosition, targetType.targetComponentType)
+            ) {
+                continue;
+            }
+
             // No destination yet? Try to acquire one.
             if (path.destination == null) {
                 Entity closest = findClosestTarget(
@@ -103,49 +302,329 @@ public class PathfindingSystem extends EntitySystem {
                 if (closest != null) {
                     Vector2 targetPos = pm.get(closest).basePosition;
                     path.destination = new Vector2((int) targetPos.x, (int) targetPos.y);
-                    path.targetEntity = closest;
+                    path.setTargetEntity(closest);
                     path.needsRepath = true;
                 }
             }
 
             // Perform pathfinding if needed
-            if (path.destination != null && path.needsRepath) {
+            if (path.destination != null && path.needsRepath && requestScheduler != null) {
+                requestPath(entity, path, pos.basePosition);
+            } else if (path.destination != null && path.needsRepath) {
                 Vector2 start = new Vector2((int) pos.basePosition.x, (int) pos.basePosition.y);
                 Vector2 end = new Vector2((int) path.destination.x, (int) path.destination.y);
 
-                path.waypoints.clear();
-                path.waypoints.addAll(pathfinder.findPath(start, end));
+                if (hierarchicalPathfinder != null) {
+                    followHierarchicalPath(entity, path, start, end);
+                } else if (wallCostMap != null) {
+                    path.setSharedPath(findSharedPath(start, end, wallCostMap.profileOf(entity)));
+                } else {
+                    path.setSharedPath(findSharedPath(start, end, null));
+                }
 
-                path.pathCompleted = path.waypoints.isEmpty();
+                path.pathCompleted = !path.hasPath();
                 path.needsRepath = false;
             }
         }
+
+        if (requestScheduler != null) {
+            requestScheduler.process(this::applyRequestedPath);
+        }
     }
 
     /**
-     * Finds the closest entity with the given component type and a position.
+     * Searches the abstract path toward the destination and refines its first segments.
+     * If the destination cannot be reached, the entity walks as close as possible instead.
      *
-     * @param fromPos     the source position
-     * @param targetType  the component class that valid target entities must have
-     * @return the closest matching entity or {@code null} if none found
+     * @param entity the entity that needs a path
+     * @param path   the pathfinding component of the entity
+     * @param start  the start tile
+     * @param end    the destination tile
      */
-    private Entity findClosestTarget(Vector2 fromPos, Class<? extends Component> targetType) {
-        ImmutableArray<Entity> candidates = engine.getEntitiesFor(
-            Family.all(targetType, PositionComponent.class).get()
+    private void followHierarchicalPath(
+        Entity entity,
+        PathfindingBehaviourComponent path,
+        Vector2 start,
+        Vector2 end
+    ) {
+        TileCost extraCost = wallCostMap != null ? wallCostMap.costFor(entity) : null;
+        HierarchicalPathfinder.HierarchicalPath route = hierarchicalPathfinder.findHierarchicalPath(
+            start,
+            end,
+            extraCost
+        );
+        if (route == null) {
+            path.setWaypoints(pathfinder.findPath(start, end, extraCost));
+            return;
+        }
+
+        path.setWaypoints(NO_WAYPOINTS);
+        path.hierarchicalPath = route;
+        if (!refineAhead(path)) {
+            path.setWaypoints(pathfinder.findPath(start, end, extraCost));
+        }
+    }
+
+    /**
+     * Refines segments of the hierarchical path until enough waypoints lie ahead of the entity.
+     *
+     * @param path the pathfinding component of the entity
+     * @return false if a segment could not be refined and the entity needs a new path
+     */
+    private boolean refineAhead(PathfindingBehaviourComponent path) {
+        while (path.getRemainingWaypointCount() < REFINE_AHEAD_WAYPOINTS) {
+            if (path.hierarchicalPath.isRefined()) {
+                path.hierarchicalPath = null;
+                break;
+            }
+            if (!hierarchicalPathfinder.refineNext(path.hierarchicalPath, path.waypoints)) {
+                // The map has changed since the abstract path was found
+                path.hierarchicalPath = null;
+                path.needsRepath = true;
+                return false;
+            }
+        }
+        path.pathCompleted = !path.hasPath();
+        return true;
+    }
+
+    /**
+     * Drops the pending A* search of the given entity, so that it is requested again
+     * in the next update, e.g. because buildings were placed while it was running.
+     *
+     * @param entity the entity whose search should be restarted
+     */
+    public void cancelPathRequest(Entity entity) {
+        if (requestScheduler != null) {
+            requestScheduler.cancel(entity);
+        }
+    }
+
+    /**
+     * Queues an A* search toward the destination of the entity, unless the path can be taken
+     * from the cache or the same search is already queued. Until the search is completed,
+     * the entity keeps following its old path, or stands still if it has none.
+     *
+     * @param entity   the entity that needs a path
+     * @param path     the pathfinding component of the entity
+     * @param position the current position of the entity
+     */
+    private void requestPath(Entity entity, PathfindingBehaviourComponent path, Vector2 position) {
+        int startX = (int) position.x;
+        int startY = (int) position.y;
+        int goalX = (int) path.destination.x;
+        int goalY = (int) path.destination.y;
+
+        PathRequest pending = requestScheduler.getPending(entity);
+        if (pending != null && pending.getGoalX() == goalX && pending.getGoalY() == goalY) return;
+
+        WallCostMap.CostProfile profile = wallCostMap != null
+            ? wallCostMap.profileOf(entity)
+            : null;
+        if (pathCache != null) {
+            int costVersion = profile != null ? wallCostMap.getVersion() : 0;
+            PackedPath cached = pathCache.get(startX, startY, goalX, goalY, profile, costVersion);
+            if (cached != null) {
+                requestScheduler.cancel(entity);
+                path.setSharedPath(cached);
+                path.pathCompleted = !path.hasPath();
+                path.needsRepath = false;
+                return;
+            }
+        }
+
+        // Searches may run on other threads, so the wall costs are fixed at submission
+        TileCost extraCost = profile != null ? wallCostMap.snapshotCostFor(entity) : null;
+        requestScheduler.submit(entity, startX, startY, goalX, goalY, extraCost);
+    }
+
+    /**
+     * Assigns the result of a completed search, unless the entity has chosen another destination
+     * in the meantime. The path is cached for the costs it was searched with.
+     *
+     * @param request the completed search
+     */
+    private void applyRequestedPath(PathRequest request) {
+        Entity entity = request.getEntity();
+        PathfindingBehaviourComponent path = pathm.get(entity);
+        if (path == null || path.destination == null) return;
+        if (
+            (int) path.destination.x != request.getGoalX() ||
+            (int) path.destination.y != request.getGoalY()
+        ) {
+            return;
+        }
+
+        PackedPath route = smooth(
+            request.getStartX(),
+            request.getStartY(),
+            request.getPath(),
+            request.getExtraCost()
         );
+        if (pathCache != null) {
+            WallCostMap.CostProfile profile = null;
+            int costVersion = 0;
+            if (request.getExtraCost() instanceof WallCostMap.Snapshot snapshot) {
+                profile = snapshot.getProfile();
+                costVersion = snapshot.getVersion();
+            }
+            pathCache.put(
+                request.getStartX(),
+                request.getStartY(),
+                request.getGoalX(),
+                request.getGoalY(),
+                profile,
+                costVersion,
+                route
+            );
+        }
+        path.setSharedPath(route);
 
-        Entity closest = null;
-        float closestDist = Float.MAX_VALUE;
+        skipWalkedWaypoints(path, pm.get(entity).basePosition);
+        path.pathCompleted = !path.hasPath();
+        path.needsRepath = false;
+    }
+
+    /**
+     * The entity may have moved on along its old path while waiting for the new one.
+     * If it already stands on a tile of the new path, continues the path from there.
+     *
+     * @param path     the newly assigned path
+     * @param position the current position of the entity
+     */
+    private void skipWalkedWaypoints(PathfindingBehaviourComponent path, Vector2 position) {
+        int tileX = (int) position.x;
+        int tileY = (int) position.y;
 
-        for (Entity candidate : candidates) {
-            Vector2 candidatePos = pm.get(candidate).basePosition;
-            float dist = fromPos.dst2(candidatePos); // Squared distance for performance
-            if (dist < closestDist) {
-                closestDist = dist;
-                closest = candidate;
+        if (path.sharedPath != null) {
+            PackedPath sharedPath = path.sharedPath;
+            for (int i = path.pathCursor; i < sharedPath.size(); i++) {
+                if (sharedPath.getX(i) == tileX && sharedPath.getY(i) == tileY) {
+                    path.pathCursor = i + 1;
+                    return;
+                }
+            }
+        } else {
+            for (int i = 0; i < path.waypoints.size; i++) {
+                Vector2 waypoint = path.waypoints.get(i);
+                if ((int) waypoint.x == tileX && (int) waypoint.y == tileY) {
+                    path.waypoints.removeRange(0, i);
+                    return;
+                }
             }
         }
+    }
+
+    /**
+     * Assigns the route from the shared flow field of the given target type.
+     *
+     * @param path       the pathfinding component to update
+     * @param position   the current position of the entity
+     * @param targetType the component class that valid target entities must have
+     * @return true if a route was assigned, false if A* has to be used instead
+     *         (no target reachable, or the route runs into a wall)
+     */
+    private boolean followFlowField(
+        PathfindingBehaviourComponent path,
+        Vector2 position,
+        Class<? extends Component> targetType
+    ) {
+        if (flowFieldPathfinder == null) return false;
+
+        int x = (int) position.x;
+        int y = (int) position.y;
+        Entity target = flowFieldPathfinder.getTarget(targetType, x, y);
+        if (target == null) return false;
+
+        Vector2 targetPos = pm.get(target).basePosition;
+        int targetX = (int) targetPos.x;
+        int targetY = (int) targetPos.y;
+
+        PackedPath route = pathCache != null ? pathCache.get(x, y, targetX, targetY) : null;
+        if (route == null) {
+            route = flowFieldPathfinder.findPackedPath(position, targetType);
+            if (route == null) return false;
+            route = smooth(x, y, route, null);
+            if (pathCache != null) pathCache.put(x, y, targetX, targetY, route);
+        }
+
+        // The field ignores walls, let the cost-aware A* decide how to get past them
+        if (wallCostMap != null && wallCostMap.crossesWall(x, y, route)) return false;
+
+        path.destination = new Vector2(targetX, targetY);
+        path.setTargetEntity(target);
+        path.setSharedPath(route);
+        path.pathCompleted = route.isEmpty();
+        path.needsRepath = false;
+        return true;
+    }
+
+    /**
+     * Returns the A* path between two tiles, shared through the path cache if there is one.
+     *
+     * @param start   the start tile
+     * @param end     the goal tile
+     * @param profile the attacker profile to search with wall costs for, or {@code null} for none
+     * @return the shared path
+     */
+    private PackedPath findSharedPath(Vector2 start, Vector2 end, WallCostMap.CostProfile profile) {
+        int startX = (int) start.x;
+        int startY = (int) start.y;
+        int endX = (int) end.x;
+        int endY = (int) end.y;
+        int costVersion = profile != null ? wallCostMap.getVersion() : 0;
+
+        PackedPath cached = pathCache != null
+            ? pathCache.get(startX, startY, endX, endY, profile, costVersion)
+            : null;
+        if (cached != null) return cached;
+
+        TileCost extraCost = profile != null ? wallCostMap.costFor(profile) : null;
+        Array<Vector2> waypoints = smooth(
+            start,
+            pathfinder.findPath(start, end, extraCost),
+            extraCost
+        );
+        PackedPath route = PackedPath.fromWaypoints(waypoints);
+        if (pathCache != null) {
+            pathCache.put(startX, startY, endX, endY, profile, costVersion, route);
+        }
+        return route;
+    }
+
+    /**
+     * Smooths the given waypoints if there is a path smoother.
+     *
+     * @param start     the start tile
+     * @param waypoints the path found by the pathfinder
+     * @param extraCost the tile costs the path was searched with, or {@code null} for none
+     * @return the smoothed waypoints, or the given ones if there is no smoother
+     */
+    private Array<Vector2> smooth(Vector2 start, Array<Vector2> waypoints, TileCost extraCost) {
+        return pathSmoother != null ? pathSmoother.smooth(start, waypoints, extraCost) : waypoints;
+    }
 
-        return closest;
+    /**
+     * Smooths the given shared path if there is a path smoother.
+     *
+     * @param startX    the x coordinate of the start tile
+     * @param startY    the y coordinate of the start tile
+     * @param route     the path found by the pathfinder
+     * @param extraCost the tile costs the path was searched with, or {@code null} for none
+     * @return the smoothed path, or the given one if there is no smoother
+     */
+    private PackedPath smooth(int startX, int startY, PackedPath route, TileCost extraCost) {
+        return pathSmoother != null ? pathSmoother.smooth(startX, startY, route, extraCost) : route;
+    }
+
+    /**
+     * Finds the closest entity with the given component type and a position.
+     *
+     * @param fromPos     the source position
+     * @param targetType  the component class that valid target entities must have
+     * @return the closest matching entity or {@code null} if none found
+     */
+    private Entity findClosestTarget(Vector2 fromPos, Class<? extends Component> targetType) {
+        return targetIndex.findNearest(targetType, fromPos);
     }
 }
@@ -2,7 +2,7 @@ package com.zhaw.frontier.systems.movement;
 
 import com.badlogic.ashley.core.*;
 import com.badlogic.ashley.utils.ImmutableArray;
-import com.badlogic.gdx.math.Vector2;
+import com.zhaw.frontier.algorithm.CrowdSteering;
 import com.zhaw.frontier.components.*;
 import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
 import com.zhaw.frontier.configs.AppProperties;
@@ -14,6 +14,12 @@ import com.zhaw.frontier.configs.AppProperties;
  * based on the proximity of other pathfinding entities around it.
  * It ensures smooth and realistic motion by preventing units from crowding or overlapping.
  * </p>
+ * <p>
+ * The avoidance itself is computed by a {@link CrowdSteering} on primitive arrays, into which
+ * every update copies the positions, desired velocities and speeds of all entities. With
+ * {@link AppProperties#PARALLEL_STEERING}, large crowds are steered on several threads. The
+ * resulting velocities are written back to the components on the calling thread.
+ * </p>
  *
  * <p>Requirements for each processed entity:</p>
  * <ul>
@@ -34,8 +40,29 @@ public class SteeringMovementSystem extends EntitySystem {
         PathfindingBehaviourComponent.class
     );
 
+    private final Family family = Family
+        .all(PositionComponent.class, VelocityComponent.class, PathfindingBehaviourComponent.class)
+        .get();
+    private final CrowdSteering crowd;
+
     private ImmutableArray<Entity> enemies;
 
+    /**
+     * Creates the system, steering in parallel if {@link AppProperties#PARALLEL_STEERING} is set.
+     */
+    public SteeringMovementSystem() {
+        this(AppProperties.PARALLEL_STEERING);
+    }
+
+    /**
+     * Creates the system.
+     *
+     * @param parallel whether large crowds are steered on several threads
+     */
+    public SteeringMovementSystem(boolean parallel) {
+        crowd = new CrowdSteering(parallel);
+    }
+
     /**
      * Called when the system is added to the engine.
      * Filters entities that can move and perform avoidance.
@@ -44,22 +71,13 @@ public class SteeringMovementSystem extends EntitySystem {
      */
     @Override
     public void addedToEngine(Engine engine) {
-        enemies =
-        engine.getEntitiesFor(
-            Family
-                .all(
-                    PositionComponent.class,
-                    VelocityComponent.class,
-                    PathfindingBehaviourComponent.class
-                )
-                .get()
-        );
+        enemies = engine.getEntitiesFor(family);
     }
 
     /**
      * Updates all entities with local avoidance steering.
      * <p>
-     * Each entity checks its distance to all other pathfinding entities.
+     * Each entity checks its distance to the pathfinding entities around it.
      * If they are too close (within {@link AppProperties#AVOID_RADIUS}), a repulsion force is added.
      * This modified velocity is then applied to the entity.
      * </p>
@@ -69,41 +87,49 @@ public class SteeringMovementSystem extends EntitySystem {
     @Override
     public void update(float deltaTime) {
         int size = enemies.size();
+        crowd.ensureCapacity(size);
 
         for (int i = 0; i < size; i++) {
             Entity current = enemies.get(i);
             PositionComponent pos = pm.get(current);
             VelocityComponent vel = vm.get(current);
-
             // Start with the desired velocity set by the pathfinding system
-            Vector2 finalVelocity = new Vector2(vel.desiredVelocity);
-            Vector2 avoidance = new Vector2();
-
-            for (int j = 0; j < size; j++) {
-                if (i == j) continue;
-
-                Entity other = enemies.get(j);
-                PositionComponent otherPos = pm.get(other);
-                float dist = pos.basePosition.dst(otherPos.basePosition);
-
-                if (dist < AppProperties.AVOID_RADIUS && dist > 0.01f) {
-                    Vector2 push = new Vector2(pos.basePosition).sub(otherPos.basePosition);
-                    avoidance.add(
-                        push
-                            .nor()
-                            .scl((AppProperties.AVOID_RADIUS - dist) * AppProperties.AVOID_STRENGTH)
-                    );
-                }
-            }
+            crowd.set(
+                i,
+                pos.basePosition.x,
+                pos.basePosition.y,
+                vel.desiredVelocity.x,
+                vel.desiredVelocity.y,
+                patm.get(current).speed
+            );
+        }
+        crowd.steer(size);
 
-            finalVelocity.add(avoidance);
-            float speed = patm.has(current) ? patm.get(current).speed : 2f;
-            finalVelocity.limit(speed);
+        for (int i = 0; i < size; i++) {
+            Entity current = enemies.get(i);
+            applySteering(pm.get(current), vm.get(current), crowd, i);
+        }
+    }
 
-            vel.velocity.set(finalVelocity);
-            if (finalVelocity.len2() > 0.001f) {
-                pos.lookingDirection.set(finalVelocity).nor();
-            }
+    /**
+     * Sets the velocity and looking direction of an entity to its steered velocity.
+     *
+     * @param pos   the position of the entity
+     * @param vel   the velocity of the entity
+     * @param crowd the crowd the entity was steered in
+     * @param index the index of the entity in the crowd
+     */
+    static void applySteering(
+        PositionComponent pos,
+        VelocityComponent vel,
+        CrowdSteering crowd,
+        int index
+    ) {
+        float x = crowd.getSteeredX(index);
+        float y = crowd.getSteeredY(index);
+        vel.velocity.set(x, y);
+        if (x * x + y * y > 0.001f) {
+            pos.lookingDirection.set(x, y).nor();
         }
     }
 }
@@ -17,6 +17,7 @@ public class TurnUI implements TurnChangeListener, Disposable {
 
     private final Label turnLabel;
     private final Label phaseLabel;
+    private final Label speedLabel;
     private static final String divider = "  ";
 
     public TurnUI(Stage stage) {
@@ -25,6 +26,7 @@ public class TurnUI implements TurnChangeListener, Disposable {
         // Labels
         turnLabel = new Label("Turn: 1", skin);
         phaseLabel = new Label(divider + "Phase: Build and Plan", skin);
+        speedLabel = new Label(divider + "Speed: 1x", skin);
 
         // Centered bar with background
         Table barTable = new Table();
@@ -32,6 +34,7 @@ public class TurnUI implements TurnChangeListener, Disposable {
         barTable.pad(6);
         barTable.add(turnLabel).padRight(15).pad(5);
         barTable.add(phaseLabel).pad(5);
+        barTable.add(speedLabel).pad(5);
 
         // Root layout to position it at top center
         rootTable = new Table();
@@ -50,6 +53,15 @@ public class TurnUI implements TurnChangeListener, Disposable {
         TurnSystem.getInstance().removeListener(this);
     }
 
+    /**
+     * Shows the selected game speed.
+     *
+     * @param speed the game speed as a multiple of real time
+     */
+    public void setSpeed(int speed) {
+        speedLabel.setText(divider + "Speed: " + speed + "x");
+    }
+
     @Override
     public void onTurnChanged(int turn, GamePhase phase) {
         turnLabel.setText("Turn: " + turn);
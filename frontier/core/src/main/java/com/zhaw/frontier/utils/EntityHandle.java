@@ -0,0 +1,115 @@
+package com.zhaw.frontier.utils;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+
+/**
+ * A reference to an entity that knows whether the entity still exists.
+ * <p>
+ * Every entity gets a generation when it is added to a tracked engine (or when a handle to it is
+ * created first), stored in {@link Entity#flags}. Removing the entity invalidates its generation,
+ * and adding it again assigns a new one. A handle stores the entity together with its generation,
+ * so checking whether the target still exists is a single comparison instead of a search through
+ * the engine's entities.
+ * </p>
+ * <p>
+ * Systems holding handles call {@link #track(Engine)} when they are added to the engine.
+ * </p>
+ */
+public class EntityHandle {
+
+    /** Generation of entities that were removed from their engine. */
+    private static final int REMOVED = -1;
+
+    private static final EntityListener GENERATIONS = new EntityListener() {
+        @Override
+        public void entityAdded(Entity entity) {
+            if (entity.flags <= 0) entity.flags = nextGeneration();
+        }
+
+        @Override
+        public void entityRemoved(Entity entity) {
+            entity.flags = REMOVED;
+        }
+    };
+
+    private static int generationCounter = 0;
+
+    private Entity entity;
+    private int generation;
+
+    /**
+     * Starts assigning and invalidating the generations of the entities of the given engine.
+     * Calling this more than once for the same engine has no further effect.
+     *
+     * @param engine the engine whose entities are referenced by handles
+     */
+    public static void track(Engine engine) {
+        engine.removeEntityListener(GENERATIONS);
+        // Runs before all other listeners, so that they can already create handles
+        engine.addEntityListener(Integer.MIN_VALUE, GENERATIONS);
+        for (Entity entity : engine.getEntities()) {
+            GENERATIONS.entityAdded(entity);
+        }
+    }
+
+    private static int nextGeneration() {
+        generationCounter = generationCounter == Integer.MAX_VALUE ? 1 : generationCounter + 1;
+        return generationCounter;
+    }
+
+    /**
+     * Points this handle to the given entity.
+     *
+     * @param entity the referenced entity, or {@code null} to clear the handle
+     */
+    public void set(Entity entity) {
+        this.entity = entity;
+        if (entity == null) {
+            generation = 0;
+            return;
+        }
+        if (entity.flags == 0) entity.flags = nextGeneration();
+        generation = entity.flags;
+    }
+
+    /**
+     * Clears this handle.
+     */
+    public void clear() {
+        set(null);
+    }
+
+    /**
+     * Checks whether the referenced entity still exists and is not about to be removed.
+     *
+     * @return true if the handle points to a live entity
+     */
+    public boolean isAlive() {
+        return (
+            entity != null &&
+            generation > 0 &&
+            entity.flags == generation &&
+            !entity.isScheduledForRemoval()
+        );
+    }
+
+    /**
+     * Checks whether the handle points to an entity that no longer exists.
+     *
+     * @return true if the handle is set but the entity was removed
+     */
+    public boolean isStale() {
+        return entity != null && !isAlive();
+    }
+
+    /**
+     * Returns the referenced entity if it still exists.
+     *
+     * @return the entity, or {@code null} if the handle is cleared or the entity was removed
+     */
+    public Entity get() {
+        return isAlive() ? entity : null;
+    }
+}
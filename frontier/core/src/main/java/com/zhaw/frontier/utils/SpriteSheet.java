@@ -0,0 +1,86 @@
+package com.zhaw.frontier.utils;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import java.util.Map;
+
+/**
+ * An immutable layout of the sprites of an entity, one texture region per tile.
+ * <p>
+ * A sheet describes one variant of a building or wall and is shared by all entities of that
+ * variant, so an entity only holds a reference to it. The regions are stored in a dense array
+ * indexed by {@code x + y * width}, which the renderer walks tile by tile without any lookups.
+ * </p>
+ */
+public final class SpriteSheet {
+
+    private final int width;
+    private final int height;
+    private final TextureRegion[] regions;
+
+    private SpriteSheet(int width, int height, TextureRegion[] regions) {
+        this.width = width;
+        this.height = height;
+        this.regions = regions;
+    }
+
+    /**
+     * Creates a sheet of a single tile.
+     *
+     * @param region the region of the tile
+     * @return the sheet
+     */
+    public static SpriteSheet of(TextureRegion region) {
+        return new SpriteSheet(1, 1, new TextureRegion[] { region });
+    }
+
+    /**
+     * Creates a sheet from sprites mapped by their tile offset. Offsets outside the sheet are
+     * ignored, tiles without a sprite stay empty.
+     *
+     * @param sprites the sprites relative to the base tile
+     * @param width   the width of the sheet in tiles
+     * @param height  the height of the sheet in tiles
+     * @return the sheet
+     */
+    public static SpriteSheet of(Map<TileOffset, TextureRegion> sprites, int width, int height) {
+        TextureRegion[] regions = new TextureRegion[width * height];
+        for (Map.Entry<TileOffset, TextureRegion> entry : sprites.entrySet()) {
+            TileOffset offset = entry.getKey();
+            if (offset.x() < 0 || offset.y() < 0 || offset.x() >= width || offset.y() >= height) {
+                continue;
+            }
+            regions[offset.x() + offset.y() * width] = entry.getValue();
+        }
+        return new SpriteSheet(width, height, regions);
+    }
+
+    /**
+     * Returns the width of the sheet.
+     *
+     * @return the width in tiles
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the sheet.
+     *
+     * @return the height in tiles
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the region of a tile.
+     *
+     * @param x the x offset of the tile from the base tile
+     * @param y the y offset of the tile from the base tile
+     * @return the region, or null if the tile is outside the sheet or empty
+     */
+    public TextureRegion get(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return null;
+        return regions[x + y * width];
+    }
+}
@@ -7,6 +7,16 @@ package com.zhaw.frontier.utils;
  * @param y vertical offset in tiles
  */
 public record TileOffset(int x, int y) {
+    // Offsets within the largest entities, shared instead of created for every lookup
+    private static final int CACHED = 8;
+    private static final TileOffset[] CACHE = new TileOffset[CACHED * CACHED];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new TileOffset(i % CACHED, i / CACHED);
+        }
+    }
+
     /**
      * Creates a new TileOffset with the given x and y values.
      *
@@ -17,4 +27,16 @@ public record TileOffset(int x, int y) {
         this.x = x;
         this.y = y;
     }
+
+    /**
+     * Returns a TileOffset with the given x and y values, shared for small offsets.
+     *
+     * @param x the x value
+     * @param y the y value
+     * @return the offset
+     */
+    public static TileOffset of(int x, int y) {
+        if (x >= 0 && y >= 0 && x < CACHED && y < CACHED) return CACHE[x + y * CACHED];
+        return new TileOffset(x, y);
+    }
 }
@@ -11,6 +11,7 @@ import com.zhaw.frontier.components.*;
 import com.zhaw.frontier.systems.AnimationSystem;
 import com.zhaw.frontier.systems.movement.MovementSystem;
 import com.zhaw.frontier.utils.QueueAnimation;
+import com.zhaw.frontier.utils.TileOffset;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -185,6 +186,70 @@ public class AnimationSystemTest {
         assertTrue(queue.queue.isEmpty());
     }
 
+    /**
+     * Verifies that the animation system only advances the state time, and that the frame to draw
+     * is looked up from the shared animation without changing the sprites of the entity.
+     */
+    @Test
+    public void testCurrentFrameIsLookedUpFromStateTime() {
+        AnimationSystem animationSystem = testEngine.getSystem(AnimationSystem.class);
+
+        Entity enemy = testEngine.createEntity();
+        PositionComponent position = new PositionComponent();
+        position.lookingDirection = new Vector2(0, -1);
+        enemy.add(position);
+        enemy.add(new VelocityComponent());
+
+        TextureRegion sprite = new TextureRegion();
+        RenderComponent render = new RenderComponent();
+        render.renderType = RenderComponent.RenderType.ENEMY;
+        render.sprites.put(new TileOffset(0, 0), sprite);
+        enemy.add(render);
+
+        TextureRegion first = new TextureRegion();
+        TextureRegion second = new TextureRegion();
+        EnemyAnimationComponent anim = new EnemyAnimationComponent();
+        anim.animations.put(
+            EnemyAnimationComponent.EnemyAnimationType.WALK_DOWN,
+            new Animation<>(0.5f, first, second)
+        );
+        anim.currentAnimation = EnemyAnimationComponent.EnemyAnimationType.WALK_DOWN;
+        enemy.add(anim);
+
+        assertSame(first, anim.getCurrentFrame());
+
+        animationSystem.update(enemy, 0.6f);
+
+        assertSame(second, anim.getCurrentFrame());
+        assertSame(sprite, render.sprites.get(new TileOffset(0, 0)));
+    }
+
+    /**
+     * Verifies that buildings advance the state time of each active animation only.
+     */
+    @Test
+    public void testBuildingAdvancesActiveAnimationsOnly() {
+        AnimationSystem animationSystem = testEngine.getSystem(AnimationSystem.class);
+
+        Entity building = testEngine.createEntity();
+        RenderComponent render = new RenderComponent();
+        render.renderType = RenderComponent.RenderType.BUILDING;
+        building.add(render);
+
+        BuildingAnimationComponent anim = new BuildingAnimationComponent();
+        anim.activeAnimations.add(BuildingAnimationComponent.BuildingAnimationType.SMOKE);
+        building.add(anim);
+
+        animationSystem.update(building, 0.25f);
+        animationSystem.update(building, 0.25f);
+
+        int smoke = BuildingAnimationComponent.BuildingAnimationType.SMOKE.ordinal();
+        int sparks = BuildingAnimationComponent.BuildingAnimationType.SPARKS.ordinal();
+        assertEquals(0.5f, anim.stateTimes[smoke]);
+        assertEquals(0f, anim.stateTimes[sparks]);
+        assertNull(anim.getCurrentFrame());
+    }
+
     /**
      * DummyAnimation is a minimal Animation implementation used for testing animation switching logic
      * without requiring actual texture assets.
@@ -304,7 +304,7 @@ public class BuildingManagerTest {
         OccupiesTilesComponent occupiesTilesComponent = resourceBuilding.getComponent(
             OccupiesTilesComponent.class
         );
-        assertEquals(4, occupiesTilesComponent.occupiedTiles.size(), "Tiles should be occupied.");
+        assertEquals(4, occupiesTilesComponent.getTileCount(), "Tiles should be occupied.");
         testEngine.removeEntity(resourceBuilding);
     }
 
@@ -374,7 +374,7 @@ public class BuildingManagerTest {
         OccupiesTilesComponent occupiesTilesComponent = hq.getComponent(
             OccupiesTilesComponent.class
         );
-        assertEquals(4, occupiesTilesComponent.occupiedTiles.size(), "Tiles should be occupied.");
+        assertEquals(4, occupiesTilesComponent.getTileCount(), "Tiles should be occupied.");
         testEngine.removeEntity(hq);
     }
 
@@ -396,7 +396,7 @@ public class BuildingManagerTest {
         OccupiesTilesComponent occupiesTilesComponent = hq.getComponent(
             OccupiesTilesComponent.class
         );
-        assertEquals(9, occupiesTilesComponent.occupiedTiles.size(), "Tiles should be occupied.");
+        assertEquals(9, occupiesTilesComponent.getTileCount(), "Tiles should be occupied.");
         testEngine.removeEntity(hq);
     }
 
@@ -419,7 +419,7 @@ public class BuildingManagerTest {
         OccupiesTilesComponent occupiesTilesComponent = hq.getComponent(
             OccupiesTilesComponent.class
         );
-        assertEquals(1, occupiesTilesComponent.occupiedTiles.size(), "Tiles should be occupied.");
+        assertEquals(1, occupiesTilesComponent.getTileCount(), "Tiles should be occupied.");
 
         Vector2 screenCoordinate = new Vector2(
             TestMapEnvironment.tileToScreenX(5),
@@ -450,7 +450,7 @@ public class BuildingManagerTest {
         OccupiesTilesComponent occupiesTilesComponent = hq.getComponent(
             OccupiesTilesComponent.class
         );
-        assertEquals(4, occupiesTilesComponent.occupiedTiles.size(), "Tiles should be occupied.");
+        assertEquals(4, occupiesTilesComponent.getTileCount(), "Tiles should be occupied.");
 
         Vector2 screenCoordinate = new Vector2(
             TestMapEnvironment.tileToScreenX(4),
@@ -482,7 +482,7 @@ public class BuildingManagerTest {
         OccupiesTilesComponent occupiesTilesComponent = hq.getComponent(
             OccupiesTilesComponent.class
         );
-        assertEquals(4, occupiesTilesComponent.occupiedTiles.size(), "Tiles should be occupied.");
+        assertEquals(4, occupiesTilesComponent.getTileCount(), "Tiles should be occupied.");
 
         Vector2 screenCoordinate = new Vector2(
             TestMapEnvironment.tileToScreenX(5),
@@ -0,0 +1,121 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.FlowField;
+import com.zhaw.frontier.algorithm.FlowFieldPathfinder;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import com.zhaw.frontier.components.HQComponent;
+import com.zhaw.frontier.components.PositionComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FlowFieldPathfinderTest {
+
+    private Engine engine;
+    private WalkabilityGrid grid;
+    private FlowFieldPathfinder flowFieldPathfinder;
+
+    @BeforeEach
+    void setup() {
+        engine = new Engine();
+        grid = new WalkabilityGrid(5, 5);
+        for (int x = 0; x < 5; x++) for (int y = 0; y < 5; y++) grid.setWalkable(x, y, true);
+        flowFieldPathfinder = new FlowFieldPathfinder(grid, engine);
+    }
+
+    private Entity createTarget(int x, int y) {
+        Entity target = new Entity();
+        target.add(new PositionComponent(x, y, 1, 1));
+        target.add(new HQComponent());
+        engine.addEntity(target);
+        return target;
+    }
+
+    @Test
+    void testPathLeadsToTarget() {
+        createTarget(4, 4);
+
+        Array<Vector2> path = flowFieldPathfinder.findPath(new Vector2(0, 0), HQComponent.class);
+
+        assertEquals(8, path.size);
+        assertEquals(new Vector2(4, 4), path.peek());
+    }
+
+    @Test
+    void testNearestTargetIsChosen() {
+        Entity far = createTarget(4, 4);
+        Entity near = createTarget(0, 2);
+
+        assertSame(near, flowFieldPathfinder.getTarget(HQComponent.class, 0, 0));
+        assertSame(far, flowFieldPathfinder.getTarget(HQComponent.class, 4, 3));
+    }
+
+    @Test
+    void testFieldIsRebuiltWhenTargetIsRemoved() {
+        Entity near = createTarget(0, 2);
+        Entity far = createTarget(4, 4);
+        assertSame(near, flowFieldPathfinder.getTarget(HQComponent.class, 0, 0));
+
+        engine.removeEntity(near);
+
+        assertSame(far, flowFieldPathfinder.getTarget(HQComponent.class, 0, 0));
+    }
+
+    @Test
+    void testDisposeRemovesTargetListeners() {
+        engine = spy(new Engine());
+        flowFieldPathfinder = new FlowFieldPathfinder(grid, engine);
+        createTarget(4, 4);
+        flowFieldPathfinder.getField(HQComponent.class);
+
+        flowFieldPathfinder.dispose();
+
+        verify(engine).removeEntityListener(any(EntityListener.class));
+    }
+
+    @Test
+    void testFieldIsRebuiltWhenGridChanges() {
+        createTarget(4, 0);
+        FlowField field = flowFieldPathfinder.getField(HQComponent.class);
+        assertEquals(4, field.getDistance(grid.index(0, 0)));
+
+        // Wall with a single gap at the top
+        for (int y = 0; y < 4; y++) grid.setWalkable(2, y, false);
+
+        assertTrue(field.isStale());
+        field = flowFieldPathfinder.getField(HQComponent.class);
+        assertFalse(field.isStale());
+        assertEquals(12, field.getDistance(grid.index(0, 0)));
+    }
+
+    @Test
+    void testUnreachableStartReturnsNull() {
+        createTarget(4, 4);
+        for (int y = 0; y < 5; y++) grid.setWalkable(2, y, false);
+
+        assertNull(flowFieldPathfinder.findPath(new Vector2(0, 0), HQComponent.class));
+        assertNull(flowFieldPathfinder.getTarget(HQComponent.class, 0, 0));
+    }
+
+    @Test
+    void testStartOnTargetReturnsEmptyPath() {
+        createTarget(2, 2);
+
+        Array<Vector2> path = flowFieldPathfinder.findPath(new Vector2(2, 2), HQComponent.class);
+
+        assertTrue(path.isEmpty());
+    }
+}
@@ -0,0 +1,275 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.zhaw.frontier.algorithm.GridAStarPathfinder;
+import com.zhaw.frontier.algorithm.SimpleAStarPathfinder;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import com.zhaw.frontier.components.map.TiledPropertiesEnum;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link GridAStarPathfinder} is a drop-in replacement for
+ * {@link SimpleAStarPathfinder} on randomly generated maps.
+ */
+public class GridAStarPathfinderTest {
+
+    private static final int RANDOM_MAPS = 200;
+
+    private TiledMapTileLayer createLayer(boolean[][] traversable) {
+        int width = traversable.length;
+        int height = traversable[0].length;
+        TiledMapTileLayer layer = new TiledMapTileLayer(width, height, 16, 16);
+
+        StaticTiledMapTile walkable = new StaticTiledMapTile(new TextureRegion());
+        walkable.getProperties().put(TiledPropertiesEnum.IS_TRAVERSABLE.toString(), true);
+        StaticTiledMapTile blocked = new StaticTiledMapTile(new TextureRegion());
+        blocked.getProperties().put(TiledPropertiesEnum.IS_TRAVERSABLE.toString(), false);
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+                cell.setTile(traversable[x][y] ? walkable : blocked);
+                layer.setCell(x, y, cell);
+            }
+        }
+        return layer;
+    }
+
+    private boolean[][] randomMap(Random random, int width, int height, float obstacleRatio) {
+        boolean[][] map = new boolean[width][height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                map[x][y] = random.nextFloat() >= obstacleRatio;
+            }
+        }
+        return map;
+    }
+
+    private int distance(Vector2 a, Vector2 b) {
+        return (int) (Math.abs(a.x - b.x) + Math.abs(a.y - b.y));
+    }
+
+    private void assertValidPath(Vector2 start, Array<Vector2> path, WalkabilityGrid grid) {
+        Vector2 previous = start;
+        for (Vector2 step : path) {
+            assertEquals(1, distance(previous, step), "Path must move one tile at a time");
+            assertTrue(grid.isWalkable((int) step.x, (int) step.y), "Path must be walkable");
+            previous = step;
+        }
+    }
+
+    @Test
+    void testEquivalentToSimpleAStarOnRandomMaps() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < RANDOM_MAPS; i++) {
+            int width = 5 + random.nextInt(20);
+            int height = 5 + random.nextInt(20);
+            boolean[][] map = randomMap(random, width, height, 0.3f);
+
+            Vector2 start = new Vector2(random.nextInt(width), random.nextInt(height));
+            Vector2 goal = new Vector2(random.nextInt(width), random.nextInt(height));
+            map[(int) start.x][(int) start.y] = true;
+            map[(int) goal.x][(int) goal.y] = true;
+
+            List<TiledMapTileLayer> layers = List.of(createLayer(map));
+            WalkabilityGrid grid = WalkabilityGrid.fromLayers(layers);
+
+            Array<Vector2> expected = new SimpleAStarPathfinder(layers, null).findPath(start, goal);
+            Array<Vector2> actual = new GridAStarPathfinder(grid).findPath(start, goal);
+
+            assertEquals(expected.isEmpty(), actual.isEmpty(), "Map " + i + ": reachability");
+            assertValidPath(start, actual, grid);
+            if (expected.isEmpty()) continue;
+
+            // Both must end on the goal, or on an equally close reachable tile
+            assertEquals(
+                distance(expected.peek(), goal),
+                distance(actual.peek(), goal),
+                "Map " + i + ": end of path"
+            );
+            if (expected.peek().equals(goal)) {
+                assertTrue(actual.size <= expected.size, "Map " + i + ": path must not be longer");
+            }
+        }
+    }
+
+    @Test
+    void testOpenMapPathHasManhattanLength() {
+        boolean[][] map = randomMap(new Random(1), 256, 256, 0f);
+        WalkabilityGrid grid = WalkabilityGrid.fromLayers(List.of(createLayer(map)));
+        GridAStarPathfinder pathfinder = new GridAStarPathfinder(grid);
+
+        Array<Vector2> path = pathfinder.findPath(new Vector2(0, 0), new Vector2(255, 255));
+
+        assertEquals(510, path.size);
+        assertEquals(new Vector2(255, 255), path.peek());
+    }
+
+    @Test
+    void testGoalBlockedReturnsClosestReachable() {
+        boolean[][] map = randomMap(new Random(1), 5, 5, 0f);
+        map[4][4] = false;
+        WalkabilityGrid grid = WalkabilityGrid.fromLayers(List.of(createLayer(map)));
+
+        IntArray out = new IntArray();
+        boolean reached = new GridAStarPathfinder(grid).findPath(0, 0, 4, 4, out);
+
+        assertFalse(reached);
+        assertFalse(out.isEmpty());
+        assertEquals(1, distance(new Vector2(out.peek() % 5, out.peek() / 5), new Vector2(4, 4)));
+    }
+
+    @Test
+    void testBuildingsAreAvoidedUnlessTheyEncloseTheGoal() {
+        boolean[][] map = randomMap(new Random(1), 7, 7, 0f);
+        WalkabilityGrid grid = WalkabilityGrid.fromLayers(List.of(createLayer(map)));
+        GridAStarPathfinder pathfinder = new GridAStarPathfinder(grid);
+        grid.setBlocked(3, 3, true);
+
+        Array<Vector2> detour = pathfinder.findPath(new Vector2(0, 3), new Vector2(6, 3));
+        assertEquals(8, detour.size);
+        assertFalse(detour.contains(new Vector2(3, 3), false));
+
+        // Walled in by buildings, the goal is reached through the cheapest one
+        grid.setBlocked(3, 3, false);
+        for (int x = 4; x <= 6; x++) grid.setBlocked(x, 1, true);
+        for (int y = 1; y <= 5; y++) grid.setBlocked(4, y, true);
+        for (int x = 4; x <= 6; x++) grid.setBlocked(x, 5, true);
+        grid.setBlocked(6, 3, true);
+
+        IntArray out = new IntArray();
+        assertTrue(pathfinder.findPath(0, 3, 6, 3, out));
+        assertEquals(grid.index(4, 3), out.get(3));
+        assertEquals(grid.index(6, 3), out.peek());
+    }
+
+    @Test
+    void testRepeatedSearchesReuseState() {
+        boolean[][] map = randomMap(new Random(7), 30, 30, 0.25f);
+        map[0][0] = true;
+        map[29][29] = true;
+        WalkabilityGrid grid = WalkabilityGrid.fromLayers(List.of(createLayer(map)));
+        GridAStarPathfinder pathfinder = new GridAStarPathfinder(grid);
+
+        Array<Vector2> first = pathfinder.findPath(new Vector2(0, 0), new Vector2(29, 29));
+        pathfinder.findPath(new Vector2(29, 0), new Vector2(0, 29));
+        Array<Vector2> second = pathfinder.findPath(new Vector2(0, 0), new Vector2(29, 29));
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testSearchesFollowTheGridTheyAreSetTo() {
+        boolean[][] map = randomMap(new Random(1), 5, 5, 0f);
+        WalkabilityGrid grid = WalkabilityGrid.fromLayers(List.of(createLayer(map)));
+        GridAStarPathfinder pathfinder = new GridAStarPathfinder(grid);
+        WalkabilityGrid before = grid.getSnapshot();
+        for (int y = 0; y < 4; y++) grid.setWalkable(2, y, false);
+
+        pathfinder.setGrid(grid.getSnapshot());
+        Array<Vector2> detour = pathfinder.findPath(new Vector2(0, 0), new Vector2(4, 0));
+        pathfinder.setGrid(before);
+        Array<Vector2> straight = pathfinder.findPath(new Vector2(0, 0), new Vector2(4, 0));
+
+        assertEquals(12, detour.size);
+        assertEquals(4, straight.size);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> pathfinder.setGrid(new WalkabilityGrid(4, 5))
+        );
+    }
+
+    @Test
+    void testFullyBlockedMapReturnsEmpty() {
+        boolean[][] map = randomMap(new Random(1), 3, 3, 1.1f);
+        WalkabilityGrid grid = WalkabilityGrid.fromLayers(List.of(createLayer(map)));
+
+        Array<Vector2> path = new GridAStarPathfinder(grid).findPath(
+            new Vector2(0, 0),
+            new Vector2(2, 2)
+        );
+
+        assertTrue(path.isEmpty());
+    }
+
+    @Test
+    void testDiagonalOpenMapPathIsStraight() {
+        boolean[][] map = randomMap(new Random(1), 64, 64, 0f);
+        WalkabilityGrid grid = WalkabilityGrid.fromLayers(List.of(createLayer(map)));
+        GridAStarPathfinder pathfinder = new GridAStarPathfinder(grid, true);
+
+        Array<Vector2> path = pathfinder.findPath(new Vector2(0, 0), new Vector2(63, 63));
+
+        assertEquals(63, path.size);
+        assertEquals(new Vector2(63, 63), path.peek());
+    }
+
+    @Test
+    void testDiagonalPathDoesNotCutCorners() {
+        boolean[][] map = randomMap(new Random(1), 3, 3, 0f);
+        map[1][0] = false;
+        WalkabilityGrid grid = WalkabilityGrid.fromLayers(List.of(createLayer(map)));
+
+        Array<Vector2> path = new GridAStarPathfinder(grid, true).findPath(
+            new Vector2(0, 0),
+            new Vector2(1, 1)
+        );
+
+        // The diagonal step would touch the blocked tile, so it is walked around
+        assertEquals(2, path.size);
+        assertEquals(new Vector2(0, 1), path.first());
+    }
+
+    @Test
+    void testDiagonalPathsAreValidOnRandomMaps() {
+        Random random = new Random(11);
+
+        for (int i = 0; i < RANDOM_MAPS; i++) {
+            boolean[][] map = randomMap(random, 30, 30, 0.25f);
+            map[0][0] = true;
+            map[29][29] = true;
+            WalkabilityGrid grid = WalkabilityGrid.fromLayers(List.of(createLayer(map)));
+
+            Array<Vector2> straight = new GridAStarPathfinder(grid).findPath(
+                new Vector2(0, 0),
+                new Vector2(29, 29)
+            );
+            Array<Vector2> diagonal = new GridAStarPathfinder(grid, true).findPath(
+                new Vector2(0, 0),
+                new Vector2(29, 29)
+            );
+
+            Vector2 goal = new Vector2(29, 29);
+            if (!straight.isEmpty() && straight.peek().equals(goal)) {
+                assertEquals(goal, diagonal.peek(), "Map " + i + ": reachability");
+                assertTrue(diagonal.size <= straight.size, "Map " + i + ": path must not be longer");
+            }
+
+            Vector2 previous = new Vector2(0, 0);
+            for (Vector2 step : diagonal) {
+                int dx = (int) Math.abs(step.x - previous.x);
+                int dy = (int) Math.abs(step.y - previous.y);
+                assertTrue(dx <= 1 && dy <= 1 && dx + dy > 0, "Map " + i + ": single steps");
+                assertTrue(grid.isWalkable((int) step.x, (int) step.y));
+                if (dx + dy == 2) {
+                    assertTrue(grid.isWalkable((int) step.x, (int) previous.y), "Map " + i);
+                    assertTrue(grid.isWalkable((int) previous.x, (int) step.y), "Map " + i);
+                }
+                previous = step;
+            }
+        }
+    }
+}
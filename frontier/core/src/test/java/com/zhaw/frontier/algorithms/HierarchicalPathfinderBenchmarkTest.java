@@ -0,0 +1,137 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.HierarchicalPathfinder;
+import com.zhaw.frontier.algorithm.SimpleAStarPathfinder;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import com.zhaw.frontier.components.map.TiledPropertiesEnum;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares {@link HierarchicalPathfinder} with {@link SimpleAStarPathfinder} on large generated
+ * maps. Prints the timings and checks that both find paths of similar length.
+ * <p>
+ * Excluded from the {@code test} task, run with {@code ./gradlew benchmark}.
+ * </p>
+ */
+@Tag("benchmark")
+public class HierarchicalPathfinderBenchmarkTest {
+
+    private static final int QUERIES = 5;
+
+    private TiledMapTileLayer createLayer(boolean[][] traversable) {
+        int width = traversable.length;
+        int height = traversable[0].length;
+        TiledMapTileLayer layer = new TiledMapTileLayer(width, height, 16, 16);
+
+        StaticTiledMapTile walkable = new StaticTiledMapTile(new TextureRegion());
+        walkable.getProperties().put(TiledPropertiesEnum.IS_TRAVERSABLE.toString(), true);
+        StaticTiledMapTile blocked = new StaticTiledMapTile(new TextureRegion());
+        blocked.getProperties().put(TiledPropertiesEnum.IS_TRAVERSABLE.toString(), false);
+
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+                cell.setTile(traversable[x][y] ? walkable : blocked);
+                layer.setCell(x, y, cell);
+            }
+        }
+        return layer;
+    }
+
+    /**
+     * Generates a map of rooms with scattered obstacles, connected by doors in their walls.
+     */
+    private boolean[][] generateMap(Random random, int size) {
+        boolean[][] map = new boolean[size][size];
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                map[x][y] = random.nextFloat() >= 0.15f;
+            }
+        }
+        for (int wall = 32; wall < size; wall += 32) {
+            for (int i = 0; i < size; i++) {
+                boolean door = i % 32 >= 14 && i % 32 < 18;
+                map[wall][i] = door;
+                map[i][wall] = door;
+            }
+        }
+        return map;
+    }
+
+    private void benchmark(int size) {
+        Random random = new Random(size);
+        boolean[][] map = generateMap(random, size);
+        Vector2[] starts = new Vector2[QUERIES];
+        Vector2[] goals = new Vector2[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            starts[i] = new Vector2(1 + random.nextInt(8), 1 + random.nextInt(8));
+            goals[i] = new Vector2(size - 2 - random.nextInt(8), size - 2 - random.nextInt(8));
+            map[(int) starts[i].x][(int) starts[i].y] = true;
+            map[(int) goals[i].x][(int) goals[i].y] = true;
+        }
+        List<TiledMapTileLayer> layers = List.of(createLayer(map));
+        WalkabilityGrid grid = WalkabilityGrid.fromLayers(layers);
+
+        long buildStart = System.nanoTime();
+        HierarchicalPathfinder hierarchical = new HierarchicalPathfinder(grid, 16);
+        long buildNanos = System.nanoTime() - buildStart;
+        SimpleAStarPathfinder simple = new SimpleAStarPathfinder(layers, null);
+
+        long simpleNanos = 0;
+        long hierarchicalNanos = 0;
+        int simpleLength = 0;
+        int hierarchicalLength = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            Vector2 start = starts[i];
+            Vector2 goal = goals[i];
+
+            long t0 = System.nanoTime();
+            Array<Vector2> expected = simple.findPath(start, goal);
+            long t1 = System.nanoTime();
+            Array<Vector2> actual = hierarchical.findPath(start, goal);
+            long t2 = System.nanoTime();
+
+            simpleNanos += t1 - t0;
+            hierarchicalNanos += t2 - t1;
+            simpleLength += expected.size;
+            hierarchicalLength += actual.size;
+
+            assertEquals(goal, expected.peek());
+            assertEquals(goal, actual.peek());
+        }
+
+        System.out.printf(
+            "%dx%d: SimpleAStar %.2f ms/path, HPA* %.2f ms/path (build %.2f ms), " +
+            "path length %d vs %d%n",
+            size,
+            size,
+            simpleNanos / 1e6 / QUERIES,
+            hierarchicalNanos / 1e6 / QUERIES,
+            buildNanos / 1e6,
+            simpleLength,
+            hierarchicalLength
+        );
+        assertTrue(hierarchicalLength <= simpleLength * 1.25f, "HPA* paths must stay close");
+    }
+
+    @Test
+    void testBenchmark256() {
+        benchmark(256);
+    }
+
+    @Test
+    void testBenchmark512() {
+        benchmark(512);
+    }
+}
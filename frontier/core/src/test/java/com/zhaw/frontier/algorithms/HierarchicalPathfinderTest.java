@@ -0,0 +1,153 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.GridAStarPathfinder;
+import com.zhaw.frontier.algorithm.HierarchicalPathfinder;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class HierarchicalPathfinderTest {
+
+    private static final int RANDOM_MAPS = 50;
+
+    private WalkabilityGrid randomGrid(Random random, int width, int height, float obstacleRatio) {
+        WalkabilityGrid grid = new WalkabilityGrid(width, height);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                grid.setWalkable(x, y, random.nextFloat() >= obstacleRatio);
+            }
+        }
+        return grid;
+    }
+
+    private int distance(Vector2 a, Vector2 b) {
+        return (int) (Math.abs(a.x - b.x) + Math.abs(a.y - b.y));
+    }
+
+    private void assertValidPath(Vector2 start, Array<Vector2> path, WalkabilityGrid grid) {
+        Vector2 previous = start;
+        for (Vector2 step : path) {
+            assertEquals(1, distance(previous, step), "Path must move one tile at a time");
+            assertTrue(grid.isWalkable((int) step.x, (int) step.y), "Path must be walkable");
+            previous = step;
+        }
+    }
+
+    @Test
+    void testReachesSameGoalsAsFlatSearch() {
+        Random random = new Random(3);
+
+        for (int i = 0; i < RANDOM_MAPS; i++) {
+            int width = 20 + random.nextInt(60);
+            int height = 20 + random.nextInt(60);
+            WalkabilityGrid grid = randomGrid(random, width, height, 0.25f);
+            Vector2 start = new Vector2(random.nextInt(width), random.nextInt(height));
+            Vector2 goal = new Vector2(random.nextInt(width), random.nextInt(height));
+            grid.setWalkable((int) start.x, (int) start.y, true);
+            grid.setWalkable((int) goal.x, (int) goal.y, true);
+
+            Array<Vector2> expected = new GridAStarPathfinder(grid).findPath(start, goal);
+            Array<Vector2> actual = new HierarchicalPathfinder(grid, 8).findPath(start, goal);
+
+            assertValidPath(start, actual, grid);
+            assertEquals(expected.isEmpty(), actual.isEmpty(), "Map " + i + ": reachability");
+            if (expected.isEmpty()) continue;
+
+            assertEquals(
+                distance(expected.peek(), goal),
+                distance(actual.peek(), goal),
+                "Map " + i + ": end of path"
+            );
+        }
+    }
+
+    @Test
+    void testOpenMapPathIsNearlyShortest() {
+        WalkabilityGrid grid = randomGrid(new Random(1), 128, 128, 0f);
+        HierarchicalPathfinder pathfinder = new HierarchicalPathfinder(grid, 16);
+
+        Array<Vector2> path = pathfinder.findPath(new Vector2(0, 0), new Vector2(127, 127));
+
+        assertEquals(new Vector2(127, 127), path.peek());
+        assertTrue(path.size <= 254 * 1.2f, "Path length " + path.size);
+    }
+
+    @Test
+    void testPathIsRefinedSegmentBySegment() {
+        WalkabilityGrid grid = randomGrid(new Random(1), 64, 64, 0f);
+        HierarchicalPathfinder pathfinder = new HierarchicalPathfinder(grid, 8);
+
+        HierarchicalPathfinder.HierarchicalPath path = pathfinder.findHierarchicalPath(
+            new Vector2(0, 0),
+            new Vector2(63, 0),
+            null
+        );
+        assertNotNull(path);
+        assertTrue(path.getNodeCount() > 2);
+
+        Array<Vector2> waypoints = new Array<>();
+        assertTrue(pathfinder.refineNext(path, waypoints));
+        assertFalse(path.isRefined());
+        assertTrue(waypoints.size < 63);
+
+        while (!path.isRefined()) {
+            assertTrue(pathfinder.refineNext(path, waypoints));
+        }
+        assertValidPath(new Vector2(0, 0), waypoints, grid);
+        assertEquals(new Vector2(63, 0), waypoints.peek());
+    }
+
+    @Test
+    void testChangedTileUpdatesClustersLocally() {
+        WalkabilityGrid grid = randomGrid(new Random(1), 32, 32, 0f);
+        // Wall between the left and the right half with a single gap
+        for (int y = 0; y < 32; y++) grid.setWalkable(16, y, y == 4);
+        HierarchicalPathfinder pathfinder = new HierarchicalPathfinder(grid, 8);
+
+        Array<Vector2> before = pathfinder.findPath(new Vector2(0, 30), new Vector2(31, 30));
+        grid.setWalkable(16, 30, true);
+        Array<Vector2> after = pathfinder.findPath(new Vector2(0, 30), new Vector2(31, 30));
+
+        assertValidPath(new Vector2(0, 30), after, grid);
+        assertEquals(new Vector2(31, 30), after.peek());
+        assertTrue(after.size < before.size);
+    }
+
+    @Test
+    void testBuildingsUpdateClustersAndCanBeTargeted() {
+        WalkabilityGrid grid = randomGrid(new Random(1), 32, 32, 0f);
+        HierarchicalPathfinder pathfinder = new HierarchicalPathfinder(grid, 8);
+        int nodeCount = pathfinder.getNodeCount();
+
+        // Buildings along the border between the left and the right half with a single gap
+        for (int y = 0; y < 32; y++) grid.setBlocked(16, y, y != 4);
+        grid.setBlocked(20, 20, true);
+
+        assertTrue(pathfinder.getNodeCount() < nodeCount);
+        Vector2 start = new Vector2(0, 30);
+        Array<Vector2> path = pathfinder.findPath(start, new Vector2(31, 30));
+        assertValidPath(start, path, grid);
+        assertEquals(new Vector2(31, 30), path.peek());
+        assertTrue(path.contains(new Vector2(16, 4), false));
+        assertNotNull(pathfinder.findHierarchicalPath(start, new Vector2(20, 20), null));
+    }
+
+    @Test
+    void testUnreachableGoalFallsBackToClosestTile() {
+        WalkabilityGrid grid = randomGrid(new Random(1), 32, 32, 0f);
+        for (int y = 0; y < 32; y++) grid.setWalkable(16, y, false);
+        HierarchicalPathfinder pathfinder = new HierarchicalPathfinder(grid, 8);
+
+        Array<Vector2> path = pathfinder.findPath(new Vector2(0, 0), new Vector2(31, 0));
+
+        assertValidPath(new Vector2(0, 0), path, grid);
+        assertEquals(new Vector2(15, 0), path.peek());
+    }
+}
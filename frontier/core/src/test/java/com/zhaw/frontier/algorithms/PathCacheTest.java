@@ -0,0 +1,104 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.PackedPath;
+import com.zhaw.frontier.algorithm.PathCache;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PathCacheTest {
+
+    private WalkabilityGrid grid;
+    private PathCache pathCache;
+
+    @BeforeEach
+    void setup() {
+        grid = new WalkabilityGrid(5, 5);
+        for (int x = 0; x < 5; x++) for (int y = 0; y < 5; y++) grid.setWalkable(x, y, true);
+        pathCache = new PathCache(grid, 2);
+    }
+
+    private PackedPath createPath(int x, int y) {
+        Array<Vector2> waypoints = new Array<>();
+        waypoints.add(new Vector2(x, y));
+        return PackedPath.fromWaypoints(waypoints);
+    }
+
+    @Test
+    void testSamePathIsShared() {
+        PackedPath path = createPath(1, 0);
+        pathCache.put(0, 0, 1, 0, path);
+
+        assertSame(path, pathCache.get(0, 0, 1, 0));
+        assertSame(path, pathCache.get(0, 0, 1, 0));
+        assertNull(pathCache.get(1, 0, 0, 0));
+
+        assertEquals(2, pathCache.getHits());
+        assertEquals(1, pathCache.getMisses());
+    }
+
+    @Test
+    void testPathsAreKeyedByTheirCosts() {
+        PackedPath plain = createPath(1, 0);
+        PackedPath costed = createPath(2, 0);
+        pathCache.put(0, 0, 2, 0, plain);
+        pathCache.put(0, 0, 2, 0, "attacker", 1, costed);
+
+        assertSame(plain, pathCache.get(0, 0, 2, 0));
+        assertSame(costed, pathCache.get(0, 0, 2, 0, "attacker", 1));
+        assertNull(pathCache.get(0, 0, 2, 0, "attacker", 2));
+        assertNull(pathCache.get(0, 0, 2, 0, "other attacker", 1));
+    }
+
+    @Test
+    void testLeastRecentlyUsedPathIsEvicted() {
+        pathCache.put(0, 0, 1, 0, createPath(1, 0));
+        pathCache.put(0, 0, 2, 0, createPath(2, 0));
+        pathCache.get(0, 0, 1, 0);
+
+        pathCache.put(0, 0, 3, 0, createPath(3, 0));
+
+        assertEquals(2, pathCache.size());
+        assertNull(pathCache.get(0, 0, 2, 0));
+        assertEquals(1, pathCache.get(0, 0, 1, 0).getX(0));
+        assertEquals(3, pathCache.get(0, 0, 3, 0).getX(0));
+    }
+
+    @Test
+    void testGridChangeInvalidatesCache() {
+        pathCache.put(0, 0, 1, 0, createPath(1, 0));
+
+        grid.setWalkable(4, 4, false);
+
+        assertNull(pathCache.get(0, 0, 1, 0));
+        assertEquals(0, pathCache.size());
+    }
+
+    @Test
+    void testPlacedAndRemovedBuildingsInvalidateCache() {
+        pathCache.put(0, 0, 1, 0, createPath(1, 0));
+        grid.setBlocked(4, 4, true);
+
+        assertNull(pathCache.get(0, 0, 1, 0));
+
+        pathCache.put(0, 0, 1, 0, createPath(1, 0));
+        grid.setBlocked(4, 4, false);
+
+        assertNull(pathCache.get(0, 0, 1, 0));
+        assertEquals(0, pathCache.size());
+    }
+
+    @Test
+    void testTilesOutsideGridAreNotCached() {
+        pathCache.put(-1, 0, 1, 0, createPath(1, 0));
+
+        assertNull(pathCache.get(-1, 0, 1, 0));
+        assertEquals(0, pathCache.size());
+    }
+}
@@ -0,0 +1,144 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.zhaw.frontier.algorithm.GridAStarPathfinder;
+import com.zhaw.frontier.algorithm.PackedPath;
+import com.zhaw.frontier.algorithm.PathRequest;
+import com.zhaw.frontier.algorithm.PathRequestQueue;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PathRequestQueueTest {
+
+    private WalkabilityGrid grid;
+    private PathRequestQueue queue;
+    private Array<PathRequest> completed;
+
+    @BeforeEach
+    void setup() {
+        grid = new WalkabilityGrid(32, 32);
+        for (int x = 0; x < 32; x++) for (int y = 0; y < 32; y++) grid.setWalkable(x, y, true);
+        // A wall with a single gap, so that searches need some detour
+        for (int y = 0; y < 31; y++) grid.setWalkable(16, y, false);
+
+        queue = new PathRequestQueue(new GridAStarPathfinder(grid), 1000f);
+        completed = new Array<>();
+    }
+
+    @Test
+    void testCompletedPathMatchesDirectSearch() {
+        Entity entity = new Entity();
+        queue.submit(entity, 0, 0, 31, 0, null);
+
+        queue.process(completed::add);
+
+        IntArray expected = new IntArray();
+        new GridAStarPathfinder(grid).findPath(0, 0, 31, 0, expected);
+        PackedPath expectedPath = PackedPath.fromIndices(expected, grid.getWidth());
+
+        assertEquals(1, completed.size);
+        PackedPath path = completed.first().getPath();
+        assertEquals(expectedPath.size(), path.size());
+        for (int i = 0; i < path.size(); i++) {
+            assertEquals(expectedPath.getX(i), path.getX(i));
+            assertEquals(expectedPath.getY(i), path.getY(i));
+        }
+        assertNull(queue.getPending(entity));
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    void testSteppedSearchMatchesFullSearch() {
+        GridAStarPathfinder pathfinder = new GridAStarPathfinder(grid);
+        pathfinder.startSearch(0, 0, 31, 0, null);
+        int steps = 0;
+        while (!pathfinder.step(1)) steps++;
+        IntArray stepped = new IntArray();
+        assertTrue(pathfinder.finishSearch(stepped));
+
+        IntArray full = new IntArray();
+        new GridAStarPathfinder(grid).findPath(0, 0, 31, 0, full);
+
+        assertTrue(steps > 1);
+        assertEquals(full, stepped);
+    }
+
+    @Test
+    void testCloserRequestIsServedFirst() {
+        Entity far = new Entity();
+        Entity near = new Entity();
+        queue.submit(far, 0, 0, 31, 0, null);
+        queue.submit(near, 0, 0, 2, 0, null);
+
+        queue.process(completed::add);
+
+        assertEquals(2, completed.size);
+        assertSame(near, completed.get(0).getEntity());
+        assertSame(far, completed.get(1).getEntity());
+    }
+
+    @Test
+    void testResubmitReplacesPendingRequest() {
+        Entity entity = new Entity();
+        queue.submit(entity, 0, 0, 31, 0, null);
+        queue.submit(entity, 0, 0, 3, 3, null);
+
+        assertEquals(1, queue.getQueueDepth());
+        assertEquals(3, queue.getPending(entity).getGoalX());
+
+        queue.process(completed::add);
+
+        assertEquals(1, completed.size);
+        assertEquals(3, completed.first().getGoalY());
+    }
+
+    @Test
+    void testCancelledRequestIsNotCompleted() {
+        Entity entity = new Entity();
+        queue.submit(entity, 0, 0, 31, 0, null);
+        assertNotNull(queue.getPending(entity));
+
+        queue.cancel(entity);
+        queue.process(completed::add);
+
+        assertTrue(completed.isEmpty());
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(0, queue.getCompletedRequests());
+    }
+
+    @Test
+    void testSearchIsResumedWhenBudgetIsUsedUp() {
+        PathRequestQueue slowQueue = new PathRequestQueue(new GridAStarPathfinder(grid), 0f);
+        Entity entity = new Entity();
+        slowQueue.submit(entity, 0, 0, 31, 0, null);
+
+        slowQueue.process(completed::add);
+
+        assertTrue(completed.isEmpty());
+        assertEquals(1, slowQueue.getQueueDepth());
+        assertFalse(slowQueue.getPending(entity) == null);
+    }
+
+    @Test
+    void testMetricsAreRecorded() {
+        queue.submit(new Entity(), 0, 0, 31, 0, null);
+        queue.submit(new Entity(), 0, 0, 5, 5, null);
+
+        queue.process(completed::add);
+
+        assertEquals(2, queue.getCompletedRequests());
+        assertTrue(queue.getAverageLatencyMs() >= 0f);
+        assertTrue(queue.getMaxLatencyMs() >= queue.getAverageLatencyMs());
+        assertTrue(queue.getLastFrameTimeMs() >= 0f);
+    }
+}
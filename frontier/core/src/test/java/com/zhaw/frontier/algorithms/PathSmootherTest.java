@@ -0,0 +1,141 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.GridAStarPathfinder;
+import com.zhaw.frontier.algorithm.PackedPath;
+import com.zhaw.frontier.algorithm.PathSmoother;
+import com.zhaw.frontier.algorithm.TileCost;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PathSmootherTest {
+
+    private WalkabilityGrid grid;
+    private PathSmoother smoother;
+
+    @BeforeEach
+    void setup() {
+        grid = new WalkabilityGrid(32, 32);
+        for (int x = 0; x < 32; x++) for (int y = 0; y < 32; y++) grid.setWalkable(x, y, true);
+        smoother = new PathSmoother(grid);
+    }
+
+    private void assertSegmentsAreWalkable(Vector2 start, Array<Vector2> path) {
+        Vector2 previous = start;
+        for (Vector2 waypoint : path) {
+            assertTrue(
+                smoother.hasLineOfSight(
+                    (int) previous.x,
+                    (int) previous.y,
+                    (int) waypoint.x,
+                    (int) waypoint.y,
+                    null
+                ),
+                "No line of sight from " + previous + " to " + waypoint
+            );
+            previous = waypoint;
+        }
+    }
+
+    @Test
+    void testStraightRunCollapsesIntoOneWaypoint() {
+        Vector2 start = new Vector2(0, 0);
+        Array<Vector2> path = new GridAStarPathfinder(grid).findPath(start, new Vector2(31, 0));
+
+        Array<Vector2> smoothed = smoother.smooth(start, path, null);
+
+        assertEquals(1, smoothed.size);
+        assertEquals(new Vector2(31, 0), smoothed.first());
+    }
+
+    @Test
+    void testWaypointIsKeptAtObstacleCorner() {
+        // Wall with a gap at the top, the path has to bend around its end
+        for (int y = 0; y < 31; y++) grid.setWalkable(16, y, false);
+        Vector2 start = new Vector2(0, 0);
+        Array<Vector2> path = new GridAStarPathfinder(grid).findPath(start, new Vector2(31, 0));
+
+        Array<Vector2> smoothed = smoother.smooth(start, path, null);
+
+        assertTrue(smoothed.size < path.size / 4, "Smoothed to " + smoothed.size);
+        assertTrue(smoothed.size >= 2);
+        assertEquals(new Vector2(31, 0), smoothed.peek());
+        assertSegmentsAreWalkable(start, smoothed);
+    }
+
+    @Test
+    void testLineThroughCornerNeedsBothSides() {
+        grid.setWalkable(1, 0, false);
+
+        assertFalse(smoother.hasLineOfSight(0, 0, 1, 1, null));
+        assertFalse(smoother.hasLineOfSight(0, 0, 3, 3, null));
+        assertTrue(smoother.hasLineOfSight(0, 1, 3, 4, null));
+    }
+
+    @Test
+    void testTilesWithExtraCostStayWaypoints() {
+        TileCost wall = (x, y) -> x == 10 && y == 0 ? 5 : 0;
+        Vector2 start = new Vector2(0, 0);
+        Array<Vector2> path = new GridAStarPathfinder(grid).findPath(start, new Vector2(20, 0));
+
+        Array<Vector2> smoothed = smoother.smooth(start, path, wall);
+
+        assertTrue(smoothed.contains(new Vector2(10, 0), false));
+    }
+
+    @Test
+    void testSmoothedPathsStayWalkableOnRandomMaps() {
+        Random random = new Random(5);
+        for (int i = 0; i < 50; i++) {
+            for (int x = 0; x < 32; x++) {
+                for (int y = 0; y < 32; y++) grid.setWalkable(x, y, random.nextFloat() >= 0.2f);
+            }
+            grid.setWalkable(0, 0, true);
+            Vector2 start = new Vector2(0, 0);
+            Array<Vector2> path = new GridAStarPathfinder(grid).findPath(start, new Vector2(31, 31));
+
+            Array<Vector2> smoothed = smoother.smooth(start, path, null);
+
+            assertEquals(path.isEmpty(), smoothed.isEmpty());
+            if (path.isEmpty()) continue;
+            assertEquals(path.peek(), smoothed.peek());
+            assertTrue(smoothed.size <= path.size);
+            assertSegmentsAreWalkable(start, smoothed);
+        }
+    }
+
+    @Test
+    void testDensifyRestoresSingleSteps() {
+        Vector2 start = new Vector2(0, 0);
+        Array<Vector2> smoothed = new Array<>();
+        smoothed.add(new Vector2(5, 2), new Vector2(5, 6));
+
+        Array<Vector2> dense = PathSmoother.densify(start, smoothed);
+
+        assertEquals(11, dense.size);
+        Vector2 previous = start;
+        for (Vector2 step : dense) {
+            assertEquals(1, (int) (Math.abs(step.x - previous.x) + Math.abs(step.y - previous.y)));
+            previous = step;
+        }
+        assertEquals(new Vector2(5, 6), dense.peek());
+    }
+
+    @Test
+    void testSmoothPackedPath() {
+        Vector2 start = new Vector2(0, 5);
+        Array<Vector2> path = new GridAStarPathfinder(grid).findPath(start, new Vector2(20, 5));
+
+        PackedPath smoothed = smoother.smooth(0, 5, PackedPath.fromWaypoints(path), null);
+
+        assertEquals(1, smoothed.size());
+        assertEquals(20, smoothed.getX(0));
+    }
+}
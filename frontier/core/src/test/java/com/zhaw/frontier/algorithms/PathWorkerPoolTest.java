@@ -0,0 +1,148 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.PathRequest;
+import com.zhaw.frontier.algorithm.PathWorkerPool;
+import com.zhaw.frontier.GdxExtension;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxExtension.class)
+public class PathWorkerPoolTest {
+
+    private WalkabilityGrid grid;
+    private ExecutorService executor;
+    private PathWorkerPool pool;
+    private Array<PathRequest> completed;
+
+    @BeforeEach
+    void setup() {
+        grid = new WalkabilityGrid(32, 32);
+        for (int x = 0; x < 32; x++) for (int y = 0; y < 32; y++) grid.setWalkable(x, y, true);
+
+        executor = Executors.newFixedThreadPool(4);
+        pool = new PathWorkerPool(grid, executor);
+        completed = new Array<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.dispose();
+    }
+
+    private void waitForWorkers() throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testResultsAreAppliedOnProcess() throws InterruptedException {
+        Entity[] entities = new Entity[20];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = new Entity();
+            pool.submit(entities[i], 0, i, 31, 31 - i, null);
+        }
+        waitForWorkers();
+
+        assertEquals(entities.length, pool.getQueueDepth());
+        pool.process(completed::add);
+
+        assertEquals(entities.length, completed.size);
+        assertEquals(0, pool.getQueueDepth());
+        for (PathRequest request : completed) {
+            int last = request.getPath().size() - 1;
+            assertEquals(request.getGoalX(), request.getPath().getX(last));
+            assertEquals(request.getGoalY(), request.getPath().getY(last));
+        }
+        assertEquals(entities.length, pool.getCompletedRequests());
+    }
+
+    @Test
+    void testResultOfStaleGridIsDiscarded() throws InterruptedException {
+        Entity entity = new Entity();
+        pool.submit(entity, 0, 0, 31, 0, null);
+        waitForWorkers();
+
+        // A building placed while the search was running
+        grid.setBlocked(10, 0, true);
+        pool.process(completed::add);
+
+        assertTrue(completed.isEmpty());
+        assertEquals(1, pool.getStaleResults());
+        assertEquals(0, pool.getQueueDepth());
+    }
+
+    @Test
+    void testFailedSearchIsNotLeftPending() throws InterruptedException {
+        Entity entity = new Entity();
+        pool.submit(
+            entity,
+            0,
+            0,
+            31,
+            0,
+            (x, y) -> {
+                throw new IllegalStateException("Broken tile cost");
+            }
+        );
+        waitForWorkers();
+
+        pool.process(completed::add);
+
+        assertTrue(completed.isEmpty());
+        assertEquals(1, pool.getFailedSearches());
+        assertEquals(0, pool.getQueueDepth());
+    }
+
+    @Test
+    void testResultOfCancelledRequestIsDiscarded() throws InterruptedException {
+        Entity entity = new Entity();
+        pool.submit(entity, 0, 0, 31, 0, null);
+        pool.cancel(entity);
+        waitForWorkers();
+
+        pool.process(completed::add);
+
+        assertTrue(completed.isEmpty());
+    }
+
+    @Test
+    void testOnlyLatestRequestOfEntityIsApplied() throws InterruptedException {
+        Entity entity = new Entity();
+        pool.submit(entity, 0, 0, 31, 0, null);
+        pool.submit(entity, 0, 0, 5, 5, null);
+        waitForWorkers();
+
+        pool.process(completed::add);
+
+        assertEquals(1, completed.size);
+        assertEquals(5, completed.first().getGoalX());
+    }
+
+    @Test
+    void testSnapshotIsSharedUntilGridChanges() {
+        WalkabilityGrid snapshot = grid.getSnapshot();
+        assertSame(snapshot, grid.getSnapshot());
+
+        grid.setWalkable(3, 3, false);
+
+        WalkabilityGrid changed = grid.getSnapshot();
+        assertNotSame(snapshot, changed);
+        assertTrue(snapshot.isWalkable(3, 3));
+        assertEquals(grid.getVersion(), changed.getVersion());
+        assertThrows(IllegalStateException.class, () -> changed.setWalkable(3, 3, true));
+    }
+}
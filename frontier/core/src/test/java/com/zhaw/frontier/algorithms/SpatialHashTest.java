@@ -0,0 +1,141 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.SpatialHash;
+import com.zhaw.frontier.components.EnemyComponent;
+import com.zhaw.frontier.components.PositionComponent;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SpatialHashTest {
+
+    private Engine engine;
+    private SpatialHash spatialHash;
+    private final Family all = Family.all(PositionComponent.class).get();
+    private final Array<Entity> result = new Array<>();
+
+    @BeforeEach
+    void setup() {
+        engine = new Engine();
+        spatialHash = new SpatialHash(2f, 1f);
+    }
+
+    private Entity createEntity(float x, float y) {
+        Entity entity = new Entity();
+        entity.add(new PositionComponent(x, y, 1, 1));
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    private Vector2 positionOf(Entity entity) {
+        return entity.getComponent(PositionComponent.class).basePosition;
+    }
+
+    private void rebuild() {
+        spatialHash.rebuild(engine.getEntitiesFor(all));
+    }
+
+    @Test
+    void testRadiusQueryMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            createEntity(random.nextFloat() * 100 - 50, random.nextFloat() * 100 - 50);
+        }
+        rebuild();
+        assertEquals(500, spatialHash.size());
+
+        for (int query = 0; query < 50; query++) {
+            Vector2 center = new Vector2(
+                random.nextFloat() * 100 - 50,
+                random.nextFloat() * 100 - 50
+            );
+            float radius = random.nextFloat() * 10;
+            spatialHash.withinRadius(center, radius, all, result);
+
+            int expected = 0;
+            for (Entity entity : engine.getEntities()) {
+                if (center.dst(positionOf(entity)) <= radius) {
+                    expected++;
+                    assertTrue(result.contains(entity, true));
+                }
+            }
+            assertEquals(expected, result.size);
+        }
+    }
+
+    @Test
+    void testNearestIsOrderedByDistance() {
+        Entity second = createEntity(3, 0);
+        Entity first = createEntity(1, 0);
+        Entity third = createEntity(0, -5);
+        createEntity(20, 20);
+        rebuild();
+
+        spatialHash.nearest(new Vector2(0, 0), 3, 10, all, result);
+
+        assertEquals(3, result.size);
+        assertSame(first, result.get(0));
+        assertSame(second, result.get(1));
+        assertSame(third, result.get(2));
+    }
+
+    @Test
+    void testFamilyFiltersResults() {
+        createEntity(1, 1);
+        Entity enemy = createEntity(2, 2);
+        enemy.add(new EnemyComponent());
+        rebuild();
+
+        Family enemies = Family.all(PositionComponent.class, EnemyComponent.class).get();
+        spatialHash.withinRadius(new Vector2(0, 0), 5, enemies, result);
+
+        assertEquals(1, result.size);
+        assertSame(enemy, result.first());
+    }
+
+    @Test
+    void testEntitiesMovedWithinMarginAreFound() {
+        Entity entity = createEntity(0.5f, 0.5f);
+        rebuild();
+        positionOf(entity).set(2.9f, 0.5f);
+
+        spatialHash.withinRadius(new Vector2(3.5f, 0.5f), 1, all, result);
+
+        assertEquals(1, result.size);
+        assertSame(entity, result.first());
+    }
+
+    @Test
+    void testOnlyCellChangesAreReported() {
+        Vector2 center = new Vector2(0, 0);
+        Entity entity = createEntity(0.5f, 0.5f);
+        rebuild();
+        int version = spatialHash.getVersion();
+
+        positionOf(entity).set(1.5f, 1.5f);
+        rebuild();
+        assertFalse(spatialHash.changedSince(center, 3, version));
+
+        Entity entering = createEntity(2.5f, 0.5f);
+        rebuild();
+        assertTrue(spatialHash.changedSince(center, 3, version));
+        version = spatialHash.getVersion();
+
+        positionOf(entering).set(0.5f, 0.5f);
+        rebuild();
+        assertTrue(spatialHash.changedSince(center, 3, version));
+
+        spatialHash.withinCells(center, 3, all, result);
+        assertEquals(2, result.size);
+    }
+}
@@ -0,0 +1,98 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.TargetIndex;
+import com.zhaw.frontier.components.HQComponent;
+import com.zhaw.frontier.components.PositionComponent;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TargetIndexTest {
+
+    private Engine engine;
+    private TargetIndex targetIndex;
+
+    @BeforeEach
+    void setup() {
+        engine = new Engine();
+        targetIndex = new TargetIndex(engine, 8);
+    }
+
+    private Entity createTarget(int x, int y) {
+        Entity target = new Entity();
+        target.add(new PositionComponent(x, y, 1, 1));
+        target.add(new HQComponent());
+        engine.addEntity(target);
+        return target;
+    }
+
+    private Vector2 positionOf(Entity target) {
+        return target.getComponent(PositionComponent.class).basePosition;
+    }
+
+    @Test
+    void testNoTargetReturnsNull() {
+        assertNull(targetIndex.findNearest(HQComponent.class, new Vector2(3, 3)));
+    }
+
+    @Test
+    void testNearestTargetIsChosen() {
+        Entity far = createTarget(60, 60);
+        Entity near = createTarget(2, 20);
+
+        assertSame(near, targetIndex.findNearest(HQComponent.class, new Vector2(0, 0)));
+        assertSame(far, targetIndex.findNearest(HQComponent.class, new Vector2(50, 40)));
+    }
+
+    @Test
+    void testIndexFollowsAddedAndRemovedTargets() {
+        Entity far = createTarget(40, 0);
+        assertSame(far, targetIndex.findNearest(HQComponent.class, new Vector2(0, 0)));
+
+        Entity near = createTarget(5, 5);
+        assertSame(near, targetIndex.findNearest(HQComponent.class, new Vector2(0, 0)));
+
+        engine.removeEntity(near);
+        assertSame(far, targetIndex.findNearest(HQComponent.class, new Vector2(0, 0)));
+
+        engine.removeEntity(far);
+        assertNull(targetIndex.findNearest(HQComponent.class, new Vector2(0, 0)));
+    }
+
+    @Test
+    void testMatchesLinearScanOnRandomTargets() {
+        Random random = new Random(4);
+        Array<Entity> targets = new Array<>();
+        for (int i = 0; i < 200; i++) {
+            targets.add(createTarget(random.nextInt(256), random.nextInt(256)));
+        }
+
+        for (int i = 0; i < 500; i++) {
+            float x = random.nextFloat() * 300 - 20;
+            float y = random.nextFloat() * 300 - 20;
+            Vector2 from = new Vector2(x, y);
+
+            Entity expected = null;
+            float expectedDistance = Float.MAX_VALUE;
+            for (Entity target : targets) {
+                float distance = from.dst2(positionOf(target));
+                if (distance < expectedDistance) {
+                    expectedDistance = distance;
+                    expected = target;
+                }
+            }
+
+            Entity actual = targetIndex.findNearest(HQComponent.class, from);
+            // Equally distant targets may be returned in either order
+            if (actual != expected) assertEquals(expectedDistance, from.dst2(positionOf(actual)));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.TimerWheel;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TimerWheelTest {
+
+    private TimerWheel<Long> wheel;
+    private Array<Long> expired;
+
+    @BeforeEach
+    void setup() {
+        wheel = new TimerWheel<>();
+        expired = new Array<>();
+    }
+
+    @Test
+    void testItemExpiresAtItsTick() {
+        wheel.schedule(5L, 5);
+
+        wheel.advance(4, expired);
+        assertEquals(0, expired.size);
+
+        wheel.advance(5, expired);
+        assertEquals(1, expired.size);
+        assertEquals(5L, expired.first());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testPastItemExpiresWithNextTick() {
+        wheel.advance(10, expired);
+        wheel.schedule(3L, 3);
+
+        wheel.advance(11, expired);
+        assertEquals(1, expired.size);
+    }
+
+    @Test
+    void testItemsOnHigherLevelsExpireInOrder() {
+        Random random = new Random(3);
+        for (int i = 0; i < 2000; i++) {
+            long deadline = random.nextInt(300_000) + 1;
+            wheel.schedule(deadline, deadline);
+        }
+
+        long tick = 0;
+        while (wheel.size() > 0) {
+            int from = expired.size;
+            tick += 997;
+            wheel.advance(tick, expired);
+            for (int i = from; i < expired.size; i++) {
+                assertTrue(expired.get(i) > tick - 997 && expired.get(i) <= tick);
+            }
+        }
+        assertEquals(2000, expired.size);
+        for (int i = 1; i < expired.size; i++) {
+            assertTrue(expired.get(i - 1) <= expired.get(i));
+        }
+    }
+
+    @Test
+    void testItemBeyondTopLevelExpires() {
+        // Three times as far as the top level reaches
+        long deadline = 3L << 24;
+        wheel.schedule(deadline, deadline);
+
+        wheel.advance(deadline - 1, expired);
+        assertEquals(0, expired.size);
+        wheel.advance(deadline, expired);
+        assertEquals(1, expired.size);
+    }
+}
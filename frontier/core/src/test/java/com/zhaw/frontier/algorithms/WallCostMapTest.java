@@ -0,0 +1,219 @@
+package com.zhaw.frontier.algorithms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.GridAStarPathfinder;
+import com.zhaw.frontier.algorithm.TileCost;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import com.zhaw.frontier.algorithm.WallCostMap;
+import com.zhaw.frontier.components.AttackComponent;
+import com.zhaw.frontier.components.HealthComponent;
+import com.zhaw.frontier.components.OccupiesTilesComponent;
+import com.zhaw.frontier.components.TeamComponent;
+import com.zhaw.frontier.components.WallPieceComponent;
+import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.enums.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WallCostMapTest {
+
+    private Engine engine;
+    private WalkabilityGrid grid;
+    private WallCostMap wallCostMap;
+    private GridAStarPathfinder pathfinder;
+    private Entity attacker;
+
+    @BeforeEach
+    void setup() {
+        engine = new Engine();
+        grid = new WalkabilityGrid(7, 7);
+        for (int x = 0; x < 7; x++) for (int y = 0; y < 7; y++) grid.setWalkable(x, y, true);
+        wallCostMap = new WallCostMap(grid, engine);
+        pathfinder = new GridAStarPathfinder(grid);
+
+        // 10 damage per second at a speed of one tile per second: one tile per hit
+        attacker = new Entity();
+        attacker.add(new AttackComponent(10f, 1.5f, 1000f));
+        attacker.add(new TeamComponent(Team.ENEMY));
+        attacker.add(new PathfindingBehaviourComponent(1f));
+    }
+
+    private Entity createWall(int x, int y, int health, Team team) {
+        Entity wall = new Entity();
+        OccupiesTilesComponent occupiesTiles = new OccupiesTilesComponent();
+        occupiesTiles.set(x, y, 1, 1);
+        HealthComponent healthComponent = new HealthComponent();
+        healthComponent.currentHealth = health;
+        wall.add(occupiesTiles);
+        wall.add(healthComponent);
+        wall.add(new WallPieceComponent());
+        wall.add(new TeamComponent(team));
+        engine.addEntity(wall);
+        return wall;
+    }
+
+    private void surroundWithWalls(int cx, int cy, int health, Team team) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                if (dx != 0 || dy != 0) createWall(cx + dx, cy + dy, health, team);
+            }
+        }
+    }
+
+    @Test
+    void testWallsAreTrackedByTile() {
+        Entity wall = createWall(2, 3, 100, Team.PLAYER);
+
+        assertSame(wall, wallCostMap.getWall(2, 3));
+        assertNull(wallCostMap.getWall(3, 2));
+
+        engine.removeEntity(wall);
+
+        assertNull(wallCostMap.getWall(2, 3));
+    }
+
+    @Test
+    void testDisposedMapStopsTrackingWalls() {
+        wallCostMap.dispose();
+
+        createWall(2, 3, 100, Team.PLAYER);
+
+        assertNull(wallCostMap.getWall(2, 3));
+    }
+
+    @Test
+    void testVersionChangesWithWalls() {
+        int version = wallCostMap.getVersion();
+        Entity wall = createWall(2, 3, 100, Team.PLAYER);
+        assertNotEquals(version, wallCostMap.getVersion());
+
+        version = wallCostMap.getVersion();
+        wallCostMap.update();
+        assertEquals(version, wallCostMap.getVersion());
+
+        wall.getComponent(HealthComponent.class).currentHealth = 50;
+        wallCostMap.update();
+        assertNotEquals(version, wallCostMap.getVersion());
+
+        version = wallCostMap.getVersion();
+        engine.removeEntity(wall);
+        assertNotEquals(version, wallCostMap.getVersion());
+    }
+
+    @Test
+    void testAttackersOfTheSameKindShareTheirProfile() {
+        Entity sameKind = new Entity();
+        sameKind.add(new AttackComponent(10f, 1.5f, 1000f));
+        sameKind.add(new TeamComponent(Team.ENEMY));
+        sameKind.add(new PathfindingBehaviourComponent(1f));
+        Entity faster = new Entity();
+        faster.add(new AttackComponent(10f, 1.5f, 1000f));
+        faster.add(new TeamComponent(Team.ENEMY));
+        faster.add(new PathfindingBehaviourComponent(2f));
+
+        assertEquals(wallCostMap.profileOf(attacker), wallCostMap.profileOf(sameKind));
+        assertNotEquals(wallCostMap.profileOf(attacker), wallCostMap.profileOf(faster));
+        assertSame(WallCostMap.CostProfile.CANNOT_ATTACK, wallCostMap.profileOf(new Entity()));
+    }
+
+    @Test
+    void testSnapshotIsSharedUntilTheWallsChange() {
+        Entity wall = createWall(2, 3, 100, Team.PLAYER);
+        Entity sameKind = new Entity();
+        sameKind.add(new AttackComponent(10f, 1.5f, 1000f));
+        sameKind.add(new TeamComponent(Team.ENEMY));
+        sameKind.add(new PathfindingBehaviourComponent(1f));
+
+        WallCostMap.Snapshot snapshot = wallCostMap.snapshotCostFor(attacker);
+        assertSame(snapshot, wallCostMap.snapshotCostFor(sameKind));
+        assertEquals(10, snapshot.getCost(2, 3));
+
+        wall.getComponent(HealthComponent.class).currentHealth = 50;
+        wallCostMap.update();
+        WallCostMap.Snapshot damaged = wallCostMap.snapshotCostFor(attacker);
+
+        assertNotSame(snapshot, damaged);
+        assertEquals(10, snapshot.getCost(2, 3));
+        assertEquals(5, damaged.getCost(2, 3));
+    }
+
+    @Test
+    void testCostGrowsWithWallHealth() {
+        createWall(1, 1, 100, Team.PLAYER);
+        createWall(2, 2, 15, Team.PLAYER);
+        TileCost cost = wallCostMap.costFor(attacker);
+
+        assertEquals(0, cost.getCost(0, 0));
+        assertEquals(10, cost.getCost(1, 1));
+        assertEquals(2, cost.getCost(2, 2));
+    }
+
+    @Test
+    void testWalledOffGoalIsReachedThroughWeakestWall() {
+        surroundWithWalls(3, 3, 100, Team.PLAYER);
+        HealthComponent weakSpot = wallCostMap.getWall(3, 4).getComponent(HealthComponent.class);
+        weakSpot.currentHealth = 10;
+
+        Array<Vector2> path = pathfinder.findPath(
+            new Vector2(3, 6),
+            new Vector2(3, 3),
+            wallCostMap.costFor(attacker)
+        );
+
+        assertEquals(3, path.size);
+        assertEquals(new Vector2(3, 4), path.get(1));
+        assertEquals(new Vector2(3, 3), path.peek());
+    }
+
+    @Test
+    void testDetourIsPreferredOverStrongWall() {
+        for (int y = 0; y < 7; y++) {
+            if (y != 6) createWall(3, y, 100, Team.PLAYER);
+        }
+
+        Array<Vector2> path = pathfinder.findPath(
+            new Vector2(0, 4),
+            new Vector2(6, 4),
+            wallCostMap.costFor(attacker)
+        );
+
+        // Walking around through the gap (10 steps) is cheaper than breaking through (6 + 10)
+        assertEquals(10, path.size);
+        assertFalse(wallCostMap.crossesWall(path));
+    }
+
+    @Test
+    void testFriendlyWallsAreImpassable() {
+        surroundWithWalls(3, 3, 10, Team.ENEMY);
+
+        Array<Vector2> path = pathfinder.findPath(
+            new Vector2(3, 6),
+            new Vector2(3, 3),
+            wallCostMap.costFor(attacker)
+        );
+
+        assertNotEquals(new Vector2(3, 3), path.peek());
+        assertFalse(wallCostMap.crossesWall(path));
+    }
+
+    @Test
+    void testWithoutCostsWallsAreIgnored() {
+        surroundWithWalls(3, 3, 100, Team.PLAYER);
+
+        Array<Vector2> path = pathfinder.findPath(new Vector2(3, 6), new Vector2(3, 3));
+
+        assertEquals(3, path.size);
+        assertTrue(wallCostMap.crossesWall(path));
+    }
+}
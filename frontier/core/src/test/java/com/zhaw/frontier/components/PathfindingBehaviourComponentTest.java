@@ -2,9 +2,12 @@ package com.zhaw.frontier.components;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.PackedPath;
 import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
 import org.junit.jupiter.api.Test;
 
@@ -29,4 +32,43 @@ public class PathfindingBehaviourComponentTest {
         assertEquals(0, path.waypoints.size);
         assertTrue(path.pathCompleted);
     }
+
+    @Test
+    void testSharedPathIsFollowedByCursor() {
+        Array<Vector2> waypoints = new Array<>();
+        waypoints.add(new Vector2(1, 1), new Vector2(2, 1));
+        PackedPath shared = PackedPath.fromWaypoints(waypoints);
+
+        PathfindingBehaviourComponent first = new PathfindingBehaviourComponent(2f);
+        PathfindingBehaviourComponent second = new PathfindingBehaviourComponent(2f);
+        first.setSharedPath(shared);
+        second.setSharedPath(shared);
+
+        first.advanceToNextWaypoint();
+
+        assertEquals(new Vector2(2, 1), first.getNextWaypoint());
+        assertEquals(new Vector2(1, 1), second.getNextWaypoint());
+        assertEquals(1, first.getRemainingWaypointCount());
+
+        first.advanceToNextWaypoint();
+
+        assertFalse(first.hasPath());
+        assertTrue(first.pathCompleted);
+        assertEquals(2, shared.size());
+    }
+
+    @Test
+    void testDetachSharedPathCopiesRemainingWaypoints() {
+        Array<Vector2> waypoints = new Array<>();
+        waypoints.add(new Vector2(1, 1), new Vector2(2, 1), new Vector2(3, 1));
+        PathfindingBehaviourComponent path = new PathfindingBehaviourComponent(2f);
+        path.setSharedPath(PackedPath.fromWaypoints(waypoints));
+        path.advanceToNextWaypoint();
+
+        path.detachSharedPath();
+
+        assertNull(path.sharedPath);
+        assertEquals(2, path.waypoints.size);
+        assertEquals(new Vector2(2, 1), path.getNextWaypoint());
+    }
 }
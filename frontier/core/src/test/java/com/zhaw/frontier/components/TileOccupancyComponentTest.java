@@ -0,0 +1,86 @@
+package com.zhaw.frontier.components;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.zhaw.frontier.components.map.TileOccupancyComponent;
+import com.zhaw.frontier.entityFactories.MapFactory;
+import com.zhaw.frontier.systems.TileOccupancySystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TileOccupancyComponentTest {
+
+    private Engine engine;
+    private TileOccupancySystem tileOccupancySystem;
+
+    @BeforeEach
+    void setup() {
+        engine = new Engine();
+        tileOccupancySystem = TileOccupancySystem.obtain(engine);
+    }
+
+    private Entity createBuilding(int x, int y, int width, int height) {
+        Entity building = new Entity();
+        OccupiesTilesComponent occupiesTiles = new OccupiesTilesComponent();
+        occupiesTiles.set(x, y, width, height);
+        building.add(occupiesTiles);
+        return building;
+    }
+
+    @Test
+    void testPlacedBuildingOccupiesItsRectangle() {
+        Entity building = createBuilding(2, 3, 2, 2);
+        engine.addEntity(building);
+
+        TileOccupancyComponent occupancy = tileOccupancySystem.getOccupancy();
+        assertSame(building, occupancy.getOccupant(2, 3));
+        assertSame(building, occupancy.getOccupant(3, 4));
+        assertNull(occupancy.getOccupant(4, 4));
+        assertNull(occupancy.getOccupant(2, 5));
+        assertFalse(occupancy.isAreaFree(1, 1, 2, 3));
+        assertTrue(occupancy.isAreaFree(4, 3, 2, 2));
+    }
+
+    @Test
+    void testRemovedBuildingFreesItsTiles() {
+        Entity building = createBuilding(1, 1, 3, 1);
+        engine.addEntity(building);
+        engine.removeEntity(building);
+
+        assertTrue(tileOccupancySystem.getOccupancy().isAreaFree(0, 0, 5, 5));
+    }
+
+    @Test
+    void testMapEntityTakesOverExistingBuildings() {
+        Entity building = createBuilding(5, 5, 1, 1);
+        engine.addEntity(building);
+
+        Entity map = MapFactory.createDefaultMap(engine);
+        TileOccupancyComponent mapOccupancy = map.getComponent(TileOccupancyComponent.class);
+        mapOccupancy.resize(16, 16);
+        engine.addEntity(map);
+
+        assertSame(mapOccupancy, tileOccupancySystem.getOccupancy());
+        assertSame(building, mapOccupancy.getOccupant(5, 5));
+        assertEquals(16, mapOccupancy.getWidth());
+    }
+
+    @Test
+    void testClosestTileOfRectangle() {
+        OccupiesTilesComponent occupiesTiles = new OccupiesTilesComponent();
+        occupiesTiles.set(4, 4, 3, 2);
+
+        Vector2 closest = occupiesTiles.getClosestTile(new Vector2(0, 4.8f), new Vector2());
+
+        assertEquals(4, closest.x);
+        assertEquals(5, closest.y);
+        assertEquals(6, occupiesTiles.getTileCount());
+    }
+}
@@ -25,6 +25,7 @@ import com.zhaw.frontier.entityFactories.TowerFactory;
 import com.zhaw.frontier.entityFactories.WallFactory;
 import com.zhaw.frontier.enums.GamePhase;
 import com.zhaw.frontier.screens.LoadingScreen;
+import com.zhaw.frontier.systems.GameClockSystem;
 import com.zhaw.frontier.utils.AssetManagerInstance;
 import com.zhaw.frontier.wrappers.SpriteBatchInterface;
 import org.junit.jupiter.api.*;
@@ -166,11 +167,16 @@ public class SaveGameManagerTest {
         attack.damage = 25;
         attack.attackRange = 6;
         attack.attackInterval = 1.1f;
-        attack.attackCooldown = 1f;
+        GameClockSystem clock = GameClockSystem.obtain(engine);
+        attack.readyAtTick = clock.getTick() + 12;
 
         engine.addEntity(tower);
 
-        saveAndReload("tower-full-roundtrip");
+        saveGameManager.saveGame("tower-full-roundtrip");
+        engine.getEntities().forEach(engine::removeEntity);
+        // The clock has moved on before the game is loaded again
+        engine.update(GameClockSystem.TICK_DURATION * 5.5f);
+        saveGameManager.loadGame("tower-full-roundtrip");
 
         Entity loaded = getOnlyEntity();
 
@@ -189,7 +195,8 @@ public class SaveGameManagerTest {
         assertEquals(25, loadedAttack.damage);
         assertEquals(6, loadedAttack.attackRange);
         assertEquals(1.1f, loadedAttack.attackInterval, 0.001f);
-        assertEquals(1f, loadedAttack.attackCooldown, 0.001f);
+        assertEquals(5, clock.getTick());
+        assertEquals(clock.getTick() + 12, loadedAttack.readyAtTick);
 
         EntityTypeComponent type = loaded.getComponent(EntityTypeComponent.class);
         assertNotNull(type);
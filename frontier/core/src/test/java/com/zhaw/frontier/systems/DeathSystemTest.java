@@ -10,6 +10,8 @@ import com.zhaw.frontier.components.AnimationQueueComponent;
 import com.zhaw.frontier.components.DeathComponent;
 import com.zhaw.frontier.components.EnemyAnimationComponent;
 import com.zhaw.frontier.components.EnemyAnimationComponent.EnemyAnimationType;
+import com.zhaw.frontier.components.EnemyComponent;
+import com.zhaw.frontier.utils.GameStats;
 import com.zhaw.frontier.utils.QueueAnimation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,13 +37,43 @@ public class DeathSystemTest {
 
         engine.addEntity(entity);
 
-        engine.update(0.03f);
+        // The removal is due after two ticks of game time
+        engine.update(GameClockSystem.TICK_DURATION);
         assertTrue(engine.getEntities().contains(entity, true));
 
-        engine.update(0.03f);
+        engine.update(GameClockSystem.TICK_DURATION);
         assertFalse(engine.getEntities().contains(entity, true));
     }
 
+    @Test
+    void testRemovalWaitsWhileTheClockStands() {
+        Entity entity = new Entity();
+        entity.add(new DeathComponent(0.05f));
+        engine.addEntity(entity);
+
+        engine.getSystem(GameClockSystem.class).setProcessing(false);
+        for (int i = 0; i < 10; i++) engine.update(GameClockSystem.TICK_DURATION);
+        assertTrue(engine.getEntities().contains(entity, true));
+
+        engine.getSystem(GameClockSystem.class).setProcessing(true);
+        engine.update(GameClockSystem.TICK_DURATION * 2);
+        assertFalse(engine.getEntities().contains(entity, true));
+    }
+
+    @Test
+    void testEntityRemovedOtherwiseIsNotRemovedAgain() {
+        Entity entity = new Entity();
+        entity.add(new DeathComponent(0.05f));
+        entity.add(new EnemyComponent());
+        engine.addEntity(entity);
+        int kills = GameStats.getInstance().getEnemiesKilled();
+
+        engine.removeEntity(entity);
+        engine.update(GameClockSystem.TICK_DURATION * 2);
+
+        assertEquals(kills, GameStats.getInstance().getEnemiesKilled());
+    }
+
     @Test
     void testDeathAnimationIsQueuedWithExpectedValues() {
         Entity entity = new Entity();
@@ -8,7 +8,6 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.Vector2;
 import com.zhaw.frontier.components.AnimationQueueComponent;
 import com.zhaw.frontier.components.AttackComponent;
-import com.zhaw.frontier.components.CooldownComponent;
 import com.zhaw.frontier.components.EnemyAnimationComponent.EnemyAnimationType;
 import com.zhaw.frontier.components.HealthComponent;
 import com.zhaw.frontier.components.PositionComponent;
@@ -34,8 +33,10 @@ public class EnemyAttackAnimationSystemTest {
     private Entity createAttacker(Vector2 position, float range) {
         Entity entity = new Entity();
         entity.add(new PositionComponent(position.x, position.y, 1, 1));
-        entity.add(new AttackComponent(5f, range, 1000f));
-        entity.add(new CooldownComponent());
+        AttackComponent attack = new AttackComponent(5f, range, 1000f);
+        // The attacker has just attacked
+        attack.readyAtTick = 30;
+        entity.add(attack);
         entity.add(new AnimationQueueComponent());
         entity.add(new VelocityComponent());
         entity.add(new PathfindingBehaviourComponent(1f));
@@ -63,7 +64,7 @@ public class EnemyAttackAnimationSystemTest {
         PathfindingBehaviourComponent path = attacker.getComponent(
             PathfindingBehaviourComponent.class
         );
-        path.targetEntity = target;
+        path.setTargetEntity(target);
 
         engine.addEntity(attacker);
         engine.addEntity(target);
@@ -84,7 +85,7 @@ public class EnemyAttackAnimationSystemTest {
         PathfindingBehaviourComponent path = attacker.getComponent(
             PathfindingBehaviourComponent.class
         );
-        path.targetEntity = target;
+        path.setTargetEntity(target);
 
         engine.addEntity(attacker);
         engine.addEntity(target);
@@ -103,7 +104,7 @@ public class EnemyAttackAnimationSystemTest {
         PathfindingBehaviourComponent path = attacker.getComponent(
             PathfindingBehaviourComponent.class
         );
-        path.targetEntity = target;
+        path.setTargetEntity(target);
 
         engine.addEntity(attacker);
         engine.addEntity(target);
@@ -122,7 +123,7 @@ public class EnemyAttackAnimationSystemTest {
         PathfindingBehaviourComponent path = attacker.getComponent(
             PathfindingBehaviourComponent.class
         );
-        path.targetEntity = target;
+        path.setTargetEntity(target);
 
         VelocityComponent vel = attacker.getComponent(VelocityComponent.class);
         vel.velocity.set(1f, 0f);
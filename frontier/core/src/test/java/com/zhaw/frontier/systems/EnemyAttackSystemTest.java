@@ -10,7 +10,6 @@ import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.Vector2;
 import com.zhaw.frontier.GdxExtension;
 import com.zhaw.frontier.components.AttackComponent;
-import com.zhaw.frontier.components.CooldownComponent;
 import com.zhaw.frontier.components.DeathComponent;
 import com.zhaw.frontier.components.HealthComponent;
 import com.zhaw.frontier.components.PositionComponent;
@@ -75,7 +74,7 @@ public class EnemyAttackSystemTest {
         Entity attacker = createAttacker(new Vector2(1, 1), 2f, 5f);
         Entity target = createTarget(new Vector2(2, 1), 10, Team.PLAYER);
 
-        attacker.add(new CooldownComponent());
+        attacker.getComponent(AttackComponent.class).readyAtTick = 10;
 
         engine.addEntity(attacker);
         engine.addEntity(target);
@@ -86,6 +85,38 @@ public class EnemyAttackSystemTest {
         assertEquals(10f, hc.currentHealth, 0.001f);
     }
 
+    @Test
+    void testAttackerAttacksAgainAfterCooldown() {
+        Entity attacker = createAttacker(new Vector2(1, 1), 2f, 1f);
+        Entity target = createTarget(new Vector2(2, 1), 10, Team.PLAYER);
+
+        engine.addEntity(attacker);
+        engine.addEntity(target);
+
+        // The attack interval is 500 ms, so the attacker hits at once and after half a second
+        for (int i = 0; i < 50; i++) engine.update(1 / 60f);
+
+        assertEquals(8f, target.getComponent(HealthComponent.class).currentHealth, 0.001f);
+    }
+
+    @Test
+    void testCooldownFollowsGameSpeed() {
+        Entity attacker = createAttacker(new Vector2(1, 1), 2f, 1f);
+        Entity target = createTarget(new Vector2(2, 1), 10, Team.PLAYER);
+
+        engine.addEntity(attacker);
+        engine.addEntity(target);
+        SimulationLoop loop = new SimulationLoop(engine);
+        loop.cycleSpeed();
+        loop.cycleSpeed();
+
+        // At 4x, under half a second of real time are 1.6 seconds of game time
+        for (int i = 0; i < 25; i++) loop.update(1 / 60f);
+
+        assertEquals(4, loop.getSpeed());
+        assertEquals(6f, target.getComponent(HealthComponent.class).currentHealth, 0.001f);
+    }
+
     @Test
     void testTargetDiesAndPathResets() {
         Entity attacker = createAttacker(new Vector2(1, 1), 2f, 10f);
@@ -93,7 +124,7 @@ public class EnemyAttackSystemTest {
 
         PathfindingBehaviourComponent path = new PathfindingBehaviourComponent(1f);
         path.destination = new Vector2(2, 1);
-        path.targetEntity = target;
+        path.setTargetEntity(target);
         attacker.add(path);
 
         engine.addEntity(attacker);
@@ -103,7 +134,7 @@ public class EnemyAttackSystemTest {
 
         assertTrue(target.getComponent(HealthComponent.class).isDead);
         assertNotNull(target.getComponent(DeathComponent.class));
-        assertNull(path.targetEntity);
+        assertNull(path.getTargetEntity());
         assertNull(path.destination);
     }
 
@@ -0,0 +1,100 @@
+package com.zhaw.frontier.systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.zhaw.frontier.GdxExtension;
+import com.zhaw.frontier.components.OccupiesTilesComponent;
+import com.zhaw.frontier.components.PositionComponent;
+import com.zhaw.frontier.components.TeamComponent;
+import com.zhaw.frontier.components.VelocityComponent;
+import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.enums.Team;
+import com.zhaw.frontier.systems.movement.BlockingMovementSystem;
+import com.zhaw.frontier.systems.movement.EnemyMovementSystem;
+import com.zhaw.frontier.systems.movement.MovementSystem;
+import com.zhaw.frontier.systems.movement.PathFollowerSystem;
+import com.zhaw.frontier.systems.movement.SteeringMovementSystem;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxExtension.class)
+public class EnemyMovementSystemTest {
+
+    private static final int ENEMIES = 200;
+
+    private Entity[] populate(Engine engine) {
+        Entity blocker = new Entity();
+        blocker.add(new PositionComponent(10, 10, 1, 1));
+        blocker.add(new TeamComponent(Team.PLAYER));
+        OccupiesTilesComponent occ = new OccupiesTilesComponent();
+        occ.set(10, 10, 1, 1);
+        blocker.add(occ);
+        engine.addEntity(blocker);
+
+        Random random = new Random(11);
+        Entity[] enemies = new Entity[ENEMIES];
+        for (int i = 0; i < ENEMIES; i++) {
+            // The first enemy stands right in front of the blocker
+            float x = i == 0 ? 9 : random.nextInt(20);
+            float y = i == 0 ? 10 : random.nextInt(20) + random.nextFloat() * 0.5f;
+            Entity enemy = new Entity();
+            enemy.add(new PositionComponent(x, y, 1, 1));
+            enemy.add(new VelocityComponent());
+            PathfindingBehaviourComponent path = new PathfindingBehaviourComponent(2f);
+            if (i > 0) path.waypoints.add(new Vector2(10, y));
+            path.waypoints.add(new Vector2(10, 10));
+            enemy.add(path);
+            enemy.add(new TeamComponent(Team.ENEMY));
+            engine.addEntity(enemy);
+            enemies[i] = enemy;
+        }
+        return enemies;
+    }
+
+    @Test
+    void testFusedStageMatchesSeparateSystems() {
+        Engine separate = new Engine();
+        separate.addSystem(new BlockingMovementSystem());
+        separate.addSystem(new PathFollowerSystem());
+        separate.addSystem(new SteeringMovementSystem(false));
+        separate.addSystem(new MovementSystem());
+        Entity[] expected = populate(separate);
+
+        Engine fused = new Engine();
+        fused.addSystem(new EnemyMovementSystem(null, false));
+        Entity[] actual = populate(fused);
+
+        for (int frame = 0; frame < 120; frame++) {
+            separate.update(1 / 60f);
+            fused.update(1 / 60f);
+        }
+
+        for (int i = 0; i < ENEMIES; i++) {
+            var expectedPos = expected[i].getComponent(PositionComponent.class);
+            var actualPos = actual[i].getComponent(PositionComponent.class);
+            assertEquals(expectedPos.basePosition, actualPos.basePosition);
+            assertEquals(expectedPos.lookingDirection, actualPos.lookingDirection);
+            assertEquals(
+                expected[i].getComponent(VelocityComponent.class).velocity,
+                actual[i].getComponent(VelocityComponent.class).velocity
+            );
+
+            var expectedPath = expected[i].getComponent(PathfindingBehaviourComponent.class);
+            var actualPath = actual[i].getComponent(PathfindingBehaviourComponent.class);
+            assertEquals(
+                expectedPath.getRemainingWaypointCount(),
+                actualPath.getRemainingWaypointCount()
+            );
+            assertEquals(expectedPath.isBlockedByEntity(), actualPath.isBlockedByEntity());
+        }
+        assertTrue(
+            actual[0].getComponent(PathfindingBehaviourComponent.class).isBlockedByEntity(),
+            "Enemy in front of the blocker should target it."
+        );
+    }
+}
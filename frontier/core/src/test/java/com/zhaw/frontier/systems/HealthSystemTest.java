@@ -1,5 +1,6 @@
 package com.zhaw.frontier.systems;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -9,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
 import com.zhaw.frontier.GdxExtension;
+import com.zhaw.frontier.components.DamagedComponent;
 import com.zhaw.frontier.components.DeathComponent;
 import com.zhaw.frontier.components.HealthComponent;
 import org.junit.jupiter.api.BeforeEach;
@@ -81,4 +83,29 @@ public class HealthSystemTest {
 
         assertSame(deathComponent, entity.getComponent(DeathComponent.class));
     }
+
+    @Test
+    void testApplyDamageMarksEntityAsDamagedOnce() {
+        Entity entity = createEntityWithHealth(10, 10);
+        engine.addEntity(entity);
+        HealthComponent health = entity.getComponent(HealthComponent.class);
+
+        HealthSystem.applyDamage(entity, health, 3);
+        DamagedComponent damaged = entity.getComponent(DamagedComponent.class);
+        HealthSystem.applyDamage(entity, health, 3);
+
+        assertEquals(4, health.currentHealth);
+        assertNotNull(damaged);
+        assertSame(damaged, entity.getComponent(DamagedComponent.class));
+    }
+
+    @Test
+    void testEntityAtFullHealthIsNotMarkedAsDamaged() {
+        Entity entity = createEntityWithHealth(10, 10);
+        engine.addEntity(entity);
+
+        HealthSystem.markDamaged(entity, entity.getComponent(HealthComponent.class));
+
+        assertNull(entity.getComponent(DamagedComponent.class));
+    }
 }
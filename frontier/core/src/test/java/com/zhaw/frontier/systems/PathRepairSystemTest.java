@@ -0,0 +1,183 @@
+package com.zhaw.frontier.systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.zhaw.frontier.algorithm.FlowFieldPathfinder;
+import com.zhaw.frontier.algorithm.GridAStarPathfinder;
+import com.zhaw.frontier.algorithm.WalkabilityGrid;
+import com.zhaw.frontier.components.HQComponent;
+import com.zhaw.frontier.components.OccupiesTilesComponent;
+import com.zhaw.frontier.components.PositionComponent;
+import com.zhaw.frontier.components.TargetTypeComponent;
+import com.zhaw.frontier.components.WallPieceComponent;
+import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.systems.movement.PathRepairSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PathRepairSystemTest {
+
+    private Engine engine;
+    private WalkabilityGrid grid;
+    private PathRepairSystem pathRepairSystem;
+
+    @BeforeEach
+    void setup() {
+        engine = new Engine();
+        grid = new WalkabilityGrid(7, 16);
+        for (int x = 0; x < 7; x++) for (int y = 0; y < 16; y++) grid.setWalkable(x, y, true);
+
+        pathRepairSystem =
+        new PathRepairSystem(
+            new GridAStarPathfinder(grid),
+            grid,
+            new FlowFieldPathfinder(grid, engine),
+            null
+        );
+        engine.addSystem(pathRepairSystem);
+
+        Entity hq = new Entity();
+        hq.add(new PositionComponent(6, 3, 1, 1));
+        hq.add(new HQComponent());
+        engine.addEntity(hq);
+    }
+
+    private Entity createWalker(int x, int y, Array<Vector2> waypoints) {
+        Entity walker = new Entity();
+        PathfindingBehaviourComponent path = new PathfindingBehaviourComponent(1f);
+        path.waypoints.addAll(waypoints);
+        walker.add(new PositionComponent(x, y, 1, 1));
+        walker.add(path);
+        walker.add(new TargetTypeComponent(HQComponent.class));
+        engine.addEntity(walker);
+        return walker;
+    }
+
+    private Array<Vector2> straightLine(int fromX, int toX, int y) {
+        Array<Vector2> waypoints = new Array<>();
+        for (int x = fromX; x <= toX; x++) waypoints.add(new Vector2(x, y));
+        return waypoints;
+    }
+
+    private Entity createBuilding(int x, int y) {
+        Entity building = new Entity();
+        OccupiesTilesComponent occupiesTiles = new OccupiesTilesComponent();
+        occupiesTiles.set(x, y, 1, 1);
+        building.add(new PositionComponent(x, y, 1, 1));
+        building.add(occupiesTiles);
+        return building;
+    }
+
+    @Test
+    void testBlockedSectionIsReplacedByDetour() {
+        Entity walker = createWalker(0, 3, straightLine(1, 6, 3));
+        PathfindingBehaviourComponent path = walker.getComponent(
+            PathfindingBehaviourComponent.class
+        );
+
+        pathRepairSystem.buildingPlaced(createBuilding(3, 3));
+        engine.update(0.016f);
+
+        assertFalse(path.needsRepath);
+        assertEquals(8, path.waypoints.size);
+        assertEquals(new Vector2(2, 3), path.waypoints.get(1));
+        assertEquals(new Vector2(4, 3), path.waypoints.get(5));
+        assertEquals(new Vector2(6, 3), path.waypoints.peek());
+        assertFalse(path.waypoints.contains(new Vector2(3, 3), false));
+    }
+
+    @Test
+    void testUnaffectedPathIsUntouched() {
+        Array<Vector2> waypoints = straightLine(1, 6, 0);
+        Entity walker = createWalker(0, 0, waypoints);
+        PathfindingBehaviourComponent path = walker.getComponent(
+            PathfindingBehaviourComponent.class
+        );
+
+        pathRepairSystem.buildingPlaced(createBuilding(3, 3));
+        engine.update(0.016f);
+
+        assertFalse(path.needsRepath);
+        assertEquals(waypoints, path.waypoints);
+    }
+
+    @Test
+    void testBuiltOverDestinationRequestsRepath() {
+        Entity walker = createWalker(0, 3, straightLine(1, 5, 3));
+        PathfindingBehaviourComponent path = walker.getComponent(
+            PathfindingBehaviourComponent.class
+        );
+
+        pathRepairSystem.buildingPlaced(createBuilding(5, 3));
+        engine.update(0.016f);
+
+        assertTrue(path.needsRepath);
+    }
+
+    @Test
+    void testRemovalOnlyRepathsDetouringEntities() {
+        Entity direct = createWalker(0, 3, straightLine(1, 6, 3));
+
+        Array<Vector2> detour = new Array<>();
+        detour.add(new Vector2(0, 4), new Vector2(1, 4), new Vector2(2, 4), new Vector2(3, 4));
+        detour.add(new Vector2(4, 4), new Vector2(5, 4), new Vector2(6, 4), new Vector2(6, 3));
+        Entity detouring = createWalker(0, 3, detour);
+
+        pathRepairSystem.buildingRemoved(createBuilding(1, 1));
+        engine.update(0.016f);
+
+        assertFalse(direct.getComponent(PathfindingBehaviourComponent.class).needsRepath);
+        assertTrue(detouring.getComponent(PathfindingBehaviourComponent.class).needsRepath);
+    }
+
+    @Test
+    void testRemovalFarFromThePathDoesNotRepath() {
+        Array<Vector2> detour = new Array<>();
+        detour.add(new Vector2(0, 4), new Vector2(1, 4), new Vector2(2, 4), new Vector2(3, 4));
+        detour.add(new Vector2(4, 4), new Vector2(5, 4), new Vector2(6, 4), new Vector2(6, 3));
+        Entity detouring = createWalker(0, 3, detour);
+
+        int farAway = 4 + PathRepairSystem.REMOVAL_RADIUS + 1;
+        pathRepairSystem.buildingRemoved(createBuilding(1, farAway));
+        engine.update(0.016f);
+
+        assertFalse(detouring.getComponent(PathfindingBehaviourComponent.class).needsRepath);
+    }
+
+    @Test
+    void testBuildingsInTheEngineBlockTheirTiles() {
+        Entity building = createBuilding(3, 3);
+        Entity wall = createBuilding(3, 5);
+        wall.add(new WallPieceComponent());
+        engine.addEntity(building);
+        engine.addEntity(wall);
+
+        assertFalse(grid.isWalkable(3, 3));
+        assertTrue(grid.isBlocked(grid.index(3, 3)));
+        assertTrue(grid.isWalkable(3, 5));
+
+        engine.removeEntity(building);
+
+        assertTrue(grid.isWalkable(3, 3));
+    }
+
+    @Test
+    void testAddedBuildingRepairsPaths() {
+        Entity walker = createWalker(0, 3, straightLine(1, 6, 3));
+        PathfindingBehaviourComponent path = walker.getComponent(
+            PathfindingBehaviourComponent.class
+        );
+
+        engine.addEntity(createBuilding(3, 3));
+        engine.update(0.016f);
+
+        assertFalse(path.needsRepath);
+        assertFalse(path.waypoints.contains(new Vector2(3, 3), false));
+    }
+}
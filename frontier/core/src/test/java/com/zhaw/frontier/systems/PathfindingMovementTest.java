@@ -91,7 +91,7 @@ public class PathfindingMovementTest {
         blocker.add(new PositionComponent(3, 2, 1, 1));
         blocker.add(new TeamComponent(Team.PLAYER));
         OccupiesTilesComponent occ = new OccupiesTilesComponent();
-        occ.occupiedTiles.add(new Vector2(3, 2));
+        occ.set(3, 2, 1, 1);
         blocker.add(occ);
 
         engine.addEntity(enemy);
@@ -103,6 +103,6 @@ public class PathfindingMovementTest {
             PathfindingBehaviourComponent.class
         );
         assertTrue(path.isBlockedByEntity(), "Enemy path should be blocked by entity.");
-        assertEquals(blocker, path.targetEntity, "Blocked entity should be set as target.");
+        assertEquals(blocker, path.getTargetEntity(), "Blocked entity should be set as target.");
     }
 }
@@ -0,0 +1,88 @@
+package com.zhaw.frontier.systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Circle;
+import com.zhaw.frontier.GdxExtension;
+import com.zhaw.frontier.algorithm.ProjectileBuffer;
+import com.zhaw.frontier.components.CircleCollisionComponent;
+import com.zhaw.frontier.components.HealthComponent;
+import com.zhaw.frontier.components.PositionComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxExtension.class)
+public class ProjectileSystemTest {
+
+    private Engine engine;
+    private ProjectileBuffer projectiles;
+
+    @BeforeEach
+    void setup() {
+        engine = new Engine();
+        projectiles = ProjectileSystem.obtain(engine).getProjectiles();
+    }
+
+    private Entity createEnemy(float x, float y) {
+        Entity enemy = new Entity();
+        CircleCollisionComponent collision = new CircleCollisionComponent();
+        collision.collisionObject = new Circle(x, y, 0.5f);
+        HealthComponent health = new HealthComponent();
+        health.currentHealth = 100;
+        enemy.add(collision);
+        enemy.add(health);
+        enemy.add(new PositionComponent(x, y));
+        engine.addEntity(enemy);
+        return enemy;
+    }
+
+    @Test
+    void testArrowPassingThroughEnemyWithinOneUpdateHits() {
+        Entity enemy = createEnemy(5, 0);
+        projectiles.add(0, 0, 100, 0, 10, 1f);
+
+        engine.update(0.1f);
+
+        assertEquals(90, enemy.getComponent(HealthComponent.class).currentHealth);
+        assertEquals(0, projectiles.size());
+    }
+
+    @Test
+    void testOnlyFirstEnemyAlongTheWayIsHit() {
+        Entity far = createEnemy(8, 0);
+        Entity near = createEnemy(4, 0);
+        projectiles.add(0, 0, 100, 0, 10, 1f);
+
+        engine.update(0.1f);
+
+        assertEquals(90, near.getComponent(HealthComponent.class).currentHealth);
+        assertEquals(100, far.getComponent(HealthComponent.class).currentHealth);
+    }
+
+    @Test
+    void testMissedArrowIsRemovedAfterLifetime() {
+        createEnemy(5, 5);
+        projectiles.add(0, 0, 2, 0, 10, 1f);
+
+        engine.update(0.5f);
+        assertEquals(1, projectiles.size());
+        assertEquals(1f, projectiles.x[0], 0.0001f);
+
+        engine.update(0.6f);
+        assertEquals(0, projectiles.size());
+    }
+
+    @Test
+    void testFullBufferRejectsProjectiles() {
+        for (int i = 0; i < projectiles.getCapacity(); i++) {
+            assertTrue(projectiles.add(0, 0, 1, 0, 10, 1f));
+        }
+        assertFalse(projectiles.add(0, 0, 1, 0, 10, 1f));
+        assertEquals(projectiles.getCapacity(), projectiles.size());
+    }
+}
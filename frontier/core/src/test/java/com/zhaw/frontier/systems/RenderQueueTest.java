@@ -0,0 +1,105 @@
+package com.zhaw.frontier.systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Rectangle;
+import com.zhaw.frontier.GdxExtension;
+import com.zhaw.frontier.components.PositionComponent;
+import com.zhaw.frontier.components.RenderComponent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxExtension.class)
+public class RenderQueueTest {
+
+    private static final Rectangle VIEW = new Rectangle(0, 0, 320, 320);
+
+    private Engine engine;
+    private RenderQueue queue;
+
+    @BeforeEach
+    void setup() {
+        engine = new Engine();
+        queue = new RenderQueue();
+        queue.addedToEngine(engine);
+    }
+
+    private Entity addEntity(float x, float y, int zIndex) {
+        Entity entity = new Entity();
+        PositionComponent pos = new PositionComponent(x, y, 1, 1);
+        pos.previousPosition.set(x, y);
+        entity.add(pos);
+        entity.add(new RenderComponent(RenderComponent.RenderType.ENEMY, zIndex, 1, 1));
+        engine.addEntity(entity);
+        return entity;
+    }
+
+    @Test
+    void testEntitiesLowerOnTheMapAreDrawnLater() {
+        Entity bottom = addEntity(2, 1, 10);
+        Entity top = addEntity(2, 8, 10);
+        Entity middle = addEntity(2, 4, 10);
+
+        queue.update(VIEW, 1f, 16, 16);
+
+        assertEquals(3, queue.size());
+        assertSame(top, queue.get(0));
+        assertSame(middle, queue.get(1));
+        assertSame(bottom, queue.get(2));
+        assertEquals(16f, queue.getPixelY(2));
+    }
+
+    @Test
+    void testZIndexOrdersEntitiesOnTheSameRow() {
+        Entity front = addEntity(3, 5, 20);
+        Entity back = addEntity(3, 5, 10);
+
+        queue.update(VIEW, 1f, 16, 16);
+
+        assertSame(back, queue.get(0));
+        assertSame(front, queue.get(1));
+    }
+
+    @Test
+    void testQueueFollowsMovingEntities() {
+        Entity first = addEntity(1, 6, 10);
+        Entity second = addEntity(1, 3, 10);
+        queue.update(VIEW, 1f, 16, 16);
+        assertSame(first, queue.get(0));
+
+        first.getComponent(PositionComponent.class).basePosition.y = 1;
+        queue.update(VIEW, 1f, 16, 16);
+
+        assertSame(second, queue.get(0));
+        assertSame(first, queue.get(1));
+    }
+
+    @Test
+    void testEntitiesOutsideTheViewAreCulled() {
+        Entity inside = addEntity(5, 5, 10);
+        addEntity(50, 5, 10);
+        addEntity(5, -30, 10);
+
+        queue.update(VIEW, 1f, 16, 16);
+
+        assertEquals(1, queue.size());
+        assertSame(inside, queue.get(0));
+    }
+
+    @Test
+    void testRemovedEntitiesLeaveTheQueue() {
+        Entity kept = addEntity(1, 1, 10);
+        Entity removed = addEntity(1, 2, 10);
+        queue.update(VIEW, 1f, 16, 16);
+
+        engine.removeEntity(removed);
+        queue.update(VIEW, 1f, 16, 16);
+
+        assertEquals(1, queue.size());
+        assertSame(kept, queue.get(0));
+    }
+}
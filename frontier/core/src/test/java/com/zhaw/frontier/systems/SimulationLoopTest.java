@@ -0,0 +1,89 @@
+package com.zhaw.frontier.systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.zhaw.frontier.GdxExtension;
+import com.zhaw.frontier.components.PositionComponent;
+import com.zhaw.frontier.components.VelocityComponent;
+import com.zhaw.frontier.systems.movement.MovementSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(GdxExtension.class)
+public class SimulationLoopTest {
+
+    private Engine engine;
+    private SimulationLoop loop;
+    private CountingFrameSystem frameSystem;
+
+    private static class CountingFrameSystem extends EntitySystem implements FrameSystem {
+
+        private int updates;
+        private float lastDelta;
+
+        @Override
+        public void update(float deltaTime) {
+            updates++;
+            lastDelta = deltaTime;
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        engine = new Engine();
+        engine.addSystem(new MovementSystem());
+        frameSystem = new CountingFrameSystem();
+        engine.addSystem(frameSystem);
+        loop = new SimulationLoop(engine);
+    }
+
+    @Test
+    void testTicksDoNotDependOnFrameRate() {
+        GameClockSystem clock = GameClockSystem.obtain(engine);
+
+        for (int i = 0; i < 144; i++) loop.update(1 / 144f);
+        long ticksAt144 = clock.getTick();
+        for (int i = 0; i < 30; i++) loop.update(1 / 30f);
+
+        assertEquals(30, ticksAt144, 1);
+        assertEquals(60, clock.getTick(), 1);
+    }
+
+    @Test
+    void testFrameSystemsRunOncePerFrame() {
+        loop.cycleSpeed();
+        loop.cycleSpeed();
+        loop.cycleSpeed();
+        assertEquals(8, loop.getSpeed());
+
+        // Slightly more than one tick of real time
+        float delta = GameClockSystem.TICK_DURATION * 1.1f;
+        loop.update(delta);
+
+        assertEquals(8, engine.getSystem(GameClockSystem.class).getTick());
+        assertEquals(1, frameSystem.updates);
+        assertEquals(delta, frameSystem.lastDelta, 0.0001f);
+    }
+
+    @Test
+    void testPositionIsInterpolatedBetweenTicks() {
+        Entity entity = new Entity();
+        entity.add(new PositionComponent(0, 0));
+        VelocityComponent velocity = new VelocityComponent();
+        velocity.velocity.set(3f, 0);
+        entity.add(velocity);
+        engine.addEntity(entity);
+
+        // One and a half ticks
+        loop.update(GameClockSystem.TICK_DURATION * 1.5f);
+
+        PositionComponent pos = entity.getComponent(PositionComponent.class);
+        assertEquals(0f, pos.previousPosition.x, 0.0001f);
+        assertEquals(0.1f, pos.basePosition.x, 0.0001f);
+        assertEquals(0.5f, engine.getSystem(GameClockSystem.class).getInterpolation(), 0.001f);
+    }
+}
@@ -1,6 +1,7 @@
 package com.zhaw.frontier.systems;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
@@ -8,7 +9,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.zhaw.frontier.components.PositionComponent;
 import com.zhaw.frontier.components.VelocityComponent;
 import com.zhaw.frontier.components.behaviours.PathfindingBehaviourComponent;
+import com.zhaw.frontier.configs.AppProperties;
 import com.zhaw.frontier.systems.movement.SteeringMovementSystem;
+import java.util.Random;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -20,7 +23,7 @@ public class SteeringMovementSystemTest {
     @BeforeEach
     void setup() {
         engine = new Engine();
-        system = new SteeringMovementSystem();
+        system = new SteeringMovementSystem(false);
         engine.addSystem(system);
     }
 
@@ -67,4 +70,45 @@ public class SteeringMovementSystemTest {
             "Looking direction should remain zero if not moving."
         );
     }
+
+    @Test
+    void testCloseEntitiesArePushedApart() {
+        Entity left = createEntity(new Vector2(0, 0), new Vector2(0, 0));
+        Entity right = createEntity(new Vector2(0.3f, 0), new Vector2(0, 0));
+        engine.addEntity(left);
+        engine.addEntity(right);
+
+        engine.update(0.016f);
+
+        assertTrue(left.getComponent(VelocityComponent.class).velocity.x < 0);
+        assertTrue(right.getComponent(VelocityComponent.class).velocity.x > 0);
+        assertEquals(0f, left.getComponent(VelocityComponent.class).velocity.y, 0.0001f);
+    }
+
+    @Test
+    void testParallelSteeringMatchesSerialSteering() {
+        Engine parallelEngine = new Engine();
+        parallelEngine.addSystem(new SteeringMovementSystem(true));
+        Random random = new Random(3);
+        Entity[] serial = new Entity[AppProperties.PARALLEL_STEERING_MIN_ENTITIES * 2];
+        Entity[] parallel = new Entity[serial.length];
+        for (int i = 0; i < serial.length; i++) {
+            Vector2 position = new Vector2(random.nextFloat() * 30, random.nextFloat() * 30);
+            Vector2 desired = new Vector2(random.nextFloat() - 0.5f, random.nextFloat() - 0.5f);
+            serial[i] = createEntity(position, desired);
+            parallel[i] = createEntity(position, desired);
+            engine.addEntity(serial[i]);
+            parallelEngine.addEntity(parallel[i]);
+        }
+
+        engine.update(0.016f);
+        parallelEngine.update(0.016f);
+
+        for (int i = 0; i < serial.length; i++) {
+            Vector2 expected = serial[i].getComponent(VelocityComponent.class).velocity;
+            Vector2 actual = parallel[i].getComponent(VelocityComponent.class).velocity;
+            assertEquals(expected.x, actual.x, 0.0001f);
+            assertEquals(expected.y, actual.y, 0.0001f);
+        }
+    }
 }
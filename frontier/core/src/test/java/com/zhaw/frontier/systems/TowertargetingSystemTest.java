@@ -2,14 +2,17 @@ package com.zhaw.frontier.systems;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.badlogic.ashley.core.Engine;
 import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.Vector2;
 import com.zhaw.frontier.GdxExtension;
 import com.zhaw.frontier.components.AttackComponent;
 import com.zhaw.frontier.components.CircleCollisionComponent;
 import com.zhaw.frontier.components.CurrentTargetComponent;
+import com.zhaw.frontier.components.CurrentTargetComponent.TargetPriority;
 import com.zhaw.frontier.components.EnemyComponent;
 import com.zhaw.frontier.components.HealthComponent;
 import com.zhaw.frontier.components.PositionComponent;
@@ -41,6 +44,7 @@ public class TowertargetingSystemTest {
         var entity = new Entity();
 
         var hit = new CircleCollisionComponent();
+        hit.collisionObject = new Circle(x, y, 0.5f);
         var pos = new PositionComponent();
         var vel = new VelocityComponent();
         var health = new HealthComponent();
@@ -68,6 +72,7 @@ public class TowertargetingSystemTest {
         entity.add(towerComponent);
         entity.add(attackComponent);
         entity.add(position);
+        entity.add(new CurrentTargetComponent());
         return entity;
     }
 
@@ -79,7 +84,7 @@ public class TowertargetingSystemTest {
         engine.addEntity(enemy);
         engine.update(.1f);
         var target = tower.getComponent(CurrentTargetComponent.class);
-        assertNotNull(target);
+        assertNotNull(target.target.get());
     }
 
     @Test
@@ -90,6 +95,79 @@ public class TowertargetingSystemTest {
         engine.addEntity(enemy);
         engine.update(.1f);
         var target = tower.getComponent(CurrentTargetComponent.class);
-        assertNull(target);
+        assertNull(target.target.get());
+    }
+
+    @Test
+    public void testEnemyEnteringRangeIsTargeted() {
+        var tower = createTower(0, 0);
+        var enemy = createEnemy(0, (int) RANGE + 6);
+        engine.addEntity(tower);
+        engine.addEntity(enemy);
+        engine.update(.1f);
+        assertNull(tower.getComponent(CurrentTargetComponent.class).target.get());
+
+        enemy.getComponent(PositionComponent.class).basePosition.set(0, RANGE / 2);
+        engine.update(.1f);
+        assertSame(enemy, tower.getComponent(CurrentTargetComponent.class).target.get());
+    }
+
+    @Test
+    public void testPriorityDecidesTarget() {
+        var tower = createTower(0, 0);
+        var close = createEnemy(0, 2);
+        var weak = createEnemy(0, 4);
+        var strong = createEnemy(0, 6);
+        weak.getComponent(HealthComponent.class).currentHealth = 10;
+        strong.getComponent(HealthComponent.class).currentHealth = 200;
+        engine.addEntity(tower);
+        engine.addEntity(close);
+        engine.addEntity(weak);
+        engine.addEntity(strong);
+
+        assertSame(close, targetWithPriority(tower, TargetPriority.CLOSEST));
+        assertSame(weak, targetWithPriority(tower, TargetPriority.LOWEST_HEALTH));
+        assertSame(strong, targetWithPriority(tower, TargetPriority.STRONGEST));
+    }
+
+    @Test
+    public void testTargetIsKeptUntilAnotherRanksStrictlyBetter() {
+        var tower = createTower(0, 0);
+        var first = createEnemy(0, 5);
+        engine.addEntity(tower);
+        engine.addEntity(first);
+        assertSame(first, targetWithPriority(tower, TargetPriority.CLOSEST));
+
+        var equal = createEnemy(5, 0);
+        engine.addEntity(equal);
+        assertSame(first, targetWithPriority(tower, TargetPriority.CLOSEST));
+        assertSame(first, targetWithPriority(tower, TargetPriority.CLOSEST));
+
+        var closer = createEnemy(3, 0);
+        engine.addEntity(closer);
+        assertSame(closer, targetWithPriority(tower, TargetPriority.CLOSEST));
+    }
+
+    @Test
+    public void testTargetIsClearedWhenEnemyLeavesRange() {
+        var tower = createTower(0, 0);
+        var enemy = createEnemy(0, (int) RANGE / 2);
+        engine.addEntity(tower);
+        engine.addEntity(enemy);
+        engine.update(.1f);
+
+        enemy.getComponent(PositionComponent.class).basePosition.set(0, RANGE * 3);
+        engine.update(.1f);
+
+        var target = tower.getComponent(CurrentTargetComponent.class);
+        assertNotNull(target);
+        assertNull(target.target.get());
+    }
+
+    private Entity targetWithPriority(Entity tower, TargetPriority priority) {
+        tower.getComponent(AttackComponent.class).readyAtTick = 0;
+        tower.getComponent(CurrentTargetComponent.class).priority = priority;
+        engine.update(.1f);
+        return tower.getComponent(CurrentTargetComponent.class).target.get();
     }
 }
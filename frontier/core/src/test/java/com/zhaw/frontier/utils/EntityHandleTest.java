@@ -0,0 +1,90 @@
+package com.zhaw.frontier.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityHandleTest {
+
+    private Engine engine;
+
+    @BeforeEach
+    void setup() {
+        engine = new Engine();
+        EntityHandle.track(engine);
+    }
+
+    @Test
+    void testHandleFollowsEntityLifetime() {
+        Entity entity = new Entity();
+        engine.addEntity(entity);
+        EntityHandle handle = new EntityHandle();
+        handle.set(entity);
+
+        assertTrue(handle.isAlive());
+        assertSame(entity, handle.get());
+
+        engine.removeEntity(entity);
+
+        assertFalse(handle.isAlive());
+        assertTrue(handle.isStale());
+        assertNull(handle.get());
+    }
+
+    @Test
+    void testHandleToEntityAddedLaterStaysValid() {
+        Entity entity = new Entity();
+        EntityHandle handle = new EntityHandle();
+        handle.set(entity);
+
+        engine.addEntity(entity);
+
+        assertSame(entity, handle.get());
+    }
+
+    @Test
+    void testReaddedEntityDoesNotReviveOldHandles() {
+        Entity entity = new Entity();
+        engine.addEntity(entity);
+        EntityHandle old = new EntityHandle();
+        old.set(entity);
+
+        engine.removeEntity(entity);
+        engine.addEntity(entity);
+        EntityHandle current = new EntityHandle();
+        current.set(entity);
+
+        assertNull(old.get());
+        assertSame(entity, current.get());
+    }
+
+    @Test
+    void testClearedHandleIsNotStale() {
+        EntityHandle handle = new EntityHandle();
+        handle.set(new Entity());
+        handle.clear();
+
+        assertNull(handle.get());
+        assertFalse(handle.isStale());
+    }
+
+    @Test
+    void testEntitiesAddedBeforeTrackingGetGenerations() {
+        Engine untracked = new Engine();
+        Entity entity = new Entity();
+        untracked.addEntity(entity);
+        EntityHandle.track(untracked);
+        EntityHandle handle = new EntityHandle();
+        handle.set(entity);
+
+        untracked.removeEntity(entity);
+
+        assertNull(handle.get());
+    }
+}
@@ -0,0 +1,55 @@
+package com.zhaw.frontier.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.zhaw.frontier.components.RenderComponent;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+
+public class SpriteSheetTest {
+
+    @Test
+    void testSheetKeepsRegionsByTile() {
+        TextureRegion bottomLeft = new TextureRegion();
+        TextureRegion topRight = new TextureRegion();
+        HashMap<TileOffset, TextureRegion> sprites = new HashMap<>();
+        sprites.put(new TileOffset(0, 0), bottomLeft);
+        sprites.put(new TileOffset(1, 1), topRight);
+        sprites.put(new TileOffset(5, 0), new TextureRegion());
+
+        SpriteSheet sheet = SpriteSheet.of(sprites, 2, 2);
+
+        assertEquals(2, sheet.getWidth());
+        assertEquals(2, sheet.getHeight());
+        assertSame(bottomLeft, sheet.get(0, 0));
+        assertSame(topRight, sheet.get(1, 1));
+        assertNull(sheet.get(1, 0));
+        assertNull(sheet.get(5, 0));
+    }
+
+    @Test
+    void testEntitySpritesOverrideSharedSheet() {
+        TextureRegion shared = new TextureRegion();
+        TextureRegion own = new TextureRegion();
+        RenderComponent first = new RenderComponent(RenderComponent.RenderType.TOWER, 10, 1, 1);
+        RenderComponent second = new RenderComponent(RenderComponent.RenderType.TOWER, 10, 1, 1);
+        first.sheet = SpriteSheet.of(shared);
+        second.sheet = first.sheet;
+
+        second.sprites.put(TileOffset.of(0, 0), own);
+
+        assertSame(shared, first.getSprite(0, 0));
+        assertSame(own, second.getSprite(0, 0));
+        assertNull(first.getSprite(1, 0));
+    }
+
+    @Test
+    void testSmallOffsetsAreShared() {
+        assertSame(TileOffset.of(3, 2), TileOffset.of(3, 2));
+        assertEquals(new TileOffset(3, 2), TileOffset.of(3, 2));
+        assertEquals(new TileOffset(-1, 20), TileOffset.of(-1, 20));
+    }
+}